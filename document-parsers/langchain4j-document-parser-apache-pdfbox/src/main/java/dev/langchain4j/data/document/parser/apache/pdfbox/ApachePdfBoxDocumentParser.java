@@ -4,41 +4,275 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInOrder;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * <p>
+ * By default, the text of the pages is extracted sequentially on the calling thread.
+ * When created with a {@code parallelism} greater than 1, the pages are divided into as many contiguous ranges,
+ * and the text of each range is extracted concurrently from its own load of the PDF file,
+ * since a loaded {@link PDDocument} cannot be used by several threads at once.
+ * PDF files with fewer than {@value #MIN_PAGES_PER_RANGE} pages per range are extracted sequentially,
+ * as the additional loads would cost more than they save.
+ * The pages are always returned in order.
+ * <p>
+ * PDF files on the file system can be parsed with {@link #parse(Path)} and {@link #parseParts(Path)},
+ * which read the file with random access instead of copying it into memory first.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    private static final int MIN_PAGES_PER_RANGE = 8;
+
     private final boolean includeMetadata;
+    private final Executor executor;
+    private final int parallelism;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
+        this(includeMetadata, null, 1);
+    }
+
+    /**
+     * Creates a parser extracting the text of up to {@code parallelism} page ranges concurrently.
+     * <p>
+     * This is only worth it for large PDF files whose text extraction is CPU-bound:
+     * the PDF file is loaded once to count its pages, then once more per page range,
+     * so up to {@code parallelism + 1} times, and the memory of all these loads is held at the same time.
+     * When parsing from an {@link InputStream}, the whole PDF file is also read into memory first,
+     * so that it can be loaded several times; prefer {@link #parse(Path)} and {@link #parseParts(Path)}.
+     *
+     * @param includeMetadata whether to include the metadata of the PDF file in the parsed documents.
+     * @param executor        the executor extracting the page ranges.
+     *                        By default, the default executor of LangChain4j is used.
+     * @param parallelism     the maximum number of page ranges extracted at the same time.
+     *                        Each of them holds its own load of the PDF file.
+     */
+    public ApachePdfBoxDocumentParser(boolean includeMetadata, Executor executor, int parallelism) {
         this.includeMetadata = includeMetadata;
+        this.executor = executor;
+        this.parallelism = ensureGreaterThanZero(parallelism, "parallelism");
     }
 
     @Override
     public Document parse(InputStream inputStream) {
-        try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+        if (parallelism == 1) {
+            try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+                PDFTextStripper stripper = new PDFTextStripper();
+                String text = stripper.getText(pdfDocument);
+                if (isNullOrBlank(text)) {
+                    throw new BlankDocumentException();
+                }
+                return includeMetadata
+                        ? Document.from(text, toMetadata(pdfDocument))
+                        : Document.from(text);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        byte[] bytes = readAllBytes(inputStream);
+        return parse(() -> PDDocument.load(bytes));
+    }
+
+    /**
+     * Parses the PDF file at the given path, reading it with random access.
+     *
+     * @param path the path of the PDF file.
+     * @return the parsed document.
+     */
+    public Document parse(Path path) {
+        ensureNotNull(path, "path");
+        return parse(() -> PDDocument.load(path.toFile()));
+    }
+
+    /**
+     * Parses the PDF file page by page: the text of each page is extracted only when the returned {@link Stream}
+     * reaches it, and is returned as a {@link Document} with the {@link Document#PAGE_NUMBER} metadata key.
+     * Blank pages are skipped.
+     * <p>
+     * The PDF file stays loaded until the returned {@link Stream} is closed.
+     * It is buffered in a temporary file rather than in memory, since it stays loaded while the pages are consumed.
+     * If this parser extracts page ranges concurrently, all pages are extracted before the stream is returned.
+     */
+    @Override
+    public Stream<Document> parseParts(InputStream inputStream) {
+        if (parallelism == 1) {
+            PDDocument pdfDocument;
+            try {
+                pdfDocument = PDDocument.load(inputStream, MemoryUsageSetting.setupTempFileOnly());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return parsePartsLazily(pdfDocument);
+        }
+        byte[] bytes = readAllBytes(inputStream);
+        return parseParts(() -> PDDocument.load(bytes));
+    }
+
+    /**
+     * Parses the PDF file at the given path page by page, reading it with random access.
+     * See {@link #parseParts(InputStream)}.
+     *
+     * @param path the path of the PDF file.
+     * @return the pages of the PDF file, in order.
+     */
+    public Stream<Document> parseParts(Path path) {
+        ensureNotNull(path, "path");
+        if (parallelism == 1) {
+            PDDocument pdfDocument;
+            try {
+                pdfDocument = PDDocument.load(path.toFile());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return parsePartsLazily(pdfDocument);
+        }
+        return parseParts(() -> PDDocument.load(path.toFile()));
+    }
+
+    private Document parse(PdfLoader loader) {
+        Metadata documentMetadata = new Metadata();
+        String text = extractPages(loader, documentMetadata).stream()
+                .map(PageText::text)
+                .collect(joining());
+        if (isNullOrBlank(text)) {
+            throw new BlankDocumentException();
+        }
+        return Document.from(text, documentMetadata);
+    }
+
+    private Stream<Document> parseParts(PdfLoader loader) {
+        Metadata documentMetadata = new Metadata();
+        return extractPages(loader, documentMetadata).stream()
+                .filter(page -> !isNullOrBlank(page.text()))
+                .map(page -> Document.from(
+                        page.text(), documentMetadata.copy().put(Document.PAGE_NUMBER, page.pageNumber())));
+    }
+
+    private Stream<Document> parsePartsLazily(PDDocument pdfDocument) {
+        try {
             PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(pdfDocument);
-            if (isNullOrBlank(text)) {
-                throw new BlankDocumentException();
+            Metadata documentMetadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+            return IntStream.rangeClosed(1, pdfDocument.getNumberOfPages())
+                    .mapToObj(pageNumber -> {
+                        String text = pageText(stripper, pdfDocument, pageNumber);
+                        if (isNullOrBlank(text)) {
+                            return null;
+                        }
+                        return Document.from(text, documentMetadata.copy().put(Document.PAGE_NUMBER, pageNumber));
+                    })
+                    .filter(Objects::nonNull)
+                    .onClose(() -> close(pdfDocument));
+        } catch (IOException e) {
+            close(pdfDocument);
+            throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            close(pdfDocument);
+            throw e;
+        }
+    }
+
+    /**
+     * Extracts the text of all pages, one contiguous page range per worker, each worker loading the PDF file itself,
+     * or from the first load of the PDF file if it has too few pages to be worth loading it again.
+     *
+     * @param documentMetadata receives the metadata of the PDF file, if they are included.
+     * @return the text of all pages, in order.
+     */
+    private List<PageText> extractPages(PdfLoader loader, Metadata documentMetadata) {
+        int numberOfPages;
+        int numberOfRanges;
+        try (PDDocument pdfDocument = loader.load()) {
+            numberOfPages = pdfDocument.getNumberOfPages();
+            if (includeMetadata) {
+                documentMetadata.putAll(toMetadata(pdfDocument).toMap());
             }
-            return includeMetadata
-                    ? Document.from(text, toMetadata(pdfDocument))
-                    : Document.from(text);
+            numberOfRanges = Math.min(parallelism, numberOfPages / MIN_PAGES_PER_RANGE);
+            if (numberOfRanges <= 1) {
+                return extractPages(pdfDocument, 1, numberOfPages);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        List<int[]> ranges = new ArrayList<>(numberOfRanges);
+        for (int range = 0; range < numberOfRanges; range++) {
+            int startPage = range * numberOfPages / numberOfRanges + 1;
+            int endPage = (range + 1) * numberOfPages / numberOfRanges;
+            ranges.add(new int[] {startPage, endPage});
+        }
+
+        Executor rangeExecutor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+        return mapInOrder(ranges, range -> extractPages(loader, range[0], range[1]), rangeExecutor, parallelism)
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private static List<PageText> extractPages(PdfLoader loader, int startPage, int endPage) {
+        try (PDDocument pdfDocument = loader.load()) {
+            return extractPages(pdfDocument, startPage, endPage);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<PageText> extractPages(PDDocument pdfDocument, int startPage, int endPage)
+            throws IOException {
+        PageCollectingTextStripper stripper = new PageCollectingTextStripper();
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        stripper.writeText(pdfDocument, stripper.pageOutput);
+        return stripper.pages;
+    }
+
+    private static String pageText(PDFTextStripper stripper, PDDocument pdfDocument, int pageNumber) {
+        try {
+            stripper.setStartPage(pageNumber);
+            stripper.setEndPage(pageNumber);
+            return stripper.getText(pdfDocument);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] readAllBytes(InputStream inputStream) {
+        try {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void close(PDDocument pdfDocument) {
+        try {
+            pdfDocument.close();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -53,4 +287,30 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    @FunctionalInterface
+    private interface PdfLoader {
+
+        PDDocument load() throws IOException;
+    }
+
+    private record PageText(int pageNumber, String text) {}
+
+    /**
+     * Collects the text of each page separately while extracting a page range in a single pass.
+     */
+    private static class PageCollectingTextStripper extends PDFTextStripper {
+
+        private final StringWriter pageOutput = new StringWriter();
+        private final List<PageText> pages = new ArrayList<>();
+
+        private PageCollectingTextStripper() throws IOException {}
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            super.endPage(page);
+            pages.add(new PageText(getCurrentPageNo(), pageOutput.toString()));
+            pageOutput.getBuffer().setLength(0);
+        }
+    }
 }
@@ -3,16 +3,42 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ApachePdfBoxDocumentParserTest {
 
+    @TempDir
+    Path tempDir;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
     @Test
     void should_parse_pdf_file() {
         try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
@@ -53,4 +79,157 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pdf_file_page_by_page() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            DocumentParser parser = new ApachePdfBoxDocumentParser();
+
+            List<Document> pages;
+            try (Stream<Document> parts = parser.parseParts(inputStream)) {
+                pages = parts.toList();
+            }
+
+            assertThat(pages).hasSize(1);
+            assertThat(pages.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(pages.get(0).metadata().getInteger(Document.PAGE_NUMBER)).isEqualTo(1);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void should_skip_blank_pages_when_parsing_page_by_page() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.pdf")) {
+            DocumentParser parser = new ApachePdfBoxDocumentParser();
+
+            try (Stream<Document> parts = parser.parseParts(inputStream)) {
+                assertThat(parts).isEmpty();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void should_parse_multi_page_pdf_file_page_by_page_from_input_stream() throws IOException {
+        Path path = multiPagePdf(3);
+        DocumentParser parser = new ApachePdfBoxDocumentParser();
+
+        List<Document> pages;
+        try (InputStream inputStream = Files.newInputStream(path);
+                Stream<Document> parts = parser.parseParts(inputStream)) {
+            pages = parts.toList();
+        }
+
+        assertThat(pages).extracting(page -> page.text().trim()).containsExactly("page 1", "page 2", "page 3");
+        assertThat(pages).extracting(page -> page.metadata().getInteger(Document.PAGE_NUMBER)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void should_parse_pdf_file_with_parallelism() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            DocumentParser parser = new ApachePdfBoxDocumentParser(true, executor, 2);
+            Document document = parser.parse(inputStream);
+
+            assertThat(document.text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(document.metadata().toMap()).containsEntry("Author", "ljuba");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void should_parse_pdf_file_from_path() throws Exception {
+        Path path = Paths.get(getClass().getClassLoader().getResource("test-file.pdf").toURI());
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, null, 4);
+
+        Document document = parser.parse(path);
+
+        assertThat(document.text()).isEqualToIgnoringWhitespace("test content");
+
+        try (Stream<Document> parts = parser.parseParts(path)) {
+            assertThat(parts)
+                    .singleElement()
+                    .satisfies(page -> {
+                        assertThat(page.text()).isEqualToIgnoringWhitespace("test content");
+                        assertThat(page.metadata().getInteger(Document.PAGE_NUMBER)).isEqualTo(1);
+                    });
+        }
+    }
+
+    @Test
+    void should_keep_page_order_and_numbers_across_page_ranges() throws IOException {
+        Path path = multiPagePdf(40);
+        AtomicInteger extractedRanges = new AtomicInteger();
+        Executor countingExecutor = command -> {
+            extractedRanges.incrementAndGet();
+            executor.execute(command);
+        };
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, countingExecutor, 3);
+        List<String> expectedTexts = IntStream.rangeClosed(1, 40).mapToObj(i -> "page " + i).toList();
+        List<Integer> expectedPageNumbers = IntStream.rangeClosed(1, 40).boxed().toList();
+
+        try (Stream<Document> parts = parser.parseParts(path)) {
+            List<Document> pages = parts.toList();
+            assertThat(pages).extracting(page -> page.text().trim()).containsExactlyElementsOf(expectedTexts);
+            assertThat(pages)
+                    .extracting(page -> page.metadata().getInteger(Document.PAGE_NUMBER))
+                    .containsExactlyElementsOf(expectedPageNumbers);
+        }
+        try (InputStream inputStream = Files.newInputStream(path);
+                Stream<Document> parts = parser.parseParts(inputStream)) {
+            assertThat(parts)
+                    .extracting(page -> page.metadata().getInteger(Document.PAGE_NUMBER))
+                    .containsExactlyElementsOf(expectedPageNumbers);
+        }
+        assertThat(parser.parse(path).text()).isEqualToIgnoringWhitespace(String.join("", expectedTexts));
+        assertThat(extractedRanges.get()).isEqualTo(3 * 3);
+    }
+
+    @Test
+    void should_extract_pdf_file_with_few_pages_sequentially_with_parallelism() throws IOException {
+        Path path = multiPagePdf(3);
+        AtomicInteger extractedRanges = new AtomicInteger();
+        Executor countingExecutor = command -> {
+            extractedRanges.incrementAndGet();
+            executor.execute(command);
+        };
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, countingExecutor, 2);
+
+        try (Stream<Document> parts = parser.parseParts(path)) {
+            assertThat(parts)
+                    .extracting(page -> page.metadata().getInteger(Document.PAGE_NUMBER))
+                    .containsExactly(1, 2, 3);
+        }
+        assertThat(extractedRanges).hasValue(0);
+    }
+
+    @Test
+    void should_throw_BlankDocumentException_with_parallelism() throws Exception {
+        Path path = Paths.get(getClass().getClassLoader().getResource("blank-file.pdf").toURI());
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser(false, null, 2);
+
+        assertThatThrownBy(() -> parser.parse(path))
+                .isExactlyInstanceOf(BlankDocumentException.class);
+    }
+
+    private Path multiPagePdf(int numberOfPages) throws IOException {
+        Path path = tempDir.resolve("multi-page.pdf");
+        try (PDDocument pdfDocument = new PDDocument()) {
+            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
+                PDPage page = new PDPage();
+                pdfDocument.addPage(page);
+                try (PDPageContentStream contentStream = new PDPageContentStream(pdfDocument, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(PDType1Font.HELVETICA, 12);
+                    contentStream.newLineAtOffset(100, 700);
+                    contentStream.showText("page " + pageNumber);
+                    contentStream.endText();
+                }
+            }
+            pdfDocument.save(path.toFile());
+        }
+        return path;
+    }
+}
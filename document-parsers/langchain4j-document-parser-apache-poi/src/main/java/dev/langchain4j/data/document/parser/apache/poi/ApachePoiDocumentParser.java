@@ -3,12 +3,24 @@ package dev.langchain4j.data.document.parser.apache.poi;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.Metadata;
 import org.apache.poi.EmptyFileException;
 import org.apache.poi.extractor.ExtractorFactory;
 import org.apache.poi.extractor.POITextExtractor;
+import org.apache.poi.sl.extractor.SlideShowExtractor;
+import org.apache.poi.sl.usermodel.Slide;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
 
@@ -17,9 +29,17 @@ import static dev.langchain4j.internal.Utils.isNullOrBlank;
  * This parser supports various file formats, including doc, docx, ppt, pptx, xls, and xlsx.
  * For detailed information on supported formats,
  * please refer to the <a href="https://poi.apache.org/">official Apache POI website</a>.
+ * <p>
+ * Excel workbooks can be parsed sheet by sheet, and PowerPoint presentations slide by slide,
+ * with {@link #parseParts(InputStream)}.
  */
 public class ApachePoiDocumentParser implements DocumentParser {
 
+    /**
+     * Metadata key for the name of the sheet from which a part of an Excel workbook was parsed.
+     */
+    public static final String SHEET_NAME = "sheet_name";
+
     @Override
     public Document parse(InputStream inputStream) {
         try (POITextExtractor extractor = ExtractorFactory.createExtractor(inputStream)) {
@@ -36,4 +56,104 @@ public class ApachePoiDocumentParser implements DocumentParser {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses an Excel workbook sheet by sheet, and a PowerPoint presentation slide by slide:
+     * the text of each sheet or slide is extracted only when the returned {@link Stream} reaches it,
+     * and is returned as a {@link Document} with the {@link Document#PAGE_NUMBER} metadata key
+     * (the position of the sheet or slide, starting from 1) and, for sheets, the {@link #SHEET_NAME} metadata key.
+     * Blank sheets and slides are skipped.
+     * <p>
+     * Apache POI still loads the whole file when the stream is returned; only the extracted text is produced part by part.
+     * The file stays loaded until the returned {@link Stream} is closed.
+     * Word documents are not split and are returned as a single part, as with {@link #parse(InputStream)}.
+     */
+    @Override
+    public Stream<Document> parseParts(InputStream inputStream) {
+        POITextExtractor extractor;
+        try {
+            extractor = ExtractorFactory.createExtractor(inputStream);
+        } catch (EmptyFileException e) {
+            throw new BlankDocumentException();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        try {
+            Stream<Document> parts;
+            if (extractor.getDocument() instanceof Workbook workbook) {
+                parts = sheets(workbook);
+            } else if (extractor instanceof SlideShowExtractor<?, ?> slideShowExtractor) {
+                parts = slides(slideShowExtractor);
+            } else {
+                String text = extractor.getText();
+                if (isNullOrBlank(text)) {
+                    throw new BlankDocumentException();
+                }
+                parts = Stream.of(Document.from(text));
+            }
+            return parts.onClose(() -> close(extractor));
+        } catch (RuntimeException e) {
+            close(extractor);
+            throw e;
+        }
+    }
+
+    private static Stream<Document> sheets(Workbook workbook) {
+        DataFormatter formatter = new DataFormatter();
+        formatter.setUseCachedValuesForFormulaCells(true);
+        return IntStream.range(0, workbook.getNumberOfSheets())
+                .mapToObj(sheetIndex -> {
+                    Sheet sheet = workbook.getSheetAt(sheetIndex);
+                    String cellsText = cellsText(sheet, formatter);
+                    if (isNullOrBlank(cellsText)) {
+                        return null;
+                    }
+                    Metadata metadata = new Metadata()
+                            .put(Document.PAGE_NUMBER, sheetIndex + 1)
+                            .put(SHEET_NAME, sheet.getSheetName());
+                    return Document.from(sheet.getSheetName() + "\n" + cellsText, metadata);
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Extracts the text of the cells of the given sheet, like Apache POI's Excel extractors:
+     * one line per row, with cells separated by tabs, and the cached results of formulas.
+     */
+    private static String cellsText(Sheet sheet, DataFormatter formatter) {
+        StringBuilder text = new StringBuilder();
+        for (Row row : sheet) {
+            boolean firstCell = true;
+            for (Cell cell : row) {
+                if (!firstCell) {
+                    text.append('\t');
+                }
+                text.append(formatter.formatCellValue(cell));
+                firstCell = false;
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Stream<Document> slides(SlideShowExtractor slideShowExtractor) {
+        List<? extends Slide> slides = slideShowExtractor.getDocument().getSlides();
+        return slides.stream()
+                .map(slide -> {
+                    String text = slideShowExtractor.getText(slide);
+                    if (isNullOrBlank(text)) {
+                        return null;
+                    }
+                    return Document.from(text, new Metadata().put(Document.PAGE_NUMBER, slide.getSlideNumber()));
+                })
+                .filter(Objects::nonNull);
+    }
+
+    private static void close(POITextExtractor extractor) {
+        try {
+            extractor.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.langchain4j.data.document.parser.apache.poi;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -7,6 +8,8 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -38,6 +41,58 @@ class ApachePoiDocumentParserTest {
         assertThat(document.metadata().toMap()).isEmpty();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"test-file.xls", "test-file.xlsx"})
+    void should_parse_xls_files_sheet_by_sheet(String fileName) {
+
+        DocumentParser parser = new ApachePoiDocumentParser();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        List<Document> parts;
+        try (Stream<Document> stream = parser.parseParts(inputStream)) {
+            parts = stream.collect(toList());
+        }
+
+        assertThat(parts).hasSize(2);
+        assertThat(parts.get(0).text()).isEqualToIgnoringWhitespace("Sheet1\ntest content");
+        assertThat(parts.get(0).metadata().getInteger(Document.PAGE_NUMBER)).isEqualTo(1);
+        assertThat(parts.get(0).metadata().getString(ApachePoiDocumentParser.SHEET_NAME))
+                .isEqualTo("Sheet1");
+        assertThat(parts.get(1).text()).isEqualToIgnoringWhitespace("Sheet2\ntest content");
+        assertThat(parts.get(1).metadata().getInteger(Document.PAGE_NUMBER)).isEqualTo(2);
+        assertThat(parts.get(1).metadata().getString(ApachePoiDocumentParser.SHEET_NAME))
+                .isEqualTo("Sheet2");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test-file.ppt", "test-file.pptx"})
+    void should_parse_ppt_files_slide_by_slide(String fileName) {
+
+        DocumentParser parser = new ApachePoiDocumentParser();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        List<Document> parts;
+        try (Stream<Document> stream = parser.parseParts(inputStream)) {
+            parts = stream.collect(toList());
+        }
+
+        assertThat(parts).hasSize(1);
+        assertThat(parts.get(0).text()).isEqualToIgnoringWhitespace("test content");
+        assertThat(parts.get(0).metadata().getInteger(Document.PAGE_NUMBER)).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"blank-file.xlsx", "blank-file.pptx"})
+    void should_skip_blank_sheets_and_slides(String fileName) {
+
+        DocumentParser parser = new ApachePoiDocumentParser();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        try (Stream<Document> parts = parser.parseParts(inputStream)) {
+            assertThat(parts).isEmpty();
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(
             strings = {"empty-file.txt", "blank-file.txt", "blank-file.docx", "blank-file.pptx"
@@ -29,6 +29,12 @@ import org.xml.sax.ContentHandler;
  * For a full list of supported formats, refer to the
  * <a href="https://tika.apache.org/3.0.0/formats.html">Apache Tika documentation</a>.
  * </p>
+ * <p>
+ * {@link #parseParts(InputStream)} returns the whole document as a single part, since Apache Tika pushes
+ * the extracted content to a handler until the end of the document.
+ * To parse PDF files page by page, or Excel and PowerPoint files sheet by sheet and slide by slide,
+ * use the Apache PDFBox or Apache POI document parsers.
+ * </p>
  */
 public class ApacheTikaDocumentParser implements DocumentParser {
 
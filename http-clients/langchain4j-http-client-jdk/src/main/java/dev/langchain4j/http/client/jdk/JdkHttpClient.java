@@ -18,8 +18,11 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static dev.langchain4j.http.client.sse.ServerSentEventListenerUtils.ignoringExceptions;
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.FutureUtils.unwrap;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static java.util.stream.Collectors.joining;
 
@@ -61,6 +64,38 @@ public class JdkHttpClient implements HttpClient {
         }
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        java.net.http.HttpRequest jdkRequest;
+        try {
+            jdkRequest = toJdkRequest(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<java.net.http.HttpResponse<String>> jdkFuture =
+                delegate.sendAsync(jdkRequest, BodyHandlers.ofString());
+
+        CompletableFuture<SuccessfulHttpResponse> future = new CompletableFuture<>();
+        jdkFuture.whenComplete((jdkResponse, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = unwrap(throwable);
+                if (cause instanceof HttpTimeoutException) {
+                    future.completeExceptionally(new TimeoutException(cause));
+                } else if (cause instanceof IOException) {
+                    future.completeExceptionally(new RuntimeException(cause));
+                } else {
+                    future.completeExceptionally(cause);
+                }
+            } else if (!isSuccessful(jdkResponse)) {
+                future.completeExceptionally(new HttpException(jdkResponse.statusCode(), jdkResponse.body()));
+            } else {
+                future.complete(fromJdkResponse(jdkResponse, jdkResponse.body()));
+            }
+        });
+        return propagateCancellation(jdkFuture, future);
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
         java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
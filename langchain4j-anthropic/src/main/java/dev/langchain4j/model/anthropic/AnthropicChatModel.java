@@ -1,6 +1,8 @@
 package dev.langchain4j.model.anthropic;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.ANTHROPIC;
@@ -26,6 +28,7 @@ import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRespon
 import dev.langchain4j.model.anthropic.internal.api.AnthropicThinking;
 import dev.langchain4j.model.anthropic.internal.client.AnthropicClient;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.ChatModelAsyncUtils;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
@@ -36,6 +39,7 @@ import dev.langchain4j.model.chat.response.ChatResponseMetadata;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 
 /**
@@ -369,7 +373,32 @@ public class AnthropicChatModel implements ChatModel {
     public ChatResponse doChat(ChatRequest chatRequest) {
         validate(chatRequest.parameters());
 
-        AnthropicCreateMessageRequest anthropicRequest = createAnthropicRequest(
+        AnthropicCreateMessageRequest anthropicRequest = toAnthropicRequest(chatRequest);
+
+        AnthropicCreateMessageResponse response =
+                withRetryMappingExceptions(() -> client.createMessage(anthropicRequest), maxRetries);
+
+        return createChatResponse(response);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+        return ChatModelAsyncUtils.chatAsync(this, chatRequest, this::doChatAsync);
+    }
+
+    private CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        validate(chatRequest.parameters());
+
+        AnthropicCreateMessageRequest anthropicRequest = toAnthropicRequest(chatRequest);
+
+        CompletableFuture<AnthropicCreateMessageResponse> future =
+                withRetryMappingExceptionsAsync(() -> client.createMessageAsync(anthropicRequest), maxRetries);
+
+        return propagateCancellation(future, future.thenApply(this::createChatResponse));
+    }
+
+    private AnthropicCreateMessageRequest toAnthropicRequest(ChatRequest chatRequest) {
+        return createAnthropicRequest(
                 chatRequest,
                 toThinking(thinkingType, thinkingBudgetTokens),
                 sendThinking,
@@ -380,11 +409,6 @@ public class AnthropicChatModel implements ChatModel {
                 disableParallelToolUse,
                 userId,
                 customParameters);
-
-        AnthropicCreateMessageResponse response =
-                withRetryMappingExceptions(() -> client.createMessage(anthropicRequest), maxRetries);
-
-        return createChatResponse(response);
     }
 
     private ChatResponse createChatResponse(AnthropicCreateMessageResponse response) {
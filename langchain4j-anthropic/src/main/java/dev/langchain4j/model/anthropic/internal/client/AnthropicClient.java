@@ -2,6 +2,7 @@ package dev.langchain4j.model.anthropic.internal.client;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCountTokensRequest;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageResponse;
@@ -11,12 +12,18 @@ import dev.langchain4j.spi.ServiceHelper;
 import org.slf4j.Logger;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public abstract class AnthropicClient {
 
     public abstract AnthropicCreateMessageResponse createMessage(AnthropicCreateMessageRequest request);
 
+    public CompletableFuture<AnthropicCreateMessageResponse> createMessageAsync(AnthropicCreateMessageRequest request) {
+        return CompletableFuture.supplyAsync(
+                () -> createMessage(request), DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     /**
      * @since 1.2.0
      */
@@ -37,11 +37,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static dev.langchain4j.http.client.HttpMethod.POST;
 import static dev.langchain4j.http.client.sse.ServerSentEventParsingHandleUtils.toStreamingHandle;
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onCompleteResponse;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onCompleteToolCall;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onPartialResponse;
@@ -113,6 +115,14 @@ public class DefaultAnthropicClient extends AnthropicClient {
         return fromJson(successfulHttpResponse.body(), AnthropicCreateMessageResponse.class);
     }
 
+    @Override
+    public CompletableFuture<AnthropicCreateMessageResponse> createMessageAsync(AnthropicCreateMessageRequest request) {
+        HttpRequest httpRequest = toHttpRequest(toJson(request), "messages");
+        CompletableFuture<SuccessfulHttpResponse> future = httpClient.executeAsync(httpRequest);
+        return propagateCancellation(future, future.thenApply(successfulHttpResponse ->
+                fromJson(successfulHttpResponse.body(), AnthropicCreateMessageResponse.class)));
+    }
+
     @Override
     public void createMessage(AnthropicCreateMessageRequest request,
                               AnthropicCreateMessageOptions options,
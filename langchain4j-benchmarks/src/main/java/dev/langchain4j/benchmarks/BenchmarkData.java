@@ -0,0 +1,79 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the data used by the benchmarks.
+ * All data is derived from a fixed seed, so every run measures exactly the same inputs.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42;
+
+    private static final String[] WORDS = {
+        "the", "model", "returns", "a", "response", "for", "each", "request", "with", "embedding",
+        "store", "segments", "are", "split", "into", "chunks", "of", "text", "tokens", "and", "metadata",
+        "retrieval", "augmented", "generation", "uses", "relevant", "documents", "to", "answer", "questions"
+    };
+
+    private BenchmarkData() {}
+
+    static List<Embedding> embeddings(int count, int dimension, Random random) {
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            embeddings.add(embedding(dimension, random));
+        }
+        return embeddings;
+    }
+
+    static Embedding embedding(int dimension, Random random) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return new Embedding(vector);
+    }
+
+    /**
+     * Returns segments with metadata of every supported type, with a low-cardinality {@code tenant} key,
+     * a numeric {@code year} key and a high-cardinality {@code source} key.
+     */
+    static List<TextSegment> segments(int count, Random random) {
+        List<TextSegment> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            segments.add(TextSegment.from(text(12, random), metadata(i, random)));
+        }
+        return segments;
+    }
+
+    static Metadata metadata(int i, Random random) {
+        return new Metadata()
+                .put("tenant", "tenant-" + (i % 100))
+                .put("year", 2000 + random.nextInt(25))
+                .put("score", random.nextDouble())
+                .put("source", "document-" + i + ".pdf");
+    }
+
+    /**
+     * Returns text of roughly the given number of words, with sentences and paragraphs.
+     */
+    static String text(int words, Random random) {
+        StringBuilder text = new StringBuilder(words * 7);
+        for (int i = 0; i < words; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            if (i % 97 == 96) {
+                text.append(".\n\n");
+            } else if (i % 13 == 12) {
+                text.append(". ");
+            } else {
+                text.append(' ');
+            }
+        }
+        return text.toString();
+    }
+}
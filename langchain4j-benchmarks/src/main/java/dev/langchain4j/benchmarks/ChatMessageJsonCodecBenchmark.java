@@ -0,0 +1,82 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.JacksonChatMessageJsonCodec;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures round-trips of a conversation through {@link JacksonChatMessageJsonCodec},
+ * as done by persistent chat memory stores on every message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatMessageJsonCodecBenchmark {
+
+    @Param({"20"})
+    int turns;
+
+    private JacksonChatMessageJsonCodec codec;
+    private List<ChatMessage> messages;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        codec = new JacksonChatMessageJsonCodec();
+        messages = new ArrayList<>();
+        messages.add(SystemMessage.from(BenchmarkData.text(50, random)));
+        for (int i = 0; i < turns; i++) {
+            messages.add(UserMessage.from(BenchmarkData.text(30, random)));
+            if (i % 5 == 4) {
+                ToolExecutionRequest request = ToolExecutionRequest.builder()
+                        .id("call-" + i)
+                        .name("search")
+                        .arguments("{\"query\":\"" + BenchmarkData.text(5, random) + "\"}")
+                        .build();
+                messages.add(AiMessage.from(request));
+                messages.add(ToolExecutionResultMessage.from(request, BenchmarkData.text(80, random)));
+            }
+            messages.add(AiMessage.from(BenchmarkData.text(100, random)));
+        }
+        json = codec.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return codec.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return codec.messagesFromJson(json);
+    }
+
+    @Benchmark
+    public List<ChatMessage> roundTrip() {
+        return codec.messagesFromJson(codec.messagesToJson(messages));
+    }
+}
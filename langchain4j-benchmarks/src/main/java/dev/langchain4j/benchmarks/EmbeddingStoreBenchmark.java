@@ -0,0 +1,113 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.FlatInMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.HnswInMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.VectorQuantization;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code search} and {@code addAll} of the in-process {@link EmbeddingStore}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmbeddingStoreBenchmark {
+
+    public enum StoreType {
+        IN_MEMORY,
+        FLAT,
+        FLAT_OFF_HEAP,
+        FLAT_INT8,
+        FLAT_PRODUCT,
+        HNSW
+    }
+
+    @Param({"IN_MEMORY", "FLAT", "FLAT_OFF_HEAP", "FLAT_INT8", "FLAT_PRODUCT", "HNSW"})
+    StoreType storeType;
+
+    @Param({"10000", "100000"})
+    int size;
+
+    @Param({"384"})
+    int dimension;
+
+    @Param({"10"})
+    int maxResults;
+
+    private EmbeddingStore<TextSegment> store;
+    private List<Embedding> embeddings;
+    private List<TextSegment> segments;
+    private Embedding[] queries;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        embeddings = BenchmarkData.embeddings(size, dimension, random);
+        segments = BenchmarkData.segments(size, random);
+        queries = BenchmarkData.embeddings(64, dimension, random).toArray(new Embedding[0]);
+        store = newStore();
+        store.addAll(embeddings, segments);
+    }
+
+    private EmbeddingStore<TextSegment> newStore() {
+        return switch (storeType) {
+            case IN_MEMORY -> new InMemoryEmbeddingStore<>();
+            case FLAT -> FlatInMemoryEmbeddingStore.builder().build();
+            case FLAT_OFF_HEAP -> FlatInMemoryEmbeddingStore.builder().offHeap(true).build();
+            case FLAT_INT8 -> FlatInMemoryEmbeddingStore.builder()
+                    .quantization(VectorQuantization.INT8)
+                    .build();
+            case FLAT_PRODUCT -> FlatInMemoryEmbeddingStore.builder()
+                    .quantization(VectorQuantization.PRODUCT)
+                    .build();
+            case HNSW -> HnswInMemoryEmbeddingStore.builder().seed(BenchmarkData.SEED).build();
+        };
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(queries[query++ & (queries.length - 1)])
+                .maxResults(maxResults)
+                .build();
+        return store.search(request);
+    }
+
+    /**
+     * Adds all the entries to an empty store: this includes building the index or training the quantizer.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @OutputTimeUnit(MICROSECONDS)
+    public EmbeddingStore<TextSegment> addAll() {
+        EmbeddingStore<TextSegment> newStore = newStore();
+        newStore.addAll(embeddings, segments);
+        return newStore;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.CompiledFilter;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares testing a {@link Filter} as is with testing its {@link CompiledFilter}, on the metadata of many segments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+
+    public enum FilterType {
+        EQUAL_TO,
+        NUMBER_RANGE,
+        IS_IN,
+        AND_OR_NOT
+    }
+
+    @Param({"EQUAL_TO", "NUMBER_RANGE", "IS_IN", "AND_OR_NOT"})
+    FilterType filterType;
+
+    @Param({"10000"})
+    int size;
+
+    private Metadata[] metadata;
+    private Filter filter;
+    private Filter compiledFilter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        metadata = new Metadata[size];
+        for (int i = 0; i < size; i++) {
+            metadata[i] = BenchmarkData.metadata(i, random);
+        }
+        filter = switch (filterType) {
+            case EQUAL_TO -> metadataKey("tenant").isEqualTo("tenant-7");
+            case NUMBER_RANGE -> metadataKey("year")
+                    .isGreaterThanOrEqualTo(2010)
+                    .and(metadataKey("score").isLessThan(0.5));
+            case IS_IN -> metadataKey("year").isIn(2001, 2003, 2005, 2007, 2011, 2013);
+            case AND_OR_NOT -> metadataKey("year")
+                    .isGreaterThan(2005)
+                    .and(metadataKey("tenant").isIn("tenant-1", "tenant-2").or(metadataKey("score").isGreaterThan(0.9)))
+                    .and(Filter.not(metadataKey("source").isEqualTo("document-1.pdf")));
+        };
+        compiledFilter = CompiledFilter.compile(filter);
+    }
+
+    @Benchmark
+    public int interpreted() {
+        return count(filter);
+    }
+
+    @Benchmark
+    public int compiled() {
+        return count(compiledFilter);
+    }
+
+    private int count(Filter filter) {
+        int matches = 0;
+        for (Metadata m : metadata) {
+            if (filter.test(m)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
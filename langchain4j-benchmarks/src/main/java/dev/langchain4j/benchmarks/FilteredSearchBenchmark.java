@@ -0,0 +1,77 @@
+package dev.langchain4j.benchmarks;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filtered search of {@link InMemoryEmbeddingStore}, with and without indexed metadata keys,
+ * for a selective filter (1% of the entries) and an unselective one (about 60% of the entries).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilteredSearchBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"384"})
+    int dimension;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    @Param({"tenant", "year"})
+    String filteredKey;
+
+    private InMemoryEmbeddingStore<TextSegment> store;
+    private Embedding[] queries;
+    private Filter filter;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        store = InMemoryEmbeddingStore.builder()
+                .indexedMetadataKeys(indexed ? List.of("tenant", "year") : List.of())
+                .build();
+        store.addAll(BenchmarkData.embeddings(size, dimension, random), BenchmarkData.segments(size, random));
+        queries = BenchmarkData.embeddings(64, dimension, random).toArray(new Embedding[0]);
+        filter = filteredKey.equals("tenant")
+                ? metadataKey("tenant").isEqualTo("tenant-7")
+                : metadataKey("year").isGreaterThanOrEqualTo(2010);
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(queries[query++ & (queries.length - 1)])
+                .maxResults(10)
+                .filter(filter)
+                .build();
+        return store.search(request);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sequential and parallel search of {@link InMemoryEmbeddingStore} across store sizes,
+ * to find the size above which parallel search pays off (see {@code parallelSearchThreshold}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSearchBenchmark {
+
+    @Param({"1000", "5000", "10000", "50000", "200000"})
+    int size;
+
+    @Param({"384"})
+    int dimension;
+
+    @Param({"false", "true"})
+    boolean parallel;
+
+    private InMemoryEmbeddingStore<TextSegment> store;
+    private Embedding[] queries;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        store = InMemoryEmbeddingStore.builder()
+                .parallelSearch(parallel)
+                .parallelSearchThreshold(1)
+                .build();
+        store.addAll(BenchmarkData.embeddings(size, dimension, random));
+        queries = BenchmarkData.embeddings(64, dimension, random).toArray(new Embedding[0]);
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(queries[query++ & (queries.length - 1)])
+                .maxResults(10)
+                .build();
+        return store.search(request);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.FlatInMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares saving and loading in-memory stores as JSON and in the binary snapshot format.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+    @Param({"20000"})
+    int size;
+
+    @Param({"384"})
+    int dimension;
+
+    private InMemoryEmbeddingStore<TextSegment> store;
+    private Path directory;
+    private Path jsonFile;
+    private Path binaryFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(BenchmarkData.SEED);
+        store = new InMemoryEmbeddingStore<>();
+        store.addAll(BenchmarkData.embeddings(size, dimension, random), BenchmarkData.segments(size, random));
+        directory = Files.createTempDirectory("langchain4j-benchmarks");
+        jsonFile = directory.resolve("store.json");
+        binaryFile = directory.resolve("store.bin");
+        store.serializeToFile(jsonFile);
+        store.serializeToBinaryFile(binaryFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(PersistenceBenchmark::delete);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.delete(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public Path saveJson() {
+        Path file = directory.resolve("saved.json");
+        store.serializeToFile(file);
+        return file;
+    }
+
+    @Benchmark
+    public Path saveBinary() {
+        Path file = directory.resolve("saved.bin");
+        store.serializeToBinaryFile(file);
+        return file;
+    }
+
+    @Benchmark
+    public InMemoryEmbeddingStore<TextSegment> loadJson() {
+        return InMemoryEmbeddingStore.fromFile(jsonFile);
+    }
+
+    @Benchmark
+    public InMemoryEmbeddingStore<TextSegment> loadBinary() {
+        return InMemoryEmbeddingStore.fromBinaryFile(binaryFile);
+    }
+
+    /**
+     * Opens the binary snapshot with its vectors memory-mapped rather than copied to the heap.
+     */
+    @Benchmark
+    public FlatInMemoryEmbeddingStore<TextSegment> loadBinaryMapped() {
+        return FlatInMemoryEmbeddingStore.fromBinaryFile(binaryFile);
+    }
+}
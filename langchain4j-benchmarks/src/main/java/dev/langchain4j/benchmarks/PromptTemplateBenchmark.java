@@ -0,0 +1,60 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating and rendering {@link PromptTemplate}s, with the default template factory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromptTemplateBenchmark {
+
+    private static final String TEMPLATE =
+            """
+            You are a helpful assistant of {{company}}. Today is {{current_date}}.
+            Answer the question of {{user}} using only the following information:
+            {{contents}}
+            If the information is not sufficient, tell {{user}} that you don't know the answer to: {{question}}
+            """;
+
+    private PromptTemplate template;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        template = PromptTemplate.from(TEMPLATE);
+        variables = Map.of(
+                "company", "ACME",
+                "user", "Klaus",
+                "contents", "The store opens at 9am and closes at 6pm, except on Sundays.",
+                "question", "When does the store open on Saturdays?");
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return template.apply(variables);
+    }
+
+    @Benchmark
+    public Prompt createAndApply() {
+        return PromptTemplate.from(TEMPLATE).apply(variables);
+    }
+}
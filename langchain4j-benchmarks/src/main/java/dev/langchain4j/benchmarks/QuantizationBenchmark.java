@@ -0,0 +1,191 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.FlatInMemoryEmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.VectorQuantization;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the search latency, the recall and the memory footprint of {@link FlatInMemoryEmbeddingStore}
+ * with each {@link VectorQuantization}.
+ * <p>
+ * Recall is reported through the {@code found} and {@code expected} counters: {@code found / expected} is the
+ * fraction of the exact top results that were returned.
+ * <p>
+ * The memory used by the store is measured once, when it is filled, and reported per vector:
+ * {@code heapBytesPerVector} is the growth of the heap used after a full GC (ids, norms, codes and on-heap vectors),
+ * {@code directBytesPerVector} the growth of the direct buffer pool (off-heap vectors), and
+ * {@code mappedBytesPerVector} the growth of the mapped buffer pool (vectors mapped from a file, which the operating
+ * system pages in and out as needed). With the {@code DEFAULT} storage, the store is filled with the builder defaults;
+ * with the {@code MAPPED} storage, it is reopened from a binary file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantizationBenchmark {
+
+    private static final int MAX_RESULTS = 10;
+    private static final int QUERIES = 64;
+
+    @Param({"NONE", "INT8", "PRODUCT"})
+    VectorQuantization quantization;
+
+    @Param({"0", "4"})
+    int rescoreMultiplier;
+
+    @Param({"DEFAULT", "MAPPED"})
+    String storage;
+
+    @Param({"50000"})
+    int size;
+
+    @Param({"384"})
+    int dimension;
+
+    private FlatInMemoryEmbeddingStore<TextSegment> store;
+    private Embedding[] queries;
+    private List<Set<String>> expectedIds;
+    private int query;
+    private Path file;
+    private long heapBytes;
+    private long directBytes;
+    private long mappedBytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Recall {
+
+        public long found;
+        public long expected;
+        public long heapBytesPerVector;
+        public long directBytesPerVector;
+        public long mappedBytesPerVector;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            found = 0;
+            expected = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(BenchmarkData.SEED);
+        List<Embedding> embeddings = BenchmarkData.embeddings(size, dimension, random);
+        List<String> ids = IntStream.range(0, size).mapToObj(i -> "id-" + i).toList();
+
+        FlatInMemoryEmbeddingStore<TextSegment> exactStore =
+                FlatInMemoryEmbeddingStore.builder().build();
+        exactStore.addAll(ids, embeddings, Collections.nCopies(size, null));
+        queries = BenchmarkData.embeddings(QUERIES, dimension, random).toArray(new Embedding[0]);
+        expectedIds = Arrays.stream(queries).map(q -> ids(exactStore, q)).toList();
+        if (storage.equals("MAPPED")) {
+            file = Files.createTempFile("langchain4j-benchmarks", ".bin");
+            exactStore.serializeToBinaryFile(file);
+        }
+
+        long heapBefore = usedHeapAfterGc();
+        long directBefore = bufferPoolBytes("direct");
+        long mappedBefore = bufferPoolBytes("mapped");
+        FlatInMemoryEmbeddingStore.Builder builder = FlatInMemoryEmbeddingStore.builder()
+                .quantization(quantization)
+                .rescoreMultiplier(rescoreMultiplier);
+        if (file != null) {
+            store = FlatInMemoryEmbeddingStore.fromBinaryFile(file, builder);
+        } else {
+            store = builder.build();
+            store.addAll(ids, embeddings, Collections.nCopies(size, null));
+        }
+        heapBytes = usedHeapAfterGc() - heapBefore;
+        directBytes = bufferPoolBytes("direct") - directBefore;
+        mappedBytes = bufferPoolBytes("mapped") - mappedBefore;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store = null;
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long bufferPoolBytes(String name) {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals(name))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    private static Set<String> ids(FlatInMemoryEmbeddingStore<TextSegment> store, Embedding query) {
+        Set<String> ids = new HashSet<>();
+        for (EmbeddingMatch<TextSegment> match : store.search(request(query)).matches()) {
+            ids.add(match.embeddingId());
+        }
+        return ids;
+    }
+
+    private static EmbeddingSearchRequest request(Embedding query) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(MAX_RESULTS)
+                .build();
+    }
+
+    @Benchmark
+    public int search(Recall recall) {
+        int index = query++ & (QUERIES - 1);
+        Set<String> expected = expectedIds.get(index);
+        int found = 0;
+        for (EmbeddingMatch<TextSegment> match : store.search(request(queries[index])).matches()) {
+            if (expected.contains(match.embeddingId())) {
+                found++;
+            }
+        }
+        recall.found += found;
+        recall.expected += expected.size();
+        recall.heapBytesPerVector = heapBytes / size;
+        recall.directBytesPerVector = directBytes / size;
+        recall.mappedBytesPerVector = mappedBytes / size;
+        return found;
+    }
+}
@@ -0,0 +1,71 @@
+package dev.langchain4j.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link DefaultServerSentEventParser} on a recorded-like stream of chat completion chunks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServerSentEventParserBenchmark {
+
+    @Param({"1000"})
+    int events;
+
+    private byte[] body;
+    private DefaultServerSentEventParser parser;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        StringBuilder stream = new StringBuilder();
+        for (int i = 0; i < events; i++) {
+            stream.append("data: {\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"choices\":[{\"index\":0,")
+                    .append("\"delta\":{\"content\":\"")
+                    .append(BenchmarkData.text(3, random))
+                    .append("\"},\"finish_reason\":null}]}\n\n");
+        }
+        stream.append("data: [DONE]\n\n");
+        body = stream.toString().getBytes(UTF_8);
+        parser = new DefaultServerSentEventParser();
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        parser.parse(new ByteArrayInputStream(body), new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                blackhole.consume(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+    }
+}
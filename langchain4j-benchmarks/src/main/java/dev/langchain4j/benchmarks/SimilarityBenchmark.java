@@ -0,0 +1,76 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link CosineSimilarity} with the scalar and default {@link SimilarityKernel}s.
+ * <p>
+ * The default kernel only uses the Vector API when the JVM runs with {@code --add-modules jdk.incubator.vector},
+ * which can be passed with {@code -jvmArgsAppend}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimilarityBenchmark {
+
+    @Param({"384", "1536"})
+    int dimension;
+
+    private Embedding a;
+    private Embedding b;
+    private SimilarityKernel scalar;
+    private SimilarityKernel defaultKernel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        a = BenchmarkData.embedding(dimension, random);
+        b = BenchmarkData.embedding(dimension, random);
+        scalar = SimilarityKernel.scalar();
+        defaultKernel = SimilarityKernel.defaultKernel();
+    }
+
+    @Benchmark
+    public double cosineSimilarity() {
+        return CosineSimilarity.between(a, b);
+    }
+
+    @Benchmark
+    public float scalarCosineSimilarity() {
+        return scalar.cosineSimilarity(a.vector(), b.vector());
+    }
+
+    @Benchmark
+    public float scalarDotProduct() {
+        return scalar.dotProduct(a.vector(), b.vector());
+    }
+
+    @Benchmark
+    public float defaultCosineSimilarity() {
+        return defaultKernel.cosineSimilarity(a.vector(), b.vector());
+    }
+
+    @Benchmark
+    public float defaultDotProduct() {
+        return defaultKernel.dotProduct(a.vector(), b.vector());
+    }
+}
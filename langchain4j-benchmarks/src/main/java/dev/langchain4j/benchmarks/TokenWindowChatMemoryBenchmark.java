@@ -0,0 +1,63 @@
+package dev.langchain4j.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link TokenWindowChatMemory#add(ChatMessage)} on a full memory, where every added message
+ * evicts older ones, using a local word-count token estimator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenWindowChatMemoryBenchmark {
+
+    @Param({"1000", "8000"})
+    int maxTokens;
+
+    private TokenWindowChatMemory memory;
+    private ChatMessage[] messages;
+    private int message;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        memory = TokenWindowChatMemory.withMaxTokens(maxTokens, new WordCountTokenCountEstimator());
+        memory.add(SystemMessage.from(BenchmarkData.text(50, random)));
+        messages = new ChatMessage[64];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = i % 2 == 0
+                    ? UserMessage.from(BenchmarkData.text(20, random))
+                    : AiMessage.from(BenchmarkData.text(60, random));
+        }
+        for (ChatMessage chatMessage : messages) {
+            memory.add(chatMessage);
+        }
+    }
+
+    @Benchmark
+    public TokenWindowChatMemory add() {
+        memory.add(messages[message++ & (messages.length - 1)]);
+        return memory;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.TokenCountEstimator;
+
+/**
+ * A local stand-in for a real tokenizer, which estimates one token per word.
+ * It is cheap and deterministic, so that benchmarks measure the code calling it rather than the tokenizer.
+ */
+class WordCountTokenCountEstimator implements TokenCountEstimator {
+
+    @Override
+    public int estimateTokenCountInText(String text) {
+        int tokens = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean letter = !Character.isWhitespace(text.charAt(i));
+            if (letter && !inWord) {
+                tokens++;
+            }
+            inWord = letter;
+        }
+        return tokens;
+    }
+
+    @Override
+    public int estimateTokenCountInMessage(ChatMessage message) {
+        int tokens = 3;
+        if (message instanceof SystemMessage systemMessage) {
+            tokens += estimateTokenCountInText(systemMessage.text());
+        } else if (message instanceof UserMessage userMessage && userMessage.hasSingleText()) {
+            tokens += estimateTokenCountInText(userMessage.singleText());
+        } else if (message instanceof AiMessage aiMessage && aiMessage.text() != null) {
+            tokens += estimateTokenCountInText(aiMessage.text());
+        }
+        return tokens;
+    }
+
+    @Override
+    public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+        int tokens = 3;
+        for (ChatMessage message : messages) {
+            tokens += estimateTokenCountInMessage(message);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.store.embedding.CosineSimilarity.EPSILON;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@link SimilarityKernel} that uses the JDK Vector API to process {@link #SPECIES} lanes per instruction.
+ * <p>
+ * This class is compiled separately with {@code --add-modules jdk.incubator.vector}
+ * and is only instantiated (reflectively, by {@link SimilarityKernels}) when that module is present at runtime.
+ * Tails shorter than a vector are processed with scalar code.
+ */
+final class VectorApiSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    VectorApiSimilarityKernel() {}
+
+    @Override
+    public float dotProduct(float[] a, float[] b) {
+        return dotProduct(a, b, 0);
+    }
+
+    @Override
+    public float dotProduct(float[] a, float[] b, int bOffset) {
+        int length = a.length;
+        int upperBound = SPECIES.loopBound(length);
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            sum = va.fma(vb, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public float cosineSimilarity(float[] a, float[] b) {
+        int length = a.length;
+        int upperBound = SPECIES.loopBound(length);
+        FloatVector dot = FloatVector.zero(SPECIES);
+        FloatVector normA = FloatVector.zero(SPECIES);
+        FloatVector normB = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+            dot = va.fma(vb, dot);
+            normA = va.fma(va, normA);
+            normB = vb.fma(vb, normB);
+        }
+        float dotProduct = dot.reduceLanes(VectorOperators.ADD);
+        float squaredNormA = normA.reduceLanes(VectorOperators.ADD);
+        float squaredNormB = normB.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            dotProduct += a[i] * b[i];
+            squaredNormA += a[i] * a[i];
+            squaredNormB += b[i] * b[i];
+        }
+        return (float) (dotProduct / Math.max(Math.sqrt(squaredNormA) * Math.sqrt(squaredNormB), EPSILON));
+    }
+
+    @Override
+    public float squaredEuclideanDistance(float[] a, float[] b) {
+        int length = a.length;
+        int upperBound = SPECIES.loopBound(length);
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector diff = FloatVector.fromArray(SPECIES, a, i).sub(FloatVector.fromArray(SPECIES, b, i));
+            sum = diff.fma(diff, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float diff = a[i] - b[i];
+            result += diff * diff;
+        }
+        return result;
+    }
+}
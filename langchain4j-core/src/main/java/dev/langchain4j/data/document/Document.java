@@ -21,6 +21,12 @@ public interface Document {
      * Common metadata key for the URL from which the document was loaded.
      */
     String URL = "url";
+    /**
+     * Common metadata key for the number (starting from 1) of the page from which a part of a document was parsed.
+     *
+     * @see DocumentParser#parseParts(java.io.InputStream)
+     */
+    String PAGE_NUMBER = "page_number";
 
     /**
      * Returns the text of this document.
@@ -1,6 +1,9 @@
 package dev.langchain4j.data.document;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Utility class for loading documents.
@@ -31,4 +34,44 @@ public class DocumentLoader {
             throw new RuntimeException("Failed to load document", e);
         }
     }
+
+    /**
+     * Loads the parts (e.g., pages) of a document from the given source using the given parser,
+     * see {@link DocumentParser#parseParts(InputStream)}.
+     *
+     * <p>Forwards the source Metadata to each part.
+     * The source is read as the returned {@link Stream} is consumed, and closed when the {@link Stream} is closed.
+     *
+     * @param source The source from which the document will be loaded.
+     * @param parser The parser that will be used to parse the document.
+     * @return The parts of the loaded document, which must be closed.
+     */
+    public static Stream<Document> loadParts(DocumentSource source, DocumentParser parser) {
+        InputStream inputStream;
+        try {
+            inputStream = source.inputStream();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load document", e);
+        }
+        try {
+            Map<String, Object> sourceMetadata = source.metadata().toMap();
+            return parser.parseParts(inputStream)
+                    .map(part -> {
+                        part.metadata().putAll(sourceMetadata);
+                        return part;
+                    })
+                    .onClose(() -> close(inputStream));
+        } catch (RuntimeException e) {
+            close(inputStream);
+            throw e;
+        }
+    }
+
+    private static void close(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
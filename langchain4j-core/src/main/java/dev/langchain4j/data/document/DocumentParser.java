@@ -1,6 +1,7 @@
 package dev.langchain4j.data.document;
 
 import java.io.InputStream;
+import java.util.stream.Stream;
 
 /**
  * Defines the interface for parsing an {@link InputStream} into a {@link Document}.
@@ -20,4 +21,26 @@ public interface DocumentParser {
      * @throws BlankDocumentException when the parsed {@link Document} is blank/empty.
      */
     Document parse(InputStream inputStream);
+
+    /**
+     * Parses a given {@link InputStream} into parts (e.g., pages), each represented as a {@link Document}
+     * with the metadata of the whole document and, when known, part-specific metadata like {@link Document#PAGE_NUMBER}.
+     * <p>
+     * Parsers supporting it extract the parts lazily, as the returned {@link Stream} is consumed,
+     * so that the whole text of a large document never has to be held in memory at once.
+     * For example, the parts can be split while the document is still being parsed,
+     * using {@link DocumentSplitter#splitParts(Stream)}.
+     * By default, the whole document is parsed using {@link #parse(InputStream)} and returned as a single part.
+     * <p>
+     * The returned {@link Stream} must be closed to release the resources held by the parser.
+     * Note: This method does not close the provided {@link InputStream}, which must remain open
+     * until the returned {@link Stream} is consumed.
+     *
+     * @param inputStream The {@link InputStream} that contains the content of the {@link Document}.
+     * @return The parts of the parsed {@link Document}, in order. Blank parts are skipped.
+     * @throws BlankDocumentException when the parsed {@link Document} is blank/empty, for parsers not supporting parts.
+     */
+    default Stream<Document> parseParts(InputStream inputStream) {
+        return Stream.of(parse(inputStream));
+    }
 }
@@ -3,10 +3,13 @@ package dev.langchain4j.data.document;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.ParallelUtils;
 import dev.langchain4j.internal.Utils;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * Defines the interface for splitting a document into text segments.
@@ -38,6 +41,41 @@ public interface DocumentSplitter {
         return documents.stream().flatMap(document -> split(document).stream()).collect(toList());
     }
 
+    /**
+     * Splits a list of Documents into a list of TextSegment objects, splitting up to {@code parallelism}
+     * documents at the same time on the provided {@link Executor}.
+     * The documents are split into contiguous chunks, each split with {@link #splitAll(List)},
+     * and the segments are returned in the order of the chunks.
+     * <br>
+     * This is useful for splitters that are CPU-bound. Not all splitters are thread-safe
+     * (for example, splitters holding a database connection are not):
+     * callers must only use this method with splitters whose {@link #splitAll(List)} is thread-safe
+     * and splits each document independently.
+     *
+     * @param documents   The list of Documents to be split.
+     * @param executor    The executor splitting the documents.
+     * @param parallelism The maximum number of documents split at the same time.
+     * @return A list of TextSegment objects derived from the input Documents.
+     */
+    default List<TextSegment> splitAll(List<Document> documents, Executor executor, int parallelism) {
+        return ParallelUtils.mapChunksInOrder(documents, chunk -> splitAll(chunk), executor, parallelism);
+    }
+
+    /**
+     * Splits the parts of a document, as returned by {@link DocumentParser#parseParts(java.io.InputStream)},
+     * lazily: each part is split only when its segments are consumed, so that segments can be embedded
+     * while the document is still being parsed.
+     * <br>
+     * By default, each part is split with {@link #split(Document)}.
+     * Implementations may override it, for example, to number the segments across all parts.
+     *
+     * @param parts The parts of a document, in order.
+     * @return The segments of all parts, in order.
+     */
+    default Stream<TextSegment> splitParts(Stream<Document> parts) {
+        return parts.flatMap(part -> split(part).stream());
+    }
+
     /**
      * Splits multiple {@link Document} instances into a list of {@link TextSegment} objects.
      * <p>
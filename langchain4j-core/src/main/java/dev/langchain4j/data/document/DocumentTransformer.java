@@ -1,7 +1,10 @@
 package dev.langchain4j.data.document;
 
+import dev.langchain4j.internal.ParallelUtils;
+
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import static java.util.stream.Collectors.toList;
 
@@ -31,4 +34,22 @@ public interface DocumentTransformer {
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
+
+    /**
+     * Transforms all the provided documents, transforming up to {@code parallelism} documents at the same time
+     * on the provided {@link Executor}.
+     * The documents are split into contiguous chunks, each transformed with {@link #transformAll(List)},
+     * and the transformed documents are returned in the order of the chunks.
+     * <br>
+     * This is useful for transformers that are CPU-bound, such as HTML parsing,
+     * as long as {@link #transformAll(List)} is thread-safe and transforms each document independently.
+     *
+     * @param documents   A list of documents to be transformed.
+     * @param executor    The executor transforming the documents.
+     * @param parallelism The maximum number of documents transformed at the same time.
+     * @return A list of transformed documents. Returns an empty list if all documents were filtered out.
+     */
+    default List<Document> transformAll(List<Document> documents, Executor executor, int parallelism) {
+        return ParallelUtils.mapChunksInOrder(documents, chunk -> transformAll(chunk), executor, parallelism);
+    }
 }
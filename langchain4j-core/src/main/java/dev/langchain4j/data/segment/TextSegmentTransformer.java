@@ -2,10 +2,12 @@ package dev.langchain4j.data.segment;
 
 import static java.util.stream.Collectors.toList;
 
+import dev.langchain4j.internal.ParallelUtils;
 import dev.langchain4j.internal.Utils;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Defines the interface for transforming a {@link TextSegment}.
@@ -31,6 +33,24 @@ public interface TextSegmentTransformer {
         return segments.stream().map(this::transform).filter(Objects::nonNull).collect(toList());
     }
 
+    /**
+     * Transforms all the provided segments, transforming up to {@code parallelism} segments at the same time
+     * on the provided {@link Executor}.
+     * The segments are split into contiguous chunks, each transformed with {@link #transformAll(List)},
+     * and the transformed segments are returned in the order of the chunks.
+     * <br>
+     * This is useful for transformers that are CPU-bound,
+     * as long as {@link #transformAll(List)} is thread-safe and transforms each segment independently.
+     *
+     * @param segments    A list of segments to be transformed.
+     * @param executor    The executor transforming the segments.
+     * @param parallelism The maximum number of segments transformed at the same time.
+     * @return A list of transformed segments. Returns an empty list if all segments were filtered out.
+     */
+    default List<TextSegment> transformAll(List<TextSegment> segments, Executor executor, int parallelism) {
+        return ParallelUtils.mapChunksInOrder(segments, chunk -> transformAll(chunk), executor, parallelism);
+    }
+
     /**
      * Transforms all the provided {@link TextSegment}s using varargs input.
      * <p>
@@ -0,0 +1,51 @@
+package dev.langchain4j.internal;
+
+import dev.langchain4j.Internal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Utility methods for {@link CompletableFuture}s returned by asynchronous model calls.
+ */
+@Internal
+public class FutureUtils {
+
+    private FutureUtils() {}
+
+    /**
+     * Returns the actual cause of a failed {@link CompletableFuture},
+     * without the {@link CompletionException} or {@link ExecutionException} wrapping it.
+     *
+     * @param throwable the throwable passed to a completion callback, or thrown by {@code join()} or {@code get()}.
+     * @return the actual cause.
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Cancels the given source future when the given dependent future is cancelled.
+     * <br>
+     * The futures returned by {@code thenApply()}, {@code thenCompose()}, etc. do not cancel the future
+     * they depend on, so cancelling them would not cancel, for example, the underlying HTTP request.
+     *
+     * @param source    the future to cancel, for example, the one of an HTTP request.
+     * @param dependent the future returned to the caller, which completes after the source.
+     * @return the dependent future.
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(
+            CompletableFuture<?> source, CompletableFuture<T> dependent) {
+        dependent.whenComplete((ignored, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+}
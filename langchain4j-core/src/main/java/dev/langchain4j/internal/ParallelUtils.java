@@ -0,0 +1,235 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.FutureUtils.unwrap;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Internal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utility methods to process lists of independent items concurrently.
+ */
+@Internal
+public class ParallelUtils {
+
+    private static final int CHUNKS_PER_PARALLELISM = 4;
+
+    private ParallelUtils() {}
+
+    /**
+     * Applies the given function to each input, running at most {@code parallelism} applications at the same time
+     * on the given executor, and returns the results in the order of the inputs.
+     * <br>
+     * Inputs are submitted only when a previous application completes, so that a large list of inputs
+     * does not fill the queue of the executor.
+     * If an application fails, no further inputs are submitted, and the failure is rethrown
+     * once the applications already running have completed.
+     * If {@code parallelism} is 1, or there is a single input, the function is applied on the calling thread.
+     *
+     * @param inputs      the inputs.
+     * @param function    the function to apply to each input.
+     * @param executor    the executor running the applications.
+     * @param parallelism the maximum number of applications running at the same time.
+     * @return the results, in the order of the inputs.
+     */
+    public static <T, R> List<R> mapInOrder(
+            List<T> inputs, Function<? super T, ? extends R> function, Executor executor, int parallelism) {
+        ensureNotNull(inputs, "inputs");
+        ensureNotNull(function, "function");
+        ensureNotNull(executor, "executor");
+        ensureGreaterThanZero(parallelism, "parallelism");
+
+        if (parallelism == 1 || inputs.size() <= 1) {
+            List<R> results = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                results.add(function.apply(input));
+            }
+            return results;
+        }
+
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        try {
+            for (T input : inputs) {
+                permits.acquire();
+                if (failed.get()) {
+                    permits.release();
+                    break;
+                }
+                CompletableFuture<R> future = CompletableFuture.supplyAsync(() -> function.apply(input), executor);
+                future.whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        failed.set(true);
+                    }
+                    permits.release();
+                });
+                futures.add(future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException(e);
+        }
+
+        // allOf completes once every future has completed, normally or not, so nothing runs after a failure is thrown
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(ignored -> null)
+                .join();
+
+        List<R> results = new ArrayList<>(inputs.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    /**
+     * Splits the inputs into contiguous chunks, applies the given batch function to each chunk like
+     * {@link #mapInOrder(List, Function, Executor, int)}, and concatenates the results in the order of the chunks.
+     * <br>
+     * This is used to run a method processing a whole list, which implementations may override
+     * (for example, to batch remote calls), concurrently on parts of the list.
+     * There are several chunks per unit of parallelism, so that uneven chunks do not leave threads idle.
+     *
+     * @param inputs      the inputs.
+     * @param function    the function to apply to each chunk of inputs.
+     * @param executor    the executor running the applications.
+     * @param parallelism the maximum number of applications running at the same time.
+     * @return the concatenated results, in the order of the inputs.
+     */
+    public static <T, R> List<R> mapChunksInOrder(
+            List<T> inputs, Function<List<T>, ? extends List<R>> function, Executor executor, int parallelism) {
+        ensureNotNull(inputs, "inputs");
+        ensureGreaterThanZero(parallelism, "parallelism");
+
+        int chunkCount = (int) Math.min(inputs.size(), (long) parallelism * CHUNKS_PER_PARALLELISM);
+        List<List<T>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(inputs.subList(
+                    (int) ((long) i * inputs.size() / chunkCount), (int) ((long) (i + 1) * inputs.size() / chunkCount)));
+        }
+
+        List<R> results = new ArrayList<>(inputs.size());
+        for (List<R> chunkResults : mapInOrder(chunks, function, executor, parallelism)) {
+            results.addAll(chunkResults);
+        }
+        return results;
+    }
+
+    /**
+     * Applies the given function to each input, running at most {@code parallelism} applications at the same time
+     * on the given executor, and returns a lazy {@link Stream} of the results in the order in which they complete.
+     * <br>
+     * Applications are submitted as the stream is consumed, so that at most {@code parallelism} results are
+     * computed ahead of the consumer. If an application fails, the failure is rethrown by the stream.
+     * Once the stream is closed, no further inputs are submitted, the submitted applications which have not started
+     * yet are cancelled, and the results of the running ones are discarded.
+     *
+     * @param inputs      the inputs.
+     * @param function    the function to apply to each input.
+     * @param executor    the executor running the applications.
+     * @param parallelism the maximum number of applications running at the same time.
+     * @return the results, in completion order.
+     */
+    public static <T, R> Stream<R> mapAsCompleted(
+            List<T> inputs, Function<? super T, ? extends R> function, Executor executor, int parallelism) {
+        ensureNotNull(inputs, "inputs");
+        ensureNotNull(function, "function");
+        ensureNotNull(executor, "executor");
+        ensureGreaterThanZero(parallelism, "parallelism");
+
+        CompletionIterator<T, R> iterator = new CompletionIterator<>(inputs, function, executor, parallelism);
+        return StreamSupport.stream(Spliterators.spliterator(iterator, inputs.size(), Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    private static class CompletionIterator<T, R> implements Iterator<R> {
+
+        private final List<T> inputs;
+        private final Function<? super T, ? extends R> function;
+        private final Executor executor;
+        private final int parallelism;
+        private final BlockingQueue<CompletableFuture<R>> completed = new LinkedBlockingQueue<>();
+        private final Set<CompletableFuture<R>> running = ConcurrentHashMap.newKeySet();
+
+        private int submitted;
+        private int returned;
+        private volatile boolean closed;
+
+        CompletionIterator(List<T> inputs, Function<? super T, ? extends R> function, Executor executor, int parallelism) {
+            this.inputs = inputs;
+            this.function = function;
+            this.executor = executor;
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !closed && returned < inputs.size();
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (submitted < inputs.size() && submitted - returned < parallelism) {
+                T input = inputs.get(submitted++);
+                CompletableFuture<R> future = CompletableFuture.supplyAsync(() -> function.apply(input), executor);
+                running.add(future);
+                future.whenComplete((ignored, error) -> {
+                    running.remove(future);
+                    completed.add(future);
+                });
+            }
+            CompletableFuture<R> future;
+            try {
+                future = completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            returned++;
+            return join(future);
+        }
+
+        void close() {
+            closed = true;
+            running.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package dev.langchain4j.internal;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.FutureUtils.unwrap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import dev.langchain4j.Internal;
 import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.NonRetriableException;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -219,6 +226,64 @@ public final class RetryUtils {
                 retry++;
             }
         }
+
+        /**
+         * This method is the asynchronous counterpart of {@link #withRetry(Callable, int)}.
+         * When the future returned by the action fails, the action is invoked again after the same delay,
+         * without blocking a thread while waiting.
+         * <br>
+         * Cancelling the returned future cancels the pending attempt and stops retrying.
+         *
+         * @param action     The action to be executed, returning the future of its result.
+         * @param maxRetries The maximum number of retries.
+         *                   The action can be executed up to {@code maxRetries + 1} times.
+         * @param <T>        The type of the result of the action.
+         * @return The future result of the action, failed with the last error if the action fails on all attempts.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<CompletableFuture<T>> action, int maxRetries) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attempt(action, 0, maxRetries, result);
+            return result;
+        }
+
+        private <T> void attempt(
+                Supplier<CompletableFuture<T>> action, int retry, int maxRetries, CompletableFuture<T> result) {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<T> attempt;
+            try {
+                attempt = action.get();
+            } catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            propagateCancellation(attempt, result);
+            attempt.whenComplete((response, error) -> {
+                if (error == null) {
+                    result.complete(response);
+                    return;
+                }
+                Throwable cause = unwrap(error);
+                if (cause instanceof NonRetriableException
+                        || cause instanceof CancellationException
+                        || !(cause instanceof Exception)
+                        || retry >= maxRetries) {
+                    result.completeExceptionally(
+                            cause instanceof RuntimeException || cause instanceof Error
+                                    ? cause
+                                    : new LangChain4jException(cause));
+                    return;
+                }
+
+                log.warn(
+                        "A retriable exception occurred. Remaining retries: %s of %s"
+                                .formatted(maxRetries - retry, maxRetries),
+                        cause);
+
+                CompletableFuture.delayedExecutor(jitterDelayMillis(retry), MILLISECONDS)
+                        .execute(() -> attempt(action, retry + 1, maxRetries, result));
+            });
+        }
     }
 
     /**
@@ -321,4 +386,61 @@ public final class RetryUtils {
             Callable<T> action, int maxRetries, ExceptionMapper exceptionMapper) {
         return withRetry(() -> exceptionMapper.withExceptionMapper(action), maxRetries);
     }
+
+    /**
+     * This method is the asynchronous counterpart of {@link #withRetryMappingExceptions(Callable, int)}.
+     * When the future returned by the action fails, the action is invoked again after the same delay,
+     * without blocking a thread while waiting.
+     * The error failing the returned future is mapped with the default {@link ExceptionMapper}.
+     *
+     * @param action     The action to be executed, returning the future of its result.
+     * @param maxRetries The maximum number of retries.
+     *                   The action can be executed up to {@code maxRetries + 1} times.
+     * @param <T>        The type of the result of the action.
+     * @return The future result of the action, failed with the last error if the action fails on all attempts.
+     */
+    public static <T> CompletableFuture<T> withRetryMappingExceptionsAsync(
+            Supplier<CompletableFuture<T>> action, int maxRetries) {
+        return withRetryMappingExceptionsAsync(action, maxRetries, ExceptionMapper.DEFAULT);
+    }
+
+    /**
+     * This method is the asynchronous counterpart of
+     * {@link #withRetryMappingExceptions(Callable, int, ExceptionMapper)}.
+     * When the future returned by the action fails, the action is invoked again after the same delay,
+     * without blocking a thread while waiting.
+     * The error failing the returned future is mapped with the provided {@link ExceptionMapper}.
+     *
+     * @param action          The action to be executed, returning the future of its result.
+     * @param maxRetries      The maximum number of retries.
+     *                        The action can be executed up to {@code maxRetries + 1} times.
+     * @param exceptionMapper The ExceptionMapper used to translate the exception that caused the failure of the action invocation.
+     * @param <T>             The type of the result of the action.
+     * @return The future result of the action, failed with the last error if the action fails on all attempts.
+     */
+    public static <T> CompletableFuture<T> withRetryMappingExceptionsAsync(
+            Supplier<CompletableFuture<T>> action, int maxRetries, ExceptionMapper exceptionMapper) {
+        return DEFAULT_RETRY_POLICY.withRetryAsync(() -> mapExceptions(action, exceptionMapper), maxRetries);
+    }
+
+    private static <T> CompletableFuture<T> mapExceptions(
+            Supplier<CompletableFuture<T>> action, ExceptionMapper exceptionMapper) {
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> mapped = new CompletableFuture<>();
+        future.whenComplete((response, error) -> {
+            if (error == null) {
+                mapped.complete(response);
+            } else {
+                Throwable cause = unwrap(error);
+                mapped.completeExceptionally(
+                        cause instanceof CancellationException ? cause : exceptionMapper.mapException(cause));
+            }
+        });
+        return propagateCancellation(future, mapped);
+    }
 }
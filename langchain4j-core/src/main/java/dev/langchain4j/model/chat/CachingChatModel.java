@@ -0,0 +1,197 @@
+package dev.langchain4j.model.chat;
+
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.cache.ChatResponseCache;
+import dev.langchain4j.model.chat.cache.InMemoryChatResponseCache;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link ChatModel} that caches the responses of the given {@link ChatModel}.
+ * <br>
+ * A response is cached under a hash of the provider, the messages and the request parameters,
+ * including tool specifications, after the default request parameters of the given {@link ChatModel} are applied.
+ * An identical request is then answered from the {@link Builder#cache(ChatResponseCache)}.
+ * <br>
+ * When an {@link Builder#embeddingModel(EmbeddingModel)} and an {@link Builder#embeddingStore(EmbeddingStore)}
+ * are set, a request is also answered from the cache when it differs from a cached request
+ * only by a similar last {@link dev.langchain4j.data.message.UserMessage}.
+ * The similarity must be at least {@link Builder#minScore(Double)}.
+ * In this semantic mode, the user message of each request not found in the cache is embedded,
+ * on the calling thread even for {@link #chatAsync(ChatRequest)}.
+ * <br>
+ * The {@link ChatModelListener}s of the given {@link ChatModel} are notified about the responses served from the cache.
+ * They can recognize them by the {@link #CACHE_HIT_ATTRIBUTE} in the attributes of the contexts.
+ * <br>
+ * Only use this model for deterministic use cases, such as classification or extraction,
+ * where returning the same answer to the same question is desired.
+ */
+public class CachingChatModel implements ChatModel {
+
+    /**
+     * The key of the attribute set to {@code true} in the attributes of the
+     * {@link dev.langchain4j.model.chat.listener.ChatModelRequestContext} and
+     * {@link dev.langchain4j.model.chat.listener.ChatModelResponseContext}
+     * when the response is served from the cache.
+     */
+    public static final String CACHE_HIT_ATTRIBUTE = "langchain4j.cache_hit";
+
+    private final ChatModel chatModel;
+    private final ChatResponseCaching caching;
+
+    private CachingChatModel(Builder builder) {
+        this.chatModel = ensureNotNull(builder.chatModel, "chatModel");
+        this.caching = new ChatResponseCaching(
+                builder.cache, builder.embeddingModel, builder.embeddingStore, builder.minScore);
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        ChatRequest finalChatRequest = finalChatRequest(chatRequest);
+        ChatResponseCaching.Lookup lookup = caching.lookup(finalChatRequest, provider());
+        if (lookup.isHit()) {
+            ChatResponseCaching.onCacheHit(finalChatRequest, lookup.cachedResponse(), provider(), listeners());
+            return lookup.cachedResponse();
+        }
+        ChatResponse chatResponse = chatModel.chat(chatRequest);
+        caching.store(lookup, chatResponse);
+        return chatResponse;
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+        ChatRequest finalChatRequest = finalChatRequest(chatRequest);
+        ChatResponseCaching.Lookup lookup = caching.lookup(finalChatRequest, provider());
+        if (lookup.isHit()) {
+            ChatResponseCaching.onCacheHit(finalChatRequest, lookup.cachedResponse(), provider(), listeners());
+            return CompletableFuture.completedFuture(lookup.cachedResponse());
+        }
+        CompletableFuture<ChatResponse> future = chatModel.chatAsync(chatRequest);
+        return propagateCancellation(future, future.thenApply(chatResponse -> {
+            caching.store(lookup, chatResponse);
+            return chatResponse;
+        }));
+    }
+
+    private ChatRequest finalChatRequest(ChatRequest chatRequest) {
+        return ChatRequest.builder()
+                .messages(chatRequest.messages())
+                .parameters(defaultRequestParameters().overrideWith(chatRequest.parameters()))
+                .build();
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return chatModel.defaultRequestParameters();
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return chatModel.listeners();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return chatModel.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return chatModel.supportedCapabilities();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatModel chatModel;
+        private ChatResponseCache cache;
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minScore;
+
+        /**
+         * Sets the {@link ChatModel} answering the requests which are not cached.
+         *
+         * @param chatModel the chat model.
+         * @return builder
+         */
+        public Builder chatModel(ChatModel chatModel) {
+            this.chatModel = chatModel;
+            return this;
+        }
+
+        /**
+         * Sets the cache of the responses.
+         * <br>
+         * Default value: an {@link InMemoryChatResponseCache} with its default bound
+         *
+         * @param cache the cache.
+         * @return builder
+         */
+        public Builder cache(ChatResponseCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the {@link EmbeddingModel} embedding the last user message, to enable the semantic mode.
+         * Requires an {@link #embeddingStore(EmbeddingStore)}.
+         * <br>
+         * Default value: none, only identical requests are answered from the cache
+         *
+         * @param embeddingModel the embedding model.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Sets the {@link EmbeddingStore} indexing the last user messages of the cached requests,
+         * to enable the semantic mode. It should be dedicated to this cache.
+         * Requires an {@link #embeddingModel(EmbeddingModel)}.
+         * <br>
+         * Default value: none, only identical requests are answered from the cache
+         *
+         * @param embeddingStore the embedding store.
+         * @return builder
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * Sets the minimum similarity between two user messages for the response to one to be returned for the other,
+         * in semantic mode.
+         * <br>
+         * Default value: 0.95
+         *
+         * @param minScore the minimum similarity, between 0 and 1.
+         * @return builder
+         */
+        public Builder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        public CachingChatModel build() {
+            return new CachingChatModel(this);
+        }
+    }
+}
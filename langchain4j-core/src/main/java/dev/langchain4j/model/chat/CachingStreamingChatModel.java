@@ -0,0 +1,257 @@
+package dev.langchain4j.model.chat;
+
+import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onCompleteResponse;
+import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onCompleteToolCall;
+import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onPartialResponse;
+import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onPartialThinking;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.cache.ChatResponseCache;
+import dev.langchain4j.model.chat.cache.InMemoryChatResponseCache;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CompleteToolCall;
+import dev.langchain4j.model.chat.response.PartialResponse;
+import dev.langchain4j.model.chat.response.PartialResponseContext;
+import dev.langchain4j.model.chat.response.PartialThinking;
+import dev.langchain4j.model.chat.response.PartialThinkingContext;
+import dev.langchain4j.model.chat.response.PartialToolCall;
+import dev.langchain4j.model.chat.response.PartialToolCallContext;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.chat.response.StreamingHandle;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link StreamingChatModel} that caches the responses of the given {@link StreamingChatModel}.
+ * <br>
+ * Requests are matched like with the {@link CachingChatModel}, and a cache can be shared by both models.
+ * A cached response is replayed to the {@link StreamingChatResponseHandler} on the calling thread:
+ * its thinking and its text as a single partial response each, then its tool calls, then the complete response.
+ * <br>
+ * The {@link ChatModelListener}s of the given {@link StreamingChatModel} are notified about the responses
+ * served from the cache. They can recognize them by the {@link CachingChatModel#CACHE_HIT_ATTRIBUTE}
+ * in the attributes of the contexts.
+ */
+public class CachingStreamingChatModel implements StreamingChatModel {
+
+    private final StreamingChatModel streamingChatModel;
+    private final ChatResponseCaching caching;
+
+    private CachingStreamingChatModel(Builder builder) {
+        this.streamingChatModel = ensureNotNull(builder.streamingChatModel, "streamingChatModel");
+        this.caching = new ChatResponseCaching(
+                builder.cache, builder.embeddingModel, builder.embeddingStore, builder.minScore);
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        ChatRequest finalChatRequest = ChatRequest.builder()
+                .messages(chatRequest.messages())
+                .parameters(defaultRequestParameters().overrideWith(chatRequest.parameters()))
+                .build();
+
+        ChatResponseCaching.Lookup lookup = caching.lookup(finalChatRequest, provider());
+        if (lookup.isHit()) {
+            ChatResponseCaching.onCacheHit(finalChatRequest, lookup.cachedResponse(), provider(), listeners());
+            replay(lookup.cachedResponse(), handler);
+            return;
+        }
+
+        streamingChatModel.chat(chatRequest, new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onPartialResponse(PartialResponse partialResponse, PartialResponseContext context) {
+                handler.onPartialResponse(partialResponse, context);
+            }
+
+            @Override
+            public void onPartialThinking(PartialThinking partialThinking) {
+                handler.onPartialThinking(partialThinking);
+            }
+
+            @Override
+            public void onPartialThinking(PartialThinking partialThinking, PartialThinkingContext context) {
+                handler.onPartialThinking(partialThinking, context);
+            }
+
+            @Override
+            public void onPartialToolCall(PartialToolCall partialToolCall) {
+                handler.onPartialToolCall(partialToolCall);
+            }
+
+            @Override
+            public void onPartialToolCall(PartialToolCall partialToolCall, PartialToolCallContext context) {
+                handler.onPartialToolCall(partialToolCall, context);
+            }
+
+            @Override
+            public void onCompleteToolCall(CompleteToolCall completeToolCall) {
+                handler.onCompleteToolCall(completeToolCall);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                caching.store(lookup, completeResponse);
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+
+    private static void replay(ChatResponse chatResponse, StreamingChatResponseHandler handler) {
+        ReplayStreamingHandle streamingHandle = new ReplayStreamingHandle();
+        AiMessage aiMessage = chatResponse.aiMessage();
+
+        onPartialThinking(handler, aiMessage.thinking(), streamingHandle);
+        if (streamingHandle.isCancelled()) {
+            return;
+        }
+        onPartialResponse(handler, aiMessage.text(), streamingHandle);
+        if (streamingHandle.isCancelled()) {
+            return;
+        }
+        List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+        for (int i = 0; i < toolExecutionRequests.size(); i++) {
+            onCompleteToolCall(handler, new CompleteToolCall(i, toolExecutionRequests.get(i)));
+        }
+        onCompleteResponse(handler, chatResponse);
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return streamingChatModel.defaultRequestParameters();
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return streamingChatModel.listeners();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return streamingChatModel.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return streamingChatModel.supportedCapabilities();
+    }
+
+    private static class ReplayStreamingHandle implements StreamingHandle {
+
+        private volatile boolean cancelled;
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private StreamingChatModel streamingChatModel;
+        private ChatResponseCache cache;
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minScore;
+
+        /**
+         * Sets the {@link StreamingChatModel} answering the requests which are not cached.
+         *
+         * @param streamingChatModel the streaming chat model.
+         * @return builder
+         */
+        public Builder streamingChatModel(StreamingChatModel streamingChatModel) {
+            this.streamingChatModel = streamingChatModel;
+            return this;
+        }
+
+        /**
+         * Sets the cache of the responses.
+         * <br>
+         * Default value: an {@link InMemoryChatResponseCache} with its default bound
+         *
+         * @param cache the cache.
+         * @return builder
+         */
+        public Builder cache(ChatResponseCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the {@link EmbeddingModel} embedding the last user message, to enable the semantic mode.
+         * Requires an {@link #embeddingStore(EmbeddingStore)}.
+         * <br>
+         * Default value: none, only identical requests are answered from the cache
+         *
+         * @param embeddingModel the embedding model.
+         * @return builder
+         * @see CachingChatModel.Builder#embeddingModel(EmbeddingModel)
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Sets the {@link EmbeddingStore} indexing the last user messages of the cached requests,
+         * to enable the semantic mode. It should be dedicated to this cache.
+         * Requires an {@link #embeddingModel(EmbeddingModel)}.
+         * <br>
+         * Default value: none, only identical requests are answered from the cache
+         *
+         * @param embeddingStore the embedding store.
+         * @return builder
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * Sets the minimum similarity between two user messages for the response to one to be returned for the other,
+         * in semantic mode.
+         * <br>
+         * Default value: 0.95
+         *
+         * @param minScore the minimum similarity, between 0 and 1.
+         * @return builder
+         */
+        public Builder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        public CachingStreamingChatModel build() {
+            return new CachingStreamingChatModel(this);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static dev.langchain4j.model.chat.ChatModelListenerUtils.onResponse;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.request.ChatRequest;
@@ -16,6 +17,7 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -52,6 +54,26 @@ public interface ChatModel {
         }
     }
 
+    /**
+     * The asynchronous counterpart of {@link #chat(ChatRequest)}: sends the request and returns immediately.
+     * <br>
+     * By default, {@link #chat(ChatRequest)} is called on a thread of a shared executor
+     * (a virtual thread on Java 21+), which is blocked until the response is received.
+     * Implementations with a non-blocking transport override this method
+     * (see {@link ChatModelAsyncUtils#chatAsync(ChatModel, ChatRequest, java.util.function.Function)}),
+     * so that no thread waits for the response.
+     * <br>
+     * {@link ChatModelListener}s are notified like with {@link #chat(ChatRequest)}.
+     * Cancelling the returned future cancels the request, if the implementation supports it.
+     *
+     * @param chatRequest a {@link ChatRequest}, containing all the inputs to the LLM
+     * @return the future {@link ChatResponse}, containing all the outputs from the LLM
+     */
+    default CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+        return CompletableFuture.supplyAsync(
+                () -> chat(chatRequest), DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     default ChatResponse doChat(ChatRequest chatRequest) {
         throw new RuntimeException("Not implemented");
     }
@@ -0,0 +1,75 @@
+package dev.langchain4j.model.chat;
+
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.FutureUtils.unwrap;
+import static dev.langchain4j.model.chat.ChatModelListenerUtils.onError;
+import static dev.langchain4j.model.chat.ChatModelListenerUtils.onRequest;
+import static dev.langchain4j.model.chat.ChatModelListenerUtils.onResponse;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Helps {@link ChatModel} implementations with a non-blocking transport to implement
+ * {@link ChatModel#chatAsync(ChatRequest)} like {@link ChatModel#chat(ChatRequest)} is implemented:
+ * default request parameters are applied and {@link ChatModelListener}s are notified.
+ */
+@Internal
+public class ChatModelAsyncUtils {
+
+    private ChatModelAsyncUtils() {}
+
+    /**
+     * Sends a chat request with the given non-blocking implementation of {@link ChatModel#doChat(ChatRequest)}.
+     * <br>
+     * Cancelling the returned future cancels the one returned by {@code doChatAsync},
+     * and notifies the listeners with a {@link java.util.concurrent.CancellationException}.
+     *
+     * @param chatModel   the chat model providing the default request parameters, the listeners and the provider.
+     * @param chatRequest the chat request, as passed to {@link ChatModel#chatAsync(ChatRequest)}.
+     * @param doChatAsync sends the final chat request, without blocking the calling thread.
+     * @return the future chat response.
+     */
+    public static CompletableFuture<ChatResponse> chatAsync(
+            ChatModel chatModel,
+            ChatRequest chatRequest,
+            Function<ChatRequest, CompletableFuture<ChatResponse>> doChatAsync) {
+
+        ChatRequest finalChatRequest = ChatRequest.builder()
+                .messages(chatRequest.messages())
+                .parameters(chatModel.defaultRequestParameters().overrideWith(chatRequest.parameters()))
+                .build();
+
+        List<ChatModelListener> listeners = chatModel.listeners();
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+
+        onRequest(finalChatRequest, chatModel.provider(), attributes, listeners);
+
+        CompletableFuture<ChatResponse> future;
+        try {
+            future = doChatAsync.apply(finalChatRequest);
+        } catch (Exception error) {
+            future = CompletableFuture.failedFuture(error);
+        }
+
+        CompletableFuture<ChatResponse> result = new CompletableFuture<>();
+        future.whenComplete((chatResponse, error) -> {
+            if (error == null) {
+                onResponse(chatResponse, finalChatRequest, chatModel.provider(), attributes, listeners);
+                result.complete(chatResponse);
+            } else {
+                Throwable cause = unwrap(error);
+                onError(cause, finalChatRequest, chatModel.provider(), attributes, listeners);
+                result.completeExceptionally(cause);
+            }
+        });
+        return propagateCancellation(future, result);
+    }
+}
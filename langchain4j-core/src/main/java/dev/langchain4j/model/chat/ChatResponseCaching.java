@@ -0,0 +1,187 @@
+package dev.langchain4j.model.chat;
+
+import static dev.langchain4j.data.message.ChatMessageSerializer.messagesToJson;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.model.chat.ChatModelListenerUtils.onRequest;
+import static dev.langchain4j.model.chat.ChatModelListenerUtils.onResponse;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.Json;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.cache.ChatResponseCache;
+import dev.langchain4j.model.chat.cache.InMemoryChatResponseCache;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The caching logic shared by {@link CachingChatModel} and {@link CachingStreamingChatModel}.
+ * <br>
+ * The exact key is a SHA-256 hash of the model provider, the messages and the request parameters
+ * (including tool specifications), serialized to JSON.
+ * In semantic mode, the text of the last {@link UserMessage} is also indexed in the {@link EmbeddingStore},
+ * together with the hash of everything else in the request (the context key) and the exact key of the response.
+ * A request is then answered from the cache when its context key is equal to, and its last user message similar to,
+ * the ones of a cached request.
+ * <br>
+ * Failures of the cache are logged and treated as misses, so that they never fail a chat request.
+ */
+class ChatResponseCaching {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatResponseCaching.class);
+
+    private static final String CONTEXT_KEY = "chat_request_context_key";
+    private static final String RESPONSE_KEY = "chat_response_key";
+
+    private final ChatResponseCache cache;
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final double minScore;
+
+    ChatResponseCaching(
+            ChatResponseCache cache,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore,
+            Double minScore) {
+        this.cache = getOrDefault(cache, () -> InMemoryChatResponseCache.builder().build());
+        if ((embeddingModel == null) != (embeddingStore == null)) {
+            throw new IllegalArgumentException("embeddingModel and embeddingStore must be set together");
+        }
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.minScore = ensureBetween(getOrDefault(minScore, 0.95), 0, 1, "minScore");
+    }
+
+    Lookup lookup(ChatRequest chatRequest, ModelProvider modelProvider) {
+        String key;
+        String contextKey = null;
+        String userText = null;
+        try {
+            List<ChatMessage> messages = chatRequest.messages();
+            String parameters = chatRequest.parameters().getClass().getName()
+                    + Json.toJson(chatRequest.parameters());
+            key = sha256(modelProvider.name(), messagesToJson(messages), parameters);
+            if (isSemantic()
+                    && messages.get(messages.size() - 1) instanceof UserMessage userMessage
+                    && userMessage.hasSingleText()) {
+                userText = userMessage.singleText();
+                contextKey = sha256(
+                        modelProvider.name(), messagesToJson(messages.subList(0, messages.size() - 1)), parameters);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Chat request cannot be cached", e);
+            return Lookup.UNCACHEABLE;
+        }
+
+        ChatResponse cachedResponse = cache.get(key);
+        if (cachedResponse != null || userText == null) {
+            return new Lookup(key, null, null, null, cachedResponse);
+        }
+
+        Embedding embedding;
+        try {
+            embedding = embeddingModel.embed(userText).content();
+            EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embedding)
+                    .maxResults(1)
+                    .minScore(minScore)
+                    .filter(metadataKey(CONTEXT_KEY).isEqualTo(contextKey))
+                    .build();
+            List<EmbeddingMatch<TextSegment>> matches =
+                    embeddingStore.search(searchRequest).matches();
+            if (!matches.isEmpty()) {
+                String similarKey = matches.get(0).embedded().metadata().getString(RESPONSE_KEY);
+                cachedResponse = similarKey == null ? null : cache.get(similarKey);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to look up a similar chat request, treating it as a cache miss", e);
+            return new Lookup(key, null, null, null, null);
+        }
+        return new Lookup(key, contextKey, userText, embedding, cachedResponse);
+    }
+
+    void store(Lookup lookup, ChatResponse chatResponse) {
+        if (lookup.key() == null) {
+            return;
+        }
+        try {
+            cache.put(lookup.key(), chatResponse);
+            if (lookup.embedding() != null) {
+                Metadata metadata = Metadata.from(Map.of(CONTEXT_KEY, lookup.contextKey(), RESPONSE_KEY, lookup.key()));
+                embeddingStore.add(lookup.embedding(), TextSegment.from(lookup.userText(), metadata));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache a chat response", e);
+        }
+    }
+
+    /**
+     * Notifies the listeners about a response served from the cache,
+     * with {@link CachingChatModel#CACHE_HIT_ATTRIBUTE} set in the attributes.
+     */
+    static void onCacheHit(
+            ChatRequest chatRequest,
+            ChatResponse chatResponse,
+            ModelProvider modelProvider,
+            List<ChatModelListener> listeners) {
+        Map<Object, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put(CachingChatModel.CACHE_HIT_ATTRIBUTE, true);
+        onRequest(chatRequest, modelProvider, attributes, listeners);
+        onResponse(chatResponse, chatRequest, modelProvider, attributes, listeners);
+    }
+
+    private boolean isSemantic() {
+        return embeddingStore != null;
+    }
+
+    private static String sha256(String... parts) {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String part : parts) {
+            sha256.update(part.getBytes(UTF_8));
+            sha256.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    /**
+     * The outcome of a cache lookup.
+     *
+     * @param key            the exact key, or {@code null} if the request cannot be cached.
+     * @param contextKey     the context key, when the request can be looked up by similarity.
+     * @param userText       the text of the last user message, when the request can be looked up by similarity.
+     * @param embedding      the embedding of the text of the last user message, to be indexed with the response.
+     * @param cachedResponse the cached response, or {@code null} on a cache miss.
+     */
+    record Lookup(String key, String contextKey, String userText, Embedding embedding, ChatResponse cachedResponse) {
+
+        static final Lookup UNCACHEABLE = new Lookup(null, null, null, null, null);
+
+        boolean isHit() {
+            return cachedResponse != null;
+        }
+    }
+}
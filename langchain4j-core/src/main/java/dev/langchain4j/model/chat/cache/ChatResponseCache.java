@@ -0,0 +1,31 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.model.chat.CachingChatModel;
+import dev.langchain4j.model.chat.CachingStreamingChatModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+/**
+ * A cache of {@link ChatResponse}s used by the {@link CachingChatModel} and the {@link CachingStreamingChatModel}.
+ * <br>
+ * Keys are computed from the chat requests by the caching models.
+ * A cache can be shared by a {@link CachingChatModel} and a {@link CachingStreamingChatModel}.
+ * Implementations must be thread-safe.
+ */
+public interface ChatResponseCache {
+
+    /**
+     * Returns the response cached under the given key.
+     *
+     * @param key the key.
+     * @return the cached response, or {@code null} if there is none.
+     */
+    ChatResponse get(String key);
+
+    /**
+     * Caches the given response under the given key.
+     *
+     * @param key          the key.
+     * @param chatResponse the response.
+     */
+    void put(String key, ChatResponse chatResponse);
+}
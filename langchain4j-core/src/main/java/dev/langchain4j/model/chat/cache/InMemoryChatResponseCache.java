@@ -0,0 +1,154 @@
+package dev.langchain4j.model.chat.cache;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded {@link ChatResponseCache} keeping the least recently used responses in memory.
+ * <br>
+ * When {@link Builder#maxEntries(Integer)} is exceeded, the least recently used response is evicted.
+ * Responses older than {@link Builder#timeToLive(Duration)}, when set, are not returned anymore.
+ */
+public class InMemoryChatResponseCache implements ChatResponseCache {
+
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private InMemoryChatResponseCache(Builder builder) {
+        this.maxEntries = ensureGreaterThanZero(getOrDefault(builder.maxEntries, 1_000), "maxEntries");
+        this.timeToLive = builder.timeToLive;
+        if (timeToLive != null && (timeToLive.isZero() || timeToLive.isNegative())) {
+            throw new IllegalArgumentException("timeToLive must be positive, but is: " + timeToLive);
+        }
+        this.clock = getOrDefault(builder.clock, Clock.systemUTC());
+    }
+
+    @Override
+    public synchronized ChatResponse get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(key);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.chatResponse;
+    }
+
+    @Override
+    public synchronized void put(String key, ChatResponse chatResponse) {
+        entries.put(key, new Entry(chatResponse, clock.instant()));
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns the statistics collected since this cache was created.
+     *
+     * @return the statistics.
+     */
+    public synchronized Statistics statistics() {
+        return new Statistics(entries.size(), hits, misses, evictions);
+    }
+
+    private boolean isExpired(Entry entry) {
+        return timeToLive != null && entry.createdAt.plus(timeToLive).isBefore(clock.instant());
+    }
+
+    private record Entry(ChatResponse chatResponse, Instant createdAt) {}
+
+    /**
+     * Statistics of an {@link InMemoryChatResponseCache}.
+     *
+     * @param size      the number of cached responses, including the expired ones not looked up since.
+     * @param hits      the number of lookups which found a response.
+     * @param misses    the number of lookups which found no response.
+     * @param evictions the number of responses evicted because of the bound or of their age.
+     */
+    public record Statistics(long size, long hits, long misses, long evictions) {
+
+        /**
+         * @return the share of lookups which found a response, or 0 if there were no lookups.
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxEntries;
+        private Duration timeToLive;
+        private Clock clock;
+
+        /**
+         * Sets the maximum number of cached responses.
+         * <br>
+         * Default value: 1,000
+         *
+         * @param maxEntries the maximum number of cached responses.
+         * @return builder
+         */
+        public Builder maxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a response is returned after it was cached.
+         * <br>
+         * Default value: no limit
+         *
+         * @param timeToLive the time to live of a response.
+         * @return builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to expire responses. Mostly useful for testing.
+         * <br>
+         * Default value: {@link Clock#systemUTC()}
+         *
+         * @param clock the clock.
+         * @return builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public InMemoryChatResponseCache build() {
+            return new InMemoryChatResponseCache(this);
+        }
+    }
+}
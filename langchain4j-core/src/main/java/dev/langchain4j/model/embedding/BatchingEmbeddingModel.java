@@ -0,0 +1,298 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.FutureUtils.unwrap;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@link EmbeddingModel} that splits the text segments to embed into batches
+ * and embeds up to {@link Builder#maxConcurrentBatches(Integer)} of them at the same time
+ * with the {@link EmbeddingModel#embedAllAsync(List)} of the given {@link EmbeddingModel}.
+ * <br>
+ * A batch holds at most {@link Builder#maxSegmentsPerBatch(Integer)} text segments and, when configured,
+ * at most {@link Builder#maxTokensPerBatch(Integer)} tokens, as estimated by the {@link TokenCountEstimator}.
+ * A text segment exceeding the token budget on its own is embedded in a batch of its own.
+ * <br>
+ * The embeddings are returned in the same order as the text segments, with the token usage of all batches summed up.
+ * When a batch fails, the batches which have not been sent yet are skipped, the ones in flight are cancelled,
+ * and the error of the failed batch is returned.
+ * <br>
+ * Use this model when embedding many text segments is bound by the latency of the requests
+ * rather than by the throughput of the provider:
+ * <pre>{@code
+ * EmbeddingModel embeddingModel = BatchingEmbeddingModel.builder()
+ *         .embeddingModel(openAiEmbeddingModel)
+ *         .maxSegmentsPerBatch(256)
+ *         .maxConcurrentBatches(8)
+ *         .build();
+ * }</pre>
+ */
+public class BatchingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel embeddingModel;
+    private final int maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxConcurrentBatches;
+
+    private BatchingEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.maxSegmentsPerBatch =
+                ensureGreaterThanZero(getOrDefault(builder.maxSegmentsPerBatch, 128), "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = builder.maxTokensPerBatch;
+        if (maxTokensPerBatch != null) {
+            ensureGreaterThanZero(maxTokensPerBatch, "maxTokensPerBatch");
+            this.tokenCountEstimator = ensureNotNull(builder.tokenCountEstimator, "tokenCountEstimator");
+        } else {
+            this.tokenCountEstimator = null;
+        }
+        this.maxConcurrentBatches =
+                ensureGreaterThanZero(getOrDefault(builder.maxConcurrentBatches, 4), "maxConcurrentBatches");
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        try {
+            return embedAllAsync(textSegments).join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        List<List<TextSegment>> batches = split(textSegments);
+        if (batches.size() == 1) {
+            return embeddingModel.embedAllAsync(batches.get(0));
+        }
+        return new BatchedEmbedding(batches).start();
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimension();
+    }
+
+    private List<List<TextSegment>> split(List<TextSegment> textSegments) {
+        List<List<TextSegment>> batches = new ArrayList<>();
+        List<TextSegment> batch = new ArrayList<>();
+        int batchTokenCount = 0;
+        for (TextSegment textSegment : textSegments) {
+            int tokenCount =
+                    maxTokensPerBatch == null ? 0 : tokenCountEstimator.estimateTokenCountInText(textSegment.text());
+            if (!batch.isEmpty()
+                    && (batch.size() == maxSegmentsPerBatch
+                            || maxTokensPerBatch != null && batchTokenCount + tokenCount > maxTokensPerBatch)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchTokenCount = 0;
+            }
+            batch.add(textSegment);
+            batchTokenCount += tokenCount;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Sends the batches, keeping at most {@link #maxConcurrentBatches} of them in flight.
+     */
+    private class BatchedEmbedding {
+
+        private final List<List<TextSegment>> batches;
+        private final AtomicReferenceArray<Response<List<Embedding>>> responses;
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Response<List<Embedding>>> result = new CompletableFuture<>();
+        private final AtomicInteger nextBatch = new AtomicInteger();
+        private final AtomicInteger completedBatches = new AtomicInteger();
+        private final AtomicInteger pendingSends = new AtomicInteger();
+
+        BatchedEmbedding(List<List<TextSegment>> batches) {
+            this.batches = batches;
+            this.responses = new AtomicReferenceArray<>(batches.size());
+        }
+
+        CompletableFuture<Response<List<Embedding>>> start() {
+            if (batches.isEmpty()) {
+                result.complete(Response.from(List.of()));
+                return result;
+            }
+            result.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    inFlight.forEach(future -> future.cancel(true));
+                }
+            });
+            for (int i = 0; i < Math.min(maxConcurrentBatches, batches.size()); i++) {
+                sendNext();
+            }
+            return result;
+        }
+
+        /**
+         * Sends the next batch. Batches completing synchronously do not grow the stack:
+         * the thread already sending batches sends the next one instead.
+         */
+        private void sendNext() {
+            if (pendingSends.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                send();
+            } while (pendingSends.decrementAndGet() != 0);
+        }
+
+        private void send() {
+            int index = nextBatch.getAndIncrement();
+            if (index >= batches.size() || result.isDone()) {
+                return;
+            }
+            List<TextSegment> batch = batches.get(index);
+
+            CompletableFuture<Response<List<Embedding>>> future;
+            try {
+                future = embeddingModel.embedAllAsync(batch);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            inFlight.add(future);
+            if (result.isDone()) {
+                future.cancel(true);
+            }
+
+            CompletableFuture<Response<List<Embedding>>> sent = future;
+            future.whenComplete((response, error) -> {
+                inFlight.remove(sent);
+                if (error != null) {
+                    result.completeExceptionally(unwrap(error));
+                } else if (response.content().size() != batch.size()) {
+                    result.completeExceptionally(new IllegalStateException("Expected %s embeddings, but got %s"
+                            .formatted(batch.size(), response.content().size())));
+                } else {
+                    responses.set(index, response);
+                    if (completedBatches.incrementAndGet() == batches.size()) {
+                        result.complete(combineResponses());
+                    } else {
+                        sendNext();
+                    }
+                }
+            });
+        }
+
+        private Response<List<Embedding>> combineResponses() {
+            List<Embedding> embeddings = new ArrayList<>();
+            TokenUsage tokenUsage = null;
+            for (int i = 0; i < responses.length(); i++) {
+                Response<List<Embedding>> response = responses.get(i);
+                embeddings.addAll(response.content());
+                tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+            }
+            return Response.from(embeddings, tokenUsage);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxConcurrentBatches;
+
+        /**
+         * Sets the {@link EmbeddingModel} embedding the batches.
+         * Its {@link EmbeddingModel#embedAllAsync(List)} should be non-blocking,
+         * otherwise each batch in flight occupies a thread of the shared executor.
+         *
+         * @param embeddingModel the embedding model.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of text segments in a batch.
+         * <br>
+         * Default value: 128
+         *
+         * @param maxSegmentsPerBatch the maximum number of text segments in a batch.
+         * @return builder
+         */
+        public Builder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens in a batch,
+         * as estimated by the {@link #tokenCountEstimator(TokenCountEstimator)}.
+         * <br>
+         * Default value: no limit
+         *
+         * @param maxTokensPerBatch the maximum number of tokens in a batch.
+         * @return builder
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TokenCountEstimator} estimating the number of tokens of each text segment.
+         * Required when {@link #maxTokensPerBatch(Integer)} is set.
+         *
+         * @param tokenCountEstimator the token count estimator.
+         * @return builder
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches being embedded at the same time.
+         * <br>
+         * Default value: 4
+         *
+         * @param maxConcurrentBatches the maximum number of batches in flight.
+         * @return builder
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        public BatchingEmbeddingModel build() {
+            return new BatchingEmbeddingModel(this);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.cache.EmbeddingCache;
+import dev.langchain4j.model.embedding.cache.FileEmbeddingCache;
+import dev.langchain4j.model.embedding.cache.InMemoryEmbeddingCache;
+import dev.langchain4j.model.output.Response;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EmbeddingModel} that caches the embeddings of the given {@link EmbeddingModel},
+ * so that frequent queries and unchanged text segments are not embedded again.
+ * <br>
+ * Embeddings are cached under a SHA-256 hash of the {@link Builder#modelId(String)} and the text.
+ * They are looked up in the {@link Builder#cache(EmbeddingCache)} first,
+ * then in the optional {@link Builder#persistentCache(EmbeddingCache)}.
+ * All the text segments found in neither cache are embedded with a single call to the given {@link EmbeddingModel},
+ * and their embeddings are added to both caches.
+ * <br>
+ * The token usage of a response is the one of embedding the missing text segments,
+ * or {@code null} when all embeddings were found in the caches.
+ * <pre>{@code
+ * EmbeddingModel embeddingModel = CachingEmbeddingModel.builder()
+ *         .embeddingModel(openAiEmbeddingModel)
+ *         .modelId("openai/text-embedding-3-small")
+ *         .cache(InMemoryEmbeddingCache.builder().maxEntries(50_000).build())
+ *         .persistentCache(new FileEmbeddingCache(Path.of("embeddings.cache")))
+ *         .build();
+ * }</pre>
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel embeddingModel;
+    private final String modelId;
+    private final EmbeddingCache cache;
+    private final EmbeddingCache persistentCache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CachingEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        this.persistentCache = builder.persistentCache;
+        this.cache = getOrDefault(builder.cache, () -> InMemoryEmbeddingCache.builder().build());
+        if (persistentCache != null || !(cache instanceof InMemoryEmbeddingCache)) {
+            // the default identity is only unique within this JVM, so it must not outlive it
+            this.modelId = ensureNotBlank(builder.modelId, "modelId");
+        } else {
+            this.modelId = getOrDefault(
+                    builder.modelId, () -> embeddingModel.getClass().getName() + "@" + UUID.randomUUID());
+        }
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        Lookup lookup = lookup(textSegments);
+        if (lookup.isComplete()) {
+            return lookup.response(null);
+        }
+        return lookup.complete(embeddingModel.embedAll(lookup.missingTextSegments()));
+    }
+
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        Lookup lookup;
+        try {
+            lookup = lookup(textSegments);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (lookup.isComplete()) {
+            return CompletableFuture.completedFuture(lookup.response(null));
+        }
+        CompletableFuture<Response<List<Embedding>>> future =
+                embeddingModel.embedAllAsync(lookup.missingTextSegments());
+        return propagateCancellation(future, future.thenApply(lookup::complete));
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimension();
+    }
+
+    /**
+     * Returns the statistics collected since this model was created.
+     * The statistics of the caches themselves are available from the caches,
+     * for example {@link InMemoryEmbeddingCache#statistics()}.
+     *
+     * @return the statistics.
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), persistentHits.sum(), misses.sum());
+    }
+
+    private Lookup lookup(List<TextSegment> textSegments) {
+        MessageDigest sha256 = sha256();
+        Lookup lookup = new Lookup(textSegments.size());
+        for (int i = 0; i < textSegments.size(); i++) {
+            String key = key(sha256, textSegments.get(i).text());
+            Embedding embedding = cache.get(key);
+            if (embedding != null) {
+                hits.increment();
+            } else if (persistentCache != null && (embedding = persistentCache.get(key)) != null) {
+                persistentHits.increment();
+                cache.put(key, embedding);
+            }
+            if (embedding != null) {
+                lookup.embeddings[i] = embedding;
+            } else {
+                lookup.addMissing(i, key, textSegments.get(i));
+            }
+        }
+        misses.add(lookup.missingTextSegments.size());
+        return lookup;
+    }
+
+    private String key(MessageDigest sha256, String text) {
+        sha256.update(modelId.getBytes(UTF_8));
+        sha256.update((byte) 0);
+        return HexFormat.of().formatHex(sha256.digest(text.getBytes(UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The embeddings found in the caches, and the text segments still to be embedded.
+     * The same text appearing several times is embedded once.
+     */
+    private class Lookup {
+
+        private final Embedding[] embeddings;
+        private final Map<String, List<Integer>> missingIndexes = new LinkedHashMap<>();
+        private final List<TextSegment> missingTextSegments = new ArrayList<>();
+
+        Lookup(int size) {
+            this.embeddings = new Embedding[size];
+        }
+
+        void addMissing(int index, String key, TextSegment textSegment) {
+            missingIndexes
+                    .computeIfAbsent(key, ignored -> {
+                        missingTextSegments.add(textSegment);
+                        return new ArrayList<>();
+                    })
+                    .add(index);
+        }
+
+        boolean isComplete() {
+            return missingTextSegments.isEmpty();
+        }
+
+        List<TextSegment> missingTextSegments() {
+            return missingTextSegments;
+        }
+
+        Response<List<Embedding>> complete(Response<List<Embedding>> response) {
+            List<Embedding> missingEmbeddings = response.content();
+            if (missingEmbeddings.size() != missingTextSegments.size()) {
+                throw new IllegalStateException("Expected %s embeddings, but got %s"
+                        .formatted(missingTextSegments.size(), missingEmbeddings.size()));
+            }
+            int i = 0;
+            for (Map.Entry<String, List<Integer>> entry : missingIndexes.entrySet()) {
+                Embedding embedding = missingEmbeddings.get(i++);
+                cache.put(entry.getKey(), embedding);
+                if (persistentCache != null) {
+                    persistentCache.put(entry.getKey(), embedding);
+                }
+                for (int index : entry.getValue()) {
+                    embeddings[index] = embedding;
+                }
+            }
+            return response(response);
+        }
+
+        Response<List<Embedding>> response(Response<List<Embedding>> missingResponse) {
+            return missingResponse == null
+                    ? Response.from(List.of(embeddings))
+                    : Response.from(
+                            List.of(embeddings),
+                            missingResponse.tokenUsage(),
+                            missingResponse.finishReason(),
+                            missingResponse.metadata());
+        }
+    }
+
+    /**
+     * Statistics of a {@link CachingEmbeddingModel}, counted in text segments.
+     *
+     * @param hits           the number of text segments found in the cache.
+     * @param persistentHits the number of text segments found in the persistent cache only.
+     * @param misses         the number of text segments embedded by the underlying {@link EmbeddingModel}.
+     */
+    public record Statistics(long hits, long persistentHits, long misses) {
+
+        /**
+         * @return the share of text segments found in either cache, or 0 if nothing was embedded yet.
+         */
+        public double hitRatio() {
+            long total = hits + persistentHits + misses;
+            return total == 0 ? 0 : (double) (hits + persistentHits) / total;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private String modelId;
+        private EmbeddingCache cache;
+        private EmbeddingCache persistentCache;
+
+        /**
+         * Sets the {@link EmbeddingModel} embedding the text segments which are not cached.
+         *
+         * @param embeddingModel the embedding model.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Sets the identity of the embedding model, which is part of the cache keys.
+         * It must change whenever the embeddings would change, for example with the model name or the dimension.
+         * Required when a {@link #persistentCache(EmbeddingCache)} is set, when the {@link #cache(EmbeddingCache)}
+         * is not an {@link InMemoryEmbeddingCache} (it may be persistent too).
+         * Several instances wrapping the same model must set it to share their cached embeddings.
+         * <br>
+         * Default value: a random identity, unique to this {@code CachingEmbeddingModel} instance,
+         * only allowed when all embeddings are cached in an {@link InMemoryEmbeddingCache}
+         *
+         * @param modelId the identity of the embedding model.
+         * @return builder
+         */
+        public Builder modelId(String modelId) {
+            this.modelId = modelId;
+            return this;
+        }
+
+        /**
+         * Sets the cache looked up first.
+         * <br>
+         * Default value: an {@link InMemoryEmbeddingCache} with its default bounds
+         *
+         * @param cache the cache.
+         * @return builder
+         */
+        public Builder cache(EmbeddingCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the cache looked up when an embedding is not found in the {@link #cache(EmbeddingCache)},
+         * for example a {@link FileEmbeddingCache}. Embeddings found in it are added to the first cache.
+         * <br>
+         * Default value: none
+         *
+         * @param persistentCache the second-level cache.
+         * @return builder
+         */
+        public Builder persistentCache(EmbeddingCache persistentCache) {
+            this.persistentCache = persistentCache;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(this);
+        }
+    }
+}
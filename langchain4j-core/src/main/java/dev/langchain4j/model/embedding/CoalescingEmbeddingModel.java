@@ -0,0 +1,292 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.FutureUtils.unwrap;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.model.output.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EmbeddingModel} that coalesces concurrent calls into a single call
+ * to {@link EmbeddingModel#embedAllAsync(List)} of the given {@link EmbeddingModel}.
+ * <br>
+ * A call waits at most {@link Builder#maxDelay(Duration)} for other calls to join it.
+ * The batch is sent earlier when it reaches {@link Builder#maxBatchSize(Integer)} text segments.
+ * The embeddings of the batch are then handed back to each caller.
+ * <br>
+ * This trades a little latency for far fewer requests, and is useful when many threads embed a single query each,
+ * for example an {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever}
+ * serving many concurrent users:
+ * <pre>{@code
+ * EmbeddingModel embeddingModel = CoalescingEmbeddingModel.builder()
+ *         .embeddingModel(openAiEmbeddingModel)
+ *         .maxDelay(Duration.ofMillis(5))
+ *         .maxBatchSize(64)
+ *         .build();
+ * }</pre>
+ * The token usage of a batch cannot be attributed to its callers:
+ * when a batch serves several calls, their responses have no token usage.
+ * Use {@link #statistics()} to check the achieved batch size and the latency added by waiting.
+ */
+public class CoalescingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel embeddingModel;
+    private final int maxBatchSize;
+    private final Executor delayedExecutor;
+
+    private final Object lock = new Object();
+    private List<PendingCall> batch = new ArrayList<>();
+    private int batchSize;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder segments = new LongAdder();
+    private final LongAdder totalAddedLatencyNanos = new LongAdder();
+    private final LongAccumulator maxAddedLatencyNanos = new LongAccumulator(Long::max, 0);
+
+    private CoalescingEmbeddingModel(Builder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        Duration maxDelay = getOrDefault(builder.maxDelay, Duration.ofMillis(5));
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay cannot be negative");
+        }
+        this.maxBatchSize = ensureGreaterThanZero(getOrDefault(builder.maxBatchSize, 128), "maxBatchSize");
+        this.delayedExecutor = CompletableFuture.delayedExecutor(
+                maxDelay.toNanos(), NANOSECONDS, DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        try {
+            return embedAllAsync(textSegments).join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        PendingCall call = new PendingCall(textSegments);
+        if (textSegments.size() >= maxBatchSize) {
+            send(List.of(call));
+            return call.future;
+        }
+
+        List<PendingCall> previousBatch = null;
+        List<PendingCall> fullBatch = null;
+        List<PendingCall> newBatch = null;
+        synchronized (lock) {
+            if (batchSize + textSegments.size() > maxBatchSize) {
+                previousBatch = takeBatch();
+            }
+            batch.add(call);
+            batchSize += textSegments.size();
+            if (batchSize == maxBatchSize) {
+                fullBatch = takeBatch();
+            } else if (batch.size() == 1) {
+                newBatch = batch;
+            }
+        }
+
+        if (previousBatch != null) {
+            send(previousBatch);
+        }
+        if (fullBatch != null) {
+            send(fullBatch);
+        }
+        if (newBatch != null) {
+            List<PendingCall> scheduledBatch = newBatch;
+            delayedExecutor.execute(() -> sendIfStillPending(scheduledBatch));
+        }
+        return call.future;
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimension();
+    }
+
+    /**
+     * Returns the statistics collected since this model was created.
+     *
+     * @return the statistics.
+     */
+    public Statistics statistics() {
+        return new Statistics(
+                batches.sum(),
+                calls.sum(),
+                segments.sum(),
+                Duration.ofNanos(totalAddedLatencyNanos.sum()),
+                Duration.ofNanos(maxAddedLatencyNanos.get()));
+    }
+
+    private List<PendingCall> takeBatch() {
+        List<PendingCall> taken = batch;
+        batch = new ArrayList<>();
+        batchSize = 0;
+        return taken;
+    }
+
+    private void sendIfStillPending(List<PendingCall> scheduledBatch) {
+        List<PendingCall> toSend;
+        synchronized (lock) {
+            if (batch != scheduledBatch) {
+                return; // already sent because it was full
+            }
+            toSend = takeBatch();
+        }
+        send(toSend);
+    }
+
+    private void send(List<PendingCall> pendingCalls) {
+        long now = System.nanoTime();
+        List<TextSegment> textSegments = new ArrayList<>();
+        for (PendingCall call : pendingCalls) {
+            textSegments.addAll(call.textSegments);
+            long addedLatencyNanos = now - call.createdAtNanos;
+            totalAddedLatencyNanos.add(addedLatencyNanos);
+            maxAddedLatencyNanos.accumulate(addedLatencyNanos);
+        }
+        batches.increment();
+        calls.add(pendingCalls.size());
+        segments.add(textSegments.size());
+
+        CompletableFuture<Response<List<Embedding>>> future;
+        try {
+            future = embeddingModel.embedAllAsync(textSegments);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                pendingCalls.forEach(call -> call.future.completeExceptionally(cause));
+            } else if (response.content().size() != textSegments.size()) {
+                IllegalStateException exception = new IllegalStateException("Expected %s embeddings, but got %s"
+                        .formatted(textSegments.size(), response.content().size()));
+                pendingCalls.forEach(call -> call.future.completeExceptionally(exception));
+            } else if (pendingCalls.size() == 1) {
+                pendingCalls.get(0).future.complete(response);
+            } else {
+                int from = 0;
+                for (PendingCall call : pendingCalls) {
+                    int to = from + call.textSegments.size();
+                    call.future.complete(Response.from(new ArrayList<>(response.content().subList(from, to))));
+                    from = to;
+                }
+            }
+        });
+    }
+
+    private static class PendingCall {
+
+        private final List<TextSegment> textSegments;
+        private final CompletableFuture<Response<List<Embedding>>> future = new CompletableFuture<>();
+        private final long createdAtNanos = System.nanoTime();
+
+        PendingCall(List<TextSegment> textSegments) {
+            this.textSegments = textSegments;
+        }
+    }
+
+    /**
+     * Statistics of a {@link CoalescingEmbeddingModel}.
+     *
+     * @param batches           the number of calls sent to the underlying {@link EmbeddingModel}.
+     * @param calls             the number of calls received.
+     * @param segments          the number of text segments embedded.
+     * @param totalAddedLatency the time calls spent waiting for their batch to be sent, summed up.
+     * @param maxAddedLatency   the longest time a call spent waiting for its batch to be sent.
+     */
+    public record Statistics(
+            long batches, long calls, long segments, Duration totalAddedLatency, Duration maxAddedLatency) {
+
+        /**
+         * @return the average number of text segments sent to the underlying {@link EmbeddingModel} at once.
+         */
+        public double averageBatchSize() {
+            return batches == 0 ? 0 : (double) segments / batches;
+        }
+
+        /**
+         * @return the average time a call spent waiting for its batch to be sent.
+         */
+        public Duration averageAddedLatency() {
+            return calls == 0 ? Duration.ZERO : totalAddedLatency.dividedBy(calls);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel embeddingModel;
+        private Duration maxDelay;
+        private Integer maxBatchSize;
+
+        /**
+         * Sets the {@link EmbeddingModel} embedding the coalesced batches.
+         *
+         * @param embeddingModel the embedding model.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a call waits for other calls to join its batch.
+         * <br>
+         * Default value: 5 milliseconds
+         *
+         * @param maxDelay the maximum delay.
+         * @return builder
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the number of text segments at which a batch is sent without waiting any longer.
+         * Calls embedding at least as many text segments are sent on their own, right away.
+         * <br>
+         * Default value: 128
+         *
+         * @param maxBatchSize the maximum number of text segments in a batch.
+         * @return builder
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public CoalescingEmbeddingModel build() {
+            return new CoalescingEmbeddingModel(this);
+        }
+    }
+}
@@ -2,10 +2,12 @@ package dev.langchain4j.model.embedding;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.internal.ValidationUtils;
 import dev.langchain4j.model.output.Response;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.singletonList;
 
@@ -45,6 +47,21 @@ public interface EmbeddingModel {
      */
     Response<List<Embedding>> embedAll(List<TextSegment> textSegments);
 
+    /**
+     * The asynchronous counterpart of {@link #embedAll(List)}: sends the request and returns immediately.
+     * <br>
+     * By default, {@link #embedAll(List)} is called on a thread of a shared executor
+     * (a virtual thread on Java 21+), which is blocked until the embeddings are received.
+     * Implementations with a non-blocking transport override this method, so that no thread waits for the response.
+     *
+     * @param textSegments the text segments to embed.
+     * @return the future embeddings, in the same order as the text segments.
+     */
+    default CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        return CompletableFuture.supplyAsync(
+                () -> embedAll(textSegments), DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     /**
      * Returns the dimension of the {@link Embedding} produced by this embedding model.
      *
@@ -0,0 +1,29 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.embedding.CachingEmbeddingModel;
+
+/**
+ * A cache of {@link Embedding}s used by the {@link CachingEmbeddingModel}.
+ * <br>
+ * Keys are computed by the {@link CachingEmbeddingModel} from the identity of the embedding model and the text.
+ * Implementations must be thread-safe.
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Returns the embedding cached under the given key.
+     *
+     * @param key the key.
+     * @return the cached embedding, or {@code null} if there is none.
+     */
+    Embedding get(String key);
+
+    /**
+     * Caches the given embedding under the given key.
+     *
+     * @param key       the key.
+     * @param embedding the embedding.
+     */
+    void put(String key, Embedding embedding);
+}
@@ -0,0 +1,217 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EmbeddingCache} persisting embeddings in a file, so that they survive restarts.
+ * It is meant as the second level of a {@link dev.langchain4j.model.embedding.CachingEmbeddingModel},
+ * behind an {@link InMemoryEmbeddingCache}.
+ * <br>
+ * Embeddings are appended to the file and never evicted. Only the position of each embedding in the file
+ * is kept in memory; vectors are read from the file (usually from the page cache of the operating system) on lookup.
+ * <br>
+ * When the file is opened, a record left incomplete by a crash is discarded.
+ * Appended embeddings are flushed to the storage device when the cache is {@linkplain #close() closed}.
+ * A file must not be used by several caches at the same time.
+ */
+public class FileEmbeddingCache implements EmbeddingCache, AutoCloseable {
+
+    private static final int MAGIC = 0x454A4345; // "ECJE"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    private final FileChannel channel;
+    private final Map<String, Long> vectorPositions = new ConcurrentHashMap<>();
+    private long fileSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Opens the cache stored in the given file, creating the file if it does not exist.
+     *
+     * @param file the file.
+     */
+    public FileEmbeddingCache(Path file) {
+        ensureNotNull(file, "file");
+        try {
+            this.channel = FileChannel.open(file, CREATE, READ, WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+                writeFully(header.flip(), 0);
+                this.fileSize = HEADER_SIZE;
+            } else {
+                this.fileSize = load(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            closeQuietly();
+            if (e instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    private long load(Path file) throws IOException {
+        long size = channel.size();
+        long position = HEADER_SIZE;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (size < HEADER_SIZE || input.readInt() != MAGIC) {
+                throw new IllegalArgumentException(file + " is not an embedding cache file");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported embedding cache file version: " + version);
+            }
+            while (position < size) {
+                int keyLength = input.readInt();
+                if (keyLength < 0 || position + 4 + keyLength + 4 > size) {
+                    break;
+                }
+                byte[] key = input.readNBytes(keyLength);
+                int dimension = input.readInt();
+                long end = position + 4 + keyLength + 4 + 4L * dimension;
+                if (dimension < 0 || end > size) {
+                    break;
+                }
+                input.skipNBytes(4L * dimension);
+                vectorPositions.put(new String(key, UTF_8), position + 4 + keyLength);
+                position = end;
+            }
+        } catch (EOFException e) {
+            // an incomplete last record, discarded below
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+        return position;
+    }
+
+    @Override
+    public Embedding get(String key) {
+        Long position = vectorPositions.get(key);
+        if (position == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        try {
+            ByteBuffer dimension = ByteBuffer.allocate(4);
+            readFully(dimension, position);
+            ByteBuffer vector = ByteBuffer.allocate(4 * dimension.flip().getInt());
+            readFully(vector, position + 4);
+            float[] floats = new float[vector.capacity() / 4];
+            vector.flip().asFloatBuffer().get(floats);
+            return Embedding.from(floats);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, Embedding embedding) {
+        if (vectorPositions.containsKey(key)) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(UTF_8);
+        float[] vector = embedding.vector();
+        ByteBuffer record = ByteBuffer.allocate(4 + keyBytes.length + 4 + 4 * vector.length);
+        record.putInt(keyBytes.length).put(keyBytes).putInt(vector.length);
+        record.asFloatBuffer().put(vector);
+        record.position(record.capacity());
+        try {
+            writeFully(record.flip(), fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        vectorPositions.put(key, fileSize + 4 + keyBytes.length);
+        fileSize += record.capacity();
+    }
+
+    /**
+     * Returns the statistics collected since this cache was opened.
+     *
+     * @return the statistics.
+     */
+    public synchronized Statistics statistics() {
+        return new Statistics(vectorPositions.size(), fileSize, hits.sum(), misses.sum());
+    }
+
+    /**
+     * Flushes the appended embeddings to the storage device and closes the file.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            if (channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the original exception is more relevant
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    /**
+     * Statistics of a {@link FileEmbeddingCache}.
+     *
+     * @param size        the number of cached embeddings.
+     * @param sizeInBytes the size of the file.
+     * @param hits        the number of lookups which found an embedding.
+     * @param misses      the number of lookups which found no embedding.
+     */
+    public record Statistics(long size, long sizeInBytes, long hits, long misses) {
+
+        /**
+         * @return the share of lookups which found an embedding, or 0 if there were no lookups.
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link EmbeddingCache} keeping the least recently used embeddings in memory.
+ * <br>
+ * The cache is bounded by a number of entries and, optionally, by an estimated size in bytes.
+ * When either bound is exceeded, the least recently used entries are evicted.
+ * <br>
+ * Lookups do not lock: hits are recorded in a buffer, which is applied to the recency order
+ * by the next addition (or by a lookup, once enough hits are buffered).
+ * Vectors are copied when added and when returned, so callers cannot modify the cached embeddings.
+ */
+public class InMemoryEmbeddingCache implements EmbeddingCache {
+
+    /**
+     * Rough size of an entry apart from its vector: the key, the {@link Embedding}, the array header and the map entry.
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 200;
+
+    /**
+     * Number of buffered hits above which a lookup tries to apply them to the recency order.
+     */
+    private static final int DRAIN_THRESHOLD = 64;
+
+    /**
+     * Number of buffered hits above which further hits are not recorded, until the buffer is drained.
+     */
+    private static final int MAX_BUFFERED_HITS = 1024;
+
+    private final int maxEntries;
+    private final Long maxSizeInBytes;
+
+    private final Map<String, float[]> vectors = new ConcurrentHashMap<>();
+    private final Queue<String> bufferedHits = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedHitCount = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Guards the fields below, as well as additions to and removals from {@link #vectors}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The keys of {@link #vectors}, from the least to the most recently used.
+     */
+    private final LinkedHashMap<String, float[]> recency = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long sizeInBytes;
+    private long evictions;
+
+    private InMemoryEmbeddingCache(Builder builder) {
+        this.maxEntries = ensureGreaterThanZero(getOrDefault(builder.maxEntries, 10_000), "maxEntries");
+        this.maxSizeInBytes = builder.maxSizeInBytes;
+        if (maxSizeInBytes != null && maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeInBytes must be greater than zero, but is: " + maxSizeInBytes);
+        }
+    }
+
+    @Override
+    public Embedding get(String key) {
+        float[] vector = vectors.get(key);
+        if (vector == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        bufferHit(key);
+        return Embedding.from(vector.clone());
+    }
+
+    @Override
+    public void put(String key, Embedding embedding) {
+        float[] vector = embedding.vector().clone();
+        lock.lock();
+        try {
+            drainBufferedHits();
+
+            float[] previous = recency.put(key, vector);
+            vectors.put(key, vector);
+            if (previous != null) {
+                sizeInBytes -= sizeInBytes(previous);
+            }
+            sizeInBytes += sizeInBytes(vector);
+
+            Iterator<Map.Entry<String, float[]>> iterator = recency.entrySet().iterator();
+            while (recency.size() > 1
+                    && (recency.size() > maxEntries || maxSizeInBytes != null && sizeInBytes > maxSizeInBytes)) {
+                Map.Entry<String, float[]> eldest = iterator.next();
+                iterator.remove();
+                vectors.remove(eldest.getKey());
+                sizeInBytes -= sizeInBytes(eldest.getValue());
+                evictions++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the statistics collected since this cache was created.
+     *
+     * @return the statistics.
+     */
+    public Statistics statistics() {
+        lock.lock();
+        try {
+            return new Statistics(recency.size(), sizeInBytes, hits.sum(), misses.sum(), evictions);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void bufferHit(String key) {
+        int count = bufferedHitCount.incrementAndGet();
+        if (count > MAX_BUFFERED_HITS) {
+            bufferedHitCount.decrementAndGet();
+        } else {
+            bufferedHits.add(key);
+        }
+        if (count >= DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drainBufferedHits();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private void drainBufferedHits() {
+        String key;
+        while ((key = bufferedHits.poll()) != null) {
+            bufferedHitCount.decrementAndGet();
+            recency.get(key); // moves the key to the end of the recency order, unless it was evicted
+        }
+    }
+
+    private static long sizeInBytes(float[] vector) {
+        return ENTRY_OVERHEAD_BYTES + 4L * vector.length;
+    }
+
+    /**
+     * Statistics of an {@link InMemoryEmbeddingCache}.
+     *
+     * @param size                 the number of cached embeddings.
+     * @param estimatedSizeInBytes the estimated heap footprint of the cached embeddings.
+     * @param hits                 the number of lookups which found an embedding.
+     * @param misses               the number of lookups which found no embedding.
+     * @param evictions            the number of embeddings evicted to stay within the bounds.
+     */
+    public record Statistics(long size, long estimatedSizeInBytes, long hits, long misses, long evictions) {
+
+        /**
+         * @return the share of lookups which found an embedding, or 0 if there were no lookups.
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxEntries;
+        private Long maxSizeInBytes;
+
+        /**
+         * Sets the maximum number of cached embeddings.
+         * <br>
+         * Default value: 10,000
+         *
+         * @param maxEntries the maximum number of cached embeddings.
+         * @return builder
+         */
+        public Builder maxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets the maximum estimated heap footprint of the cached embeddings.
+         * <br>
+         * Default value: no limit
+         *
+         * @param maxSizeInBytes the maximum estimated size in bytes.
+         * @return builder
+         */
+        public Builder maxSizeInBytes(Long maxSizeInBytes) {
+            this.maxSizeInBytes = maxSizeInBytes;
+            return this;
+        }
+
+        public InMemoryEmbeddingCache build() {
+            return new InMemoryEmbeddingCache(this);
+        }
+    }
+}
@@ -5,7 +5,10 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -32,19 +35,45 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         @SuppressWarnings({"RegExpRedundantEscape"})
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{\\s*(.+?)\\s*\\}\\}");
 
-        private final String template;
+        private final List<Segment> segments;
         private final Set<String> allVariables;
+        private final int literalLength;
 
         public DefaultTemplate(String template) {
-            this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
+            this.segments = parse(ensureNotBlank(template, "template"));
+            this.allVariables = extractVariables(segments);
+            this.literalLength = segments.stream()
+                    .filter(segment -> !segment.isVariable())
+                    .mapToInt(segment -> segment.text().length())
+                    .sum();
         }
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+        /**
+         * Splits the template into literal text and variable placeholders, so that it is scanned only once.
+         */
+        private static List<Segment> parse(String template) {
+            List<Segment> segments = new ArrayList<>();
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
+            int literalStart = 0;
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                if (matcher.start() > literalStart) {
+                    segments.add(new Segment(template.substring(literalStart, matcher.start()), false));
+                }
+                segments.add(new Segment(matcher.group(1), true));
+                literalStart = matcher.end();
+            }
+            if (literalStart < template.length()) {
+                segments.add(new Segment(template.substring(literalStart), false));
+            }
+            return List.copyOf(segments);
+        }
+
+        private static Set<String> extractVariables(List<Segment> segments) {
+            Set<String> variables = new HashSet<>();
+            for (Segment segment : segments) {
+                if (segment.isVariable()) {
+                    variables.add(segment.text());
+                }
             }
             return variables;
         }
@@ -52,12 +81,21 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
 
-            String result = template;
+            Map<String, String> values = new HashMap<>(variables.size());
+            int valuesLength = 0;
             for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+                String value = toString(entry.getKey(), entry.getValue());
+                if (allVariables.contains(entry.getKey())) {
+                    values.put(entry.getKey(), value);
+                    valuesLength += value.length();
+                }
             }
 
-            return result;
+            StringBuilder result = new StringBuilder(literalLength + valuesLength);
+            for (Segment segment : segments) {
+                result.append(segment.isVariable() ? values.get(segment.text()) : segment.text());
+            }
+            return result.toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
@@ -68,15 +106,16 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
+        private static String toString(String variable, Object value) {
             if (value == null || value.toString() == null) {
                 throw illegalArgument("Value for the variable '%s' is null", variable);
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
+            return value.toString();
         }
 
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
-        }
+        /**
+         * Either a literal part of the template or the name of a variable.
+         */
+        private record Segment(String text, boolean isVariable) {}
     }
 }
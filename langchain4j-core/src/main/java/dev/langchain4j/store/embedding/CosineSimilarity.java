@@ -32,6 +32,10 @@ public class CosineSimilarity {
      * <p>
      * Embeddings of all-zeros vectors are considered orthogonal to all other vectors;
      * including other all-zeros vectors.
+     * <p>
+     * The computation accumulates in {@code double} precision.
+     * {@link SimilarityKernel} offers faster, {@code float}-accumulating variants for hot loops
+     * where that precision is not needed.
      *
      * @param embeddingA first embedding vector
      * @param embeddingB second embedding vector
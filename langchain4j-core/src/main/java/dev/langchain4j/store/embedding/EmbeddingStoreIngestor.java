@@ -1,6 +1,7 @@
 package dev.langchain4j.store.embedding;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
@@ -8,17 +9,26 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentLoader;
+import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,16 +57,30 @@ import org.slf4j.LoggerFactory;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * To ingest a large number of documents, use {@link #ingestPipelined(Iterable)}: it reads documents lazily
+ * and embeds and stores them in batches, in concurrent stages, instead of holding all of them in memory.
+ * To ingest a single large document, parse it by parts and use {@link #ingestParts(Stream)}.
  */
 public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    private static final int DEFAULT_BATCH_SIZE = 128;
+    private static final int DEFAULT_QUEUE_CAPACITY = 16;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final int batchSize;
+    private final int preparingConcurrency;
+    private final int embeddingConcurrency;
+    private final int storingConcurrency;
+    private final int queueCapacity;
+    private final Executor executor;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -81,6 +105,31 @@ public class EmbeddingStoreIngestor {
         this.embeddingModel = ensureNotNull(
                 getOrDefault(embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.preparingConcurrency = 1;
+        this.embeddingConcurrency = 1;
+        this.storingConcurrency = 1;
+        this.queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        this.executor = null;
+    }
+
+    private EmbeddingStoreIngestor(Builder builder) {
+        this.documentTransformer = builder.documentTransformer;
+        this.documentSplitter = getOrDefault(builder.documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
+        this.textSegmentTransformer = builder.textSegmentTransformer;
+        this.embeddingModel = ensureNotNull(
+                getOrDefault(builder.embeddingModel, EmbeddingStoreIngestor::loadEmbeddingModel), "embeddingModel");
+        this.embeddingStore = ensureNotNull(builder.embeddingStore, "embeddingStore");
+        this.batchSize = ensureGreaterThanZero(getOrDefault(builder.batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.preparingConcurrency =
+                ensureGreaterThanZero(getOrDefault(builder.preparingConcurrency, 1), "preparingConcurrency");
+        this.embeddingConcurrency =
+                ensureGreaterThanZero(getOrDefault(builder.embeddingConcurrency, 1), "embeddingConcurrency");
+        this.storingConcurrency =
+                ensureGreaterThanZero(getOrDefault(builder.storingConcurrency, 1), "storingConcurrency");
+        this.queueCapacity =
+                ensureGreaterThanZero(getOrDefault(builder.queueCapacity, DEFAULT_QUEUE_CAPACITY), "queueCapacity");
+        this.executor = builder.executor;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -178,19 +227,28 @@ public class EmbeddingStoreIngestor {
 
         log.debug("Starting to ingest {} documents", documents.size());
 
+        Executor preparingExecutor = preparingConcurrency > 1
+                ? getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService)
+                : null;
         if (documentTransformer != null) {
-            documents = documentTransformer.transformAll(documents);
+            documents = preparingExecutor != null
+                    ? documentTransformer.transformAll(documents, preparingExecutor, preparingConcurrency)
+                    : documentTransformer.transformAll(documents);
             log.debug("Documents were transformed into {} documents", documents.size());
         }
         List<TextSegment> segments;
         if (documentSplitter != null) {
-            segments = documentSplitter.splitAll(documents);
+            segments = preparingExecutor != null
+                    ? documentSplitter.splitAll(documents, preparingExecutor, preparingConcurrency)
+                    : documentSplitter.splitAll(documents);
             log.debug("Documents were split into {} text segments", segments.size());
         } else {
             segments = documents.stream().map(Document::toTextSegment).collect(toList());
         }
         if (textSegmentTransformer != null) {
-            segments = textSegmentTransformer.transformAll(segments);
+            segments = preparingExecutor != null
+                    ? textSegmentTransformer.transformAll(segments, preparingExecutor, preparingConcurrency)
+                    : textSegmentTransformer.transformAll(segments);
             log.debug("{} documents were transformed into {} text segments", documents.size(), segments.size());
         }
 
@@ -205,6 +263,108 @@ public class EmbeddingStoreIngestor {
         return new IngestionResult(embeddingsResponse.tokenUsage());
     }
 
+    /**
+     * Ingests specified documents into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}, as a pipeline of concurrent stages.
+     * <br>
+     * Unlike {@link #ingest(List)}, which transforms and splits all documents, then embeds all segments
+     * with a single call, documents are read lazily from the provided {@link Iterable} and flow through
+     * bounded queues between the following stages:
+     * <ul>
+     *     <li>transforming and splitting each document, then grouping the segments of whole documents
+     *     into batches of at least {@link Builder#batchSize(Integer)} segments</li>
+     *     <li>embedding each batch with the {@link EmbeddingModel}</li>
+     *     <li>storing each batch into the {@link EmbeddingStore}</li>
+     * </ul>
+     * The embedding of a batch thus overlaps with the storing of the previous one, and when a stage falls behind,
+     * the stages before it wait, so that only a bounded number of documents is held in memory at any time.
+     * <br>
+     * A document that fails to be transformed, split, embedded or stored does not fail the ingestion:
+     * it is reported in {@link IngestionResult#failures()}, and the other documents are still ingested.
+     * When a batch fails to be embedded or stored, each of its documents is retried on its own.
+     * Other errors, like an error thrown by the provided {@link Iterable}, stop the ingestion and are rethrown.
+     * <br>
+     * Since batches are processed concurrently, the segments are not necessarily stored in the order
+     * of the documents.
+     *
+     * @param documents the documents to ingest. They are read once, from the calling thread.
+     * @return result including information related to ingestion process, and the documents that failed.
+     */
+    public IngestionResult ingestPipelined(Iterable<Document> documents) {
+        ensureNotNull(documents, "documents");
+        log.debug("Starting pipelined ingestion");
+        IngestionPipeline pipeline = new IngestionPipeline(
+                documentTransformer,
+                documentSplitter,
+                textSegmentTransformer,
+                embeddingModel,
+                embeddingStore,
+                batchSize,
+                preparingConcurrency,
+                embeddingConcurrency,
+                storingConcurrency,
+                queueCapacity,
+                getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService));
+        return pipeline.run(documents);
+    }
+
+    /**
+     * Ingests the parts (e.g., pages) of a single document, as returned by {@link DocumentParser#parseParts(java.io.InputStream)}
+     * or {@link DocumentLoader#loadParts(dev.langchain4j.data.document.DocumentSource, DocumentParser)},
+     * into an {@link EmbeddingStore} that was specified during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Unlike {@link #ingest(List)}, the parts are consumed lazily: each part is transformed on its own,
+     * the parts are split with {@link DocumentSplitter#splitParts(Stream)}, and the segments are embedded and stored
+     * in batches of {@link Builder#batchSize(Integer)} segments while the rest of the document is still being parsed.
+     * Only the current part and batch are thus held in memory, rather than the whole text of the document.
+     * <br>
+     * The provided {@link Stream} is closed once all parts are ingested, or when the ingestion fails.
+     *
+     * @param parts the parts of the document to ingest, in order.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingestParts(Stream<Document> parts) {
+        ensureNotNull(parts, "parts");
+        log.debug("Starting to ingest document parts");
+
+        TokenUsage tokenUsage = null;
+        int ingestedSegments = 0;
+        try (parts) {
+            Stream<Document> transformedParts = documentTransformer != null
+                    ? parts.map(documentTransformer::transform).filter(Objects::nonNull)
+                    : parts;
+            Stream<TextSegment> segments = documentSplitter != null
+                    ? documentSplitter.splitParts(transformedParts)
+                    : transformedParts.map(Document::toTextSegment);
+
+            Iterator<TextSegment> iterator = segments.iterator();
+            List<TextSegment> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    tokenUsage = TokenUsage.sum(tokenUsage, embedAndStore(batch));
+                    ingestedSegments += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+
+        log.debug("Finished ingesting {} text segments from document parts", ingestedSegments);
+        return new IngestionResult(tokenUsage);
+    }
+
+    private TokenUsage embedAndStore(List<TextSegment> segments) {
+        if (textSegmentTransformer != null) {
+            segments = textSegmentTransformer.transformAll(segments);
+            if (segments.isEmpty()) {
+                return null;
+            }
+        }
+        Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
+        embeddingStore.addAll(embeddingsResponse.content(), segments);
+        return embeddingsResponse.tokenUsage();
+    }
+
     /**
      * Creates a new EmbeddingStoreIngestor builder.
      *
@@ -224,6 +384,12 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer batchSize;
+        private Integer preparingConcurrency;
+        private Integer embeddingConcurrency;
+        private Integer storingConcurrency;
+        private Integer queueCapacity;
+        private Executor executor;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -289,14 +455,108 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the minimum number of segments embedded and stored together
+         * by {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)}.
+         * The segments of a document are never split across batches,
+         * so a batch can contain more segments when documents have many of them.
+         * <br>
+         * {@link EmbeddingStoreIngestor#ingestParts(Stream)} embeds and stores exactly this number of segments
+         * together, except for the last batch.
+         * <br>
+         * Default value: 128.
+         *
+         * @param batchSize the batch size.
+         * @return {@code this}
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of documents transformed and split concurrently
+         * by {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)}.
+         * <br>
+         * When greater than 1, it is also the number of documents (or text segments) transformed and split
+         * concurrently by {@link EmbeddingStoreIngestor#ingest(List)}, on the {@link #executor(Executor)},
+         * in which case the {@link DocumentTransformer}, {@link DocumentSplitter} and {@link TextSegmentTransformer}
+         * must be thread-safe: their {@code transformAll(List)} and {@code splitAll(List)} methods are called
+         * concurrently on contiguous chunks of the list. The order of the resulting text segments is preserved.
+         * <br>
+         * Default value: 1.
+         *
+         * @param preparingConcurrency the number of concurrent document transformations and splits.
+         * @return {@code this}
+         */
+        public Builder preparingConcurrency(Integer preparingConcurrency) {
+            this.preparingConcurrency = preparingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the number of batches embedded concurrently by {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)}.
+         * <br>
+         * Default value: 1.
+         *
+         * @param embeddingConcurrency the number of concurrent calls to the embedding model.
+         * @return {@code this}
+         */
+        public Builder embeddingConcurrency(Integer embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the number of batches stored concurrently by {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)}.
+         * <br>
+         * Default value: 1.
+         *
+         * @param storingConcurrency the number of concurrent calls to the embedding store.
+         * @return {@code this}
+         */
+        public Builder storingConcurrency(Integer storingConcurrency) {
+            this.storingConcurrency = storingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of documents, or batches, waiting between two stages
+         * of {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)} before the previous stage waits.
+         * <br>
+         * Default value: 16.
+         *
+         * @param queueCapacity the capacity of the queues between stages.
+         * @return {@code this}
+         */
+        public Builder queueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the stages of {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)},
+         * and the concurrent transformations and splits of {@link EmbeddingStoreIngestor#ingest(List)}.
+         * It must be able to run {@code preparingConcurrency + embeddingConcurrency + storingConcurrency}
+         * tasks at the same time.
+         * <br>
+         * Default value: an executor using virtual threads on Java 21+, or a cached thread pool otherwise.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
          * @return the EmbeddingStoreIngestor.
          */
         public EmbeddingStoreIngestor build() {
-            return new EmbeddingStoreIngestor(
-                    documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore);
+            return new EmbeddingStoreIngestor(this);
         }
     }
 }
@@ -0,0 +1,52 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.document.Document;
+import java.util.Objects;
+
+/**
+ * Represents a {@link Document} that could not be ingested by {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)},
+ * and the error that prevented it.
+ */
+public class IngestionFailure {
+
+    private final Document document;
+    private final Throwable error;
+
+    public IngestionFailure(Document document, Throwable error) {
+        this.document = ensureNotNull(document, "document");
+        this.error = ensureNotNull(error, "error");
+    }
+
+    /**
+     * The document that could not be ingested, as it was provided to the ingestor.
+     */
+    public Document document() {
+        return document;
+    }
+
+    /**
+     * The error thrown while transforming, splitting, embedding or storing the document.
+     */
+    public Throwable error() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IngestionFailure that)) return false;
+        return Objects.equals(document, that.document) && Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(document, error);
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionFailure {" + " document = " + document + ", error = " + error + " }";
+    }
+}
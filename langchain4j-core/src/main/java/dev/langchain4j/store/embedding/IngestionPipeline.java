@@ -0,0 +1,436 @@
+package dev.langchain4j.store.embedding;
+
+import static java.util.Collections.singletonList;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.data.segment.TextSegmentTransformer;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single run of {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)}.
+ * <p>
+ * Documents flow through three stages connected by bounded queues:
+ * <ol>
+ *     <li>preparing: transforming and splitting each document, then grouping the segments of whole documents
+ *     into batches of at least {@code batchSize} segments</li>
+ *     <li>embedding: one {@link EmbeddingModel#embedAll(List)} call per batch</li>
+ *     <li>storing: one {@link EmbeddingStore#addAll(List, List)} call per batch</li>
+ * </ol>
+ * Each stage runs its own workers on the executor, so the embedding of a batch overlaps with the storing of
+ * the previous one. When a queue is full, the stage feeding it waits, down to the caller reading the documents,
+ * so only a bounded number of documents and batches are held in memory at any time.
+ * <p>
+ * When a batch cannot be embedded or stored, each of its documents is retried on its own,
+ * so that a failing document does not fail the others.
+ */
+class IngestionPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionPipeline.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final DocumentTransformer documentTransformer;
+    private final DocumentSplitter documentSplitter;
+    private final TextSegmentTransformer textSegmentTransformer;
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final int batchSize;
+    private final int preparingConcurrency;
+    private final int embeddingConcurrency;
+    private final int storingConcurrency;
+    private final Executor executor;
+
+    private final Channel<Document> documents;
+    private final Channel<List<PreparedDocument>> preparedBatches;
+    private final Channel<List<PreparedDocument>> embeddedBatches;
+    private final CountDownLatch workersDone;
+    private final AtomicReference<Throwable> fatalError = new AtomicReference<>();
+
+    private final List<IngestionFailure> failures = new ArrayList<>();
+    private TokenUsage tokenUsage;
+
+    private final AtomicInteger runningPreparers;
+    private List<PreparedDocument> currentBatch = new ArrayList<>();
+    private int currentBatchSegments;
+
+    IngestionPipeline(
+            DocumentTransformer documentTransformer,
+            DocumentSplitter documentSplitter,
+            TextSegmentTransformer textSegmentTransformer,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore,
+            int batchSize,
+            int preparingConcurrency,
+            int embeddingConcurrency,
+            int storingConcurrency,
+            int queueCapacity,
+            Executor executor) {
+        this.documentTransformer = documentTransformer;
+        this.documentSplitter = documentSplitter;
+        this.textSegmentTransformer = textSegmentTransformer;
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.batchSize = batchSize;
+        this.preparingConcurrency = preparingConcurrency;
+        this.embeddingConcurrency = embeddingConcurrency;
+        this.storingConcurrency = storingConcurrency;
+        this.executor = executor;
+        this.documents = new Channel<>(queueCapacity, 1);
+        this.preparedBatches = new Channel<>(queueCapacity, 1);
+        this.embeddedBatches = new Channel<>(queueCapacity, embeddingConcurrency);
+        this.workersDone = new CountDownLatch(preparingConcurrency + embeddingConcurrency + storingConcurrency);
+        this.runningPreparers = new AtomicInteger(preparingConcurrency);
+    }
+
+    IngestionResult run(Iterable<Document> source) {
+        for (int i = 0; i < storingConcurrency; i++) {
+            start(this::store);
+        }
+        for (int i = 0; i < embeddingConcurrency; i++) {
+            start(this::embed);
+        }
+        for (int i = 0; i < preparingConcurrency; i++) {
+            start(this::prepare);
+        }
+        boolean interrupted = false;
+        try {
+            Iterator<Document> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                documents.put(iterator.next());
+            }
+            documents.close();
+        } catch (Aborted ignored) {
+            // a worker failed, the error is reported below
+        } catch (InterruptedException e) {
+            interrupted = true;
+            abort(e);
+        } catch (Throwable e) {
+            abort(e);
+        }
+        awaitWorkers(interrupted);
+
+        Throwable error = fatalError.get();
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (error instanceof Error e) {
+            throw e;
+        } else if (error != null) {
+            throw new RuntimeException(error);
+        }
+
+        synchronized (this) {
+            log.debug("Finished pipelined ingestion, {} documents failed", failures.size());
+            return new IngestionResult(tokenUsage, new ArrayList<>(failures));
+        }
+    }
+
+    private void start(Worker worker) {
+        try {
+            executor.execute(() -> work(worker));
+        } catch (RuntimeException e) {
+            abort(e);
+            workersDone.countDown();
+        }
+    }
+
+    /**
+     * Waits for all the workers to finish, which they do shortly after the pipeline is aborted.
+     * If the calling thread is interrupted, the pipeline is aborted and the interruption is restored afterwards.
+     */
+    private void awaitWorkers(boolean interrupted) {
+        while (true) {
+            try {
+                workersDone.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+                abort(e);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void work(Worker worker) {
+        try {
+            worker.run();
+        } catch (Aborted ignored) {
+            // another worker or the caller failed, the error is reported by the caller
+        } catch (InterruptedException e) {
+            abort(e);
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            abort(e);
+        } finally {
+            workersDone.countDown();
+        }
+    }
+
+    private void prepare() throws InterruptedException {
+        try {
+            Document document;
+            while ((document = documents.take()) != null) {
+                PreparedDocument prepared = prepare(document);
+                if (prepared != null && !prepared.segments.isEmpty()) {
+                    List<PreparedDocument> batch = addToBatch(prepared);
+                    if (batch != null) {
+                        preparedBatches.put(batch);
+                    }
+                }
+            }
+        } finally {
+            if (runningPreparers.decrementAndGet() == 0 && fatalError.get() == null) {
+                List<PreparedDocument> lastBatch = takeCurrentBatch();
+                if (!lastBatch.isEmpty()) {
+                    preparedBatches.put(lastBatch);
+                }
+                preparedBatches.close();
+            }
+        }
+    }
+
+    private PreparedDocument prepare(Document document) {
+        try {
+            List<Document> transformed = singletonList(document);
+            if (documentTransformer != null) {
+                transformed = documentTransformer.transformAll(transformed);
+            }
+            List<TextSegment> segments;
+            if (documentSplitter != null) {
+                segments = documentSplitter.splitAll(transformed);
+            } else {
+                segments = transformed.stream().map(Document::toTextSegment).toList();
+            }
+            if (textSegmentTransformer != null) {
+                segments = textSegmentTransformer.transformAll(segments);
+            }
+            return new PreparedDocument(document, segments);
+        } catch (RuntimeException e) {
+            fail(document, e);
+            return null;
+        }
+    }
+
+    private synchronized List<PreparedDocument> addToBatch(PreparedDocument prepared) {
+        currentBatch.add(prepared);
+        currentBatchSegments += prepared.segments.size();
+        return currentBatchSegments >= batchSize ? takeCurrentBatch() : null;
+    }
+
+    private synchronized List<PreparedDocument> takeCurrentBatch() {
+        List<PreparedDocument> batch = currentBatch;
+        currentBatch = new ArrayList<>();
+        currentBatchSegments = 0;
+        return batch;
+    }
+
+    private void embed() throws InterruptedException {
+        try {
+            List<PreparedDocument> batch;
+            while ((batch = preparedBatches.take()) != null) {
+                List<PreparedDocument> embedded = embed(batch);
+                if (!embedded.isEmpty()) {
+                    embeddedBatches.put(embedded);
+                }
+            }
+        } finally {
+            if (fatalError.get() == null) {
+                embeddedBatches.close();
+            }
+        }
+    }
+
+    private List<PreparedDocument> embed(List<PreparedDocument> batch) {
+        try {
+            embed(segments(batch), batch);
+            return batch;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0).document, e);
+                return List.of();
+            }
+            log.debug("Failed to embed a batch of {} documents, embedding them one by one", batch.size(), e);
+        }
+        List<PreparedDocument> embedded = new ArrayList<>();
+        for (PreparedDocument prepared : batch) {
+            try {
+                embed(prepared.segments, singletonList(prepared));
+                embedded.add(prepared);
+            } catch (RuntimeException e) {
+                fail(prepared.document, e);
+            }
+        }
+        return embedded;
+    }
+
+    private void embed(List<TextSegment> segments, List<PreparedDocument> batch) {
+        Response<List<Embedding>> response = embeddingModel.embedAll(segments);
+        List<Embedding> embeddings = response.content();
+        int from = 0;
+        for (PreparedDocument prepared : batch) {
+            int to = from + prepared.segments.size();
+            prepared.embeddings = embeddings.subList(from, to);
+            from = to;
+        }
+        addTokenUsage(response.tokenUsage());
+    }
+
+    private void store() throws InterruptedException {
+        List<PreparedDocument> batch;
+        while ((batch = embeddedBatches.take()) != null) {
+            store(batch);
+        }
+    }
+
+    private void store(List<PreparedDocument> batch) {
+        try {
+            embeddingStore.addAll(embeddings(batch), segments(batch));
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0).document, e);
+                return;
+            }
+            log.debug("Failed to store a batch of {} documents, storing them one by one", batch.size(), e);
+        }
+        for (PreparedDocument prepared : batch) {
+            try {
+                embeddingStore.addAll(prepared.embeddings, prepared.segments);
+            } catch (RuntimeException e) {
+                fail(prepared.document, e);
+            }
+        }
+    }
+
+    private static List<TextSegment> segments(List<PreparedDocument> batch) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (PreparedDocument prepared : batch) {
+            segments.addAll(prepared.segments);
+        }
+        return segments;
+    }
+
+    private static List<Embedding> embeddings(List<PreparedDocument> batch) {
+        List<Embedding> embeddings = new ArrayList<>();
+        for (PreparedDocument prepared : batch) {
+            embeddings.addAll(prepared.embeddings);
+        }
+        return embeddings;
+    }
+
+    private synchronized void addTokenUsage(TokenUsage usage) {
+        tokenUsage = TokenUsage.sum(tokenUsage, usage);
+    }
+
+    private synchronized void fail(Document document, Throwable error) {
+        log.warn("Failed to ingest document with metadata {}", document.metadata(), error);
+        failures.add(new IngestionFailure(document, error));
+    }
+
+    private void abort(Throwable error) {
+        fatalError.compareAndSet(null, error);
+    }
+
+    private interface Worker {
+
+        void run() throws InterruptedException;
+    }
+
+    private static class PreparedDocument {
+
+        private final Document document;
+        private final List<TextSegment> segments;
+        private List<Embedding> embeddings;
+
+        private PreparedDocument(Document document, List<TextSegment> segments) {
+            this.document = document;
+            this.segments = segments;
+        }
+    }
+
+    /**
+     * Thrown by a {@link Channel} when the pipeline has been aborted, to unwind the stage waiting on it.
+     */
+    private static class Aborted extends RuntimeException {
+
+        private Aborted() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * A bounded queue between two stages, closed once all the workers of the upstream stage are done.
+     */
+    private class Channel<T> {
+
+        private final Object end = new Object();
+        private final BlockingQueue<Object> queue;
+        private final AtomicInteger openProducers;
+
+        private Channel(int capacity, int producers) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.openProducers = new AtomicInteger(producers);
+        }
+
+        /**
+         * Waits for space in the queue, or until the pipeline is aborted.
+         */
+        void put(T item) throws InterruptedException {
+            while (!queue.offer(item, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkNotAborted();
+            }
+        }
+
+        /**
+         * Waits for the next item, or until the pipeline is aborted.
+         *
+         * @return the next item, or {@code null} once the channel is closed and drained
+         */
+        @SuppressWarnings("unchecked")
+        T take() throws InterruptedException {
+            while (true) {
+                checkNotAborted();
+                Object item = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (item == end) {
+                    // leave the end marker for the other consumers
+                    queue.add(end);
+                    return null;
+                } else if (item != null) {
+                    return (T) item;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void close() throws InterruptedException {
+            if (openProducers.decrementAndGet() == 0) {
+                put((T) end);
+            }
+        }
+
+        private void checkNotAborted() {
+            if (fatalError.get() != null) {
+                throw new Aborted();
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package dev.langchain4j.store.embedding;
 
+import static dev.langchain4j.internal.Utils.copy;
+
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.List;
 
 /**
  * Represents the result of a {@link EmbeddingStoreIngestor} ingestion process.
@@ -12,12 +15,34 @@ public class IngestionResult {
      */
     private final TokenUsage tokenUsage;
 
+    /**
+     * The documents that could not be ingested.
+     */
+    private final List<IngestionFailure> failures;
+
 
     public IngestionResult(TokenUsage tokenUsage) {
+        this(tokenUsage, null);
+    }
+
+    public IngestionResult(TokenUsage tokenUsage, List<IngestionFailure> failures) {
         this.tokenUsage = tokenUsage;
+        this.failures = copy(failures);
     }
 
     public TokenUsage tokenUsage() {
         return tokenUsage;
     }
+
+    /**
+     * Returns the documents that could not be ingested, along with the error that prevented each of them.
+     * <br>
+     * Only {@link EmbeddingStoreIngestor#ingestPipelined(Iterable)} isolates failures per document,
+     * so this list is always empty for the other ingestion methods, which throw instead.
+     *
+     * @return the failed documents, or an empty list if all documents were ingested.
+     */
+    public List<IngestionFailure> failures() {
+        return failures;
+    }
 }
@@ -0,0 +1,88 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.store.embedding.CosineSimilarity.EPSILON;
+
+/**
+ * A portable {@link SimilarityKernel}.
+ * <p>
+ * Loops are unrolled by four with independent accumulators, which breaks the dependency chain on a single sum
+ * and lets the CPU pipeline the multiplications, even though the JIT does not vectorize float reductions.
+ */
+final class ScalarSimilarityKernel implements SimilarityKernel {
+
+    static final ScalarSimilarityKernel INSTANCE = new ScalarSimilarityKernel();
+
+    private ScalarSimilarityKernel() {}
+
+    @Override
+    public float dotProduct(float[] a, float[] b) {
+        return dotProduct(a, b, 0);
+    }
+
+    @Override
+    public float dotProduct(float[] a, float[] b, int bOffset) {
+        int length = a.length;
+        int upperBound = length & ~3;
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i < upperBound; i += 4) {
+            sum0 += a[i] * b[bOffset + i];
+            sum1 += a[i + 1] * b[bOffset + i + 1];
+            sum2 += a[i + 2] * b[bOffset + i + 2];
+            sum3 += a[i + 3] * b[bOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += a[i] * b[bOffset + i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    @Override
+    public float cosineSimilarity(float[] a, float[] b) {
+        int length = a.length;
+        int upperBound = length & ~1;
+        float dot0 = 0, dot1 = 0, normA0 = 0, normA1 = 0, normB0 = 0, normB1 = 0;
+        int i = 0;
+        for (; i < upperBound; i += 2) {
+            float a0 = a[i], a1 = a[i + 1];
+            float b0 = b[i], b1 = b[i + 1];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            normA0 += a0 * a0;
+            normA1 += a1 * a1;
+            normB0 += b0 * b0;
+            normB1 += b1 * b1;
+        }
+        for (; i < length; i++) {
+            dot0 += a[i] * b[i];
+            normA0 += a[i] * a[i];
+            normB0 += b[i] * b[i];
+        }
+        double normA = normA0 + normA1;
+        double normB = normB0 + normB1;
+        return (float) ((dot0 + dot1) / Math.max(Math.sqrt(normA) * Math.sqrt(normB), EPSILON));
+    }
+
+    @Override
+    public float squaredEuclideanDistance(float[] a, float[] b) {
+        int length = a.length;
+        int upperBound = length & ~3;
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i < upperBound; i += 4) {
+            float d0 = a[i] - b[i];
+            float d1 = a[i + 1] - b[i + 1];
+            float d2 = a[i + 2] - b[i + 2];
+            float d3 = a[i + 3] - b[i + 3];
+            sum0 += d0 * d0;
+            sum1 += d1 * d1;
+            sum2 += d2 * d2;
+            sum3 += d3 * d3;
+        }
+        for (; i < length; i++) {
+            float d = a[i] - b[i];
+            sum0 += d * d;
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+}
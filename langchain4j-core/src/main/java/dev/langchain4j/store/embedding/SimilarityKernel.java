@@ -0,0 +1,110 @@
+package dev.langchain4j.store.embedding;
+
+/**
+ * Computes similarity and distance between float vectors.
+ * <p>
+ * Two implementations are provided:
+ * <ul>
+ *     <li>{@link #scalar()}: a portable implementation with manually unrolled loops.</li>
+ *     <li>An implementation based on the JDK Vector API ({@code jdk.incubator.vector}) that uses SIMD instructions.
+ *     It is only available when the JVM is started with {@code --add-modules jdk.incubator.vector}.</li>
+ * </ul>
+ * {@link #defaultKernel()} returns the fastest implementation available at runtime.
+ * <p>
+ * Single-pair methods accept vectors of the same length.
+ * Batch methods score one query against many vectors, which amortizes per-call overhead
+ * and, for contiguous storage, keeps memory access sequential.
+ * <p>
+ * Implementations do not validate their arguments; callers are expected to check vector lengths.
+ * <p>
+ * Implementations accumulate in {@code float} precision, trading accuracy for speed in scanning loops.
+ * {@link CosineSimilarity#between} remains the {@code double}-accumulating reference.
+ */
+public interface SimilarityKernel {
+
+    /**
+     * Computes the dot product of two vectors of the same length.
+     */
+    float dotProduct(float[] a, float[] b);
+
+    /**
+     * Computes the dot product of vector {@code a} and the {@code a.length} floats of {@code b}
+     * starting at {@code bOffset}. Useful when many vectors are stored back to back in a single array.
+     */
+    float dotProduct(float[] a, float[] b, int bOffset);
+
+    /**
+     * Computes the cosine similarity of two vectors of the same length in a single pass.
+     * Follows the same conventions as {@link CosineSimilarity#between}: all-zeros vectors are orthogonal to any vector.
+     *
+     * @return cosine similarity in the range [-1..1]
+     */
+    float cosineSimilarity(float[] a, float[] b);
+
+    /**
+     * Computes the squared Euclidean (L2) distance of two vectors of the same length.
+     */
+    float squaredEuclideanDistance(float[] a, float[] b);
+
+    /**
+     * Computes the dot product of {@code query} with each of {@code vectors}.
+     *
+     * @param results receives the dot product of {@code query} and {@code vectors[i]} at index {@code i}
+     */
+    default void dotProducts(float[] query, float[][] vectors, float[] results) {
+        for (int i = 0; i < vectors.length; i++) {
+            results[i] = dotProduct(query, vectors[i]);
+        }
+    }
+
+    /**
+     * Computes the dot product of {@code query} with {@code count} vectors of length {@code query.length}
+     * stored back to back in {@code slab}, starting with the vector at index {@code fromIndex}.
+     *
+     * @param results receives the dot product of {@code query} and vector {@code fromIndex + i} at index {@code i}
+     */
+    default void dotProducts(float[] query, float[] slab, int fromIndex, int count, float[] results) {
+        int dimension = query.length;
+        for (int i = 0; i < count; i++) {
+            results[i] = dotProduct(query, slab, (fromIndex + i) * dimension);
+        }
+    }
+
+    /**
+     * Computes the cosine similarity of {@code query} with each of {@code vectors}.
+     *
+     * @param results receives the cosine similarity of {@code query} and {@code vectors[i]} at index {@code i}
+     */
+    default void cosineSimilarities(float[] query, float[][] vectors, float[] results) {
+        for (int i = 0; i < vectors.length; i++) {
+            results[i] = cosineSimilarity(query, vectors[i]);
+        }
+    }
+
+    /**
+     * Computes the squared Euclidean distance of {@code query} with each of {@code vectors}.
+     *
+     * @param results receives the squared distance between {@code query} and {@code vectors[i]} at index {@code i}
+     */
+    default void squaredEuclideanDistances(float[] query, float[][] vectors, float[] results) {
+        for (int i = 0; i < vectors.length; i++) {
+            results[i] = squaredEuclideanDistance(query, vectors[i]);
+        }
+    }
+
+    /**
+     * Returns the portable scalar implementation.
+     */
+    static SimilarityKernel scalar() {
+        return ScalarSimilarityKernel.INSTANCE;
+    }
+
+    /**
+     * Returns the fastest implementation available in the current JVM:
+     * the Vector API implementation when the {@code jdk.incubator.vector} module is available,
+     * otherwise the {@link #scalar()} implementation.
+     */
+    static SimilarityKernel defaultKernel() {
+        return SimilarityKernels.DEFAULT;
+    }
+}
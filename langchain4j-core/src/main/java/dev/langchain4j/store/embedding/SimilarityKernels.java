@@ -0,0 +1,27 @@
+package dev.langchain4j.store.embedding;
+
+/**
+ * Resolves the {@link SimilarityKernel#defaultKernel()} once per JVM.
+ */
+final class SimilarityKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL_CLASS = "dev.langchain4j.store.embedding.VectorApiSimilarityKernel";
+
+    static final SimilarityKernel DEFAULT = load();
+
+    private SimilarityKernels() {}
+
+    private static SimilarityKernel load() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (SimilarityKernel) Class.forName(VECTOR_KERNEL_CLASS)
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (Throwable ignored) {
+                // the Vector API kernel was not packaged or cannot be linked, falling back to the scalar kernel
+            }
+        }
+        return SimilarityKernel.scalar();
+    }
+}
@@ -0,0 +1,564 @@
+package dev.langchain4j.store.embedding.filter;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.comparison.ContainsString;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Not;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * A {@link Filter} translated once into a tree of specialized predicates over {@link Metadata},
+ * which is cheaper to {@link #test(Object)} than the original filter when it is tested many times,
+ * for example on every entry of an in-process {@link EmbeddingStore}.
+ * <p>
+ * Compared to the original filter, a compiled filter:
+ * <ul>
+ *     <li>reads metadata values without copying the metadata</li>
+ *     <li>resolves how values are compared once, from the type of the comparison values,
+ *     and compares integers and same-typed floating-point numbers without converting them to {@link BigDecimal}</li>
+ *     <li>looks up the values of {@link IsIn} and {@link IsNotIn} in pre-built sorted arrays or hash sets</li>
+ *     <li>evaluates the cheapest operand of {@link And} and {@link Or} first</li>
+ * </ul>
+ * A compiled filter returns the same results as the original filter. A value that has no specialized comparison
+ * (for example, a value whose type does not match the comparison value) is tested with the original filter,
+ * which reports type mismatches as usual. Since operands of {@link And} and {@link Or} can be reordered,
+ * a type mismatch in one operand is not reported when the other operand alone decides the result.
+ * <p>
+ * Compiled filters are immutable and thread-safe. They are meant to be tested in-process:
+ * {@link EmbeddingStore}s that translate filters into their native filter expressions
+ * must be given the original filter, available with {@link #filter()}.
+ */
+public final class CompiledFilter implements Filter {
+
+    private static final int MATCH = 1;
+    private static final int NO_MATCH = 0;
+    /**
+     * Returned by a {@link ValueTest} that cannot test a value, which is then tested with the original filter.
+     */
+    private static final int UNKNOWN = -1;
+
+    private final Filter filter;
+    private final Node root;
+
+    private CompiledFilter(Filter filter) {
+        this.filter = filter;
+        this.root = compileNode(filter);
+    }
+
+    /**
+     * Compiles the given filter.
+     *
+     * @param filter The filter to compile.
+     * @return The compiled filter, or the given filter itself if it is already compiled.
+     */
+    public static CompiledFilter compile(Filter filter) {
+        ensureNotNull(filter, "filter");
+        if (filter instanceof CompiledFilter compiledFilter) {
+            return compiledFilter;
+        }
+        return new CompiledFilter(filter);
+    }
+
+    /**
+     * @return The original filter.
+     */
+    public Filter filter() {
+        return filter;
+    }
+
+    @Override
+    public boolean test(Object object) {
+        if (!(object instanceof Metadata metadata)) {
+            return filter.test(object);
+        }
+        return root.test(metadata);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof CompiledFilter other)) return false;
+        return Objects.equals(this.filter, other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filter);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledFilter(filter=" + filter + ")";
+    }
+
+    private static Node compileNode(Filter filter) {
+        if (filter instanceof CompiledFilter compiledFilter) {
+            return compiledFilter.root;
+        } else if (filter instanceof And and) {
+            Node left = compileNode(and.left());
+            Node right = compileNode(and.right());
+            return right.cost < left.cost ? new AndNode(right, left) : new AndNode(left, right);
+        } else if (filter instanceof Or or) {
+            Node left = compileNode(or.left());
+            Node right = compileNode(or.right());
+            return right.cost < left.cost ? new OrNode(right, left) : new OrNode(left, right);
+        } else if (filter instanceof Not not) {
+            return new NotNode(compileNode(not.expression()));
+        } else if (filter instanceof IsEqualTo isEqualTo) {
+            return new ComparisonNode(
+                    isEqualTo.key(), false, isEqualTo, isEqualTo(isEqualTo.comparisonValue()));
+        } else if (filter instanceof IsNotEqualTo isNotEqualTo) {
+            return new ComparisonNode(
+                    isNotEqualTo.key(), true, isNotEqualTo, negate(isEqualTo(isNotEqualTo.comparisonValue())));
+        } else if (filter instanceof IsGreaterThan isGreaterThan) {
+            return new ComparisonNode(
+                    isGreaterThan.key(), false, isGreaterThan, compare(isGreaterThan.comparisonValue(), c -> c > 0));
+        } else if (filter instanceof IsGreaterThanOrEqualTo isGreaterThanOrEqualTo) {
+            return new ComparisonNode(
+                    isGreaterThanOrEqualTo.key(),
+                    false,
+                    isGreaterThanOrEqualTo,
+                    compare(isGreaterThanOrEqualTo.comparisonValue(), c -> c >= 0));
+        } else if (filter instanceof IsLessThan isLessThan) {
+            return new ComparisonNode(
+                    isLessThan.key(), false, isLessThan, compare(isLessThan.comparisonValue(), c -> c < 0));
+        } else if (filter instanceof IsLessThanOrEqualTo isLessThanOrEqualTo) {
+            return new ComparisonNode(
+                    isLessThanOrEqualTo.key(),
+                    false,
+                    isLessThanOrEqualTo,
+                    compare(isLessThanOrEqualTo.comparisonValue(), c -> c <= 0));
+        } else if (filter instanceof IsIn isIn) {
+            return new ComparisonNode(isIn.key(), false, isIn, isIn(isIn.comparisonValues()));
+        } else if (filter instanceof IsNotIn isNotIn) {
+            return new ComparisonNode(isNotIn.key(), true, isNotIn, negate(isIn(isNotIn.comparisonValues())));
+        } else if (filter instanceof ContainsString containsString) {
+            return new ComparisonNode(
+                    containsString.key(), false, containsString, containsString(containsString.comparisonValue()));
+        }
+        return new FilterNode(filter);
+    }
+
+    private static ValueTest isEqualTo(Object comparisonValue) {
+        if (comparisonValue instanceof Number) {
+            NumberComparison comparison = NumberComparison.of(comparisonValue);
+            return new ValueTest(3) {
+                @Override
+                int test(Object actualValue) {
+                    int result = comparison.compareTo(actualValue);
+                    return result == NumberComparison.UNKNOWN ? UNKNOWN : toResult(result == 0);
+                }
+            };
+        } else if (comparisonValue instanceof UUID) {
+            String comparisonString = comparisonValue.toString();
+            return new ValueTest(2) {
+                @Override
+                int test(Object actualValue) {
+                    if (actualValue instanceof UUID) {
+                        return toResult(actualValue.equals(comparisonValue));
+                    } else if (actualValue instanceof String) {
+                        return toResult(actualValue.equals(comparisonString));
+                    }
+                    return UNKNOWN;
+                }
+            };
+        }
+        Class<?> comparisonType = comparisonValue.getClass();
+        return new ValueTest(2) {
+            @Override
+            int test(Object actualValue) {
+                return actualValue.getClass() == comparisonType
+                        ? toResult(actualValue.equals(comparisonValue))
+                        : UNKNOWN;
+            }
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ValueTest compare(Comparable<?> comparisonValue, IntPredicate comparisonResult) {
+        if (comparisonValue instanceof Number) {
+            NumberComparison comparison = NumberComparison.of(comparisonValue);
+            return new ValueTest(3) {
+                @Override
+                int test(Object actualValue) {
+                    int result = comparison.compareTo(actualValue);
+                    return result == NumberComparison.UNKNOWN ? UNKNOWN : toResult(comparisonResult.test(result));
+                }
+            };
+        }
+        Class<?> comparisonType = comparisonValue.getClass();
+        return new ValueTest(3) {
+            @Override
+            int test(Object actualValue) {
+                if (actualValue.getClass() != comparisonType) {
+                    return UNKNOWN;
+                }
+                return toResult(comparisonResult.test(((Comparable) actualValue).compareTo(comparisonValue)));
+            }
+        };
+    }
+
+    private static ValueTest isIn(Collection<?> comparisonValues) {
+        // like IsIn and IsNotIn, check the type of the actual value against the first comparison value
+        Object first = comparisonValues.iterator().next();
+        if (first instanceof Number) {
+            return NumberSet.of(comparisonValues);
+        } else if (first instanceof UUID) {
+            boolean allUuids = comparisonValues.stream().allMatch(UUID.class::isInstance);
+            return new ValueTest(4) {
+                @Override
+                int test(Object actualValue) {
+                    // strings are parsed as UUIDs by IsIn and IsNotIn, which is left to them
+                    return allUuids && actualValue instanceof UUID
+                            ? toResult(comparisonValues.contains(actualValue))
+                            : UNKNOWN;
+                }
+            };
+        }
+        Class<?> comparisonType = first.getClass();
+        return new ValueTest(4) {
+            @Override
+            int test(Object actualValue) {
+                return actualValue.getClass() == comparisonType
+                        ? toResult(comparisonValues.contains(actualValue))
+                        : UNKNOWN;
+            }
+        };
+    }
+
+    private static ValueTest containsString(String comparisonValue) {
+        return new ValueTest(5) {
+            @Override
+            int test(Object actualValue) {
+                return actualValue instanceof String string ? toResult(string.contains(comparisonValue)) : UNKNOWN;
+            }
+        };
+    }
+
+    private static ValueTest negate(ValueTest valueTest) {
+        return new ValueTest(valueTest.cost) {
+            @Override
+            int test(Object actualValue) {
+                int result = valueTest.test(actualValue);
+                return result == UNKNOWN ? UNKNOWN : MATCH - result;
+            }
+        };
+    }
+
+    private static int toResult(boolean matches) {
+        return matches ? MATCH : NO_MATCH;
+    }
+
+    /**
+     * A predicate over metadata, with a rough estimate of how expensive it is to test.
+     */
+    private abstract static class Node {
+
+        final int cost;
+
+        Node(int cost) {
+            this.cost = cost;
+        }
+
+        abstract boolean test(Metadata metadata);
+    }
+
+    private static final class AndNode extends Node {
+
+        private final Node first;
+        private final Node second;
+
+        AndNode(Node first, Node second) {
+            super(first.cost + second.cost);
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        boolean test(Metadata metadata) {
+            return first.test(metadata) && second.test(metadata);
+        }
+    }
+
+    private static final class OrNode extends Node {
+
+        private final Node first;
+        private final Node second;
+
+        OrNode(Node first, Node second) {
+            super(first.cost + second.cost);
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        boolean test(Metadata metadata) {
+            return first.test(metadata) || second.test(metadata);
+        }
+    }
+
+    private static final class NotNode extends Node {
+
+        private final Node expression;
+
+        NotNode(Node expression) {
+            super(expression.cost);
+            this.expression = expression;
+        }
+
+        @Override
+        boolean test(Metadata metadata) {
+            return !expression.test(metadata);
+        }
+    }
+
+    /**
+     * Tests the value of a single metadata key, falling back to the original filter for values it cannot test.
+     */
+    private static final class ComparisonNode extends Node {
+
+        private final String key;
+        private final boolean matchesMissingKey;
+        private final Filter filter;
+        private final ValueTest valueTest;
+
+        ComparisonNode(String key, boolean matchesMissingKey, Filter filter, ValueTest valueTest) {
+            super(valueTest.cost);
+            this.key = key;
+            this.matchesMissingKey = matchesMissingKey;
+            this.filter = filter;
+            this.valueTest = valueTest;
+        }
+
+        @Override
+        boolean test(Metadata metadata) {
+            Object actualValue = metadata.getObject(key);
+            if (actualValue == null) {
+                return matchesMissingKey;
+            }
+            int result = valueTest.test(actualValue);
+            return result == UNKNOWN ? filter.test(metadata) : result == MATCH;
+        }
+    }
+
+    /**
+     * A filter that cannot be compiled, such as a custom {@link Filter} implementation.
+     */
+    private static final class FilterNode extends Node {
+
+        private final Filter filter;
+
+        FilterNode(Filter filter) {
+            super(20);
+            this.filter = filter;
+        }
+
+        @Override
+        boolean test(Metadata metadata) {
+            return filter.test(metadata);
+        }
+    }
+
+    private abstract static class ValueTest {
+
+        final int cost;
+
+        ValueTest(int cost) {
+            this.cost = cost;
+        }
+
+        /**
+         * @return {@link #MATCH}, {@link #NO_MATCH} or {@link #UNKNOWN}
+         */
+        abstract int test(Object actualValue);
+    }
+
+    /**
+     * Compares numbers to a comparison number like {@link Filter}s do, as if both were converted to
+     * {@link BigDecimal}s from their {@code toString()}, but without doing so for integers,
+     * nor for floating-point numbers of the same type as the comparison number.
+     * <p>
+     * The latter is exact because {@link Double#toString(double)} and {@link Float#toString(float)} return
+     * a decimal that rounds back to the original number, so the order of the decimals is the order of the numbers.
+     */
+    private static final class NumberComparison {
+
+        static final int UNKNOWN = Integer.MIN_VALUE;
+
+        private final Object comparisonNumber;
+        private final BigDecimal comparisonDecimal;
+        private final int longOrder;
+        private final long floor;
+        private final boolean integral;
+
+        private NumberComparison(
+                Object comparisonNumber, BigDecimal comparisonDecimal, int longOrder, long floor, boolean integral) {
+            this.comparisonNumber = comparisonNumber;
+            this.comparisonDecimal = comparisonDecimal;
+            this.longOrder = longOrder;
+            this.floor = floor;
+            this.integral = integral;
+        }
+
+        static NumberComparison of(Object comparisonNumber) {
+            BigDecimal decimal;
+            try {
+                decimal = new BigDecimal(comparisonNumber.toString());
+            } catch (NumberFormatException e) {
+                // NaN or infinity, which filters fail to compare: leave it to them
+                return new NumberComparison(comparisonNumber, null, 0, 0, false);
+            }
+            if (decimal.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+                return new NumberComparison(comparisonNumber, decimal, -1, 0, false);
+            } else if (decimal.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+                return new NumberComparison(comparisonNumber, decimal, 1, 0, false);
+            }
+            BigDecimal floor = decimal.setScale(0, RoundingMode.FLOOR);
+            return new NumberComparison(
+                    comparisonNumber, decimal, 0, floor.longValueExact(), floor.compareTo(decimal) == 0);
+        }
+
+        /**
+         * @return the sign of the comparison of the actual value with the comparison number,
+         * or {@link #UNKNOWN} if it has to be left to the original filter
+         */
+        int compareTo(Object actualValue) {
+            if (comparisonDecimal == null) {
+                return UNKNOWN;
+            }
+            if (actualValue instanceof Integer || actualValue instanceof Long) {
+                return compareTo(((Number) actualValue).longValue());
+            } else if (actualValue instanceof Double actual) {
+                if (!Double.isFinite(actual)) {
+                    return UNKNOWN;
+                }
+                if (comparisonNumber instanceof Double comparison) {
+                    return actual < comparison ? -1 : (actual > comparison ? 1 : 0);
+                }
+            } else if (actualValue instanceof Float actual) {
+                if (!Float.isFinite(actual)) {
+                    return UNKNOWN;
+                }
+                if (comparisonNumber instanceof Float comparison) {
+                    return actual < comparison ? -1 : (actual > comparison ? 1 : 0);
+                }
+            } else if (!(actualValue instanceof Number)) {
+                return UNKNOWN;
+            }
+            return Integer.signum(new BigDecimal(actualValue.toString()).compareTo(comparisonDecimal));
+        }
+
+        private int compareTo(long actual) {
+            if (longOrder != 0) {
+                return longOrder;
+            }
+            if (actual != floor) {
+                return actual < floor ? -1 : 1;
+            }
+            return integral ? 0 : -1;
+        }
+    }
+
+    /**
+     * Looks up numbers in a set of comparison numbers like {@link IsIn} and {@link IsNotIn} do,
+     * as if all numbers were converted to {@link BigDecimal}s with {@link BigDecimal#valueOf(double)}
+     * (or {@link BigDecimal#valueOf(long)}), using sorted arrays of {@code long}s and {@code double}s instead.
+     * <p>
+     * Two {@code double}s convert to equal decimals if and only if they are equal, and so does a {@code double}
+     * and an integer that is exactly representable as a {@code double}.
+     */
+    private static final class NumberSet extends ValueTest {
+
+        private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+        private final long[] longs;
+        private final double[] doubles;
+
+        private NumberSet(long[] longs, double[] doubles) {
+            super(4);
+            this.longs = longs;
+            this.doubles = doubles;
+        }
+
+        static ValueTest of(Collection<?> comparisonValues) {
+            long[] longs = new long[comparisonValues.size()];
+            double[] doubles = new double[comparisonValues.size()];
+            int longCount = 0;
+            int doubleCount = 0;
+            for (Object comparisonValue : comparisonValues) {
+                double doubleValue;
+                if (comparisonValue instanceof Integer || comparisonValue instanceof Long) {
+                    long longValue = ((Number) comparisonValue).longValue();
+                    longs[longCount++] = longValue;
+                    if (Math.abs(longValue) > MAX_EXACT_DOUBLE_INTEGER) {
+                        doubles = null;
+                        continue;
+                    }
+                    doubleValue = longValue;
+                } else if (comparisonValue instanceof Float || comparisonValue instanceof Double) {
+                    doubleValue = ((Number) comparisonValue).doubleValue();
+                    if (!Double.isFinite(doubleValue)) {
+                        return new NumberSet(null, null);
+                    }
+                    BigDecimal decimal = BigDecimal.valueOf(doubleValue);
+                    if (isLong(decimal)) {
+                        longs[longCount++] = decimal.longValueExact();
+                    }
+                } else {
+                    // IsIn and IsNotIn fail on such values, leave it to them
+                    return new NumberSet(null, null);
+                }
+                if (doubles != null) {
+                    doubles[doubleCount++] = doubleValue + 0.0; // -0.0 and 0.0 are equal
+                }
+            }
+            longs = Arrays.copyOf(longs, longCount);
+            Arrays.sort(longs);
+            if (doubles != null) {
+                doubles = Arrays.copyOf(doubles, doubleCount);
+                Arrays.sort(doubles);
+            }
+            return new NumberSet(longs, doubles);
+        }
+
+        private static boolean isLong(BigDecimal decimal) {
+            return (decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0)
+                    && decimal.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0
+                    && decimal.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+        }
+
+        @Override
+        int test(Object actualValue) {
+            if (longs == null) {
+                return UNKNOWN;
+            }
+            if (actualValue instanceof Integer || actualValue instanceof Long) {
+                return toResult(Arrays.binarySearch(longs, ((Number) actualValue).longValue()) >= 0);
+            } else if (doubles != null && (actualValue instanceof Float || actualValue instanceof Double)) {
+                double actual = ((Number) actualValue).doubleValue();
+                if (Double.isFinite(actual)) {
+                    return toResult(Arrays.binarySearch(doubles, actual + 0.0) >= 0);
+                }
+            }
+            return UNKNOWN;
+        }
+    }
+}
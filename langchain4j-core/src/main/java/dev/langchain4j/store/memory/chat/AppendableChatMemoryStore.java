@@ -0,0 +1,84 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.memory.ChatMemory;
+
+import java.util.List;
+
+/**
+ * A {@link ChatMemoryStore} which can apply changes to the stored messages incrementally,
+ * instead of rewriting all of them on each {@link #updateMessages(Object, List)}.
+ * <br>
+ * Chat memories of LangChain4j use {@link #evictAndAppendMessages(Object, int, int, List)}
+ * when the store implements this interface, so that a turn only writes the new messages
+ * and removes the evicted ones, in a single atomic change.
+ * <br>
+ * Each change of the messages of a chat memory, including {@link #updateMessages(Object, List)}
+ * and {@link #deleteMessages(Object)}, gives them a new version, which is never reused for the same chat memory.
+ * Chat memories use it to detect whether the messages were changed since they last read or wrote them.
+ */
+public interface AppendableChatMemoryStore extends ChatMemoryStore {
+
+    /**
+     * Retrieves the messages for a specified chat memory, together with their version.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @return The messages and their version. Must not be null.
+     */
+    VersionedMessages getVersionedMessages(Object memoryId);
+
+    /**
+     * Replaces all the messages of a specified chat memory, like {@link #updateMessages(Object, List)}.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages The new messages.
+     * @return The new version of the messages.
+     */
+    long replaceMessages(Object memoryId, List<ChatMessage> messages);
+
+    /**
+     * Atomically removes a range of messages of a specified chat memory, then appends messages at the end:
+     * either both changes are applied, or none of them.
+     * The removed range is usually a prefix of the messages, or directly follows a leading
+     * {@link dev.langchain4j.data.message.SystemMessage}, which is always retained by the chat memories.
+     *
+     * @param memoryId  The ID of the chat memory.
+     * @param fromIndex The index of the first message to remove.
+     * @param count     The number of messages to remove, possibly 0.
+     * @param messages  The messages to append, possibly none.
+     * @return The new version of the messages.
+     */
+    long evictAndAppendMessages(Object memoryId, int fromIndex, int count, List<ChatMessage> messages);
+
+    /**
+     * Appends messages at the end of the messages of a specified chat memory.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages The messages to append.
+     * @return The new version of the messages.
+     */
+    default long appendMessages(Object memoryId, List<ChatMessage> messages) {
+        return evictAndAppendMessages(memoryId, 0, 0, messages);
+    }
+
+    /**
+     * Removes a range of messages of a specified chat memory.
+     *
+     * @param memoryId  The ID of the chat memory.
+     * @param fromIndex The index of the first message to remove.
+     * @param count     The number of messages to remove.
+     * @return The new version of the messages.
+     * @see #evictAndAppendMessages(Object, int, int, List)
+     */
+    default long evictMessages(Object memoryId, int fromIndex, int count) {
+        return evictAndAppendMessages(memoryId, fromIndex, count, List.of());
+    }
+
+    /**
+     * The messages of a {@link ChatMemory} and their version.
+     *
+     * @param messages The messages.
+     * @param version  The version of the messages.
+     */
+    record VersionedMessages(List<ChatMessage> messages, long version) {}
+}
@@ -0,0 +1,325 @@
+package dev.langchain4j.store.memory.chat;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.message.ChatMessage;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded {@link ChatMemoryStore} keeping the messages of the most recently used chat memories in memory,
+ * in front of another {@link ChatMemoryStore}.
+ * <p>
+ * Messages are read from the underlying store the first time a chat memory is used, and then served from memory.
+ * Updates are only applied in memory, and written to the underlying store (write-behind) when the chat memory
+ * is evicted, because {@link Builder#maxEntries(Integer)} is exceeded
+ * or because it was not used for longer than {@link Builder#maxIdleTime(Duration)}, or when {@link #flush()} is called.
+ * Deletions are applied to the underlying store immediately.
+ * <p>
+ * Evicted chat memories are written by the thread whose read or update caused the eviction, before it returns
+ * (write-on-evict), so a slow underlying store slows down these calls.
+ * Reads from, writes to and deletions from the underlying store are ordered per memory ID,
+ * so that a deleted chat memory is never cached again and an older state never overwrites a newer one,
+ * while different memory IDs are read and written concurrently.
+ * <p>
+ * Updates not yet written are lost if the application stops without calling {@link #flush()}.
+ * <p>
+ * Operations on the same memory ID are expected to be serialized by the caller,
+ * as done by the chat memories of LangChain4j.
+ */
+public class CachingChatMemoryStore implements ChatMemoryStore {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ChatMemoryStore store;
+    private final int maxEntries;
+    private final Duration maxIdleTime;
+    private final Clock clock;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Object, List<ChatMessage>> pendingWrites = new HashMap<>();
+    private final ReentrantLock[] memoryIdLocks = new ReentrantLock[LOCK_STRIPES];
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private CachingChatMemoryStore(Builder builder) {
+        this.store = ensureNotNull(builder.store, "store");
+        this.maxEntries = ensureGreaterThanZero(getOrDefault(builder.maxEntries, 10_000), "maxEntries");
+        this.maxIdleTime = builder.maxIdleTime;
+        if (maxIdleTime != null && (maxIdleTime.isZero() || maxIdleTime.isNegative())) {
+            throw new IllegalArgumentException("maxIdleTime must be positive, but is: " + maxIdleTime);
+        }
+        this.clock = getOrDefault(builder.clock, Clock.systemUTC());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            memoryIdLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        synchronized (this) {
+            Entry entry = entries.get(memoryId);
+            if (entry != null) {
+                hits++;
+                entry.lastAccessedAt = clock.instant();
+                return new ArrayList<>(entry.messages);
+            }
+            List<ChatMessage> pendingMessages = pendingWrites.get(memoryId);
+            if (pendingMessages != null) {
+                hits++;
+                return new ArrayList<>(pendingMessages);
+            }
+            misses++;
+        }
+
+        List<ChatMessage> messages;
+        List<Object> evictedMemoryIds;
+        // a deletion or a pending write of this memory ID cannot happen between the read and the caching
+        ReentrantLock lock = lockOf(memoryId);
+        lock.lock();
+        try {
+            messages = new ArrayList<>(store.getMessages(memoryId));
+            synchronized (this) {
+                Entry entry = entries.get(memoryId);
+                if (entry == null) {
+                    List<ChatMessage> pendingMessages = pendingWrites.get(memoryId);
+                    if (pendingMessages != null) {
+                        messages = new ArrayList<>(pendingMessages);
+                    }
+                    entries.put(memoryId, new Entry(messages, false, clock.instant()));
+                } else {
+                    messages = entry.messages;
+                }
+                evictedMemoryIds = evict();
+            }
+        } finally {
+            lock.unlock();
+        }
+        write(evictedMemoryIds);
+        return new ArrayList<>(messages);
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        List<Object> evictedMemoryIds;
+        synchronized (this) {
+            entries.put(memoryId, new Entry(new ArrayList<>(messages), true, clock.instant()));
+            evictedMemoryIds = evict();
+        }
+        write(evictedMemoryIds);
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        ReentrantLock lock = lockOf(memoryId);
+        lock.lock();
+        try {
+            synchronized (this) {
+                entries.remove(memoryId);
+                pendingWrites.remove(memoryId);
+            }
+            store.deleteMessages(memoryId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the updates not yet written to the underlying store.
+     * The messages stay in memory.
+     */
+    public void flush() {
+        List<Object> memoryIds = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<Object, Entry> entry : entries.entrySet()) {
+                if (entry.getValue().dirty) {
+                    entry.getValue().dirty = false;
+                    pendingWrites.put(entry.getKey(), entry.getValue().messages);
+                    memoryIds.add(entry.getKey());
+                }
+            }
+            memoryIds.addAll(pendingWrites.keySet());
+        }
+        write(memoryIds);
+    }
+
+    /**
+     * Returns the statistics collected since this store was created.
+     *
+     * @return the statistics.
+     */
+    public synchronized Statistics statistics() {
+        return new Statistics(entries.size(), hits, misses, evictions);
+    }
+
+    /**
+     * Evicts the idle entries and the least recently used entries above the bound.
+     * Must be called while holding the monitor of this store.
+     *
+     * @return the memory IDs of the evicted entries which must be written to the underlying store.
+     */
+    private List<Object> evict() {
+        List<Object> memoryIdsToWrite = new ArrayList<>();
+        Instant idleSince = maxIdleTime == null ? null : clock.instant().minus(maxIdleTime);
+        Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Entry> eldest = iterator.next();
+            boolean idle = idleSince != null && eldest.getValue().lastAccessedAt.isBefore(idleSince);
+            if (!idle && entries.size() <= maxEntries) {
+                break;
+            }
+            iterator.remove();
+            evictions++;
+            if (eldest.getValue().dirty) {
+                pendingWrites.put(eldest.getKey(), eldest.getValue().messages);
+                memoryIdsToWrite.add(eldest.getKey());
+            }
+        }
+        return memoryIdsToWrite;
+    }
+
+    /**
+     * Writes the pending messages of the given memory IDs to the underlying store.
+     * Writes of the same memory ID are serialized, so that an older state of a chat memory never overwrites a newer one.
+     */
+    private void write(List<Object> memoryIds) {
+        for (Object memoryId : memoryIds) {
+            ReentrantLock lock = lockOf(memoryId);
+            lock.lock();
+            try {
+                List<ChatMessage> messages;
+                synchronized (this) {
+                    messages = pendingWrites.get(memoryId);
+                }
+                if (messages == null) {
+                    continue; // already written or deleted
+                }
+                store.updateMessages(memoryId, new ArrayList<>(messages));
+                synchronized (this) {
+                    pendingWrites.remove(memoryId, messages);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the lock ordering the operations on the underlying store for the given memory ID.
+     * A thread must hold at most one of these locks at a time.
+     */
+    private ReentrantLock lockOf(Object memoryId) {
+        return memoryIdLocks[Math.floorMod(Objects.hashCode(memoryId), LOCK_STRIPES)];
+    }
+
+    private static class Entry {
+
+        private final List<ChatMessage> messages;
+        private boolean dirty;
+        private Instant lastAccessedAt;
+
+        private Entry(List<ChatMessage> messages, boolean dirty, Instant lastAccessedAt) {
+            this.messages = messages;
+            this.dirty = dirty;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+    }
+
+    /**
+     * Statistics of a {@link CachingChatMemoryStore}.
+     *
+     * @param size      the number of chat memories held in memory.
+     * @param hits      the number of reads served from memory.
+     * @param misses    the number of reads served by the underlying store.
+     * @param evictions the number of chat memories evicted because of the bound or because they were idle.
+     */
+    public record Statistics(long size, long hits, long misses, long evictions) {
+
+        /**
+         * @return the share of reads served from memory, or 0 if there were no reads.
+         */
+        public double hitRatio() {
+            long reads = hits + misses;
+            return reads == 0 ? 0 : (double) hits / reads;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatMemoryStore store;
+        private Integer maxEntries;
+        private Duration maxIdleTime;
+        private Clock clock;
+
+        /**
+         * Sets the underlying store, which is read on a miss and to which the updates are written.
+         *
+         * @param store the underlying store.
+         * @return builder
+         */
+        public Builder store(ChatMemoryStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of chat memories held in memory.
+         * <br>
+         * Default value: 10,000
+         *
+         * @param maxEntries the maximum number of chat memories held in memory.
+         * @return builder
+         */
+        public Builder maxEntries(Integer maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a chat memory is held in memory after it was last read or updated.
+         * Idle chat memories are evicted when other chat memories are read from the underlying store or updated.
+         * <br>
+         * Default value: no limit
+         *
+         * @param maxIdleTime the maximum idle time of a chat memory.
+         * @return builder
+         */
+        public Builder maxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to evict idle chat memories. Mostly useful for testing.
+         * <br>
+         * Default value: {@link Clock#systemUTC()}
+         *
+         * @param clock the clock.
+         * @return builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CachingChatMemoryStore build() {
+            return new CachingChatMemoryStore(this);
+        }
+    }
+}
@@ -2,19 +2,23 @@ package dev.langchain4j.store.memory.chat;
 
 import dev.langchain4j.data.message.ChatMessage;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of {@link ChatMemoryStore} that stores state of {@link dev.langchain4j.memory.ChatMemory} (chat messages) in-memory.
  * <p>
+ * Appending messages and evicting the oldest ones take time proportional to the number of appended messages,
+ * not to the number of stored messages. The returned lists are immutable snapshots.
+ * <p>
  * This storage mechanism is transient and does not persist data across application restarts.
  */
-public class InMemoryChatMemoryStore implements ChatMemoryStore {
+public class InMemoryChatMemoryStore implements AppendableChatMemoryStore {
 
-    private final Map<Object, List<ChatMessage>> messagesByMemoryId = new ConcurrentHashMap<>();
+    private final Map<Object, VersionedMessages> messagesByMemoryId = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
 
     /**
      * Constructs a new {@link InMemoryChatMemoryStore}.
@@ -23,12 +27,36 @@ public class InMemoryChatMemoryStore implements ChatMemoryStore {
 
     @Override
     public List<ChatMessage> getMessages(Object memoryId) {
-        return messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>());
+        return getVersionedMessages(memoryId).messages();
+    }
+
+    @Override
+    public VersionedMessages getVersionedMessages(Object memoryId) {
+        return messagesByMemoryId.computeIfAbsent(
+                memoryId, ignored -> new VersionedMessages(MessageLog.empty(), versions.incrementAndGet()));
     }
 
     @Override
     public void updateMessages(Object memoryId, List<ChatMessage> messages) {
-        messagesByMemoryId.put(memoryId, messages);
+        replaceMessages(memoryId, messages);
+    }
+
+    @Override
+    public long replaceMessages(Object memoryId, List<ChatMessage> messages) {
+        VersionedMessages replaced = new VersionedMessages(MessageLog.of(messages), versions.incrementAndGet());
+        messagesByMemoryId.put(memoryId, replaced);
+        return replaced.version();
+    }
+
+    @Override
+    public long evictAndAppendMessages(Object memoryId, int fromIndex, int count, List<ChatMessage> messages) {
+        return messagesByMemoryId
+                .compute(memoryId, (id, current) -> {
+                    MessageLog log = current == null ? MessageLog.empty() : (MessageLog) current.messages();
+                    return new VersionedMessages(
+                            log.evictAndAppend(fromIndex, count, messages), versions.incrementAndGet());
+                })
+                .version();
     }
 
     @Override
@@ -0,0 +1,116 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of chat messages, from which the next list is derived by removing a range of messages
+ * and appending new ones, in time proportional to the change rather than to the number of messages.
+ * <p>
+ * The messages are stored in an array shared by the successive lists: appending writes after the last message
+ * when no other list has written there yet, and removing the oldest messages only moves the start of the list.
+ * The messages before the removed range, such as a retained {@code SystemMessage}, are kept in a separate prefix.
+ * The array is copied only when it is full, or when a list which is not the latest one is changed.
+ * <p>
+ * Lists sharing an array must not be changed concurrently; they can be read concurrently.
+ */
+final class MessageLog extends AbstractList<ChatMessage> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final MessageLog EMPTY = new MessageLog(List.of(), new Buffer(new ChatMessage[0], 0), 0, 0);
+
+    private final List<ChatMessage> prefix;
+    private final Buffer buffer;
+    private final int from;
+    private final int to;
+
+    private MessageLog(List<ChatMessage> prefix, Buffer buffer, int from, int to) {
+        this.prefix = prefix;
+        this.buffer = buffer;
+        this.from = from;
+        this.to = to;
+    }
+
+    static MessageLog empty() {
+        return EMPTY;
+    }
+
+    static MessageLog of(List<ChatMessage> messages) {
+        ChatMessage[] array = messages.toArray(new ChatMessage[0]);
+        return new MessageLog(List.of(), new Buffer(array, array.length), 0, array.length);
+    }
+
+    @Override
+    public ChatMessage get(int index) {
+        Objects.checkIndex(index, size());
+        return index < prefix.size() ? prefix.get(index) : buffer.messages[from + index - prefix.size()];
+    }
+
+    @Override
+    public int size() {
+        return prefix.size() + to - from;
+    }
+
+    /**
+     * Returns the list without the messages in {@code [fromIndex, fromIndex + count)}, followed by the given messages.
+     */
+    MessageLog evictAndAppend(int fromIndex, int count, List<ChatMessage> appended) {
+        int size = size();
+        int evictFrom = Math.min(Math.max(fromIndex, 0), size);
+        int evictTo = Math.min(evictFrom + Math.max(count, 0), size);
+
+        if (evictTo == evictFrom) {
+            return append(prefix, from, appended);
+        }
+        if (evictFrom < prefix.size()) {
+            List<ChatMessage> messages = new ArrayList<>(size - (evictTo - evictFrom) + appended.size());
+            messages.addAll(subList(0, evictFrom));
+            messages.addAll(subList(evictTo, size));
+            messages.addAll(appended);
+            return of(messages);
+        }
+
+        List<ChatMessage> newPrefix = evictFrom == prefix.size() ? prefix : List.copyOf(subList(0, evictFrom));
+        return append(newPrefix, from + evictTo - prefix.size(), appended);
+    }
+
+    private MessageLog append(List<ChatMessage> prefix, int from, List<ChatMessage> appended) {
+        int count = appended.size();
+        if (buffer.size == to && to + count <= buffer.messages.length) {
+            for (int i = 0; i < count; i++) {
+                buffer.messages[to + i] = appended.get(i);
+            }
+            buffer.size = to + count;
+            return new MessageLog(prefix, buffer, from, to + count);
+        }
+
+        int retained = to - from;
+        ChatMessage[] messages = new ChatMessage[Math.max(MIN_CAPACITY, 2 * (retained + count))];
+        System.arraycopy(buffer.messages, from, messages, 0, retained);
+        for (int i = 0; i < count; i++) {
+            messages[retained + i] = appended.get(i);
+        }
+        return new MessageLog(prefix, new Buffer(messages, retained + count), 0, retained + count);
+    }
+
+    /**
+     * The array shared by successive lists, and the number of its slots which were written.
+     * Written slots are never overwritten.
+     */
+    private static final class Buffer {
+
+        private final ChatMessage[] messages;
+        private int size;
+
+        private Buffer(ChatMessage[] messages, int size) {
+            this.messages = messages;
+            this.size = size;
+        }
+    }
+}
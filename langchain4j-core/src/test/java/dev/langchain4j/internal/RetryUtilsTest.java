@@ -8,7 +8,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.exception.NonRetriableException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -131,4 +136,91 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
+
+    @Test
+    void retryThenSuccessAsync() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(100).build();
+
+        long startTime = System.currentTimeMillis();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> attempts.incrementAndGet() == 1
+                        ? CompletableFuture.failedFuture(new RuntimeException())
+                        : CompletableFuture.completedFuture("Success"),
+                2);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("Success");
+        assertThat(attempts).hasValue(2);
+        assertThat(System.currentTimeMillis() - startTime).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void maxAttemptsReachedAsync() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.failedFuture(new IllegalStateException("failed"));
+                },
+                2);
+
+        assertThat(result)
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .withMessage("failed");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void nonRetriableExceptionAsync() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.failedFuture(new NonRetriableException("failed"));
+                },
+                2);
+
+        assertThat(result)
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isExactlyInstanceOf(NonRetriableException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void cancellationAsync() throws Exception {
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    return attempt;
+                },
+                2);
+
+        result.cancel(true);
+
+        assertThat(attempt).isCancelled();
+        Thread.sleep(100);
+        assertThat(attempts).hasValue(1);
+    }
 }
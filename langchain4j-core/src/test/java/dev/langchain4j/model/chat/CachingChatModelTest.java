@@ -0,0 +1,306 @@
+package dev.langchain4j.model.chat;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.cache.InMemoryChatResponseCache;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CachingChatModelTest {
+
+    /**
+     * Answers with the number of requests it received so far.
+     */
+    static class CountingChatModel implements ChatModel {
+
+        final AtomicInteger requests = new AtomicInteger();
+        final List<ChatModelListener> listeners;
+
+        CountingChatModel(List<ChatModelListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            return ChatResponse.builder()
+                    .aiMessage(AiMessage.from("answer " + requests.incrementAndGet()))
+                    .build();
+        }
+
+        @Override
+        public List<ChatModelListener> listeners() {
+            return listeners;
+        }
+    }
+
+    static class RecordingListener implements ChatModelListener {
+
+        final List<Object> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRequest(ChatModelRequestContext requestContext) {
+            events.add(requestContext);
+        }
+
+        @Override
+        public void onResponse(ChatModelResponseContext responseContext) {
+            events.add(responseContext);
+        }
+
+        @Override
+        public void onError(ChatModelErrorContext errorContext) {
+            events.add(errorContext);
+        }
+    }
+
+    @Test
+    void should_answer_identical_requests_from_cache_and_notify_listeners() {
+
+        // given
+        RecordingListener listener = new RecordingListener();
+        CountingChatModel delegate = new CountingChatModel(List.of(listener));
+        ChatModel model = CachingChatModel.builder().chatModel(delegate).build();
+
+        // when
+        String first = model.chat("Classify: I love it");
+        String second = model.chat("Classify: I love it");
+
+        // then
+        assertThat(first).isEqualTo("answer 1");
+        assertThat(second).isEqualTo("answer 1");
+        assertThat(delegate.requests).hasValue(1);
+
+        assertThat(listener.events).hasSize(4);
+        assertThat(((ChatModelRequestContext) listener.events.get(0)).attributes())
+                .doesNotContainKey(CachingChatModel.CACHE_HIT_ATTRIBUTE);
+        assertThat(((ChatModelRequestContext) listener.events.get(2)).attributes())
+                .containsEntry(CachingChatModel.CACHE_HIT_ATTRIBUTE, true);
+        assertThat(((ChatModelResponseContext) listener.events.get(3)).attributes())
+                .containsEntry(CachingChatModel.CACHE_HIT_ATTRIBUTE, true);
+        assertThat(((ChatModelResponseContext) listener.events.get(3))
+                        .chatResponse()
+                        .aiMessage()
+                        .text())
+                .isEqualTo("answer 1");
+    }
+
+    @Test
+    void should_not_answer_requests_with_different_messages_or_parameters_from_cache() {
+
+        // given
+        CountingChatModel delegate = new CountingChatModel(List.of());
+        ChatModel model = CachingChatModel.builder().chatModel(delegate).build();
+
+        // when
+        model.chat(request("hello", 0.0));
+        model.chat(request("hello", 0.5));
+        model.chat(request("hello!", 0.0));
+        model.chat(ChatRequest.builder()
+                .messages(SystemMessage.from("be brief"), UserMessage.from("hello"))
+                .parameters(ChatRequestParameters.builder().temperature(0.0).build())
+                .build());
+        model.chat(request("hello", 0.0));
+
+        // then
+        assertThat(delegate.requests).hasValue(4);
+    }
+
+    @Test
+    void should_cache_async_responses() throws Exception {
+
+        // given
+        CountingChatModel delegate = new CountingChatModel(List.of());
+        InMemoryChatResponseCache cache = InMemoryChatResponseCache.builder().build();
+        ChatModel model =
+                CachingChatModel.builder().chatModel(delegate).cache(cache).build();
+
+        // when
+        ChatResponse first = model.chatAsync(request("hello", 0.0)).get(5, SECONDS);
+        ChatResponse second = model.chatAsync(request("hello", 0.0)).get(5, SECONDS);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(delegate.requests).hasValue(1);
+        assertThat(cache.statistics().hits()).isEqualTo(1);
+        assertThat(cache.statistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_cache_failures() {
+
+        // given
+        ChatModel model = CachingChatModel.builder()
+                .chatModel(ChatModelMock.thatAlwaysThrowsExceptionWithMessage("boom"))
+                .build();
+
+        // when-then
+        for (int i = 0; i < 2; i++) {
+            try {
+                model.chat("hello");
+            } catch (RuntimeException e) {
+                assertThat(e).hasMessage("boom");
+            }
+        }
+    }
+
+    @Test
+    void should_answer_similar_requests_from_cache_in_semantic_mode() {
+
+        // given
+        CountingChatModel delegate = new CountingChatModel(List.of());
+        EmbeddingModel embeddingModel = new EmbeddingModel() {
+
+            final Map<String, float[]> vectors = Map.of(
+                    "What is the capital of France?", new float[] {1, 0},
+                    "what's the capital of France", new float[] {0.99f, 0.1f},
+                    "Tell me a joke", new float[] {0, 1});
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                return Response.from(textSegments.stream()
+                        .map(segment -> Embedding.from(vectors.get(segment.text())))
+                        .toList());
+            }
+        };
+        ChatModel model = CachingChatModel.builder()
+                .chatModel(delegate)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(new BruteForceEmbeddingStore())
+                .minScore(0.95)
+                .build();
+
+        // when
+        String first = model.chat("What is the capital of France?");
+        String similar = model.chat("what's the capital of France");
+        String different = model.chat("Tell me a joke");
+        String similarWithOtherContext = model.chat(
+                        SystemMessage.from("Answer in French"), UserMessage.from("what's the capital of France"))
+                .aiMessage()
+                .text();
+
+        // then
+        assertThat(first).isEqualTo("answer 1");
+        assertThat(similar).isEqualTo("answer 1");
+        assertThat(different).isEqualTo("answer 2");
+        assertThat(similarWithOtherContext).isEqualTo("answer 3");
+    }
+
+    @Test
+    void should_replay_cached_streaming_responses_and_notify_listeners() {
+
+        // given
+        RecordingListener listener = new RecordingListener();
+        StreamingChatModel delegate = new StreamingChatModelMock(List.of(AiMessage.from("Hello world"))) {
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(listener);
+            }
+        };
+        StreamingChatModel model = CachingStreamingChatModel.builder()
+                .streamingChatModel(delegate)
+                .build();
+
+        // when
+        TestStreamingChatResponseHandler firstHandler = new TestStreamingChatResponseHandler();
+        model.chat("hello", firstHandler);
+        ChatResponse first = firstHandler.get();
+
+        TestStreamingChatResponseHandler secondHandler = new TestStreamingChatResponseHandler();
+        model.chat("hello", secondHandler);
+        ChatResponse second = secondHandler.get();
+
+        // then
+        assertThat(first.aiMessage().text()).isEqualTo("Hello world");
+        assertThat(second).isSameAs(first);
+
+        assertThat(listener.events).hasSize(4);
+        assertThat(((ChatModelRequestContext) listener.events.get(2)).attributes())
+                .containsEntry(CachingChatModel.CACHE_HIT_ATTRIBUTE, true);
+        assertThat(((ChatModelResponseContext) listener.events.get(3)).attributes())
+                .containsEntry(CachingChatModel.CACHE_HIT_ATTRIBUTE, true);
+    }
+
+    private static ChatRequest request(String userMessage, double temperature) {
+        return ChatRequest.builder()
+                .messages(UserMessage.from(userMessage))
+                .parameters(
+                        ChatRequestParameters.builder().temperature(temperature).build())
+                .build();
+    }
+
+    static class BruteForceEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        private final List<EmbeddingMatch<TextSegment>> entries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            String id = String.valueOf(entries.size());
+            entries.add(new EmbeddingMatch<>(0.0, id, embedding, textSegment));
+            return id;
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+            for (EmbeddingMatch<TextSegment> entry : entries) {
+                if (request.filter() != null
+                        && !request.filter().test(entry.embedded().metadata())) {
+                    continue;
+                }
+                double score = RelevanceScore.fromCosineSimilarity(
+                        CosineSimilarity.between(entry.embedding(), request.queryEmbedding()));
+                if (score >= request.minScore()) {
+                    matches.add(new EmbeddingMatch<>(score, entry.embeddingId(), entry.embedding(), entry.embedded()));
+                }
+            }
+            matches.sort(Comparator.comparingDouble(EmbeddingMatch<TextSegment>::score)
+                    .reversed());
+            return new EmbeddingSearchResult<>(
+                    matches.subList(0, Math.min(matches.size(), request.maxResults())));
+        }
+
+        @Override
+        public String add(Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package dev.langchain4j.model.chat;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
@@ -18,6 +21,9 @@ import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
@@ -160,6 +166,76 @@ class ChatModelListenerTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    void should_call_listeners_when_chatting_async() {
+
+        // given
+        ChatModelListener listener = spy(new SuccessfulListener());
+        TestChatModel model = new TestChatModel(List.of(listener));
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from("hi")).build();
+
+        // when
+        CompletableFuture<ChatResponse> future = model.chatAsync(chatRequest);
+
+        // then
+        assertThat(future).succeedsWithin(5, SECONDS).satisfies(response -> assertThat(
+                        response.aiMessage().text())
+                .isEqualTo("hi"));
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onRequest(any());
+        inOrder.verify(listener).onResponse(any());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void should_call_onError_when_async_chat_fails() {
+
+        // given
+        ChatModelListener listener = spy(new SuccessfulListener());
+        TestChatModel model = new TestChatModel(List.of(listener));
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from("hi")).build();
+
+        // when
+        CompletableFuture<ChatResponse> future = ChatModelAsyncUtils.chatAsync(
+                model,
+                chatRequest,
+                request -> CompletableFuture.failedFuture(new RuntimeException("Chat model failed")));
+
+        // then
+        assertThat(future)
+                .failsWithin(5, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isExactlyInstanceOf(RuntimeException.class)
+                .withMessage("Chat model failed");
+        verify(listener).onRequest(any());
+        verify(listener).onError(any());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void should_cancel_async_chat() {
+
+        // given
+        ChatModelListener listener = spy(new SuccessfulListener());
+        TestChatModel model = new TestChatModel(List.of(listener));
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from("hi")).build();
+        CompletableFuture<ChatResponse> pending = new CompletableFuture<>();
+        CompletableFuture<ChatResponse> future = ChatModelAsyncUtils.chatAsync(model, chatRequest, request -> pending);
+
+        // when
+        future.cancel(true);
+
+        // then
+        assertThat(pending).isCancelled();
+        verify(listener).onRequest(any());
+        verify(listener).onError(argThat(context -> context.error() instanceof CancellationException));
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     void should_handle_empty_listeners_list() {
         // given
@@ -0,0 +1,229 @@
+package dev.langchain4j.model.embedding;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.ExampleTestTokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchingEmbeddingModelTest {
+
+    /**
+     * Embeds each text segment into its index and returns pending futures, completed by the test.
+     */
+    static class PendingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<TextSegment>> batches = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<Response<List<Embedding>>>> futures = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+            CompletableFuture<Response<List<Embedding>>> future = new CompletableFuture<>();
+            batches.add(textSegments);
+            futures.add(future);
+            return future;
+        }
+
+        void complete(int batch) {
+            List<Embedding> embeddings = batches.get(batch).stream()
+                    .map(segment -> Embedding.from(new float[] {Float.parseFloat(segment.text())}))
+                    .collect(toList());
+            futures.get(batch).complete(Response.from(embeddings, new TokenUsage(embeddings.size())));
+        }
+    }
+
+    static class EchoEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+
+        @Override
+        public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+            return CompletableFuture.completedFuture(embedAll(textSegments));
+        }
+
+        @Override
+        public int dimension() {
+            return 1;
+        }
+    }
+
+    @Test
+    void should_embed_batches_concurrently_and_return_embeddings_in_order() throws Exception {
+
+        // given
+        PendingEmbeddingModel delegate = new PendingEmbeddingModel();
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxSegmentsPerBatch(2)
+                .maxConcurrentBatches(2)
+                .build();
+
+        // when
+        CompletableFuture<Response<List<Embedding>>> future = model.embedAllAsync(segments(5));
+
+        // then
+        assertThat(delegate.batches).hasSize(2);
+
+        delegate.complete(1);
+        assertThat(delegate.batches).hasSize(3);
+
+        delegate.complete(2);
+        delegate.complete(0);
+        assertThat(future).isDone();
+
+        Response<List<Embedding>> response = future.get(5, SECONDS);
+        assertThat(response.content())
+                .extracting(embedding -> embedding.vector()[0])
+                .containsExactly(0f, 1f, 2f, 3f, 4f);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(5);
+    }
+
+    @Test
+    void should_split_by_estimated_token_count() {
+
+        // given
+        PendingEmbeddingModel delegate = new PendingEmbeddingModel();
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxTokensPerBatch(4)
+                .tokenCountEstimator(new ExampleTestTokenCountEstimator())
+                .maxConcurrentBatches(10)
+                .build();
+
+        // when
+        model.embedAllAsync(List.of(
+                TextSegment.from("one two"),
+                TextSegment.from("three four"),
+                TextSegment.from("five six seven eight nine"),
+                TextSegment.from("ten")));
+
+        // then
+        assertThat(delegate.batches)
+                .extracting(batch -> batch.stream().map(TextSegment::text).collect(toList()))
+                .containsExactly(
+                        List.of("one two", "three four"), List.of("five six seven eight nine"), List.of("ten"));
+    }
+
+    @Test
+    void should_embed_synchronously() {
+
+        // given
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(new EchoEmbeddingModel())
+                .maxSegmentsPerBatch(3)
+                .maxConcurrentBatches(1)
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(10_000));
+
+        // then
+        assertThat(response.content()).hasSize(10_000);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(10_000);
+        assertThat(model.dimension()).isEqualTo(1);
+    }
+
+    @Test
+    void should_fail_and_cancel_batches_in_flight_when_a_batch_fails() {
+
+        // given
+        PendingEmbeddingModel delegate = new PendingEmbeddingModel();
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxSegmentsPerBatch(1)
+                .maxConcurrentBatches(2)
+                .build();
+        CompletableFuture<Response<List<Embedding>>> future = model.embedAllAsync(segments(3));
+
+        // when
+        delegate.futures.get(0).completeExceptionally(new IllegalStateException("rate limited"));
+
+        // then
+        assertThat(future)
+                .failsWithin(5, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .withMessage("rate limited");
+        assertThat(delegate.futures.get(1)).isCancelled();
+        assertThat(delegate.batches).hasSize(2);
+    }
+
+    @Test
+    void should_cancel_batches_in_flight() {
+
+        // given
+        PendingEmbeddingModel delegate = new PendingEmbeddingModel();
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxSegmentsPerBatch(1)
+                .build();
+        CompletableFuture<Response<List<Embedding>>> future = model.embedAllAsync(segments(2));
+
+        // when
+        future.cancel(true);
+
+        // then
+        assertThat(delegate.futures).allSatisfy(batch -> assertThat(batch).isCancelled());
+    }
+
+    @Test
+    void should_fail_when_embedding_count_does_not_match() {
+
+        // given
+        EmbeddingModel delegate = new EchoEmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                return Response.from(List.of());
+            }
+        };
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxSegmentsPerBatch(1)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.embedAll(segments(2)))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Expected 1 embeddings, but got 0");
+    }
+
+    @Test
+    void should_require_token_count_estimator_when_token_budget_is_set() {
+        assertThatThrownBy(() -> BatchingEmbeddingModel.builder()
+                        .embeddingModel(new EchoEmbeddingModel())
+                        .maxTokensPerBatch(100)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("tokenCountEstimator cannot be null");
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .collect(toList());
+    }
+}
@@ -0,0 +1,171 @@
+package dev.langchain4j.model.embedding;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.cache.FileEmbeddingCache;
+import dev.langchain4j.model.embedding.cache.InMemoryEmbeddingCache;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingEmbeddingModelTest {
+
+    /**
+     * Embeds each text segment into its length and records the texts it receives.
+     */
+    static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            requests.add(textSegments.stream().map(TextSegment::text).collect(toList()));
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+    }
+
+    @Test
+    void should_embed_only_missing_text_segments_in_one_call() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CachingEmbeddingModel model =
+                CachingEmbeddingModel.builder().embeddingModel(delegate).build();
+        model.embed("a");
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments("bb", "a", "ccc", "bb"));
+
+        // then
+        assertThat(response.content())
+                .extracting(embedding -> embedding.vector()[0])
+                .containsExactly(2f, 1f, 3f, 2f);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(2);
+        assertThat(delegate.requests).containsExactly(List.of("a"), List.of("bb", "ccc"));
+
+        CachingEmbeddingModel.Statistics statistics = model.statistics();
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(3);
+        assertThat(statistics.hitRatio()).isEqualTo(0.25);
+    }
+
+    @Test
+    void should_not_call_model_when_everything_is_cached() throws Exception {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CachingEmbeddingModel model =
+                CachingEmbeddingModel.builder().embeddingModel(delegate).build();
+        model.embedAll(segments("a", "bb"));
+
+        // when
+        Response<List<Embedding>> response =
+                model.embedAllAsync(segments("bb", "a")).get(5, SECONDS);
+
+        // then
+        assertThat(response.content())
+                .extracting(embedding -> embedding.vector()[0])
+                .containsExactly(2f, 1f);
+        assertThat(response.tokenUsage()).isNull();
+        assertThat(delegate.requests).hasSize(1);
+    }
+
+    @Test
+    void should_not_share_embeddings_between_models() {
+
+        // given
+        InMemoryEmbeddingCache cache = InMemoryEmbeddingCache.builder().build();
+        RecordingEmbeddingModel first = new RecordingEmbeddingModel();
+        RecordingEmbeddingModel second = new RecordingEmbeddingModel();
+
+        // when
+        CachingEmbeddingModel.builder()
+                .embeddingModel(first)
+                .cache(cache)
+                .build()
+                .embed("hello");
+        CachingEmbeddingModel.builder()
+                .embeddingModel(second)
+                .cache(cache)
+                .build()
+                .embed("hello");
+
+        // then
+        assertThat(first.requests).hasSize(1);
+        assertThat(second.requests).hasSize(1);
+    }
+
+    @Test
+    void should_use_persistent_cache_across_restarts(@TempDir Path tempDir) {
+
+        // given
+        Path file = tempDir.resolve("embeddings.cache");
+        try (FileEmbeddingCache persistentCache = new FileEmbeddingCache(file)) {
+            CachingEmbeddingModel.builder()
+                    .embeddingModel(new RecordingEmbeddingModel())
+                    .modelId("test-model")
+                    .persistentCache(persistentCache)
+                    .build()
+                    .embedAll(segments("a", "bb"));
+        }
+
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        try (FileEmbeddingCache persistentCache = new FileEmbeddingCache(file)) {
+            CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                    .embeddingModel(delegate)
+                    .modelId("test-model")
+                    .persistentCache(persistentCache)
+                    .build();
+
+            // when
+            model.embedAll(segments("bb", "a"));
+            model.embedAll(segments("bb", "a"));
+
+            // then
+            assertThat(delegate.requests).isEmpty();
+            assertThat(model.statistics().persistentHits()).isEqualTo(2);
+            assertThat(model.statistics().hits()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void should_require_model_id_with_persistent_cache(@TempDir Path tempDir) {
+        try (FileEmbeddingCache persistentCache = new FileEmbeddingCache(tempDir.resolve("embeddings.cache"))) {
+            assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                            .embeddingModel(new RecordingEmbeddingModel())
+                            .persistentCache(persistentCache)
+                            .build())
+                    .isExactlyInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("modelId cannot be null or blank");
+        }
+    }
+
+    @Test
+    void should_require_model_id_with_cache_that_is_not_in_memory(@TempDir Path tempDir) {
+        try (FileEmbeddingCache cache = new FileEmbeddingCache(tempDir.resolve("embeddings.cache"))) {
+            assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                            .embeddingModel(new RecordingEmbeddingModel())
+                            .cache(cache)
+                            .build())
+                    .isExactlyInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("modelId cannot be null or blank");
+        }
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        return Arrays.stream(texts).map(TextSegment::from).collect(toList());
+    }
+}
@@ -0,0 +1,189 @@
+package dev.langchain4j.model.embedding;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class CoalescingEmbeddingModelTest {
+
+    /**
+     * Embeds each text segment into its length and records the batches it receives.
+     */
+    static class RecordingEmbeddingModel implements EmbeddingModel {
+
+        final List<List<TextSegment>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batches.add(textSegments);
+            List<Embedding> embeddings = textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(textSegments.size()));
+        }
+
+        @Override
+        public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+            return CompletableFuture.completedFuture(embedAll(textSegments));
+        }
+
+        @Override
+        public int dimension() {
+            return 1;
+        }
+    }
+
+    @Test
+    void should_coalesce_concurrent_calls() throws Exception {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxDelay(Duration.ofMillis(200))
+                .maxBatchSize(100)
+                .build();
+
+        // when
+        List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            futures.add(model.embedAllAsync(List.of(TextSegment.from("x".repeat(i)))));
+        }
+
+        // then
+        for (int i = 1; i <= 5; i++) {
+            Response<List<Embedding>> response = futures.get(i - 1).get(5, SECONDS);
+            assertThat(response.content()).hasSize(1);
+            assertThat(response.content().get(0).vector()[0]).isEqualTo(i);
+            assertThat(response.tokenUsage()).isNull();
+        }
+        assertThat(delegate.batches).hasSize(1);
+
+        CoalescingEmbeddingModel.Statistics statistics = model.statistics();
+        assertThat(statistics.batches()).isEqualTo(1);
+        assertThat(statistics.calls()).isEqualTo(5);
+        assertThat(statistics.averageBatchSize()).isEqualTo(5);
+        assertThat(statistics.maxAddedLatency()).isPositive();
+    }
+
+    @Test
+    void should_send_batch_when_full_without_waiting() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxDelay(Duration.ofMinutes(1))
+                .maxBatchSize(3)
+                .build();
+
+        // when
+        CompletableFuture<Response<List<Embedding>>> first = model.embedAllAsync(segments("a", "b"));
+        CompletableFuture<Response<List<Embedding>>> second = model.embedAllAsync(segments("c"));
+
+        // then
+        assertThat(first).isCompletedWithValueMatching(response -> response.content().size() == 2);
+        assertThat(second).isCompletedWithValueMatching(response -> response.content().size() == 1);
+        assertThat(delegate.batches).hasSize(1);
+    }
+
+    @Test
+    void should_send_pending_batch_when_next_call_does_not_fit() {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxDelay(Duration.ofMinutes(1))
+                .maxBatchSize(3)
+                .build();
+
+        // when
+        CompletableFuture<Response<List<Embedding>>> first = model.embedAllAsync(segments("a", "b"));
+        CompletableFuture<Response<List<Embedding>>> second = model.embedAllAsync(segments("c", "d"));
+        CompletableFuture<Response<List<Embedding>>> large = model.embedAllAsync(segments("e", "f", "g"));
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        assertThat(large).isCompletedWithValueMatching(response -> response.tokenUsage() != null);
+        assertThat(delegate.batches).hasSize(2);
+    }
+
+    @Test
+    void should_serve_synchronous_callers_from_many_threads() throws Exception {
+
+        // given
+        RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+        CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxDelay(Duration.ofMillis(20))
+                .maxBatchSize(16)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when
+        List<Future<Embedding>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                String text = "x".repeat(i % 10 + 1);
+                futures.add(executor.submit(() -> model.embed(text).content()));
+            }
+
+            // then
+            for (int i = 0; i < 200; i++) {
+                assertThat(futures.get(i).get(10, SECONDS).vector()[0]).isEqualTo(i % 10 + 1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(model.statistics().calls()).isEqualTo(200);
+        assertThat(delegate.batches.size()).isLessThan(200);
+        assertThat(delegate.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(16));
+    }
+
+    @Test
+    void should_fail_all_callers_of_a_failed_batch() {
+
+        // given
+        EmbeddingModel delegate = new RecordingEmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                throw new IllegalStateException("rate limited");
+            }
+        };
+        CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder()
+                .embeddingModel(delegate)
+                .maxDelay(Duration.ofMillis(10))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.embed("hello"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("rate limited");
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (String text : texts) {
+            segments.add(TextSegment.from(text));
+        }
+        return segments;
+    }
+}
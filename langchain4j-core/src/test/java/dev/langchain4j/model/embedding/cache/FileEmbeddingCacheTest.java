@@ -0,0 +1,79 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileEmbeddingCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_persist_embeddings() {
+
+        // given
+        Path file = tempDir.resolve("embeddings.cache");
+        try (FileEmbeddingCache cache = new FileEmbeddingCache(file)) {
+            cache.put("a", Embedding.from(new float[] {1, 2, 3}));
+            cache.put("b", Embedding.from(new float[] {4, 5}));
+        }
+
+        // when
+        try (FileEmbeddingCache cache = new FileEmbeddingCache(file)) {
+
+            // then
+            assertThat(cache.get("a").vector()).containsExactly(1, 2, 3);
+            assertThat(cache.get("b").vector()).containsExactly(4, 5);
+            assertThat(cache.get("c")).isNull();
+
+            FileEmbeddingCache.Statistics statistics = cache.statistics();
+            assertThat(statistics.size()).isEqualTo(2);
+            assertThat(statistics.hits()).isEqualTo(2);
+            assertThat(statistics.misses()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void should_discard_incomplete_last_record() throws Exception {
+
+        // given
+        Path file = tempDir.resolve("embeddings.cache");
+        try (FileEmbeddingCache cache = new FileEmbeddingCache(file)) {
+            cache.put("a", Embedding.from(new float[] {1, 2, 3}));
+        }
+        long completeSize = Files.size(file);
+        Files.write(file, new byte[] {0, 0, 0, 1, 'b', 0, 0, 0, 3, 0, 0}, APPEND);
+
+        // when
+        try (FileEmbeddingCache cache = new FileEmbeddingCache(file)) {
+
+            // then
+            assertThat(cache.get("a").vector()).containsExactly(1, 2, 3);
+            assertThat(cache.get("b")).isNull();
+            assertThat(cache.statistics().sizeInBytes()).isEqualTo(completeSize);
+
+            cache.put("b", Embedding.from(new float[] {4}));
+            assertThat(cache.get("b").vector()).containsExactly(4);
+        }
+    }
+
+    @Test
+    void should_reject_other_files() throws Exception {
+
+        // given
+        Path file = tempDir.resolve("other.txt");
+        Files.writeString(file, "not an embedding cache");
+
+        // when-then
+        assertThatThrownBy(() -> new FileEmbeddingCache(file))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not an embedding cache file");
+    }
+}
@@ -0,0 +1,70 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmbeddingCacheTest {
+
+    @Test
+    void should_evict_least_recently_used_embedding() {
+
+        // given
+        InMemoryEmbeddingCache cache =
+                InMemoryEmbeddingCache.builder().maxEntries(2).build();
+        cache.put("a", Embedding.from(new float[] {1}));
+        cache.put("b", Embedding.from(new float[] {2}));
+        cache.get("a");
+
+        // when
+        cache.put("c", Embedding.from(new float[] {3}));
+
+        // then
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+
+        InMemoryEmbeddingCache.Statistics statistics = cache.statistics();
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.evictions()).isEqualTo(1);
+        assertThat(statistics.hits()).isEqualTo(3);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.hitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    void should_evict_when_size_in_bytes_is_exceeded() {
+
+        // given
+        InMemoryEmbeddingCache cache =
+                InMemoryEmbeddingCache.builder().maxSizeInBytes(10_000L).build();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, Embedding.from(new float[1000]));
+        }
+
+        // then
+        InMemoryEmbeddingCache.Statistics statistics = cache.statistics();
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.estimatedSizeInBytes()).isLessThanOrEqualTo(10_000L);
+        assertThat(statistics.evictions()).isEqualTo(8);
+    }
+
+    @Test
+    void should_not_share_vectors_with_callers() {
+
+        // given
+        InMemoryEmbeddingCache cache = InMemoryEmbeddingCache.builder().build();
+        Embedding embedding = Embedding.from(new float[] {1, 2});
+        cache.put("a", embedding);
+
+        // when
+        embedding.vector()[0] = 3;
+        cache.get("a").vector()[1] = 4;
+
+        // then
+        assertThat(cache.get("a").vector()).containsExactly(1, 2);
+    }
+}
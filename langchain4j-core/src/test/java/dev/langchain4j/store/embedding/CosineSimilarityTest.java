@@ -3,6 +3,7 @@ package dev.langchain4j.store.embedding;
 import static org.assertj.core.data.Percentage.withPercentage;
 
 import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,29 @@ class CosineSimilarityTest implements WithAssertions {
         assertThat(CosineSimilarity.between(embeddingA, embeddingB)).isCloseTo(-1, withPercentage(1));
     }
 
+    @Test
+    void should_accumulate_in_double_precision() {
+        Random random = new Random(42);
+        float[] vectorA = new float[4096];
+        float[] vectorB = new float[4096];
+        for (int i = 0; i < vectorA.length; i++) {
+            vectorA[i] = (float) random.nextGaussian();
+            vectorB[i] = (float) random.nextGaussian();
+        }
+
+        double dotProduct = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+        for (int i = 0; i < vectorA.length; i++) {
+            dotProduct += vectorA[i] * vectorB[i];
+            normA += vectorA[i] * vectorA[i];
+            normB += vectorB[i] * vectorB[i];
+        }
+
+        assertThat(CosineSimilarity.between(Embedding.from(vectorA), Embedding.from(vectorB)))
+                .isEqualTo(dotProduct / (Math.sqrt(normA) * Math.sqrt(normB)));
+    }
+
     @Test
     void should_convert_relevance_score_into_cosine_similarity() {
         assertThat(CosineSimilarity.fromRelevanceScore(0)).isEqualTo(-1);
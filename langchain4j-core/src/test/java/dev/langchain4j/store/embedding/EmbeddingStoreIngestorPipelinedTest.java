@@ -0,0 +1,371 @@
+package dev.langchain4j.store.embedding;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EmbeddingStoreIngestorPipelinedTest {
+
+    private static final DocumentSplitter SENTENCE_SPLITTER = document -> Arrays.stream(
+                    document.text().split("\\."))
+            .map(String::trim)
+            .filter(sentence -> !sentence.isEmpty())
+            .map(sentence -> TextSegment.from(sentence, document.metadata().copy()))
+            .collect(toList());
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_embed_and_store_documents_in_batches() {
+
+        // given
+        List<Document> documents = documents(100, 3);
+        FakeEmbeddingModel embeddingModel = new FakeEmbeddingModel();
+        CollectingEmbeddingStore embeddingStore = new CollectingEmbeddingStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(SENTENCE_SPLITTER)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(10)
+                .preparingConcurrency(2)
+                .embeddingConcurrency(3)
+                .storingConcurrency(2)
+                .queueCapacity(2)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingestPipelined(documents);
+
+        // then
+        assertThat(result.failures()).isEmpty();
+        assertThat(embeddingStore.segments).hasSize(300);
+        assertThat(embeddingStore.segments.stream().map(TextSegment::text))
+                .containsExactlyInAnyOrderElementsOf(documents.stream()
+                        .flatMap(document -> SENTENCE_SPLITTER.split(document).stream())
+                        .map(TextSegment::text)
+                        .collect(toList()));
+        for (int i = 0; i < embeddingStore.segments.size(); i++) {
+            assertThat(embeddingStore.embeddings.get(i))
+                    .isEqualTo(FakeEmbeddingModel.embeddingOf(embeddingStore.segments.get(i)));
+        }
+
+        // every batch but the last one holds at least 10 segments of whole documents
+        assertThat(embeddingModel.batchSizes).allSatisfy(size -> assertThat(size % 3).isZero());
+        assertThat(embeddingModel.batchSizes.stream().filter(size -> size < 10)).hasSizeLessThanOrEqualTo(1);
+        assertThat(result.tokenUsage().inputTokenCount()).isEqualTo(300);
+    }
+
+    @Test
+    void should_report_failing_documents_and_ingest_the_others() {
+
+        // given
+        List<Document> documents = new ArrayList<>(documents(20, 2));
+        Document unsplittable = Document.from("unsplittable");
+        Document unembeddable = Document.from("First sentence. Unembeddable sentence.");
+        Document unstorable = Document.from("Unstorable sentence.");
+        documents.add(5, unsplittable);
+        documents.add(10, unembeddable);
+        documents.add(15, unstorable);
+
+        DocumentSplitter splitter = document -> {
+            if (document.text().equals("unsplittable")) {
+                throw new IllegalArgumentException("cannot split");
+            }
+            return SENTENCE_SPLITTER.split(document);
+        };
+        EmbeddingModel embeddingModel = new FakeEmbeddingModel() {
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+                if (segments.stream().anyMatch(segment -> segment.text().startsWith("Unembeddable"))) {
+                    throw new IllegalStateException("cannot embed");
+                }
+                return super.embedAll(segments);
+            }
+        };
+        CollectingEmbeddingStore embeddingStore = new CollectingEmbeddingStore() {
+            @Override
+            public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+                if (embedded.stream().anyMatch(segment -> segment.text().startsWith("Unstorable"))) {
+                    throw new IllegalStateException("cannot store");
+                }
+                super.addAll(ids, embeddings, embedded);
+            }
+        };
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(splitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(5)
+                .embeddingConcurrency(2)
+                .executor(executor)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingestPipelined(documents);
+
+        // then
+        assertThat(result.failures())
+                .extracting(IngestionFailure::document)
+                .containsExactlyInAnyOrder(unsplittable, unembeddable, unstorable);
+        assertThat(result.failures())
+                .extracting(failure -> failure.error().getMessage())
+                .containsExactlyInAnyOrder("cannot split", "cannot embed", "cannot store");
+        assertThat(embeddingStore.segments).hasSize(40);
+    }
+
+    @Test
+    void should_not_read_more_documents_than_the_pipeline_can_hold() throws Exception {
+
+        // given
+        AtomicInteger readDocuments = new AtomicInteger();
+        Iterable<Document> documents = () -> new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return readDocuments.get() < 1_000;
+            }
+
+            @Override
+            public Document next() {
+                return Document.from("Document " + readDocuments.incrementAndGet() + ".");
+            }
+        };
+
+        CountDownLatch storeBlocked = new CountDownLatch(1);
+        CountDownLatch releaseStore = new CountDownLatch(1);
+        CollectingEmbeddingStore embeddingStore = new CollectingEmbeddingStore() {
+            @Override
+            public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+                storeBlocked.countDown();
+                try {
+                    releaseStore.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                super.addAll(ids, embeddings, embedded);
+            }
+        };
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(SENTENCE_SPLITTER)
+                .embeddingModel(new FakeEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .batchSize(1)
+                .queueCapacity(1)
+                .executor(executor)
+                .build();
+
+        // when
+        Future<IngestionResult> ingestion = executor.submit(() -> ingestor.ingestPipelined(documents));
+
+        // then
+        assertThat(storeBlocked.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        // one document per stage and per queue, plus the one the caller is waiting to enqueue
+        assertThat(readDocuments.get()).isLessThanOrEqualTo(7);
+
+        releaseStore.countDown();
+        assertThat(ingestion.get(10, TimeUnit.SECONDS).failures()).isEmpty();
+        assertThat(embeddingStore.segments).hasSize(1_000);
+    }
+
+    @Test
+    void should_stop_and_rethrow_when_documents_cannot_be_read() {
+
+        // given
+        Iterable<Document> documents = () -> IntStream.range(0, 100)
+                .mapToObj(i -> {
+                    if (i == 50) {
+                        throw new IllegalStateException("cannot read");
+                    }
+                    return Document.from("Document " + i + ".");
+                })
+                .iterator();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(SENTENCE_SPLITTER)
+                .embeddingModel(new FakeEmbeddingModel())
+                .embeddingStore(new CollectingEmbeddingStore())
+                .executor(executor)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingestPipelined(documents))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("cannot read");
+    }
+
+    @Test
+    void should_split_documents_concurrently_and_keep_their_order_when_ingesting_a_list() {
+
+        // given
+        List<Document> documents = documents(50, 3);
+        Set<String> splittingThreads = ConcurrentHashMap.newKeySet();
+        DocumentSplitter splitter = document -> {
+            splittingThreads.add(Thread.currentThread().getName());
+            return SENTENCE_SPLITTER.split(document);
+        };
+        CollectingEmbeddingStore embeddingStore = new CollectingEmbeddingStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentTransformer(document -> document.text().contains("document 7.") ? null : document)
+                .documentSplitter(splitter)
+                .embeddingModel(new FakeEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .preparingConcurrency(4)
+                .executor(executor)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        assertThat(embeddingStore.segments.stream().map(TextSegment::text))
+                .containsExactlyElementsOf(documents.stream()
+                        .filter(document -> !document.text().contains("document 7."))
+                        .flatMap(document -> SENTENCE_SPLITTER.split(document).stream())
+                        .map(TextSegment::text)
+                        .collect(toList()));
+        assertThat(splittingThreads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    void should_transform_documents_with_overridden_batch_method_when_ingesting_a_list_concurrently() {
+
+        // given
+        List<Document> documents = documents(50, 1);
+        AtomicInteger batchCount = new AtomicInteger();
+        DocumentTransformer batchTransformer = new DocumentTransformer() {
+
+            @Override
+            public Document transform(Document document) {
+                throw new UnsupportedOperationException("documents must be transformed in batches");
+            }
+
+            @Override
+            public List<Document> transformAll(List<Document> documents) {
+                batchCount.incrementAndGet();
+                return documents.stream()
+                        .map(document -> Document.from(document.text().toUpperCase()))
+                        .collect(toList());
+            }
+        };
+        CollectingEmbeddingStore embeddingStore = new CollectingEmbeddingStore();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentTransformer(batchTransformer)
+                .documentSplitter(SENTENCE_SPLITTER)
+                .embeddingModel(new FakeEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .preparingConcurrency(4)
+                .executor(executor)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        assertThat(embeddingStore.segments.stream().map(TextSegment::text))
+                .containsExactlyElementsOf(documents.stream()
+                        .flatMap(document -> SENTENCE_SPLITTER.split(document).stream())
+                        .map(segment -> segment.text().toUpperCase())
+                        .collect(toList()));
+        assertThat(batchCount.get()).isGreaterThan(1).isLessThan(documents.size());
+    }
+
+    private static List<Document> documents(int count, int sentencesPerDocument) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Document.from(IntStream.range(0, sentencesPerDocument)
+                        .mapToObj(j -> "Sentence " + j + " of document " + i + ".")
+                        .collect(joining(" "))))
+                .collect(toList());
+    }
+
+    private static class FakeEmbeddingModel implements EmbeddingModel {
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+            batchSizes.add(segments.size());
+            List<Embedding> embeddings =
+                    segments.stream().map(FakeEmbeddingModel::embeddingOf).collect(toList());
+            return Response.from(embeddings, new TokenUsage(segments.size(), 0));
+        }
+
+        static Embedding embeddingOf(TextSegment segment) {
+            return Embedding.from(new float[] {segment.text().hashCode()});
+        }
+    }
+
+    private static class CollectingEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        final List<Embedding> embeddings = new ArrayList<>();
+        final List<TextSegment> segments = new ArrayList<>();
+
+        @Override
+        public synchronized void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+            this.embeddings.addAll(embeddings);
+            this.segments.addAll(embedded);
+        }
+
+        @Override
+        public String add(Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -3,7 +3,10 @@ package dev.langchain4j.store.embedding;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -19,6 +22,11 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
@@ -192,4 +200,56 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_ingest_document_parts_lazily_in_batches() {
+
+        // given
+        AtomicInteger parsedParts = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Document> parts = Stream.of("First part.", "Second part.", "Third part.")
+                .map(text -> {
+                    parsedParts.incrementAndGet();
+                    return Document.from(text);
+                })
+                .onClose(() -> closed.set(true));
+
+        List<Integer> parsedPartsWhenEmbedding = new ArrayList<>();
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            parsedPartsWhenEmbedding.add(parsedParts.get());
+            List<Embedding> embeddings = segments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(segments.size(), 0));
+        });
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(document -> singletonList(TextSegment.from(document.text())))
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(2)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingestParts(parts);
+
+        // then
+        assertThat(parsedPartsWhenEmbedding).containsExactly(2, 3);
+        verify(embeddingStore)
+                .addAll(
+                        eq(asList(Embedding.from(new float[] {11}), Embedding.from(new float[] {12}))),
+                        eq(asList(textSegment("First part."), textSegment("Second part."))));
+        verify(embeddingStore)
+                .addAll(
+                        eq(singletonList(Embedding.from(new float[] {11}))),
+                        eq(singletonList(textSegment("Third part."))));
+        verifyNoMoreInteractions(embeddingStore);
+
+        assertThat(ingestionResult.tokenUsage().inputTokenCount()).isEqualTo(3);
+        assertThat(closed).isTrue();
+    }
 }
@@ -0,0 +1,100 @@
+package dev.langchain4j.store.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SimilarityKernelTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    static Stream<SimilarityKernel> kernels() {
+        return Stream.of(SimilarityKernel.scalar(), SimilarityKernel.defaultKernel());
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void should_compute_same_values_as_naive_implementation(SimilarityKernel kernel) {
+        for (int dimension : new int[] {1, 3, 4, 7, 16, 17, 384, 1536}) {
+
+            float[] a = randomVector(dimension);
+            float[] b = randomVector(dimension);
+
+            double dotProduct = 0, normA = 0, normB = 0, squaredDistance = 0;
+            for (int i = 0; i < dimension; i++) {
+                dotProduct += a[i] * b[i];
+                normA += a[i] * a[i];
+                normB += b[i] * b[i];
+                squaredDistance += (a[i] - b[i]) * (a[i] - b[i]);
+            }
+            double cosineSimilarity = dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+
+            assertThat(kernel.dotProduct(a, b)).isCloseTo((float) dotProduct, within(1e-3f));
+            assertThat(kernel.cosineSimilarity(a, b)).isCloseTo((float) cosineSimilarity, within(1e-5f));
+            assertThat(kernel.squaredEuclideanDistance(a, b)).isCloseTo((float) squaredDistance, within(1e-2f));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void should_score_query_against_many_vectors(SimilarityKernel kernel) {
+
+        int dimension = 33;
+        float[] query = randomVector(dimension);
+        float[][] vectors = new float[10][];
+        float[] slab = new float[vectors.length * dimension];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(dimension);
+            System.arraycopy(vectors[i], 0, slab, i * dimension, dimension);
+        }
+
+        float[] dotProducts = new float[vectors.length];
+        float[] slabDotProducts = new float[vectors.length - 2];
+        float[] cosineSimilarities = new float[vectors.length];
+        float[] squaredDistances = new float[vectors.length];
+        kernel.dotProducts(query, vectors, dotProducts);
+        kernel.dotProducts(query, slab, 2, vectors.length - 2, slabDotProducts);
+        kernel.cosineSimilarities(query, vectors, cosineSimilarities);
+        kernel.squaredEuclideanDistances(query, vectors, squaredDistances);
+
+        for (int i = 0; i < vectors.length; i++) {
+            assertThat(dotProducts[i]).isEqualTo(kernel.dotProduct(query, vectors[i]));
+            assertThat(cosineSimilarities[i]).isEqualTo(kernel.cosineSimilarity(query, vectors[i]));
+            assertThat(squaredDistances[i]).isEqualTo(kernel.squaredEuclideanDistance(query, vectors[i]));
+            if (i >= 2) {
+                assertThat(slabDotProducts[i - 2]).isEqualTo(kernel.dotProduct(query, vectors[i]));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void should_treat_all_zeros_vectors_as_orthogonal(SimilarityKernel kernel) {
+        float[] zeros = new float[8];
+
+        assertThat(kernel.cosineSimilarity(zeros, zeros)).isZero();
+        assertThat(kernel.cosineSimilarity(zeros, randomVector(8))).isZero();
+    }
+
+    @Test
+    void should_use_vector_api_kernel_when_module_is_available() {
+        boolean vectorModulePresent =
+                ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+        assertThat(SimilarityKernel.defaultKernel().getClass().getSimpleName())
+                .isEqualTo(vectorModulePresent ? "VectorApiSimilarityKernel" : "ScalarSimilarityKernel");
+    }
+
+    private static float[] randomVector(int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) RANDOM.nextGaussian();
+        }
+        return vector;
+    }
+}
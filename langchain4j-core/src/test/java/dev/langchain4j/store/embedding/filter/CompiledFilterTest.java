@@ -0,0 +1,160 @@
+package dev.langchain4j.store.embedding.filter;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CompiledFilterTest {
+
+    private static final UUID ID = UUID.fromString("0b6fbf0c-1a7a-4a2b-9a34-4b1b4e0b3a57");
+
+    private static final List<Object> VALUES = List.of(
+            0,
+            1,
+            -1,
+            2,
+            Integer.MAX_VALUE,
+            Long.MAX_VALUE,
+            Long.MIN_VALUE,
+            (1L << 53) + 1,
+            0.0,
+            -0.0,
+            0.1,
+            0.5,
+            1.0,
+            2.0,
+            1e20,
+            -1e300,
+            Double.NaN,
+            Double.POSITIVE_INFINITY,
+            0.1f,
+            0.5f,
+            1.0f,
+            -0.0f,
+            Float.NaN,
+            "",
+            "a",
+            "b",
+            "abc",
+            ID,
+            UUID.randomUUID(),
+            ID.toString(),
+            "not a uuid");
+
+    static Stream<Filter> comparisons() {
+        List<Filter> filters = new ArrayList<>();
+        for (Object value : VALUES) {
+            filters.add(new IsEqualTo("key", value));
+            filters.add(new IsNotEqualTo("key", value));
+            if (value instanceof Comparable<?> comparable) {
+                filters.add(new IsGreaterThan("key", comparable));
+                filters.add(new IsGreaterThanOrEqualTo("key", comparable));
+                filters.add(new IsLessThan("key", comparable));
+                filters.add(new IsLessThanOrEqualTo("key", comparable));
+            }
+            if (value instanceof String string) {
+                filters.add(metadataKey("key").containsString(string));
+            }
+        }
+        filters.add(new IsIn("key", List.of(1, 2L, 0.5, 0.1f)));
+        filters.add(new IsIn("key", List.of(0.0, 1e20)));
+        filters.add(new IsIn("key", List.of(Long.MAX_VALUE, (1L << 53) + 1)));
+        filters.add(new IsIn("key", List.of(1, "a")));
+        filters.add(new IsIn("key", List.of(Double.NaN)));
+        filters.add(metadataKey("key").isIn("a", "b"));
+        filters.add(metadataKey("key").isIn(ID));
+        filters.add(new IsNotIn("key", List.of(1, 2L, 0.5, 0.1f)));
+        filters.add(metadataKey("key").isNotIn("a", "b"));
+        filters.add(metadataKey("key").isNotIn(ID, UUID.randomUUID()));
+        filters.add(Filter.not(new IsIn("key", List.of(2.0, -1))));
+        return filters.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("comparisons")
+    void should_compare_like_original_filter(Filter filter) {
+
+        CompiledFilter compiledFilter = CompiledFilter.compile(filter);
+
+        assertSameResult(filter, compiledFilter, new Metadata());
+        assertSameResult(filter, compiledFilter, new Object());
+        for (Object value : VALUES) {
+            assertSameResult(filter, compiledFilter, new Metadata(Map.of("key", value)));
+        }
+    }
+
+    @Test
+    void should_evaluate_logical_filters_like_original_filter() {
+
+        Filter filter = metadataKey("name")
+                .isEqualTo("Klaus")
+                .and(metadataKey("age").isGreaterThan(18).or(metadataKey("city").containsString("Munich")))
+                .and(Filter.not(metadataKey("country").isIn("UK", "US")));
+        CompiledFilter compiledFilter = CompiledFilter.compile(filter);
+
+        for (String name : List.of("Klaus", "Alice")) {
+            for (int age : List.of(10, 18, 30)) {
+                for (String city : List.of("Munich", "Berlin")) {
+                    for (String country : List.of("UK", "DE")) {
+                        Metadata metadata = new Metadata()
+                                .put("name", name)
+                                .put("age", age)
+                                .put("city", city)
+                                .put("country", country);
+                        assertSameResult(filter, compiledFilter, metadata);
+                        assertSameResult(filter, compiledFilter, metadata.copy().remove("age"));
+                        assertSameResult(filter, compiledFilter, metadata.copy().remove("country"));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void should_test_unknown_filters_with_the_original_filter() {
+
+        Filter custom = object -> object instanceof Metadata metadata && metadata.containsKey("custom");
+        Filter filter = metadataKey("key").isEqualTo(1).or(custom);
+
+        CompiledFilter compiledFilter = CompiledFilter.compile(filter);
+
+        assertThat(compiledFilter.test(new Metadata().put("custom", "x"))).isTrue();
+        assertThat(compiledFilter.test(new Metadata().put("key", 1))).isTrue();
+        assertThat(compiledFilter.test(new Metadata().put("key", 2))).isFalse();
+        assertThat(compiledFilter.filter()).isSameAs(filter);
+        assertThat(CompiledFilter.compile(compiledFilter)).isSameAs(compiledFilter);
+        assertThat(compiledFilter).isEqualTo(CompiledFilter.compile(filter));
+    }
+
+    private static void assertSameResult(Filter filter, Filter compiledFilter, Object object) {
+        boolean expected;
+        try {
+            expected = filter.test(object);
+        } catch (RuntimeException e) {
+            assertThatThrownBy(() -> compiledFilter.test(object))
+                    .as("%s on %s", filter, object)
+                    .isExactlyInstanceOf(e.getClass())
+                    .hasMessage(e.getMessage());
+            return;
+        }
+        assertThat(compiledFilter.test(object)).as("%s on %s", filter, object).isEqualTo(expected);
+    }
+}
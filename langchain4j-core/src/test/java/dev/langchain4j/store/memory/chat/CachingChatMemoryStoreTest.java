@@ -0,0 +1,243 @@
+package dev.langchain4j.store.memory.chat;
+
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class CachingChatMemoryStoreTest implements WithAssertions {
+
+    @Test
+    void should_serve_reads_from_memory_after_first_read() {
+
+        // given
+        CountingChatMemoryStore underlyingStore = new CountingChatMemoryStore();
+        underlyingStore.updateMessages("foo", List.of(userMessage("hello")));
+        CachingChatMemoryStore store =
+                CachingChatMemoryStore.builder().store(underlyingStore).build();
+
+        // when
+        List<ChatMessage> first = store.getMessages("foo");
+        List<ChatMessage> second = store.getMessages("foo");
+
+        // then
+        assertThat(first).containsExactly(userMessage("hello"));
+        assertThat(second).containsExactly(userMessage("hello"));
+        assertThat(underlyingStore.reads.get()).isEqualTo(1);
+        assertThat(store.statistics()).isEqualTo(new CachingChatMemoryStore.Statistics(1, 1, 1, 0));
+        assertThat(store.statistics().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void should_write_updates_when_evicted() {
+
+        // given
+        CountingChatMemoryStore underlyingStore = new CountingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .store(underlyingStore)
+                .maxEntries(1)
+                .build();
+
+        // when
+        store.updateMessages("foo", List.of(userMessage("hello")));
+
+        // then
+        assertThat(underlyingStore.writes.get()).isZero();
+        assertThat(store.getMessages("foo")).containsExactly(userMessage("hello"));
+
+        // when
+        store.updateMessages("bar", List.of(userMessage("hi")));
+
+        // then
+        assertThat(underlyingStore.writes.get()).isEqualTo(1);
+        assertThat(underlyingStore.getMessages("foo")).containsExactly(userMessage("hello"));
+        assertThat(underlyingStore.getMessages("bar")).isEmpty();
+        assertThat(store.statistics().evictions()).isEqualTo(1);
+        assertThat(store.statistics().size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_write_entries_which_were_only_read() {
+
+        // given
+        CountingChatMemoryStore underlyingStore = new CountingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .store(underlyingStore)
+                .maxEntries(1)
+                .build();
+
+        // when
+        store.getMessages("foo");
+        store.getMessages("bar");
+
+        // then
+        assertThat(store.statistics().evictions()).isEqualTo(1);
+        assertThat(underlyingStore.writes.get()).isZero();
+    }
+
+    @Test
+    void should_evict_idle_entries() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        CountingChatMemoryStore underlyingStore = new CountingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .store(underlyingStore)
+                .maxIdleTime(Duration.ofMinutes(10))
+                .clock(clock)
+                .build();
+        store.updateMessages("foo", List.of(userMessage("hello")));
+
+        // when
+        clock.advance(Duration.ofMinutes(5));
+        store.updateMessages("bar", List.of(userMessage("hi")));
+
+        // then
+        assertThat(underlyingStore.writes.get()).isZero();
+
+        // when
+        clock.advance(Duration.ofMinutes(6));
+        store.updateMessages("baz", List.of(userMessage("hey")));
+
+        // then
+        assertThat(underlyingStore.getMessages("foo")).containsExactly(userMessage("hello"));
+        assertThat(underlyingStore.getMessages("bar")).isEmpty();
+        assertThat(store.statistics().size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_write_all_updates_on_flush() {
+
+        // given
+        CountingChatMemoryStore underlyingStore = new CountingChatMemoryStore();
+        CachingChatMemoryStore store =
+                CachingChatMemoryStore.builder().store(underlyingStore).build();
+        store.updateMessages("foo", List.of(userMessage("hello")));
+        store.updateMessages("bar", List.of(userMessage("hi"), AiMessage.from("hey")));
+
+        // when
+        store.flush();
+        store.flush();
+
+        // then
+        assertThat(underlyingStore.writes.get()).isEqualTo(2);
+        assertThat(underlyingStore.getMessages("foo")).containsExactly(userMessage("hello"));
+        assertThat(underlyingStore.getMessages("bar")).containsExactly(userMessage("hi"), AiMessage.from("hey"));
+        assertThat(store.getMessages("bar")).containsExactly(userMessage("hi"), AiMessage.from("hey"));
+    }
+
+    @Test
+    void should_delete_immediately() {
+
+        // given
+        CountingChatMemoryStore underlyingStore = new CountingChatMemoryStore();
+        underlyingStore.updateMessages("foo", List.of(userMessage("hello")));
+        CachingChatMemoryStore store =
+                CachingChatMemoryStore.builder().store(underlyingStore).build();
+        store.updateMessages("foo", List.of(userMessage("hello"), AiMessage.from("hi")));
+
+        // when
+        store.deleteMessages("foo");
+        store.flush();
+
+        // then
+        assertThat(store.getMessages("foo")).isEmpty();
+        assertThat(underlyingStore.getMessages("foo")).isEmpty();
+    }
+
+    @Test
+    void should_not_cache_messages_deleted_while_they_are_read() throws Exception {
+
+        // given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch deleting = new CountDownLatch(1);
+        InMemoryChatMemoryStore underlyingStore = new InMemoryChatMemoryStore() {
+
+            @Override
+            public List<ChatMessage> getMessages(Object memoryId) {
+                List<ChatMessage> messages = super.getMessages(memoryId);
+                reading.countDown();
+                try {
+                    deleting.await(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return messages;
+            }
+
+            @Override
+            public void deleteMessages(Object memoryId) {
+                deleting.countDown();
+                super.deleteMessages(memoryId);
+            }
+        };
+        underlyingStore.updateMessages("foo", List.of(userMessage("hello")));
+        CachingChatMemoryStore store =
+                CachingChatMemoryStore.builder().store(underlyingStore).build();
+        CompletableFuture<List<ChatMessage>> read = CompletableFuture.supplyAsync(() -> store.getMessages("foo"));
+        reading.await();
+
+        // when
+        CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> store.deleteMessages("foo"));
+        read.get();
+        delete.get();
+
+        // then
+        assertThat(store.getMessages("foo")).isEmpty();
+        assertThat(underlyingStore.getMessages("foo")).isEmpty();
+    }
+
+    private static class CountingChatMemoryStore extends InMemoryChatMemoryStore {
+
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public List<ChatMessage> getMessages(Object memoryId) {
+            reads.incrementAndGet();
+            return super.getMessages(memoryId);
+        }
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            writes.incrementAndGet();
+            super.updateMessages(memoryId, messages);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
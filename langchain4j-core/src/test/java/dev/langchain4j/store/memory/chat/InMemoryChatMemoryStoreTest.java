@@ -1,11 +1,14 @@
 package dev.langchain4j.store.memory.chat;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 class InMemoryChatMemoryStoreTest implements WithAssertions {
     @Test
@@ -21,4 +24,45 @@ class InMemoryChatMemoryStoreTest implements WithAssertions {
 
         assertThat(store.getMessages("foo")).isEmpty();
     }
+
+    @Test
+    void should_append_and_evict_messages_with_new_versions() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+        long initialVersion = store.getVersionedMessages("foo").version();
+
+        long appendedVersion = store.appendMessages("foo", Arrays.asList(new UserMessage("a"), new AiMessage("b")));
+        long appendedAgainVersion = store.appendMessages("foo", Arrays.asList(new UserMessage("c"), new AiMessage("d")));
+
+        assertThat(store.getMessages("foo"))
+                .containsExactly(new UserMessage("a"), new AiMessage("b"), new UserMessage("c"), new AiMessage("d"));
+
+        long evictedVersion = store.evictMessages("foo", 1, 2);
+
+        assertThat(store.getVersionedMessages("foo").messages()).containsExactly(new UserMessage("a"), new AiMessage("d"));
+        assertThat(store.getVersionedMessages("foo").version()).isEqualTo(evictedVersion);
+        assertThat(List.of(initialVersion, appendedVersion, appendedAgainVersion, evictedVersion))
+                .doesNotHaveDuplicates();
+
+        store.deleteMessages("foo");
+
+        assertThat(store.getVersionedMessages("foo").messages()).isEmpty();
+        assertThat(store.getVersionedMessages("foo").version()).isGreaterThan(evictedVersion);
+    }
+
+    @Test
+    void should_evict_and_append_atomically_without_changing_previous_snapshots() {
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore();
+        long replacedVersion = store.replaceMessages(
+                "foo", Arrays.asList(new SystemMessage("s"), new UserMessage("a"), new AiMessage("b")));
+        List<ChatMessage> snapshot = store.getMessages("foo");
+
+        long version = store.evictAndAppendMessages("foo", 1, 1, List.of(new UserMessage("c")));
+        store.evictAndAppendMessages("foo", 1, 1, List.of(new AiMessage("d")));
+
+        assertThat(version).isGreaterThan(replacedVersion);
+        assertThat(snapshot).containsExactly(new SystemMessage("s"), new UserMessage("a"), new AiMessage("b"));
+        assertThat(store.getMessages("foo")).containsExactly(new SystemMessage("s"), new UserMessage("c"), new AiMessage("d"));
+        assertThatThrownBy(() -> store.getMessages("foo").add(new UserMessage("e")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
 }
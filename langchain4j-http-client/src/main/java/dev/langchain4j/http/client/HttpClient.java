@@ -4,6 +4,8 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
@@ -22,6 +24,24 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request asynchronously and returns the future response.
+     * This method returns immediately, without waiting for the response.
+     * <p>
+     * By default, {@link #execute(HttpRequest)} is called on a thread of a shared executor,
+     * which is blocked until the response is received.
+     * Implementations backed by a non-blocking client override this method, so that no thread waits for the response,
+     * and cancel the request when the returned future is cancelled.
+     *
+     * @param request the HTTP request to be executed.
+     * @return the future {@link SuccessfulHttpResponse}, failed with an {@link HttpException}
+     * if the server returns a client (4XX) or server (5XX) error response
+     */
+    default CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+        return CompletableFuture.supplyAsync(
+                () -> execute(request), DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
@@ -1,5 +1,6 @@
 package dev.langchain4j.http.client.log;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
@@ -12,6 +13,7 @@ import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventContext;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +57,24 @@ public class LoggingHttpClient implements HttpClient {
         return response;
     }
 
+    @Override
+    public CompletableFuture<SuccessfulHttpResponse> executeAsync(HttpRequest request) {
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        CompletableFuture<SuccessfulHttpResponse> future = delegateHttpClient.executeAsync(request);
+        if (!logResponses) {
+            return future;
+        }
+
+        return propagateCancellation(future, future.thenApply(response -> {
+            HttpResponseLogger.log(log, response);
+            return response;
+        }));
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventListener delegateListener) {
 
@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -149,6 +150,75 @@ public abstract class HttpClientIT {
         }
     }
 
+    @Test
+    void should_return_successful_http_response_future() throws Exception {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(
+                            """
+                            {
+                                "model": "gpt-4o-mini",
+                                "messages": [
+                                    {
+                                        "role" : "user",
+                                        "content" : "What is the capital of Germany?"
+                                    }
+                                ]
+                            }
+                            """)
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeAsync(request).get(30, TimeUnit.SECONDS);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers()).isNotEmpty();
+            assertThat(response.body()).contains("Berlin");
+        }
+    }
+
+    @Test
+    void should_fail_future_with_400() {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            String invalidBody =
+                    """
+                    {
+                        "model": "gpt-4o-mini"
+                    }
+                    """; // missing field "messages"
+
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .body(invalidBody)
+                    .build();
+
+            // when
+            CompletableFuture<SuccessfulHttpResponse> future = client.executeAsync(request);
+
+            // then
+            assertThat(future)
+                    .failsWithin(30, TimeUnit.SECONDS)
+                    .withThrowableOfType(ExecutionException.class)
+                    .havingCause()
+                    .isExactlyInstanceOf(HttpException.class)
+                    .withMessageContaining("Missing required parameter: 'messages'");
+        }
+    }
+
     @Test
     void should_return_successful_http_response_async() throws Exception {
 
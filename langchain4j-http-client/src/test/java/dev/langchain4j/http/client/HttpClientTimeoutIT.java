@@ -2,6 +2,7 @@ package dev.langchain4j.http.client;
 
 import static dev.langchain4j.http.client.HttpMethod.GET;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,6 +78,58 @@ public abstract class HttpClientTimeoutIT {
         }
     }
 
+    @Test
+    void should_timeout_on_read_future() {
+
+        // given
+        int readTimeoutMillis = 250;
+
+        for (HttpClient client : clients(Duration.ofMillis(readTimeoutMillis))) {
+
+            wireMockServer.stubFor(
+                    WireMock.get("/endpoint").willReturn(WireMock.aResponse().withFixedDelay(readTimeoutMillis * 2)));
+
+            HttpRequest request = HttpRequest.builder()
+                    .method(GET)
+                    .url(String.format("http://localhost:%s/endpoint", WIREMOCK_PORT))
+                    .build();
+
+            // when
+            CompletableFuture<SuccessfulHttpResponse> future = client.executeAsync(request);
+
+            // then
+            assertThat(future)
+                    .failsWithin(readTimeoutMillis * 4, MILLISECONDS)
+                    .withThrowableOfType(ExecutionException.class)
+                    .havingCause()
+                    .isExactlyInstanceOf(TimeoutException.class)
+                    .havingRootCause()
+                    .isExactlyInstanceOf(expectedReadTimeoutRootCauseExceptionType());
+        }
+    }
+
+    @Test
+    void should_return_successful_http_response_future() throws Exception {
+
+        for (HttpClient client : clients(Duration.ofSeconds(10))) {
+
+            wireMockServer.stubFor(
+                    WireMock.get("/endpoint").willReturn(WireMock.aResponse().withBody("Hello")));
+
+            HttpRequest request = HttpRequest.builder()
+                    .method(GET)
+                    .url(String.format("http://localhost:%s/endpoint", WIREMOCK_PORT))
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeAsync(request).get(10, SECONDS);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo("Hello");
+        }
+    }
+
     @Test
     void should_timeout_on_read_async() throws Exception {
 
@@ -1,6 +1,8 @@
 package dev.langchain4j.model.mistralai;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.MISTRAL_AI;
@@ -13,6 +15,7 @@ import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.chat.Capability;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.ChatModelAsyncUtils;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
@@ -30,6 +33,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -99,7 +103,27 @@ public class MistralAiChatModel implements ChatModel {
         MistralAiChatCompletionResponse mistralAiResponse =
                 withRetryMappingExceptions(() -> client.chatCompletion(request), maxRetries);
 
-         return ChatResponse.builder()
+        return toChatResponse(mistralAiResponse);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+        return ChatModelAsyncUtils.chatAsync(this, chatRequest, this::doChatAsync);
+    }
+
+    private CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        validate(chatRequest.parameters());
+
+        MistralAiChatCompletionRequest request = createMistralAiRequest(chatRequest, safePrompt, randomSeed, false);
+
+        CompletableFuture<MistralAiChatCompletionResponse> future =
+                withRetryMappingExceptionsAsync(() -> client.chatCompletionAsync(request), maxRetries);
+
+        return propagateCancellation(future, future.thenApply(MistralAiChatModel::toChatResponse));
+    }
+
+    private static ChatResponse toChatResponse(MistralAiChatCompletionResponse mistralAiResponse) {
+        return ChatResponse.builder()
                 .aiMessage(aiMessageFrom(mistralAiResponse))
                 .metadata(ChatResponseMetadata.builder()
                         .id(mistralAiResponse.getId())
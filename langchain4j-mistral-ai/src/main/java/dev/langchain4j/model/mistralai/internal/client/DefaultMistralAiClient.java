@@ -1,6 +1,7 @@
 package dev.langchain4j.model.mistralai.internal.client;
 
 import static dev.langchain4j.http.client.HttpMethod.POST;
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
@@ -20,6 +21,7 @@ import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.mistralai.internal.api.*;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public class DefaultMistralAiClient extends MistralAiClient {
@@ -63,7 +65,23 @@ public class DefaultMistralAiClient extends MistralAiClient {
 
     @Override
     public MistralAiChatCompletionResponse chatCompletion(MistralAiChatCompletionRequest request) {
-        HttpRequest httpRequest = HttpRequest.builder()
+        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(toChatCompletionHttpRequest(request));
+        return fromJson(successfulHttpResponse.body(), MistralAiChatCompletionResponse.class);
+    }
+
+    @Override
+    public CompletableFuture<MistralAiChatCompletionResponse> chatCompletionAsync(
+            MistralAiChatCompletionRequest request) {
+        CompletableFuture<SuccessfulHttpResponse> future =
+                httpClient.executeAsync(toChatCompletionHttpRequest(request));
+        return propagateCancellation(
+                future,
+                future.thenApply(successfulHttpResponse ->
+                        fromJson(successfulHttpResponse.body(), MistralAiChatCompletionResponse.class)));
+    }
+
+    private HttpRequest toChatCompletionHttpRequest(MistralAiChatCompletionRequest request) {
+        return HttpRequest.builder()
                 .method(POST)
                 .url(baseUrl, "chat/completions")
                 .addHeader("Authorization", "Bearer " + apiKey)
@@ -71,9 +89,6 @@ public class DefaultMistralAiClient extends MistralAiClient {
                 .addHeader("User-Agent", "langchain4j-mistral-ai")
                 .body(toJson(request))
                 .build();
-
-        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-        return fromJson(successfulHttpResponse.body(), MistralAiChatCompletionResponse.class);
     }
 
     @Override
@@ -2,18 +2,26 @@ package dev.langchain4j.model.mistralai.internal.client;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.mistralai.internal.api.*;
 import dev.langchain4j.spi.ServiceHelper;
 import org.slf4j.Logger;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Internal
 public abstract class MistralAiClient {
 
     public abstract MistralAiChatCompletionResponse chatCompletion(MistralAiChatCompletionRequest request);
 
+    public CompletableFuture<MistralAiChatCompletionResponse> chatCompletionAsync(
+            MistralAiChatCompletionRequest request) {
+        return CompletableFuture.supplyAsync(
+                () -> chatCompletion(request), DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     public abstract void streamingChatCompletion(
             MistralAiChatCompletionRequest request, StreamingChatResponseHandler handler);
 
@@ -1,6 +1,8 @@
 package dev.langchain4j.model.ollama;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.OLLAMA;
 import static dev.langchain4j.model.ollama.InternalOllamaHelper.aiMessageFrom;
@@ -11,12 +13,14 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.chat.Capability;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.ChatModelAsyncUtils;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.ollama.spi.OllamaChatModelBuilderFactory;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <a href="https://github.com/jmorganca/ollama/blob/main/docs/api.md">Ollama API reference</a>
@@ -40,6 +44,25 @@ public class OllamaChatModel extends OllamaBaseChatModel implements ChatModel {
         OllamaChatResponse ollamaChatResponse =
                 withRetryMappingExceptions(() -> client.chat(ollamaChatRequest), maxRetries);
 
+        return toChatResponse(ollamaChatResponse);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+        return ChatModelAsyncUtils.chatAsync(this, chatRequest, this::doChatAsync);
+    }
+
+    private CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+        validate(chatRequest.parameters());
+
+        OllamaChatRequest ollamaChatRequest = toOllamaChatRequest(chatRequest, false);
+        CompletableFuture<OllamaChatResponse> future =
+                withRetryMappingExceptionsAsync(() -> client.chatAsync(ollamaChatRequest), maxRetries);
+
+        return propagateCancellation(future, future.thenApply(this::toChatResponse));
+    }
+
+    private ChatResponse toChatResponse(OllamaChatResponse ollamaChatResponse) {
         return ChatResponse.builder()
                 .aiMessage(aiMessageFrom(ollamaChatResponse.getMessage(), this.returnThinking))
                 .metadata(chatResponseMetadataFrom(ollamaChatResponse))
@@ -4,6 +4,7 @@ import static dev.langchain4j.http.client.HttpMethod.DELETE;
 import static dev.langchain4j.http.client.HttpMethod.GET;
 import static dev.langchain4j.http.client.HttpMethod.POST;
 import static dev.langchain4j.http.client.sse.ServerSentEventParsingHandleUtils.toStreamingHandle;
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onCompleteResponse;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onCompleteToolCall;
 import static dev.langchain4j.internal.InternalStreamingChatResponseHandlerUtils.onPartialResponse;
@@ -45,6 +46,7 @@ import org.slf4j.Logger;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 class OllamaClient {
 
@@ -95,17 +97,29 @@ class OllamaClient {
 
     OllamaChatResponse chat(OllamaChatRequest request) {
 
-        HttpRequest httpRequest = HttpRequest.builder()
+        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(toChatHttpRequest(request));
+
+        return fromJson(successfulHttpResponse.body(), OllamaChatResponse.class);
+    }
+
+    CompletableFuture<OllamaChatResponse> chatAsync(OllamaChatRequest request) {
+
+        CompletableFuture<SuccessfulHttpResponse> future = httpClient.executeAsync(toChatHttpRequest(request));
+
+        return propagateCancellation(
+                future,
+                future.thenApply(successfulHttpResponse ->
+                        fromJson(successfulHttpResponse.body(), OllamaChatResponse.class)));
+    }
+
+    private HttpRequest toChatHttpRequest(OllamaChatRequest request) {
+        return HttpRequest.builder()
                 .method(POST)
                 .url(baseUrl, "api/chat")
                 .addHeader("Content-Type", "application/json")
                 .addHeaders(defaultHeaders)
                 .body(toJson(request))
                 .build();
-
-        SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-
-        return fromJson(successfulHttpResponse.body(), OllamaChatResponse.class);
     }
 
     void streamingCompletion(CompletionRequest request, StreamingResponseHandler<String> handler) {
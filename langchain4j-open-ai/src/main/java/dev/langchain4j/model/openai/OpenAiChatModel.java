@@ -1,6 +1,8 @@
 package dev.langchain4j.model.openai;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.ModelProvider.OPEN_AI;
@@ -22,6 +24,7 @@ import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.chat.Capability;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.ChatModelAsyncUtils;
 import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
@@ -38,6 +41,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 
 /**
@@ -139,15 +143,38 @@ public class OpenAiChatModel implements ChatModel {
     @Override
     public ChatResponse doChat(ChatRequest chatRequest) {
 
+        ChatCompletionRequest openAiRequest = toOpenAiRequest(chatRequest);
+
+        ParsedAndRawResponse<ChatCompletionResponse> parsedAndRawResponse = withRetryMappingExceptions(
+                () -> client.chatCompletion(openAiRequest).executeRaw(), maxRetries);
+
+        return toChatResponse(parsedAndRawResponse);
+    }
+
+    @Override
+    public CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+        return ChatModelAsyncUtils.chatAsync(this, chatRequest, this::doChatAsync);
+    }
+
+    private CompletableFuture<ChatResponse> doChatAsync(ChatRequest chatRequest) {
+
+        ChatCompletionRequest openAiRequest = toOpenAiRequest(chatRequest);
+
+        CompletableFuture<ParsedAndRawResponse<ChatCompletionResponse>> future = withRetryMappingExceptionsAsync(
+                () -> client.chatCompletion(openAiRequest).executeRawAsync(), maxRetries);
+
+        return propagateCancellation(future, future.thenApply(this::toChatResponse));
+    }
+
+    private ChatCompletionRequest toOpenAiRequest(ChatRequest chatRequest) {
+
         OpenAiChatRequestParameters parameters = (OpenAiChatRequestParameters) chatRequest.parameters();
         validate(parameters);
 
-        ChatCompletionRequest openAiRequest = toOpenAiChatRequest(
-                        chatRequest, parameters, strictTools, strictJsonSchema)
-                .build();
+        return toOpenAiChatRequest(chatRequest, parameters, strictTools, strictJsonSchema).build();
+    }
 
-        ParsedAndRawResponse<ChatCompletionResponse> parsedAndRawResponse = withRetryMappingExceptions(
-                () -> client.chatCompletion(openAiRequest).executeRaw(), maxRetries);
+    private ChatResponse toChatResponse(ParsedAndRawResponse<ChatCompletionResponse> parsedAndRawResponse) {
 
         ChatCompletionResponse openAiResponse = parsedAndRawResponse.parsedResponse();
 
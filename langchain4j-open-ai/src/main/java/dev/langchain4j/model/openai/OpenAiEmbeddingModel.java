@@ -1,6 +1,9 @@
 package dev.langchain4j.model.openai;
 
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.FutureUtils.unwrap;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptionsAsync;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
@@ -14,6 +17,7 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.ParsedAndRawResponse;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
 import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
@@ -24,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 
 /**
@@ -104,6 +109,55 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             Response<List<Embedding>> response = embedTexts(batch);
             responses.add(response);
         }
+        return combine(responses);
+    }
+
+    /**
+     * Sends the batches one after another, without blocking a thread while waiting for the responses.
+     * Use {@link dev.langchain4j.model.embedding.BatchingEmbeddingModel} to send batches concurrently.
+     */
+    @Override
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+
+        List<String> texts = textSegments.stream().map(TextSegment::text).toList();
+
+        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
+
+        if (textBatches.size() == 1) {
+            return embedTextsAsync(textBatches.get(0));
+        }
+
+        CompletableFuture<Response<List<Embedding>>> result = new CompletableFuture<>();
+        embedBatchedTextsAsync(textBatches, new ArrayList<>(), result);
+        return result;
+    }
+
+    private void embedBatchedTextsAsync(
+            List<List<String>> textBatches,
+            List<Response<List<Embedding>>> responses,
+            CompletableFuture<Response<List<Embedding>>> result) {
+
+        if (responses.size() == textBatches.size()) {
+            result.complete(combine(responses));
+            return;
+        }
+        if (result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<Response<List<Embedding>>> future = embedTextsAsync(textBatches.get(responses.size()));
+        propagateCancellation(future, result);
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else {
+                responses.add(response);
+                embedBatchedTextsAsync(textBatches, responses, result);
+            }
+        });
+    }
+
+    private static Response<List<Embedding>> combine(List<Response<List<Embedding>>> responses) {
         return Response.from(
                 responses.stream()
                         .flatMap(response -> response.content().stream())
@@ -117,17 +171,35 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
 
-        EmbeddingRequest request = EmbeddingRequest.builder()
+        EmbeddingRequest request = toEmbeddingRequest(texts);
+
+        EmbeddingResponse response =
+                withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
+
+        return toResponse(response);
+    }
+
+    private CompletableFuture<Response<List<Embedding>>> embedTextsAsync(List<String> texts) {
+
+        EmbeddingRequest request = toEmbeddingRequest(texts);
+
+        CompletableFuture<ParsedAndRawResponse<EmbeddingResponse>> future = withRetryMappingExceptionsAsync(
+                () -> client.embedding(request).executeRawAsync(), maxRetries);
+
+        return propagateCancellation(future, future.thenApply(response -> toResponse(response.parsedResponse())));
+    }
+
+    private EmbeddingRequest toEmbeddingRequest(List<String> texts) {
+        return EmbeddingRequest.builder()
                 .input(texts)
                 .model(modelName)
                 .dimensions(dimensions)
                 .user(user)
                 .encodingFormat(encodingFormat)
                 .build();
+    }
 
-        EmbeddingResponse response =
-                withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
-
+    private static Response<List<Embedding>> toResponse(EmbeddingResponse response) {
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
                 .toList();
@@ -3,6 +3,7 @@ package dev.langchain4j.model.openai.internal;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 class RequestExecutor<Response> implements SyncOrAsyncOrStreaming<Response> {
@@ -44,6 +45,12 @@ class RequestExecutor<Response> implements SyncOrAsyncOrStreaming<Response> {
         return executor.execute();
     }
 
+    @Override
+    public CompletableFuture<ParsedAndRawResponse<Response>> executeRawAsync() {
+        SyncRequestExecutor<Response> executor = new SyncRequestExecutor<>(httpClient, httpRequest, responseClass);
+        return executor.executeAsync();
+    }
+
     @Override
     public AsyncResponseHandling onResponse(Consumer<Response> responseHandler) {
         throw new UnsupportedOperationException();
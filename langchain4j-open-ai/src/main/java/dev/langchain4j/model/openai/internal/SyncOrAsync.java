@@ -1,6 +1,8 @@
 package dev.langchain4j.model.openai.internal;
 
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public interface SyncOrAsync<ResponseContent> {
@@ -13,5 +15,9 @@ public interface SyncOrAsync<ResponseContent> {
         return new ParsedAndRawResponse<>(parsedResponse, rawHttpResponse);
     }
 
+    default CompletableFuture<ParsedAndRawResponse<ResponseContent>> executeRawAsync() {
+        return CompletableFuture.supplyAsync(this::executeRaw, DefaultExecutorProvider.getDefaultExecutorService());
+    }
+
     AsyncResponseHandling onResponse(Consumer<ResponseContent> responseHandler);
 }
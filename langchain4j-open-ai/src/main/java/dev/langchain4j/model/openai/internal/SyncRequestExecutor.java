@@ -3,6 +3,9 @@ package dev.langchain4j.model.openai.internal;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
 
 class SyncRequestExecutor<Response> {
 
@@ -21,4 +24,12 @@ class SyncRequestExecutor<Response> {
         Response parsedResponse = Json.fromJson(rawHttpResponse.body(), responseClass);
         return new ParsedAndRawResponse<>(parsedResponse, rawHttpResponse);
     }
+
+    CompletableFuture<ParsedAndRawResponse<Response>> executeAsync() {
+        CompletableFuture<SuccessfulHttpResponse> future = httpClient.executeAsync(httpRequest);
+        return propagateCancellation(future, future.thenApply(rawHttpResponse -> {
+            Response parsedResponse = Json.fromJson(rawHttpResponse.body(), responseClass);
+            return new ParsedAndRawResponse<>(parsedResponse, rawHttpResponse);
+        }));
+    }
 }
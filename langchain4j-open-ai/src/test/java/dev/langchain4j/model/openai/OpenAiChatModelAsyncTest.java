@@ -0,0 +1,173 @@
+package dev.langchain4j.model.openai;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.InternalServerException;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import io.ktor.http.HttpStatusCode;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import me.kpavlov.aimocks.openai.MockOpenai;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OpenAiChatModelAsyncTest {
+
+    private static final MockOpenai MOCK = new MockOpenai();
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    private final ChatModel model = OpenAiChatModel.builder()
+            .baseUrl(MOCK.baseUrl())
+            .modelName(GPT_4_O_MINI)
+            .timeout(Duration.ofSeconds(10))
+            .maxRetries(0)
+            .listeners(List.of(new ChatModelListener() {
+
+                @Override
+                public void onRequest(ChatModelRequestContext requestContext) {
+                    events.add(requestContext);
+                }
+
+                @Override
+                public void onResponse(ChatModelResponseContext responseContext) {
+                    events.add(responseContext);
+                }
+
+                @Override
+                public void onError(ChatModelErrorContext errorContext) {
+                    events.add(errorContext);
+                }
+            }))
+            .build();
+
+    @Test
+    void should_chat_async() throws Exception {
+
+        // given
+        String question = "What is the capital of Germany?";
+        MOCK.completion(req -> req.userMessageContains(question)).respondsError(res -> {
+            res.setHttpStatus(HttpStatusCode.Companion.getOK());
+            // language=json
+            res.setBody(
+                    """
+                    {
+                      "id": "chatcmpl-123",
+                      "object": "chat.completion",
+                      "created": 1721596428,
+                      "model": "gpt-4o-mini",
+                      "choices": [
+                        {
+                          "index": 0,
+                          "message": {
+                            "role": "assistant",
+                            "content": "Berlin"
+                          },
+                          "finish_reason": "stop"
+                        }
+                      ],
+                      "usage": {
+                        "prompt_tokens": 14,
+                        "completion_tokens": 1,
+                        "total_tokens": 15
+                      }
+                    }
+                    """);
+        });
+
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from(question)).build();
+
+        // when
+        ChatResponse chatResponse = model.chatAsync(chatRequest).get(10, SECONDS);
+
+        // then
+        assertThat(chatResponse.aiMessage().text()).isEqualTo("Berlin");
+        assertThat(chatResponse.id()).isEqualTo("chatcmpl-123");
+        assertThat(chatResponse.tokenUsage().totalTokenCount()).isEqualTo(15);
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0)).isInstanceOf(ChatModelRequestContext.class);
+        assertThat(events.get(1)).isInstanceOfSatisfying(ChatModelResponseContext.class, context -> assertThat(
+                        context.chatResponse())
+                .isSameAs(chatResponse));
+    }
+
+    @Test
+    void should_fail_future_with_mapped_exception() {
+
+        // given
+        String question = "Return error: 500";
+        MOCK.completion(req -> req.userMessageContains(question)).respondsError(res -> {
+            res.setHttpStatus(HttpStatusCode.Companion.fromValue(500));
+            res.setBody("");
+        });
+
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from(question)).build();
+
+        // when
+        CompletableFuture<ChatResponse> future = model.chatAsync(chatRequest);
+
+        // then
+        assertThat(future)
+                .failsWithin(10, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isExactlyInstanceOf(InternalServerException.class);
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(1)).isInstanceOfSatisfying(ChatModelErrorContext.class, context -> assertThat(
+                        context.error())
+                .isExactlyInstanceOf(InternalServerException.class));
+    }
+
+    @Test
+    void should_cancel_request() throws Exception {
+
+        // given
+        String question = "Simulate slow response";
+        MOCK.completion(req -> req.userMessageContains(question)).respondsError(res -> {
+            res.delayMillis(5_000);
+            res.setHttpStatus(HttpStatusCode.Companion.getNoContent());
+            res.setBody("");
+        });
+
+        ChatRequest chatRequest =
+                ChatRequest.builder().messages(UserMessage.from(question)).build();
+        CompletableFuture<ChatResponse> future = model.chatAsync(chatRequest);
+
+        // when
+        future.cancel(true);
+
+        // then
+        assertThat(future).isCancelled();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (events.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(events).hasSize(2);
+        assertThat(events.get(1)).isInstanceOfSatisfying(ChatModelErrorContext.class, context -> assertThat(
+                        context.error())
+                .isInstanceOf(CancellationException.class));
+    }
+
+    @AfterEach
+    void afterEach() {
+        MOCK.verifyNoUnmatchedRequests();
+    }
+}
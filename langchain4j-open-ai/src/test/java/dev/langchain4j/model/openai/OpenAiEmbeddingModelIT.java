@@ -2,10 +2,12 @@ package dev.langchain4j.model.openai;
 
 import static dev.langchain4j.model.openai.OpenAiEmbeddingModelName.TEXT_EMBEDDING_3_SMALL;
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.BatchingEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
@@ -106,6 +108,42 @@ class OpenAiEmbeddingModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void should_embed_multiple_batch_segments_async() throws Exception {
+
+        // given
+        int totalSegmentsToEmbed = 50;
+
+        EmbeddingModel model = BatchingEmbeddingModel.builder()
+                .embeddingModel(OpenAiEmbeddingModel.builder()
+                        .baseUrl(System.getenv("OPENAI_BASE_URL"))
+                        .apiKey(System.getenv("OPENAI_API_KEY"))
+                        .organizationId(System.getenv("OPENAI_ORGANIZATION_ID"))
+                        .modelName(TEXT_EMBEDDING_3_SMALL)
+                        .logRequests(true)
+                        .logResponses(false) // embeddings are huge in logs
+                        .build())
+                .maxSegmentsPerBatch(10)
+                .maxConcurrentBatches(3)
+                .build();
+
+        List<TextSegment> segments = Stream.generate(() -> TextSegment.from("hello"))
+                .limit(totalSegmentsToEmbed)
+                .toList();
+
+        // when
+        Response<List<Embedding>> response = model.embedAllAsync(segments).get(60, SECONDS);
+
+        // then
+        assertThat(response.content()).hasSize(totalSegmentsToEmbed);
+        assertThat(response.content().get(0).dimension()).isEqualTo(1536);
+        assertThat(response.content().get(49).dimension()).isEqualTo(1536);
+
+        TokenUsage tokenUsage = response.tokenUsage();
+        assertThat(tokenUsage.inputTokenCount()).isEqualTo(totalSegmentsToEmbed);
+        assertThat(tokenUsage.totalTokenCount()).isEqualTo(totalSegmentsToEmbed);
+    }
+
     @Test
     void should_embed_text_with_embedding_shortening() {
 
@@ -13,6 +13,7 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -49,8 +50,10 @@ import java.util.Map;
  */
 public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
+    private static final SimilarityKernel KERNEL = SimilarityKernel.defaultKernel();
+
     private final EmbeddingModel embeddingModel;
-    private final Map<L, List<Embedding>> exampleEmbeddingsByLabel;
+    private final Map<L, float[][]> exampleVectorsByLabel;
     private final int maxResults;
     private final double minScore;
     private final double meanToMaxScoreRatio;
@@ -102,31 +105,54 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
         this.minScore = ensureBetween(minScore, 0.0, 1.0, "minScore");
         this.meanToMaxScoreRatio = ensureBetween(meanToMaxScoreRatio, 0.0, 1.0, "meanToMaxScoreRatio");
 
-        this.exampleEmbeddingsByLabel = new HashMap<>();
-        examplesByLabel.forEach((label, examples) -> exampleEmbeddingsByLabel.put(
+        this.exampleVectorsByLabel = new HashMap<>();
+        examplesByLabel.forEach((label, examples) -> exampleVectorsByLabel.put(
                 label,
-                embeddingModel
+                normalized(embeddingModel
                         .embedAll(examples.stream().map(TextSegment::from).collect(toList()))
-                        .content()));
+                        .content())));
+    }
+
+    /**
+     * Example embeddings are normalized once, so that classification only needs one dot product per example.
+     */
+    private static float[][] normalized(List<Embedding> embeddings) {
+        float[][] vectors = new float[embeddings.size()][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = normalized(embeddings.get(i).vector());
+        }
+        return vectors;
+    }
+
+    private static float[] normalized(float[] vector) {
+        double norm = Math.sqrt(KERNEL.dotProduct(vector, vector));
+        float inverseNorm = (float) (1 / Math.max(norm, CosineSimilarity.EPSILON));
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * inverseNorm;
+        }
+        return normalized;
     }
 
     @Override
     public ClassificationResult<L> classifyWithScores(String text) {
         ensureNotBlank(text, "text");
 
-        Embedding textEmbedding = embeddingModel.embed(text).content();
+        float[] textVector = normalized(embeddingModel.embed(text).content().vector());
 
         List<ScoredLabel<L>> scoredLabels = new ArrayList<>();
-        exampleEmbeddingsByLabel.forEach((label, exampleEmbeddings) -> {
+        exampleVectorsByLabel.forEach((label, exampleVectors) -> {
+            float[] cosineSimilarities = new float[exampleVectors.length];
+            KERNEL.dotProducts(textVector, exampleVectors, cosineSimilarities);
+
             double meanScore = 0;
             double maxScore = 0;
-            for (Embedding exampleEmbedding : exampleEmbeddings) {
-                double cosineSimilarity = CosineSimilarity.between(textEmbedding, exampleEmbedding);
+            for (float cosineSimilarity : cosineSimilarities) {
                 double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
                 meanScore += score;
                 maxScore = Math.max(score, maxScore);
             }
-            meanScore /= exampleEmbeddings.size();
+            meanScore /= exampleVectors.length;
 
             double aggregateScore = aggregatedScore(meanScore, maxScore);
             if (aggregateScore >= minScore) {
@@ -0,0 +1,34 @@
+package dev.langchain4j.data.document.loader;
+
+import dev.langchain4j.data.document.Document;
+import java.nio.file.Path;
+
+/**
+ * A file that was added, modified or deleted since the previous run of a {@link ParallelFileSystemDocumentLoader},
+ * as recorded in a {@link FileSystemDocumentManifest}.
+ *
+ * @param type     the type of change.
+ * @param path     the absolute, normalized path of the file.
+ * @param document the document loaded from the file, or {@code null} if the file was deleted.
+ */
+public record FileSystemDocumentChange(Type type, Path path, Document document) {
+
+    public enum Type {
+
+        /**
+         * The file is not in the manifest.
+         */
+        ADDED,
+
+        /**
+         * The content of the file differs from the one recorded in the manifest.
+         */
+        MODIFIED,
+
+        /**
+         * The file is in the manifest, but it no longer exists, no longer matches, or has become blank.
+         * Documents previously loaded from it should be removed.
+         */
+        DELETED
+    }
+}
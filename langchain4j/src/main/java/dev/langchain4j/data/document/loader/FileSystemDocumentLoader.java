@@ -27,7 +27,7 @@ public class FileSystemDocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(FileSystemDocumentLoader.class);
 
-    private static final DocumentParser DEFAULT_DOCUMENT_PARSER =
+    static final DocumentParser DEFAULT_DOCUMENT_PARSER =
             getOrDefault(DocumentParserLoader.loadDocumentParser(), TextDocumentParser::new);
 
     private FileSystemDocumentLoader() {}
@@ -486,26 +486,40 @@ public class FileSystemDocumentLoader {
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
         List<Document> documents = new ArrayList<>();
 
-        pathStream
+        matchingFiles(pathStream, pathMatcher, pathMatcherRoot).forEach(file -> {
+            Document document = tryLoadDocument(file, documentParser);
+            if (document != null) {
+                documents.add(document);
+            }
+        });
+
+        return documents;
+    }
+
+    static Stream<Path> matchingFiles(Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
                 .map(pathMatcherRoot::relativize)
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
-                .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
+                .map(pathMatcherRoot::resolve);
+    }
 
-        return documents;
+    /**
+     * @return the loaded document, or {@code null} if the file is blank or fails to load.
+     */
+    static Document tryLoadDocument(Path file, DocumentParser documentParser) {
+        try {
+            return loadDocument(file, documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+            return null;
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+            return null;
+        }
     }
 }
@@ -0,0 +1,163 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The files loaded by a {@link ParallelFileSystemDocumentLoader}, with their size, last modification time
+ * and content hash, so that the next run only emits the files that were added, modified or deleted since.
+ * <br>
+ * Paths are stored as absolute, normalized paths.
+ * A manifest is meant to be {@linkplain #save(Path) saved} once all the changes emitted by
+ * {@link ParallelFileSystemDocumentLoader#loadChanges(FileSystemDocumentManifest)} have been processed,
+ * and {@linkplain #load(Path) loaded} again before the next run.
+ */
+public class FileSystemDocumentManifest {
+
+    private static final int MAGIC = 0x46444D46; // "FDMF"
+    private static final int VERSION = 1;
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty manifest, with which all matching files are emitted as added.
+     */
+    public FileSystemDocumentManifest() {}
+
+    /**
+     * Loads the manifest stored in the given file.
+     *
+     * @param file the file.
+     * @return the manifest, or an empty manifest if the file does not exist.
+     */
+    public static FileSystemDocumentManifest load(Path file) {
+        ensureNotNull(file, "file");
+        FileSystemDocumentManifest manifest = new FileSystemDocumentManifest();
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                throw new IllegalArgumentException(file + " is not a document manifest file");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported document manifest file version: " + version);
+            }
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                Path path = Path.of(input.readUTF());
+                manifest.entries.put(path, new Entry(input.readLong(), input.readLong(), input.readUTF()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return manifest;
+    }
+
+    /**
+     * Saves this manifest to the given file, replacing it atomically if the file system supports it.
+     *
+     * @param file the file.
+     */
+    public void save(Path file) {
+        ensureNotNull(file, "file");
+        Path absoluteFile = file.toAbsolutePath();
+        Path temporaryFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream output =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                Map<Path, Entry> snapshot = Map.copyOf(entries);
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(snapshot.size());
+                for (Map.Entry<Path, Entry> entry : snapshot.entrySet()) {
+                    output.writeUTF(entry.getKey().toString());
+                    output.writeLong(entry.getValue().size());
+                    output.writeLong(entry.getValue().lastModified());
+                    output.writeUTF(entry.getValue().contentHash());
+                }
+            }
+            try {
+                Files.move(temporaryFile, absoluteFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absoluteFile, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param path the path of a file.
+     * @return the entry of the file, or {@code null} if the file is not in this manifest.
+     */
+    public Entry get(Path path) {
+        return entries.get(normalize(path));
+    }
+
+    /**
+     * Adds or replaces the entry of a file.
+     *
+     * @param path  the path of the file.
+     * @param entry the entry of the file.
+     */
+    public void put(Path path, Entry entry) {
+        entries.put(normalize(path), ensureNotNull(entry, "entry"));
+    }
+
+    /**
+     * Removes the entry of a file.
+     *
+     * @param path the path of the file.
+     */
+    public void remove(Path path) {
+        entries.remove(normalize(path));
+    }
+
+    /**
+     * @return the absolute, normalized paths of the files in this manifest.
+     */
+    public Set<Path> paths() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    /**
+     * @return the number of files in this manifest.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    static Path normalize(Path path) {
+        return ensureNotNull(path, "path").toAbsolutePath().normalize();
+    }
+
+    /**
+     * The state of a file when it was last loaded.
+     *
+     * @param size         the size of the file, in bytes.
+     * @param lastModified the last modification time of the file, in milliseconds since the epoch.
+     * @param contentHash  the hex-encoded SHA-256 hash of the content of the file.
+     */
+    public record Entry(long size, long lastModified, String contentHash) {
+
+        public Entry {
+            ensureNotNull(contentHash, "contentHash");
+        }
+    }
+}
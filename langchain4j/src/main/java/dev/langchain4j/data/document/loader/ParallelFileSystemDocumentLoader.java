@@ -0,0 +1,308 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.matchingFiles;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.tryLoadDocument;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentManifest.normalize;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ParallelUtils.mapAsCompleted;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.Files.isDirectory;
+
+import dev.langchain4j.data.document.BlankDocumentException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.loader.FileSystemDocumentChange.Type;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads {@link Document}s from a directory like {@link FileSystemDocumentLoader}, but parses the files concurrently
+ * and returns the documents as a {@link Stream}, in the order in which they are ready.
+ * <br>
+ * At most {@link Builder#parallelism(Integer)} files are parsed at the same time,
+ * and at most as many documents are loaded ahead of the consumer of the stream.
+ * <br>
+ * With {@link #loadChanges(FileSystemDocumentManifest)}, only the files that were added, modified or deleted
+ * since the previous run are emitted. A file whose size and last modification time are unchanged is not read;
+ * a file whose content hash is unchanged is not parsed.
+ * <pre>{@code
+ * ParallelFileSystemDocumentLoader loader = ParallelFileSystemDocumentLoader.builder()
+ *         .directoryPath(Path.of("docs"))
+ *         .documentParser(new ApachePdfBoxDocumentParser())
+ *         .parallelism(8)
+ *         .build();
+ *
+ * FileSystemDocumentManifest manifest = FileSystemDocumentManifest.load(Path.of("docs.manifest"));
+ * try (Stream<FileSystemDocumentChange> changes = loader.loadChanges(manifest)) {
+ *     changes.forEach(change -> ...);
+ * }
+ * manifest.save(Path.of("docs.manifest"));
+ * }</pre>
+ */
+public class ParallelFileSystemDocumentLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelFileSystemDocumentLoader.class);
+
+    private final Path directoryPath;
+    private final PathMatcher pathMatcher;
+    private final boolean recursive;
+    private final DocumentParser documentParser;
+    private final Executor executor;
+    private final int parallelism;
+
+    private ParallelFileSystemDocumentLoader(Builder builder) {
+        this.directoryPath = normalize(ensureNotNull(builder.directoryPath, "directoryPath"));
+        this.pathMatcher = getOrDefault(builder.pathMatcher, path -> true);
+        this.recursive = getOrDefault(builder.recursive, true);
+        this.documentParser = getOrDefault(builder.documentParser, FileSystemDocumentLoader.DEFAULT_DOCUMENT_PARSER);
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.parallelism = ensureGreaterThanZero(
+                getOrDefault(builder.parallelism, Runtime.getRuntime().availableProcessors()), "parallelism");
+    }
+
+    /**
+     * Loads the documents of all matching files.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     * The returned {@link Stream} should be closed if it is not fully consumed.
+     *
+     * @return the documents, in the order in which they are ready.
+     * @throws IllegalArgumentException If the directory path is not a directory.
+     */
+    public Stream<Document> loadDocuments() {
+        return mapAsCompleted(files(), file -> tryLoadDocument(file, documentParser), executor, parallelism)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Loads the documents of the matching files that were added or modified since they were recorded
+     * in the given manifest, and reports the recorded files that were deleted.
+     * <br>
+     * The manifest is updated as the changes are consumed. Files that fail to load are skipped and not recorded,
+     * so that they are loaded again on the next run.
+     * The manifest should only be saved once the returned {@link Stream} has been fully consumed.
+     * <br>
+     * Only the recorded files which match the directory path, the recursion and the path matcher of this loader
+     * are reported as deleted, so that a manifest can be shared by loaders of different files.
+     *
+     * @param manifest the files recorded by the previous run.
+     * @return the deleted files first, then the added and modified files, in the order in which they are ready.
+     * @throws IllegalArgumentException If the directory path is not a directory.
+     */
+    public Stream<FileSystemDocumentChange> loadChanges(FileSystemDocumentManifest manifest) {
+        ensureNotNull(manifest, "manifest");
+
+        List<Path> files = files();
+        Set<Path> existingFiles = new HashSet<>(files);
+        Stream<Detection> deletions = manifest.paths().stream()
+                .filter(path -> isInScope(path) && !existingFiles.contains(path))
+                .map(path -> new Detection(path, null, new FileSystemDocumentChange(Type.DELETED, path, null)));
+        Stream<Detection> detections = mapAsCompleted(files, file -> detect(file, manifest), executor, parallelism);
+
+        return Stream.concat(deletions, detections)
+                .filter(Objects::nonNull)
+                .peek(detection -> {
+                    if (detection.entry() != null) {
+                        manifest.put(detection.path(), detection.entry());
+                    } else {
+                        manifest.remove(detection.path());
+                    }
+                })
+                .map(Detection::change)
+                .filter(Objects::nonNull);
+    }
+
+    private List<Path> files() {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+        try (Stream<Path> pathStream = recursive ? Files.walk(directoryPath) : Files.list(directoryPath)) {
+            return matchingFiles(pathStream, pathMatcher, directoryPath).toList();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns whether the given recorded file would be loaded by this loader if it still existed,
+     * so that the files recorded by loaders with another scope are not reported as deleted.
+     */
+    private boolean isInScope(Path path) {
+        if (!path.startsWith(directoryPath) || path.equals(directoryPath)) {
+            return false;
+        }
+        if (!recursive && !directoryPath.equals(path.getParent())) {
+            return false;
+        }
+        return pathMatcher.matches(directoryPath.relativize(path));
+    }
+
+    /**
+     * @return the detected change, or {@code null} if the file is unchanged or fails to load.
+     */
+    private Detection detect(Path file, FileSystemDocumentManifest manifest) {
+        try {
+            FileSystemDocumentManifest.Entry previous = manifest.get(file);
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            if (previous != null && previous.size() == size && previous.lastModified() == lastModified) {
+                return null;
+            }
+
+            FileSystemDocumentManifest.Entry entry =
+                    new FileSystemDocumentManifest.Entry(size, lastModified, contentHash(file));
+            if (previous != null && previous.contentHash().equals(entry.contentHash())) {
+                return new Detection(file, entry, null);
+            }
+
+            Document document;
+            try {
+                document = FileSystemDocumentLoader.loadDocument(file, documentParser);
+            } catch (BlankDocumentException ignored) {
+                // blank/empty documents are ignored, but documents previously loaded from the file are obsolete
+                return new Detection(
+                        file, entry, previous != null ? new FileSystemDocumentChange(Type.DELETED, file, null) : null);
+            }
+            Type type = previous == null ? Type.ADDED : Type.MODIFIED;
+            return new Detection(file, entry, new FileSystemDocumentChange(type, file, document));
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+            return null;
+        }
+    }
+
+    private static String contentHash(Path file) throws IOException {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) >= 0) {
+                sha256.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    /**
+     * The new entry of a file in the manifest ({@code null} to remove it), and the change to emit, if any.
+     */
+    private record Detection(Path path, FileSystemDocumentManifest.Entry entry, FileSystemDocumentChange change) {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Path directoryPath;
+        private PathMatcher pathMatcher;
+        private Boolean recursive;
+        private DocumentParser documentParser;
+        private Executor executor;
+        private Integer parallelism;
+
+        /**
+         * Sets the directory to load the files from.
+         *
+         * @param directoryPath the path of the directory.
+         * @return builder
+         */
+        public Builder directoryPath(Path directoryPath) {
+            this.directoryPath = directoryPath;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PathMatcher} selecting the files to load. By default, all files are loaded.
+         * <br>
+         * Each file path is converted from absolute to relative (relative to the directory path)
+         * before being matched, so the {@code pathMatcher} should use relative patterns,
+         * as with {@link FileSystemDocumentLoader#loadDocumentsRecursively(Path, PathMatcher)}.
+         *
+         * @param pathMatcher the path matcher.
+         * @return builder
+         */
+        public Builder pathMatcher(PathMatcher pathMatcher) {
+            this.pathMatcher = pathMatcher;
+            return this;
+        }
+
+        /**
+         * Sets whether the files of the subdirectories are loaded too. Default: {@code true}.
+         *
+         * @param recursive whether to load the subdirectories.
+         * @return builder
+         */
+        public Builder recursive(Boolean recursive) {
+            this.recursive = recursive;
+            return this;
+        }
+
+        /**
+         * Sets the parser to be used for parsing text from each file.
+         * By default, the {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+         * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+         *
+         * @param documentParser the document parser.
+         * @return builder
+         */
+        public Builder documentParser(DocumentParser documentParser) {
+            this.documentParser = documentParser;
+            return this;
+        }
+
+        /**
+         * Sets the executor parsing the files. By default, the default executor of LangChain4j is used.
+         *
+         * @param executor the executor.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of files parsed at the same time.
+         * Default: the number of available processors.
+         *
+         * @param parallelism the maximum number of files parsed at the same time.
+         * @return builder
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ParallelFileSystemDocumentLoader build() {
+            return new ParallelFileSystemDocumentLoader(this);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 
+import java.util.regex.Pattern;
+
 /**
  * Splits the provided {@link Document} into characters and attempts to fit as many characters as possible
  * into a single {@link TextSegment}, adhering to the limit set by {@code maxSegmentSize}.
@@ -19,6 +21,8 @@ import dev.langchain4j.model.TokenCountEstimator;
  */
 public class DocumentByCharacterSplitter extends HierarchicalDocumentSplitter {
 
+    private static final Pattern CHARACTER_SEPARATOR = Pattern.compile("");
+
     public DocumentByCharacterSplitter(int maxSegmentSizeInChars,
                                        int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
@@ -45,7 +49,7 @@ public class DocumentByCharacterSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("");
+        return CHARACTER_SEPARATOR.split(text);
     }
 
     @Override
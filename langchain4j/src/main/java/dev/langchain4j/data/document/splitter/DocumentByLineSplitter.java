@@ -5,6 +5,8 @@ import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.TokenCountEstimator;
 
+import java.util.regex.Pattern;
+
 /**
  * Splits the provided {@link Document} into lines and attempts to fit as many lines as possible
  * into a single {@link TextSegment}, adhering to the limit set by {@code maxSegmentSize}.
@@ -28,6 +30,8 @@ import dev.langchain4j.model.TokenCountEstimator;
  */
 public class DocumentByLineSplitter extends HierarchicalDocumentSplitter {
 
+    private static final Pattern LINE_SEPARATOR = Pattern.compile("\\s*\\R\\s*");
+
     public DocumentByLineSplitter(int maxSegmentSizeInChars,
                                   int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
@@ -54,7 +58,7 @@ public class DocumentByLineSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("\\s*\\R\\s*"); // additional whitespaces are ignored
+        return LINE_SEPARATOR.split(text); // additional whitespaces are ignored
     }
 
     @Override
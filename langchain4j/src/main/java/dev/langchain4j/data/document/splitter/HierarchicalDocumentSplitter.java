@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.internal.Utils.firstChars;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
@@ -132,7 +133,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -149,7 +150,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -187,6 +188,23 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         return segments;
     }
 
+    /**
+     * Splits each part lazily, like {@link DocumentSplitter#splitParts(Stream)},
+     * but numbers the segments across all parts, so that the "index" metadata key represents
+     * the position of the segment within the whole document, as with {@link #split(Document)}.
+     *
+     * @param parts The parts of a document, in order.
+     * @return The segments of all parts, in order.
+     */
+    @Override
+    public Stream<TextSegment> splitParts(Stream<Document> parts) {
+        AtomicInteger index = new AtomicInteger(0);
+        return parts.flatMap(part -> split(part).stream()).map(segment -> {
+            segment.metadata().put(INDEX, String.valueOf(index.getAndIncrement()));
+            return segment;
+        });
+    }
+
     /**
      * Returns the overlap region at the end of the provided segment text.
      *
@@ -9,6 +9,13 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * The segment is accumulated in a {@link StringBuilder}, and its size is accounted additively
+ * (size of the previous segment + size of the separator + size of the added text),
+ * so that the size function is not applied to the whole segment on each append.
+ * As the size of joined texts can differ from the sum of their sizes (e.g., for tokens),
+ * the exact size of the whole segment is computed when the additive size says that a text does not fit anymore,
+ * or when it is requested via {@link #getSize()}.
  */
 @Internal
 class SegmentBuilder {
@@ -17,8 +24,9 @@ class SegmentBuilder {
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final StringBuilder segment = new StringBuilder();
     private int segmentSize = 0;
+    private boolean segmentSizeExact = true;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -40,6 +48,7 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        ensureExactSize();
         return segmentSize;
     }
 
@@ -50,11 +59,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -64,11 +69,25 @@ class SegmentBuilder {
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
-        int totalSize = size;
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+        if (totalSizeWith(size) <= maxSegmentSize) {
+            return true;
+        }
+        if (segmentSizeExact) {
+            return false;
+        }
+        ensureExactSize();
+        return totalSizeWith(size) <= maxSegmentSize;
+    }
+
+    private int totalSizeWith(int size) {
+        return isNotEmpty() ? segmentSize + joinSeparatorSize + size : size;
+    }
+
+    private void ensureExactSize() {
+        if (!segmentSizeExact) {
+            segmentSize = sizeOf(segment.toString());
+            segmentSizeExact = true;
         }
-        return totalSize <= maxSegmentSize;
     }
 
     /**
@@ -87,11 +106,24 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text     The text to append.
+     * @param textSize The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int textSize) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
+            segmentSize += joinSeparatorSize + textSize;
+            segmentSizeExact = false;
+        } else {
+            segmentSize = textSize;
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text);
     }
 
     /**
@@ -100,12 +132,15 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        int textSize = sizeOf(text);
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            segment.insert(0, joinSeparator).insert(0, text);
+            segmentSize += joinSeparatorSize + textSize;
+            segmentSizeExact = false;
         } else {
-            segment = text;
+            segment.append(text);
+            segmentSize = textSize;
         }
-        segmentSize = sizeOf(segment);
     }
 
     /**
@@ -114,19 +149,20 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
         segmentSize = 0;
+        segmentSizeExact = true;
     }
 }
@@ -0,0 +1,97 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The change of the messages of a chat memory between what was read from its {@link ChatMemoryStore}
+ * and what must be written back, expressed as the removal of a range of the previous messages
+ * followed by the append of new ones.
+ * <p>
+ * Sliding windows only ever evict the oldest messages (after a retained {@code SystemMessage}) and append new ones,
+ * so their changes can always be written to an {@link AppendableChatMemoryStore} in proportion to the change,
+ * rather than to the whole history.
+ */
+class ChatMemoryDelta {
+
+    private final int evictFrom;
+    private final int evictCount;
+    private final List<ChatMessage> appended;
+
+    private ChatMemoryDelta(int evictFrom, int evictCount, List<ChatMessage> appended) {
+        this.evictFrom = evictFrom;
+        this.evictCount = evictCount;
+        this.appended = appended;
+    }
+
+    /**
+     * Writes {@code current} to the store, incrementally and atomically if the store supports it.
+     *
+     * @param previous        the messages as read from the store.
+     * @param previousVersion the version of {@code previous}, if known.
+     * @param current         the messages to write.
+     * @return the new version of the messages ({@code previousVersion} if they did not change),
+     * or {@code null} if the store is not an {@link AppendableChatMemoryStore}.
+     */
+    static Long write(
+            ChatMemoryStore store,
+            Object memoryId,
+            List<ChatMessage> previous,
+            Long previousVersion,
+            List<ChatMessage> current) {
+        if (!(store instanceof AppendableChatMemoryStore appendableStore)) {
+            store.updateMessages(memoryId, current);
+            return null;
+        }
+
+        ChatMemoryDelta delta = between(previous, current);
+        if (delta == null) {
+            return appendableStore.replaceMessages(memoryId, current);
+        }
+        if (delta.evictCount == 0 && delta.appended.isEmpty()) {
+            return previousVersion;
+        }
+        return appendableStore.evictAndAppendMessages(memoryId, delta.evictFrom, delta.evictCount, delta.appended);
+    }
+
+    /**
+     * @return the delta turning {@code previous} into {@code current},
+     * or {@code null} if it cannot be expressed as a removal followed by an append.
+     */
+    static ChatMemoryDelta between(List<ChatMessage> previous, List<ChatMessage> current) {
+        List<ChatMessage> previousMessages = new ArrayList<>(previous);
+        List<ChatMessage> currentMessages = new ArrayList<>(current);
+
+        int kept = 0;
+        while (kept < previousMessages.size()
+                && kept < currentMessages.size()
+                && previousMessages.get(kept).equals(currentMessages.get(kept))) {
+            kept++;
+        }
+
+        int resumeFrom = previousMessages.size();
+        if (kept < currentMessages.size()) {
+            int index = previousMessages.subList(kept, previousMessages.size()).indexOf(currentMessages.get(kept));
+            if (index >= 0) {
+                resumeFrom = kept + index;
+            }
+        }
+
+        int retainedTail = previousMessages.size() - resumeFrom;
+        if (kept + retainedTail > currentMessages.size()
+                || !previousMessages
+                        .subList(resumeFrom, previousMessages.size())
+                        .equals(currentMessages.subList(kept, kept + retainedTail))) {
+            return null;
+        }
+
+        return new ChatMemoryDelta(
+                kept,
+                resumeFrom - kept,
+                new ArrayList<>(currentMessages.subList(kept + retainedTail, currentMessages.size())));
+    }
+}
@@ -0,0 +1,31 @@
+package dev.langchain4j.memory.chat;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks, striped by memory ID, guarding the read-modify-write of the messages of a chat memory
+ * in its {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}.
+ * <p>
+ * Locks are shared by all chat memories with the same ID, even when they are different instances,
+ * so that concurrent requests to the same conversation do not lose each other's messages.
+ * Chat memories with different IDs rarely share a lock, and only contend when they do.
+ */
+class ChatMemoryLocks {
+
+    private static final int STRIPES = 256;
+
+    private static final ReentrantLock[] LOCKS = new ReentrantLock[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            LOCKS[i] = new ReentrantLock();
+        }
+    }
+
+    private ChatMemoryLocks() {}
+
+    static ReentrantLock lockFor(Object memoryId) {
+        int hash = memoryId.hashCode();
+        return LOCKS[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
@@ -6,6 +6,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
@@ -14,6 +15,7 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 
 /**
@@ -37,6 +39,7 @@ import dev.langchain4j.store.memory.chat.ChatMemoryStore;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only the added and evicted messages are written to it.
  */
 public class MessageWindowChatMemory implements ChatMemory {
 
@@ -58,9 +61,21 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
+        ReentrantLock lock = ChatMemoryLocks.lockFor(id);
+        lock.lock();
+        try {
+            addLocked(message);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addLocked(ChatMessage message) {
         Integer maxMessages = this.maxMessagesProvider.apply(this.id);
         ensureGreaterThanZero(maxMessages, "maxMessages");
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new LinkedList<>(storedMessages);
+        ensureCapacity(messages, maxMessages);
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = SystemMessage.findFirst(messages);
             if (systemMessage.isPresent()) {
@@ -73,7 +88,7 @@ public class MessageWindowChatMemory implements ChatMemory {
         }
         messages.add(message);
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        ChatMemoryDelta.write(store, id, storedMessages, null, messages);
     }
 
     @Override
@@ -107,7 +122,13 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void clear() {
-        store.deleteMessages(id);
+        ReentrantLock lock = ChatMemoryLocks.lockFor(id);
+        lock.lock();
+        try {
+            store.deleteMessages(id);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public static Builder builder() {
@@ -3,9 +3,13 @@ package dev.langchain4j.memory.chat;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
@@ -15,6 +19,8 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.service.memory.ChatMemoryService;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore.VersionedMessages;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 
 /**
@@ -39,6 +45,7 @@ import dev.langchain4j.store.memory.chat.ChatMemoryStore;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link SingleSlotChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only the added and evicted messages are written to it.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -47,6 +54,14 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final TokenCountEstimator tokenCountEstimator;
     private final ChatMemoryStore store;
 
+    // Guarded by the lock of this memory ID. The token counts of the messages are memoized,
+    // and the token count of the messages last read from or written to the store is kept,
+    // so that only added and evicted messages have to be estimated.
+    private final Map<ChatMessage, Integer> tokenCountCache = new HashMap<>();
+    private List<ChatMessage> storedMessages;
+    private Long storedVersion;
+    private Integer storedTokenCount;
+
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokensProvider = ensureNotNull(builder.maxTokensProvider, "maxTokensProvider");
@@ -62,7 +77,19 @@ public class TokenWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        ReentrantLock lock = ChatMemoryLocks.lockFor(id);
+        lock.lock();
+        try {
+            addLocked(message);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addLocked(ChatMessage message) {
+        Window window = window();
+        LinkedList<ChatMessage> messages = window.messages();
+        Integer tokenCount = window.tokenCount();
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> maybeSystemMessage = SystemMessage.findFirst(messages);
             if (maybeSystemMessage.isPresent()) {
@@ -70,44 +97,91 @@ public class TokenWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    tokenCount -= forget(maybeSystemMessage.get());
                 }
             }
         }
         messages.add(message);
+        tokenCount = tokenCount == null || messages.size() == 1 ? null : tokenCount + tokenCountOf(message);
         Integer maxTokens = maxTokensProvider.apply(id);
         ensureGreaterThanZero(maxTokens, "maxTokens");
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        store.updateMessages(id, messages);
+        tokenCount = ensureCapacity(messages, maxTokens, tokenCount);
+        storedVersion = ChatMemoryDelta.write(store, id, window.stored(), window.version(), messages);
+        storedMessages = storedVersion == null ? new ArrayList<>(messages) : null;
+        storedTokenCount = tokenCount;
     }
 
     @Override
     public List<ChatMessage> messages() {
+        ReentrantLock lock = ChatMemoryLocks.lockFor(id);
+        lock.lock();
+        try {
+            return window().messages();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the messages from the store and evicts the ones which do not fit into the window.
+     * The token count of the stored messages is only estimated when they were changed by someone else
+     * since they were last read or written by this chat memory,
+     * which is detected using their version when the store is an {@link AppendableChatMemoryStore}.
+     */
+    private Window window() {
         Integer maxTokens = maxTokensProvider.apply(id);
         ensureGreaterThanZero(maxTokens, "maxTokens");
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenCountEstimator);
-        return messages;
+        List<ChatMessage> stored;
+        Long version = null;
+        if (store instanceof AppendableChatMemoryStore appendableStore) {
+            VersionedMessages versionedMessages = appendableStore.getVersionedMessages(id);
+            stored = versionedMessages.messages();
+            version = versionedMessages.version();
+        } else {
+            stored = store.getMessages(id);
+        }
+        LinkedList<ChatMessage> messages = new LinkedList<>(stored);
+        Integer tokenCount;
+        if (messages.isEmpty()) {
+            tokenCount = null;
+        } else if (version != null ? version.equals(storedVersion) : messages.equals(storedMessages)) {
+            tokenCount = storedTokenCount;
+        } else {
+            tokenCountCache.clear();
+            tokenCount = tokenCountEstimator.estimateTokenCountInMessages(messages);
+            storedMessages = version == null ? new ArrayList<>(messages) : null;
+            storedVersion = version;
+            storedTokenCount = tokenCount;
+        }
+        return new Window(stored, version, messages, ensureCapacity(messages, maxTokens, tokenCount));
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, TokenCountEstimator estimator) {
+    /**
+     * Evicts the oldest messages until the remaining ones fit into {@code maxTokens}.
+     *
+     * @param tokenCount the token count of {@code messages}, or {@code null} if it is not known yet.
+     * @return the token count of the remaining messages, or {@code null} if there are none.
+     */
+    private Integer ensureCapacity(List<ChatMessage> messages, int maxTokens, Integer tokenCount) {
 
         if (messages.isEmpty()) {
-            return;
+            return null;
         }
 
-        int currentTokenCount = estimator.estimateTokenCountInMessages(messages);
+        int currentTokenCount =
+                tokenCount != null ? tokenCount : tokenCountEstimator.estimateTokenCountInMessages(messages);
         while (currentTokenCount > maxTokens && !messages.isEmpty()) {
 
             int messageToEvictIndex = 0;
             if (messages.get(0) instanceof SystemMessage) {
                 if (messages.size() == 1) {
-                    return;
+                    return currentTokenCount;
                 }
                 messageToEvictIndex = 1;
             }
 
             ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = estimator.estimateTokenCountInMessage(evictedMessage);
+            int tokenCountOfEvictedMessage = forget(evictedMessage);
             currentTokenCount -= tokenCountOfEvictedMessage;
 
             if (evictedMessage instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
@@ -116,17 +190,40 @@ public class TokenWindowChatMemory implements ChatMemory {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
                     ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
-                    currentTokenCount -= estimator.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    currentTokenCount -= forget(orphanToolExecutionResultMessage);
                 }
             }
         }
+        return messages.isEmpty() ? null : currentTokenCount;
+    }
+
+    private int tokenCountOf(ChatMessage message) {
+        return tokenCountCache.computeIfAbsent(message, tokenCountEstimator::estimateTokenCountInMessage);
+    }
+
+    private int forget(ChatMessage message) {
+        Integer tokenCount = tokenCountCache.remove(message);
+        return tokenCount != null ? tokenCount : tokenCountEstimator.estimateTokenCountInMessage(message);
     }
 
     @Override
     public void clear() {
-        store.deleteMessages(id);
+        ReentrantLock lock = ChatMemoryLocks.lockFor(id);
+        lock.lock();
+        try {
+            store.deleteMessages(id);
+            tokenCountCache.clear();
+            storedMessages = null;
+            storedVersion = null;
+            storedTokenCount = null;
+        } finally {
+            lock.unlock();
+        }
     }
 
+    private record Window(
+            List<ChatMessage> stored, Long version, LinkedList<ChatMessage> messages, Integer tokenCount) {}
+
     public static Builder builder() {
         return new Builder();
     }
@@ -15,7 +15,9 @@ import dev.langchain4j.service.guardrail.GuardrailService;
 import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.service.tool.ToolService;
 import dev.langchain4j.spi.services.AiServiceContextFactory;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -46,6 +48,8 @@ public class AiServiceContext {
 
     public BiFunction<ChatRequest, Object, ChatRequest> chatRequestTransformer = (req, memId) -> req;
 
+    public Executor executor;
+
     protected AiServiceContext(Class<?> aiServiceClass) {
         this.aiServiceClass = aiServiceClass;
         this.guardrailServiceBuilder = GuardrailService.builder(aiServiceClass);
@@ -73,6 +77,10 @@ public class AiServiceContext {
         chatMemoryService = new ChatMemoryService(chatMemoryProvider);
     }
 
+    public void initChatMemories(ChatMemoryProvider chatMemoryProvider, Integer maxChatMemories, Duration maxIdleTime) {
+        chatMemoryService = new ChatMemoryService(chatMemoryProvider, maxChatMemories, maxIdleTime);
+    }
+
     public GuardrailService guardrailService() {
         return this.guardrailService.updateAndGet(
                 service -> (service != null) ? service : guardrailServiceBuilder.build());
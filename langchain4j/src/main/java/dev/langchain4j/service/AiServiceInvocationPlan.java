@@ -0,0 +1,346 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
+import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.resolveFirstGenericParameterType;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+
+import dev.langchain4j.data.message.Content;
+import dev.langchain4j.invocation.InvocationParameters;
+import dev.langchain4j.model.chat.request.ResponseFormat;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.service.InternalReflectionVariableResolver.TemplateVariableBinder;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import dev.langchain4j.spi.services.TokenStreamAdapter;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Everything the AI Service proxy needs to know about a method to invoke it,
+ * resolved once from its annotations, parameters and return type.
+ * <p>
+ * A plan is immutable, so that it can be shared by all the invocations of the method,
+ * and the invocations do not use reflection.
+ */
+class AiServiceInvocationPlan {
+
+    private final Method method;
+    private final TemplateVariableBinder variableBinder;
+
+    private final int memoryIdIndex;
+    private final int userNameIndex;
+    private final int invocationParametersIndex;
+    private final int[] userMessageIndexes;
+    private final boolean userMessageFromTheOnlyArgument;
+
+    private final PromptTemplate systemMessageTemplate;
+    private final PromptTemplate userMessageTemplate;
+
+    private final Type returnType;
+    private final boolean streaming;
+    private final boolean async;
+    private final boolean returnTypeResult;
+    private final TokenStreamAdapter tokenStreamAdapter;
+    private final ResponseFormat responseFormat;
+    private final String outputFormatInstructions;
+
+    private final boolean moderated;
+    private final boolean hasInputGuardrails;
+    private final boolean hasOutputGuardrails;
+
+    AiServiceInvocationPlan(
+            Method method,
+            AiServiceContext context,
+            ServiceOutputParser serviceOutputParser,
+            Collection<TokenStreamAdapter> tokenStreamAdapters) {
+
+        DefaultAiServices.validateParameters(context.aiServiceClass, method);
+
+        this.method = method;
+        this.variableBinder = TemplateVariableBinder.of(method);
+
+        Parameter[] parameters = method.getParameters();
+        int memoryIdIndex = -1;
+        int userNameIndex = -1;
+        int invocationParametersIndex = -1;
+        List<Integer> userMessageIndexes = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            if (memoryIdIndex < 0 && parameter.isAnnotationPresent(MemoryId.class)) {
+                memoryIdIndex = i;
+            }
+            if (userNameIndex < 0 && parameter.isAnnotationPresent(UserName.class)) {
+                userNameIndex = i;
+            }
+            if (invocationParametersIndex < 0 && InvocationParameters.class.isAssignableFrom(parameter.getType())) {
+                invocationParametersIndex = i;
+            }
+            if (parameter.isAnnotationPresent(UserMessage.class)) {
+                userMessageIndexes.add(i);
+            }
+        }
+        this.memoryIdIndex = memoryIdIndex;
+        this.userNameIndex = userNameIndex;
+        this.invocationParametersIndex = invocationParametersIndex;
+        this.userMessageIndexes =
+                userMessageIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.userMessageFromTheOnlyArgument = parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+
+        SystemMessage systemMessage = method.getAnnotation(SystemMessage.class);
+        this.systemMessageTemplate = systemMessage == null
+                ? null
+                : PromptTemplate.from(getTemplate(
+                        method,
+                        "System",
+                        systemMessage.fromResource(),
+                        systemMessage.value(),
+                        systemMessage.delimiter()));
+        UserMessage userMessage = method.getAnnotation(UserMessage.class);
+        this.userMessageTemplate = userMessage == null
+                ? null
+                : PromptTemplate.from(getTemplate(
+                        method, "User", userMessage.fromResource(), userMessage.value(), userMessage.delimiter()));
+
+        Type methodReturnType = method.getGenericReturnType();
+        this.tokenStreamAdapter = findTokenStreamAdapter(tokenStreamAdapters, methodReturnType);
+        this.streaming = methodReturnType == TokenStream.class || tokenStreamAdapter != null;
+        this.async = !streaming && isFuture(methodReturnType);
+        this.returnType = async ? resolveFirstGenericParameterType(methodReturnType) : methodReturnType;
+        this.returnTypeResult = typeHasRawClass(returnType, Result.class);
+
+        // TODO should it be called when returnType==String?
+        boolean supportsJsonSchema = context.chatModel != null
+                && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
+        Optional<JsonSchema> jsonSchema = Optional.empty();
+        if (supportsJsonSchema && !streaming) {
+            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+        }
+        this.responseFormat = jsonSchema
+                .map(schema -> ResponseFormat.builder().type(JSON).jsonSchema(schema).build())
+                .orElse(null);
+        this.outputFormatInstructions = (!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming
+                ? serviceOutputParser.outputFormatInstructions(returnType)
+                : null;
+
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+        this.hasInputGuardrails = context.guardrailService().hasInputGuardrails(method);
+        this.hasOutputGuardrails = context.guardrailService().hasOutputGuardrails(method);
+    }
+
+    Method method() {
+        return method;
+    }
+
+    Optional<Object> memoryId(Object[] args) {
+        if (memoryIdIndex < 0) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    method.getParameters()[memoryIdIndex].getName(), method.getName());
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<String> userName(Object[] args) {
+        return userNameIndex < 0 ? Optional.empty() : Optional.of(args[userNameIndex].toString());
+    }
+
+    Optional<InvocationParameters> invocationParameters(Object[] args) {
+        if (invocationParametersIndex < 0) {
+            return Optional.empty();
+        }
+        InvocationParameters invocationParameters = (InvocationParameters) args[invocationParametersIndex];
+        ensureNotNull(invocationParameters, "InvocationParameters");
+        return Optional.of(invocationParameters);
+    }
+
+    Map<String, Object> templateVariables(String template, Object[] args) {
+        return variableBinder.bind(template, args);
+    }
+
+    /**
+     * @return the template of the {@link SystemMessage} annotation, if any.
+     */
+    Optional<PromptTemplate> systemMessageTemplate() {
+        return Optional.ofNullable(systemMessageTemplate);
+    }
+
+    PromptTemplate userMessageTemplate(Object[] args) {
+
+        Optional<String> templateFromParameterAnnotation = findUserMessageTemplateFromAnnotatedParameter(args);
+
+        if (userMessageTemplate != null && templateFromParameterAnnotation.isPresent()) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName());
+        }
+
+        if (userMessageTemplate != null) {
+            return userMessageTemplate;
+        }
+        if (templateFromParameterAnnotation.isPresent()) {
+            return PromptTemplate.from(templateFromParameterAnnotation.get());
+        }
+
+        if (userMessageFromTheOnlyArgument) {
+            return PromptTemplate.from(InternalReflectionVariableResolver.asString(args[0]));
+        }
+
+        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
+    }
+
+    private Optional<String> findUserMessageTemplateFromAnnotatedParameter(Object[] args) {
+        for (int i : userMessageIndexes) {
+            if (!(args[i] instanceof Content) && !isListOfContents(args[i])) {
+                return Optional.of(InternalReflectionVariableResolver.asString(args[i]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    Optional<List<Content>> contents(Object[] args) {
+        List<Content> contents = new ArrayList<>();
+
+        if (userMessageTemplate != null) {
+            contents.add(null); // placeholder
+        }
+
+        for (int i : userMessageIndexes) {
+            if (args[i] instanceof Content) {
+                contents.add((Content) args[i]);
+            } else if (isListOfContents(args[i])) {
+                contents.addAll((List<Content>) args[i]);
+            } else {
+                contents.add(null); // placeholder
+            }
+        }
+
+        if (contents.stream().filter(Objects::isNull).count() > 1) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage for text content. Please use only one.",
+                    method.getName());
+        }
+
+        return contents.isEmpty() ? Optional.empty() : Optional.of(contents);
+    }
+
+    /**
+     * @return the return type of the method, or the type of the result of the future returned by the method.
+     */
+    Type returnType() {
+        return returnType;
+    }
+
+    boolean isStreaming() {
+        return streaming;
+    }
+
+    boolean isAsync() {
+        return async;
+    }
+
+    boolean isReturnTypeResult() {
+        return returnTypeResult;
+    }
+
+    Object adapt(TokenStream tokenStream) {
+        return tokenStreamAdapter == null ? tokenStream : tokenStreamAdapter.adapt(tokenStream);
+    }
+
+    /**
+     * @return the JSON response format to request when the model supports JSON schemas, or {@code null}.
+     */
+    ResponseFormat responseFormat() {
+        return responseFormat;
+    }
+
+    /**
+     * @return the instructions to append to the user message when no JSON schema is requested, or {@code null}.
+     */
+    String outputFormatInstructions() {
+        return outputFormatInstructions;
+    }
+
+    boolean isModerated() {
+        return moderated;
+    }
+
+    boolean hasInputGuardrails() {
+        return hasInputGuardrails;
+    }
+
+    boolean hasOutputGuardrails() {
+        return hasOutputGuardrails;
+    }
+
+    private static TokenStreamAdapter findTokenStreamAdapter(
+            Collection<TokenStreamAdapter> tokenStreamAdapters, Type returnType) {
+        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
+            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
+                return tokenStreamAdapter;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFuture(Type type) {
+        return typeHasRawClass(type, CompletableFuture.class) || typeHasRawClass(type, CompletionStage.class);
+    }
+
+    private static boolean isListOfContents(Object o) {
+        return o instanceof List<?> list && list.stream().allMatch(Content.class::isInstance);
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String resource) {
+        InputStream inputStream = clazz.getResourceAsStream(resource);
+        if (inputStream == null) {
+            inputStream = clazz.getResourceAsStream("/" + resource);
+        }
+        return getText(inputStream);
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+                Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+}
@@ -44,6 +44,7 @@ import dev.langchain4j.service.tool.ToolExecutionErrorHandler;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -305,6 +306,27 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the chat memory provider, like {@link #chatMemoryProvider(ChatMemoryProvider)},
+     * but keeps at most {@code maxChatMemories} instances of {@link ChatMemory},
+     * and evicts the ones not used for longer than {@code maxIdleTime}.
+     * An evicted {@link ChatMemory} is obtained again from the provider the next time its memoryId is used,
+     * so its messages should be kept in a persistent {@link dev.langchain4j.store.memory.chat.ChatMemoryStore},
+     * optionally behind a {@link dev.langchain4j.store.memory.chat.CachingChatMemoryStore}.
+     *
+     * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new user/conversation.
+     * @param maxChatMemories    The maximum number of {@link ChatMemory} instances kept, or {@code null} for no limit.
+     * @param maxIdleTime        The maximum time a {@link ChatMemory} is kept without being used, or {@code null} for no limit.
+     * @return builder
+     */
+    public AiServices<T> chatMemoryProvider(
+            ChatMemoryProvider chatMemoryProvider, Integer maxChatMemories, Duration maxIdleTime) {
+        if (chatMemoryProvider != null) {
+            context.initChatMemories(chatMemoryProvider, maxChatMemories, maxIdleTime);
+        }
+        return this;
+    }
+
     /**
      * Configures a transformer that will be applied to the {@link ChatRequest} before it is sent to the LLM.
      * <p>
@@ -348,6 +370,21 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the {@link Executor} used by the AI Service to run tasks in the background,
+     * such as the moderation of methods annotated with {@link Moderate}
+     * and the processing of the responses of methods returning a {@link java.util.concurrent.CompletableFuture}.
+     * <p>
+     * If {@code null} is specified, the default {@link Executor} will be used.
+     *
+     * @param executor The {@link Executor} to be used by the AI Service.
+     * @return builder
+     */
+    public AiServices<T> executor(Executor executor) {
+        context.executor = executor;
+        return this;
+    }
+
     /**
      * Configures the tools that the LLM can use.
      *
@@ -1,10 +1,9 @@
 package dev.langchain4j.service;
 
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.FutureUtils.unwrap;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
-import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
-import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
-import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
 import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
 import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
@@ -21,14 +20,13 @@ import dev.langchain4j.guardrail.ChatExecutor;
 import dev.langchain4j.guardrail.GuardrailRequestParams;
 import dev.langchain4j.guardrail.InputGuardrailRequest;
 import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.invocation.LangChain4jManaged;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.invocation.InvocationParameters;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ChatRequestParameters;
-import dev.langchain4j.model.chat.request.ResponseFormat;
-import dev.langchain4j.model.chat.request.json.JsonSchema;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.input.Prompt;
 import dev.langchain4j.model.input.PromptTemplate;
@@ -47,7 +45,6 @@ import dev.langchain4j.service.output.ServiceOutputParser;
 import dev.langchain4j.service.tool.ToolServiceContext;
 import dev.langchain4j.service.tool.ToolServiceResult;
 import dev.langchain4j.spi.services.TokenStreamAdapter;
-import java.io.InputStream;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
@@ -56,16 +53,15 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 @Internal
@@ -74,6 +70,11 @@ class DefaultAiServices<T> extends AiServices<T> {
     private final ServiceOutputParser serviceOutputParser = new ServiceOutputParser();
     private final Collection<TokenStreamAdapter> tokenStreamAdapters = loadFactories(TokenStreamAdapter.class);
 
+    /**
+     * The invocation plans of the methods of the AI Service, created on their first invocation.
+     */
+    private final Map<Method, AiServiceInvocationPlan> invocationPlans = new ConcurrentHashMap<>();
+
     DefaultAiServices(AiServiceContext context) {
         super(context);
     }
@@ -122,6 +123,10 @@ class DefaultAiServices<T> extends AiServices<T> {
         }
     }
 
+    private static boolean isFuture(Type type) {
+        return typeHasRawClass(type, CompletableFuture.class) || typeHasRawClass(type, CompletionStage.class);
+    }
+
     private void validateContextMemory() {
         if (!context.hasChatMemory() && ChatMemoryAccess.class.isAssignableFrom(context.aiServiceClass)) {
             throw illegalConfiguration(
@@ -150,7 +155,10 @@ class DefaultAiServices<T> extends AiServices<T> {
             }
 
             Class<?> returnType = method.getReturnType();
-            if (returnType == Result.class || returnType == List.class || returnType == Set.class) {
+            if (returnType == Result.class
+                    || returnType == List.class
+                    || returnType == Set.class
+                    || isFuture(returnType)) {
                 TypeUtils.validateReturnTypesAreProperlyParametrized(method.getName(), method.getGenericReturnType());
             }
 
@@ -185,13 +193,13 @@ class DefaultAiServices<T> extends AiServices<T> {
     public T build() {
         validate();
 
+        Executor executor = getOrDefault(context.executor, DefaultExecutorProvider::getDefaultExecutorService);
+
         Object proxyInstance = Proxy.newProxyInstance(
                 context.aiServiceClass.getClassLoader(),
                 new Class<?>[] {context.aiServiceClass},
                 new InvocationHandler() {
 
-                    private final ExecutorService executor = Executors.newCachedThreadPool();
-
                     @Override
                     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
                         if (method.isDefault()) {
@@ -216,24 +224,26 @@ class DefaultAiServices<T> extends AiServices<T> {
                             return handleChatMemoryAccess(method, args);
                         }
 
-                        // TODO do it once, when creating AI Service?
-                        validateParameters(context.aiServiceClass, method);
+                        AiServiceInvocationPlan plan = invocationPlans.computeIfAbsent(
+                                method,
+                                m -> new AiServiceInvocationPlan(
+                                        m, context, serviceOutputParser, tokenStreamAdapters));
 
-                        InvocationParameters invocationParameters = findInvocationParams(args, method.getParameters())
-                                .orElseGet(InvocationParameters::new);
+                        InvocationParameters invocationParameters =
+                                plan.invocationParameters(args).orElseGet(InvocationParameters::new);
 
                         InvocationContext invocationContext = InvocationContext.builder()
                                 .invocationId(UUID.randomUUID())
                                 .interfaceName(context.aiServiceClass.getName())
                                 .methodName(method.getName())
                                 .methodArguments(args != null ? Arrays.asList(args) : List.of())
-                                .chatMemoryId(findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT))
+                                .chatMemoryId(plan.memoryId(args).orElse(ChatMemoryService.DEFAULT))
                                 .invocationParameters(invocationParameters)
                                 .managedParameters(LangChain4jManaged.current())
                                 .timestampNow()
                                 .build();
                         try {
-                            return invoke(method, args, invocationContext);
+                            return invoke(plan, args, invocationContext);
                         } catch (Exception ex) {
                             context.eventListenerRegistrar.fireEvent(AiServiceErrorEvent.builder()
                                     .invocationContext(invocationContext)
@@ -243,18 +253,19 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
                     }
 
-                    public Object invoke(Method method, Object[] args, InvocationContext invocationContext) {
+                    public Object invoke(
+                            AiServiceInvocationPlan plan, Object[] args, InvocationContext invocationContext) {
 
                         Object memoryId = invocationContext.chatMemoryId();
                         ChatMemory chatMemory = context.hasChatMemory()
                                 ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
                                 : null;
 
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
-                        var userMessageTemplate = getUserMessageTemplate(method, args);
-                        var variables = InternalReflectionVariableResolver.findTemplateVariables(
-                                userMessageTemplate, method, args);
-                        UserMessage userMessage = prepareUserMessage(method, args, userMessageTemplate, variables);
+                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, plan, args);
+                        var userMessagePromptTemplate = plan.userMessageTemplate(args);
+                        var userMessageTemplate = userMessagePromptTemplate.template();
+                        var variables = plan.templateVariables(userMessageTemplate, args);
+                        UserMessage userMessage = prepareUserMessage(plan, args, userMessagePromptTemplate, variables);
 
                         context.eventListenerRegistrar.fireEvent(AiServiceStartedEvent.builder()
                                 .invocationContext(invocationContext)
@@ -285,23 +296,12 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .build();
 
                         userMessage = invokeInputGuardrails(
-                                context.guardrailService(), method, userMessage, commonGuardrailParam);
-
-                        Type returnType = method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+                                context.guardrailService(), plan, userMessage, commonGuardrailParam);
 
-                        // TODO should it be called when returnType==String?
-                        boolean supportsJsonSchema = supportsJsonSchema();
+                        Type returnType = plan.returnType();
+                        userMessage = appendOutputFormatInstructions(plan.outputFormatInstructions(), userMessage);
 
-                        Optional<JsonSchema> jsonSchema = Optional.empty();
-                        if (supportsJsonSchema && !streaming) {
-                            jsonSchema = serviceOutputParser.jsonSchema(returnType);
-                        }
-                        if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
-                        }
-
-                        Optional<List<Content>> maybeContents = findContents(method, args);
+                        Optional<List<Content>> maybeContents = plan.contents(args);
                         if (maybeContents.isPresent()) {
                             List<Content> allContents = new ArrayList<>();
                             for (Content content : maybeContents.get()) {
@@ -324,12 +324,12 @@ class DefaultAiServices<T> extends AiServices<T> {
                             messages.add(userMessage);
                         }
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(plan, messages);
 
                         ToolServiceContext toolServiceContext =
                                 context.toolService.createContext(invocationContext, userMessage);
 
-                        if (streaming) {
+                        if (plan.isStreaming()) {
                             var tokenStreamParameters = AiServiceTokenStreamParameters.builder()
                                     .messages(messages)
                                     .toolSpecifications(toolServiceContext.toolSpecifications())
@@ -342,29 +342,17 @@ class DefaultAiServices<T> extends AiServices<T> {
                                     .context(context)
                                     .invocationContext(invocationContext)
                                     .commonGuardrailParams(commonGuardrailParam)
-                                    .methodKey(method)
+                                    .methodKey(plan.method())
                                     .build();
 
                             TokenStream tokenStream = new AiServiceTokenStream(tokenStreamParameters);
                             // TODO moderation
-                            if (returnType == TokenStream.class) {
-                                return tokenStream;
-                            } else {
-                                return adapt(tokenStream, returnType);
-                            }
-                        }
-
-                        ResponseFormat responseFormat = null;
-                        if (supportsJsonSchema && jsonSchema.isPresent()) {
-                            responseFormat = ResponseFormat.builder()
-                                    .type(JSON)
-                                    .jsonSchema(jsonSchema.get())
-                                    .build();
+                            return plan.adapt(tokenStream);
                         }
 
                         ChatRequestParameters parameters = ChatRequestParameters.builder()
                                 .toolSpecifications(toolServiceContext.toolSpecifications())
-                                .responseFormat(responseFormat)
+                                .responseFormat(plan.responseFormat())
                                 .build();
 
                         ChatRequest chatRequest = context.chatRequestTransformer.apply(
@@ -378,17 +366,27 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .chatRequest(chatRequest)
                                 .build();
 
+                        if (plan.isAsync()) {
+                            return invokeAsync(
+                                    plan,
+                                    chatRequest,
+                                    parameters,
+                                    messages,
+                                    chatMemory,
+                                    chatExecutor,
+                                    moderationFuture,
+                                    toolServiceContext,
+                                    augmentationResult,
+                                    commonGuardrailParam,
+                                    invocationContext);
+                        }
+
                         ChatResponse chatResponse = chatExecutor.execute();
 
-                        context.eventListenerRegistrar.fireEvent(AiServiceResponseReceivedEvent.builder()
-                                .invocationContext(invocationContext)
-                                .response(chatResponse)
-                                .build());
+                        fireResponseReceivedEvent(invocationContext, chatResponse);
 
                         verifyModerationIfNeeded(moderationFuture);
 
-                        boolean isReturnTypeResult = typeHasRawClass(returnType, Result.class);
-
                         ToolServiceResult toolServiceResult = context.toolService.executeInferenceAndToolsLoop(
                                 context,
                                 memoryId,
@@ -398,7 +396,99 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 chatMemory,
                                 invocationContext,
                                 toolServiceContext.toolExecutors(),
-                                isReturnTypeResult);
+                                plan.isReturnTypeResult());
+
+                        return completeInvocation(
+                                plan,
+                                toolServiceResult,
+                                augmentationResult,
+                                chatExecutor,
+                                commonGuardrailParam,
+                                invocationContext);
+                    }
+
+                    private CompletableFuture<Object> invokeAsync(
+                            AiServiceInvocationPlan plan,
+                            ChatRequest chatRequest,
+                            ChatRequestParameters parameters,
+                            List<ChatMessage> messages,
+                            ChatMemory chatMemory,
+                            ChatExecutor chatExecutor,
+                            Future<Moderation> moderationFuture,
+                            ToolServiceContext toolServiceContext,
+                            AugmentationResult augmentationResult,
+                            GuardrailRequestParams commonGuardrailParam,
+                            InvocationContext invocationContext) {
+
+                        CompletableFuture<Object> result = new CompletableFuture<>();
+
+                        CompletableFuture<ChatResponse> chatResponseFuture = context.chatModel.chatAsync(chatRequest);
+                        propagateCancellation(chatResponseFuture, result);
+
+                        chatResponseFuture
+                                .thenComposeAsync(
+                                        chatResponse -> {
+                                            fireResponseReceivedEvent(invocationContext, chatResponse);
+                                            verifyModerationIfNeeded(moderationFuture);
+                                            CompletableFuture<ToolServiceResult> toolServiceResultFuture =
+                                                    context.toolService.executeInferenceAndToolsLoopAsync(
+                                                            context,
+                                                            invocationContext.chatMemoryId(),
+                                                            chatResponse,
+                                                            parameters,
+                                                            messages,
+                                                            chatMemory,
+                                                            invocationContext,
+                                                            toolServiceContext.toolExecutors(),
+                                                            plan.isReturnTypeResult(),
+                                                            executor);
+                                            propagateCancellation(toolServiceResultFuture, result);
+                                            return toolServiceResultFuture;
+                                        },
+                                        executor)
+                                .thenApplyAsync(
+                                        toolServiceResult -> completeInvocation(
+                                                plan,
+                                                toolServiceResult,
+                                                augmentationResult,
+                                                chatExecutor,
+                                                commonGuardrailParam,
+                                                invocationContext),
+                                        executor)
+                                .whenComplete((response, error) -> {
+                                    if (error == null) {
+                                        result.complete(response);
+                                    } else {
+                                        Throwable cause = unwrap(error);
+                                        context.eventListenerRegistrar.fireEvent(AiServiceErrorEvent.builder()
+                                                .invocationContext(invocationContext)
+                                                .error(cause)
+                                                .build());
+                                        result.completeExceptionally(cause);
+                                    }
+                                });
+
+                        return result;
+                    }
+
+                    private void fireResponseReceivedEvent(
+                            InvocationContext invocationContext, ChatResponse chatResponse) {
+                        context.eventListenerRegistrar.fireEvent(AiServiceResponseReceivedEvent.builder()
+                                .invocationContext(invocationContext)
+                                .response(chatResponse)
+                                .build());
+                    }
+
+                    private Object completeInvocation(
+                            AiServiceInvocationPlan plan,
+                            ToolServiceResult toolServiceResult,
+                            AugmentationResult augmentationResult,
+                            ChatExecutor chatExecutor,
+                            GuardrailRequestParams commonGuardrailParam,
+                            InvocationContext invocationContext) {
+
+                        Type returnType = plan.returnType();
+                        boolean isReturnTypeResult = plan.isReturnTypeResult();
 
                         if (toolServiceResult.immediateToolReturn() && isReturnTypeResult) {
                             var result = Result.builder()
@@ -423,7 +513,7 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         var response = invokeOutputGuardrails(
                                 context.guardrailService(),
-                                method,
+                                plan,
                                 aggregateResponse,
                                 chatExecutor,
                                 commonGuardrailParam);
@@ -460,46 +550,8 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return actualResponse;
                     }
 
-                    private Optional<InvocationParameters> findInvocationParams(Object[] args, Parameter[] params) {
-                        if (args == null) {
-                            return Optional.empty();
-                        }
-                        for (int i = 0; i < params.length; i++) {
-                            Parameter parameter = params[i];
-                            if (InvocationParameters.class.isAssignableFrom(parameter.getType())) {
-                                InvocationParameters invocationParameters = (InvocationParameters) args[i];
-                                ensureNotNull(invocationParameters, "InvocationParameters");
-                                return Optional.of(invocationParameters);
-                            }
-                        }
-                        return Optional.empty();
-                    }
-
-                    private boolean canAdaptTokenStreamTo(Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    }
-
-                    private Object adapt(TokenStream tokenStream, Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return tokenStreamAdapter.adapt(tokenStream);
-                            }
-                        }
-                        throw new IllegalStateException("Can't find suitable TokenStreamAdapter");
-                    }
-
-                    private boolean supportsJsonSchema() {
-                        return context.chatModel != null
-                                && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
-                    }
-
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(
+                            String outputFormatInstructions, UserMessage userMessage) {
                         if (isNullOrEmpty(outputFormatInstructions)) {
                             return userMessage;
                         }
@@ -510,14 +562,17 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 .build();
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
-                            return executor.submit(() -> {
-                                List<ChatMessage> messagesToModerate = removeToolMessages(messages);
-                                return context.moderationModel
-                                        .moderate(messagesToModerate)
-                                        .content();
-                            });
+                    private Future<Moderation> triggerModerationIfNeeded(
+                            AiServiceInvocationPlan plan, List<ChatMessage> messages) {
+                        if (plan.isModerated()) {
+                            return CompletableFuture.supplyAsync(
+                                    () -> {
+                                        List<ChatMessage> messagesToModerate = removeToolMessages(messages);
+                                        return context.moderationModel
+                                                .moderate(messagesToModerate)
+                                                .content();
+                                    },
+                                    executor);
                         }
                         return null;
                     }
@@ -528,17 +583,16 @@ class DefaultAiServices<T> extends AiServices<T> {
 
     private UserMessage invokeInputGuardrails(
             GuardrailService guardrailService,
-            Method method,
+            AiServiceInvocationPlan plan,
             UserMessage userMessage,
             GuardrailRequestParams commonGuardrailParams) {
 
-        // NOTE: This check is cached, so it really only needs to be computed the first time for each method
-        if (guardrailService.hasInputGuardrails(method)) {
+        if (plan.hasInputGuardrails()) {
             var inputGuardrailRequest = InputGuardrailRequest.builder()
                     .userMessage(userMessage)
                     .commonParams(commonGuardrailParams)
                     .build();
-            return guardrailService.executeGuardrails(method, inputGuardrailRequest);
+            return guardrailService.executeGuardrails(plan.method(), inputGuardrailRequest);
         }
 
         return userMessage;
@@ -546,192 +600,48 @@ class DefaultAiServices<T> extends AiServices<T> {
 
     private <T> T invokeOutputGuardrails(
             GuardrailService guardrailService,
-            Method method,
+            AiServiceInvocationPlan plan,
             ChatResponse responseFromLLM,
             ChatExecutor chatExecutor,
             GuardrailRequestParams commonGuardrailParams) {
 
-        if (guardrailService.hasOutputGuardrails(method)) {
+        if (plan.hasOutputGuardrails()) {
             var outputGuardrailRequest = OutputGuardrailRequest.builder()
                     .responseFromLLM(responseFromLLM)
                     .chatExecutor(chatExecutor)
                     .requestParams(commonGuardrailParams)
                     .build();
-            return guardrailService.executeGuardrails(method, outputGuardrailRequest);
+            return guardrailService.executeGuardrails(plan.method(), outputGuardrailRequest);
         }
 
         return (T) responseFromLLM;
     }
 
-    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method).map(systemMessageTemplate -> PromptTemplate.from(
-                        systemMessageTemplate)
-                .apply(InternalReflectionVariableResolver.findTemplateVariables(systemMessageTemplate, method, args))
+    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, AiServiceInvocationPlan plan, Object[] args) {
+        return findSystemMessageTemplate(memoryId, plan).map(systemMessageTemplate -> systemMessageTemplate
+                .apply(plan.templateVariables(systemMessageTemplate.template(), args))
                 .toSystemMessage());
     }
 
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
+    private Optional<PromptTemplate> findSystemMessageTemplate(Object memoryId, AiServiceInvocationPlan plan) {
+        Optional<PromptTemplate> templateFromMethodAnnotation = plan.systemMessageTemplate();
+        if (templateFromMethodAnnotation.isPresent()) {
+            return templateFromMethodAnnotation;
         }
 
-        return context.systemMessageProvider.apply(memoryId);
+        return context.systemMessageProvider.apply(memoryId).map(PromptTemplate::from);
     }
 
     private static UserMessage prepareUserMessage(
-            Method method, Object[] args, String userMessageTemplate, Map<String, Object> variables) {
-        Prompt prompt = PromptTemplate.from(userMessageTemplate).apply(variables);
+            AiServiceInvocationPlan plan,
+            Object[] args,
+            PromptTemplate userMessageTemplate,
+            Map<String, Object> variables) {
+        Prompt prompt = userMessageTemplate.apply(variables);
 
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
+        Optional<String> maybeUserName = plan.userName(args);
         return maybeUserName
                 .map(userName -> UserMessage.from(userName, prompt.text()))
                 .orElseGet(prompt::toUserMessage);
     }
-
-    private static String getUserMessageTemplate(Method method, Object[] args) {
-
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation =
-                findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
-
-        if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                    method.getName());
-        }
-
-        if (templateFromMethodAnnotation.isPresent()) {
-            return templateFromMethodAnnotation.get();
-        }
-        if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
-        }
-
-        Optional<String> templateFromTheOnlyArgument =
-                findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
-        if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
-        }
-
-        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
-    }
-
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
-    private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(
-            Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
-                    && !(args[i] instanceof Content)
-                    && !isListOfContents(args[i])) {
-                return Optional.of(InternalReflectionVariableResolver.asString(args[i]));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
-            return Optional.of(InternalReflectionVariableResolver.asString(args[0]));
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<List<Content>> findContents(Method method, Object[] args) {
-        List<Content> contents = new ArrayList<>();
-
-        if (findUserMessageTemplateFromMethodAnnotation(method).isPresent()) {
-            contents.add(null); // placeholder
-        }
-
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                if (args[i] instanceof Content) {
-                    contents.add((Content) args[i]);
-                } else if (isListOfContents(args[i])) {
-                    contents.addAll((List<Content>) args[i]);
-                } else {
-                    contents.add(null); // placeholder
-                }
-            }
-        }
-
-        if (contents.stream().filter(Objects::isNull).count() > 1) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage for text content. Please use only one.",
-                    method.getName());
-        }
-
-        return contents.isEmpty() ? Optional.empty() : Optional.of(contents);
-    }
-
-    private static boolean isListOfContents(Object o) {
-        return o instanceof List<?> list && list.stream().allMatch(Content.class::isInstance);
-    }
-
-    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
-        String messageTemplate;
-        if (!resource.trim().isEmpty()) {
-            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
-            if (messageTemplate == null) {
-                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
-            }
-        } else {
-            messageTemplate = String.join(delimiter, value);
-        }
-        if (messageTemplate.trim().isEmpty()) {
-            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
-        }
-        return messageTemplate;
-    }
-
-    private static String getResourceText(Class<?> clazz, String resource) {
-        InputStream inputStream = clazz.getResourceAsStream(resource);
-        if (inputStream == null) {
-            inputStream = clazz.getResourceAsStream("/" + resource);
-        }
-        return getText(inputStream);
-    }
-
-    private static String getText(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
-        try (Scanner scanner = new Scanner(inputStream);
-                Scanner s = scanner.useDelimiter("\\A")) {
-            return s.hasNext() ? s.next() : "";
-        }
-    }
-
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName());
-                }
-                return Optional.of(memoryId);
-            }
-        }
-        return Optional.empty();
-    }
 }
@@ -26,28 +26,7 @@ public class InternalReflectionVariableResolver {
     private InternalReflectionVariableResolver() {}
 
     public static Map<String, Object> findTemplateVariables(String template, Method method, Object[] args) {
-        if (args == null) {
-            return Collections.emptyMap();
-        }
-        Parameter[] parameters = method.getParameters();
-
-        Map<String, Object> variables = new HashMap<>();
-        for (int i = 0; i < args.length; i++) {
-            Parameter parameter = parameters[i];
-            if (InvocationParameters.class.isAssignableFrom(parameter.getType())) {
-                continue;
-            }
-            String variableName = getVariableName(parameter);
-            Object variableValue = args[i];
-            variables.put(variableName, variableValue);
-        }
-
-        if (template.contains("{{it}}") && !variables.containsKey("it")) {
-            String itValue = getValueOfVariableIt(parameters, args);
-            variables.put("it", itValue);
-        }
-
-        return variables;
+        return TemplateVariableBinder.of(method).bind(template, args);
     }
 
     private static String getVariableName(Parameter parameter) {
@@ -59,26 +38,24 @@ public class InternalReflectionVariableResolver {
         }
     }
 
-    private static String getValueOfVariableIt(Parameter[] parameters, Object[] args) {
-        if (args != null) {
-            if (args.length == 1) {
-                Parameter parameter = parameters[0];
-                if (!parameter.isAnnotationPresent(MemoryId.class)
-                        && !parameter.isAnnotationPresent(UserMessage.class)
-                        && !parameter.isAnnotationPresent(UserName.class)
-                        && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
-                    return asString(args[0]);
-                }
+    private static int findIndexOfVariableIt(Parameter[] parameters) {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
             }
+        }
 
-            for (int i = 0; i < args.length; i++) {
-                if (isAnnotatedWithIt(parameters[i])) {
-                    return asString(args[i]);
-                }
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
             }
         }
 
-        throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+        return -1;
     }
 
     private static boolean isAnnotatedWithIt(Parameter parameter) {
@@ -110,4 +87,55 @@ public class InternalReflectionVariableResolver {
         sb.append("]");
         return sb.toString();
     }
+
+    /**
+     * Binds the arguments of an invocation to the template variables of a method.
+     * <p>
+     * The variable names are resolved from the method parameters once, when the binder is created,
+     * so that binding does not use reflection.
+     */
+    static class TemplateVariableBinder {
+
+        private final String[] variableNames;
+        private final int indexOfVariableIt;
+
+        private TemplateVariableBinder(String[] variableNames, int indexOfVariableIt) {
+            this.variableNames = variableNames;
+            this.indexOfVariableIt = indexOfVariableIt;
+        }
+
+        static TemplateVariableBinder of(Method method) {
+            Parameter[] parameters = method.getParameters();
+            String[] variableNames = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                if (!InvocationParameters.class.isAssignableFrom(parameters[i].getType())) {
+                    variableNames[i] = getVariableName(parameters[i]);
+                }
+            }
+            return new TemplateVariableBinder(variableNames, findIndexOfVariableIt(parameters));
+        }
+
+        Map<String, Object> bind(String template, Object[] args) {
+            if (args == null) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, Object> variables = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                if (variableNames[i] != null) {
+                    variables.put(variableNames[i], args[i]);
+                }
+            }
+
+            if (template.contains("{{it}}") && !variables.containsKey("it")) {
+                if (indexOfVariableIt < 0) {
+                    throw illegalConfiguration(
+                            "Error: cannot find the value of the prompt template variable \"{{it}}\".");
+                }
+                variables.put("it", asString(args[indexOfVariableIt]));
+            }
+
+            return variables;
+        }
+    }
 }
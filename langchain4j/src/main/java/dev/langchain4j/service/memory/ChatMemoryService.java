@@ -4,10 +4,18 @@ import dev.langchain4j.Internal;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 @Internal
@@ -19,11 +27,45 @@ public class ChatMemoryService {
     private Map<Object, ChatMemory> chatMemories;
     private ChatMemoryProvider chatMemoryProvider;
 
+    private Integer maxChatMemories;
+    private Duration maxIdleTime;
+    /**
+     * The last access time of each chat memory, from the least to the most recently used.
+     * Guarded by its own monitor, which is never held while calling the {@link ChatMemoryProvider}.
+     * In bounded mode, {@link #chatMemories} is only changed while holding it too, so that both have the same keys.
+     */
+    private LinkedHashMap<Object, Instant> lastAccessTimes;
+    private Clock clock;
+
     public ChatMemoryService(ChatMemoryProvider chatMemoryProvider) {
         this.chatMemories = new ConcurrentHashMap<>();
         this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
     }
 
+    /**
+     * Creates a service keeping at most {@code maxChatMemories} {@link ChatMemory} instances,
+     * and none unused for longer than {@code maxIdleTime}.
+     * Evicted chat memories are obtained again from the {@link ChatMemoryProvider} when they are used again,
+     * so their state should be kept in a persistent {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}.
+     */
+    public ChatMemoryService(ChatMemoryProvider chatMemoryProvider, Integer maxChatMemories, Duration maxIdleTime) {
+        this(chatMemoryProvider, maxChatMemories, maxIdleTime, Clock.systemUTC());
+    }
+
+    ChatMemoryService(
+            ChatMemoryProvider chatMemoryProvider, Integer maxChatMemories, Duration maxIdleTime, Clock clock) {
+        this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
+        this.chatMemories = new ConcurrentHashMap<>();
+        this.lastAccessTimes = new LinkedHashMap<>(16, 0.75f, true);
+        this.maxChatMemories =
+                maxChatMemories == null ? null : ensureGreaterThanZero(maxChatMemories, "maxChatMemories");
+        if (maxIdleTime != null && (maxIdleTime.isZero() || maxIdleTime.isNegative())) {
+            throw new IllegalArgumentException("maxIdleTime must be positive, but is: " + maxIdleTime);
+        }
+        this.maxIdleTime = maxIdleTime;
+        this.clock = ensureNotNull(clock, "clock");
+    }
+
     public ChatMemoryService(ChatMemory chatMemory) {
         defaultChatMemory = ensureNotNull(chatMemory, "chatMemory");
     }
@@ -35,18 +77,50 @@ public class ChatMemoryService {
             }
             return defaultChatMemory;
         }
-        return chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+        ChatMemory chatMemory = chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+        if (!isBounded()) {
+            return chatMemory;
+        }
+        synchronized (lastAccessTimes) {
+            // the chat memory may have been evicted, and even created again, since it was obtained
+            ChatMemory current = chatMemories.putIfAbsent(memoryId, chatMemory);
+            if (current != null) {
+                chatMemory = current;
+            }
+            lastAccessTimes.put(memoryId, clock.instant());
+            evict();
+        }
+        return chatMemory;
     }
 
     public ChatMemory getChatMemory(Object memoryId) {
-        return memoryId == DEFAULT ? defaultChatMemory : chatMemories.get(memoryId);
+        if (memoryId == DEFAULT) {
+            return defaultChatMemory;
+        }
+        return chatMemories.get(memoryId);
     }
 
     public ChatMemory evictChatMemory(Object memoryId) {
+        if (isBounded()) {
+            synchronized (lastAccessTimes) {
+                lastAccessTimes.remove(memoryId);
+                return chatMemories.remove(memoryId);
+            }
+        }
         return chatMemories.remove(memoryId);
     }
 
     public void clearAll() {
+        if (isBounded()) {
+            List<ChatMemory> cleared;
+            synchronized (lastAccessTimes) {
+                lastAccessTimes.clear();
+                cleared = new ArrayList<>(chatMemories.values());
+                chatMemories.clear();
+            }
+            cleared.forEach(ChatMemory::clear);
+            return;
+        }
         chatMemories.values().forEach(ChatMemory::clear);
         chatMemories.clear();
     }
@@ -58,4 +132,26 @@ public class ChatMemoryService {
     public Collection<ChatMemory> getChatMemories() {
         return chatMemories.values();
     }
+
+    private boolean isBounded() {
+        return lastAccessTimes != null;
+    }
+
+    /**
+     * Removes the idle chat memories and the least recently used ones above the bound, without clearing them.
+     * Must be called while holding the monitor of {@link #lastAccessTimes}.
+     */
+    private void evict() {
+        Instant idleSince = maxIdleTime == null ? null : clock.instant().minus(maxIdleTime);
+        Iterator<Map.Entry<Object, Instant>> iterator = lastAccessTimes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Instant> eldest = iterator.next();
+            boolean idle = idleSince != null && eldest.getValue().isBefore(idleSince);
+            if (!idle && (maxChatMemories == null || lastAccessTimes.size() <= maxChatMemories)) {
+                break;
+            }
+            iterator.remove();
+            chatMemories.remove(eldest.getKey());
+        }
+    }
 }
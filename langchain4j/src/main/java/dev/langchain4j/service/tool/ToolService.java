@@ -2,6 +2,8 @@ package dev.langchain4j.service.tool;
 
 import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFrom;
 import static dev.langchain4j.internal.Exceptions.runtime;
+import static dev.langchain4j.internal.FutureUtils.propagateCancellation;
+import static dev.langchain4j.internal.FutureUtils.unwrap;
 import static dev.langchain4j.internal.Utils.getAnnotatedMethod;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
@@ -217,12 +219,146 @@ public class ToolService {
             InvocationContext invocationContext,
             Map<String, ToolExecutor> toolExecutors,
             boolean isReturnTypeResult) {
-        TokenUsage aggregateTokenUsage = chatResponse.metadata().tokenUsage();
-        List<ToolExecution> toolExecutions = new ArrayList<>();
-        List<ChatResponse> intermediateResponses = new ArrayList<>();
 
-        int executionsLeft = maxSequentialToolsInvocations;
-        while (true) {
+        InferenceAndToolsLoop loop = new InferenceAndToolsLoop(
+                context,
+                memoryId,
+                chatResponse,
+                parameters,
+                messages,
+                chatMemory,
+                invocationContext,
+                toolExecutors,
+                isReturnTypeResult);
+
+        ChatRequest chatRequest;
+        while ((chatRequest = loop.nextChatRequest()) != null) {
+            loop.onChatResponse(context.chatModel.chat(chatRequest));
+        }
+        return loop.toolServiceResult;
+    }
+
+    /**
+     * Same as {@link #executeInferenceAndToolsLoop}, but sends the chat requests with
+     * {@link ChatModel#chatAsync(ChatRequest)}, so that no thread is blocked while waiting for the model.
+     * Tools and chat memory are invoked on the given executor.
+     * <br>
+     * Cancelling the returned future cancels the pending chat request and stops the loop.
+     */
+    public CompletableFuture<ToolServiceResult> executeInferenceAndToolsLoopAsync(
+            AiServiceContext context,
+            Object memoryId,
+            ChatResponse chatResponse,
+            ChatRequestParameters parameters,
+            List<ChatMessage> messages,
+            ChatMemory chatMemory,
+            InvocationContext invocationContext,
+            Map<String, ToolExecutor> toolExecutors,
+            boolean isReturnTypeResult,
+            Executor executor) {
+
+        InferenceAndToolsLoop loop = new InferenceAndToolsLoop(
+                context,
+                memoryId,
+                chatResponse,
+                parameters,
+                messages,
+                chatMemory,
+                invocationContext,
+                toolExecutors,
+                isReturnTypeResult);
+
+        CompletableFuture<ToolServiceResult> result = new CompletableFuture<>();
+        continueAsync(loop, result, executor);
+        return result;
+    }
+
+    private void continueAsync(
+            InferenceAndToolsLoop loop, CompletableFuture<ToolServiceResult> result, Executor executor) {
+        ChatRequest chatRequest;
+        try {
+            chatRequest = loop.nextChatRequest();
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        if (chatRequest == null) {
+            result.complete(loop.toolServiceResult);
+            return;
+        }
+        if (result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<ChatResponse> future = loop.context.chatModel.chatAsync(chatRequest);
+        propagateCancellation(future, result);
+        future.whenCompleteAsync(
+                (chatResponse, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(unwrap(error));
+                        return;
+                    }
+                    try {
+                        loop.onChatResponse(chatResponse);
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                        return;
+                    }
+                    continueAsync(loop, result, executor);
+                },
+                executor);
+    }
+
+    /**
+     * The state of an inference and tools loop, shared by its synchronous and asynchronous variants.
+     */
+    private class InferenceAndToolsLoop {
+
+        private final AiServiceContext context;
+        private final Object memoryId;
+        private final ChatRequestParameters parameters;
+        private final ChatMemory chatMemory;
+        private final InvocationContext invocationContext;
+        private final Map<String, ToolExecutor> toolExecutors;
+        private final boolean isReturnTypeResult;
+
+        private final List<ToolExecution> toolExecutions = new ArrayList<>();
+        private final List<ChatResponse> intermediateResponses = new ArrayList<>();
+        private List<ChatMessage> messages;
+        private ChatResponse chatResponse;
+        private TokenUsage aggregateTokenUsage;
+        private int executionsLeft = maxSequentialToolsInvocations;
+        private ToolServiceResult toolServiceResult;
+
+        InferenceAndToolsLoop(
+                AiServiceContext context,
+                Object memoryId,
+                ChatResponse chatResponse,
+                ChatRequestParameters parameters,
+                List<ChatMessage> messages,
+                ChatMemory chatMemory,
+                InvocationContext invocationContext,
+                Map<String, ToolExecutor> toolExecutors,
+                boolean isReturnTypeResult) {
+            this.context = context;
+            this.memoryId = memoryId;
+            this.chatResponse = chatResponse;
+            this.parameters = parameters;
+            this.messages = messages;
+            this.chatMemory = chatMemory;
+            this.invocationContext = invocationContext;
+            this.toolExecutors = toolExecutors;
+            this.isReturnTypeResult = isReturnTypeResult;
+            this.aggregateTokenUsage = chatResponse.metadata().tokenUsage();
+        }
+
+        /**
+         * Handles the last chat response, executing the tools it requests.
+         *
+         * @return the next chat request to send,
+         * or {@code null} when the loop is over and {@link #toolServiceResult} is set.
+         */
+        ChatRequest nextChatRequest() {
 
             if (executionsLeft-- == 0) {
                 throw runtime(
@@ -239,7 +375,13 @@ public class ToolService {
             }
 
             if (!aiMessage.hasToolExecutionRequests()) {
-                break;
+                toolServiceResult = ToolServiceResult.builder()
+                        .intermediateResponses(intermediateResponses)
+                        .finalResponse(chatResponse)
+                        .toolExecutions(toolExecutions)
+                        .aggregateTokenUsage(aggregateTokenUsage)
+                        .build();
+                return null;
             }
 
             intermediateResponses.add(chatResponse);
@@ -285,38 +427,34 @@ public class ToolService {
 
             if (immediateToolReturn) {
                 ChatResponse finalResponse = intermediateResponses.remove(intermediateResponses.size() - 1);
-                return ToolServiceResult.builder()
+                toolServiceResult = ToolServiceResult.builder()
                         .intermediateResponses(intermediateResponses)
                         .finalResponse(finalResponse)
                         .toolExecutions(toolExecutions)
                         .aggregateTokenUsage(aggregateTokenUsage)
                         .immediateToolReturn(true)
                         .build();
+                return null;
             }
 
             if (chatMemory != null) {
                 messages = chatMemory.messages();
             }
 
-            ChatRequest chatRequest = context.chatRequestTransformer.apply(
+            return context.chatRequestTransformer.apply(
                     ChatRequest.builder()
                             .messages(messages)
                             .parameters(parameters)
                             .build(),
                     memoryId);
+        }
 
-            chatResponse = context.chatModel.chat(chatRequest);
+        void onChatResponse(ChatResponse chatResponse) {
             fireResponseReceivedEvent(chatResponse, invocationContext, context.eventListenerRegistrar);
-            aggregateTokenUsage =
+            this.chatResponse = chatResponse;
+            this.aggregateTokenUsage =
                     TokenUsage.sum(aggregateTokenUsage, chatResponse.metadata().tokenUsage());
         }
-
-        return ToolServiceResult.builder()
-                .intermediateResponses(intermediateResponses)
-                .finalResponse(chatResponse)
-                .toolExecutions(toolExecutions)
-                .aggregateTokenUsage(aggregateTokenUsage)
-                .build();
     }
 
     private void fireResponseReceivedEvent(
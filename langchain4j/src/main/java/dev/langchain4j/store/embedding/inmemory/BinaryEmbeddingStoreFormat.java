@@ -0,0 +1,417 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A compact binary snapshot format for in-memory embedding stores.
+ * <p>
+ * All numbers are little-endian. The file consists of:
+ * <ul>
+ *     <li>a 64-byte header: magic number, format version, dimension, number of entries,
+ *     and the offsets of the three sections below</li>
+ *     <li>the vectors, stored back to back as {@code float}s with a fixed stride of {@code dimension},
+ *     starting at byte 64</li>
+ *     <li>the norm of each vector, as one {@code float} per entry</li>
+ *     <li>the records: for each entry, its id, then either {@code 0} (no embedded object)
+ *     or {@code 1} followed by the text and the metadata of a {@link TextSegment}.
+ *     Strings are stored as their UTF-8 length followed by their UTF-8 bytes,
+ *     and each metadata value is preceded by a tag identifying its type.</li>
+ * </ul>
+ * Snapshots are written in a single streaming pass over each section, without building the file in memory,
+ * to a temporary file that then atomically replaces the target file. This keeps existing mappings of the target
+ * file (for example, by the store being serialized) valid, and never leaves a partially written snapshot behind.
+ * When reading, the vector section is memory-mapped with {@link FileChannel#map} (one mapping per
+ * {@link FloatVectorSlab} segment) rather than copied, so vectors are paged in lazily by the operating system.
+ * The norms and records are read eagerly.
+ */
+final class BinaryEmbeddingStoreFormat {
+
+    private static final int MAGIC = 0x454A344C; // "L4JE"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    private static final byte NO_EMBEDDED = 0;
+    private static final byte TEXT_SEGMENT = 1;
+
+    private static final byte STRING = 1;
+    private static final byte UUID_VALUE = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte FLOAT = 5;
+    private static final byte DOUBLE = 6;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinaryEmbeddingStoreFormat() {}
+
+    /**
+     * The entries of a store, as seen by {@link #write(Path, Source)}.
+     */
+    interface Source {
+
+        int size();
+
+        /**
+         * The dimension of the vectors, or {@code 0} when the store is empty.
+         */
+        int dimension();
+
+        String id(int index);
+
+        /**
+         * Copies the vector at the given index into {@code target}.
+         */
+        void vector(int index, float[] target);
+
+        float norm(int index);
+
+        Object embedded(int index);
+    }
+
+    /**
+     * The content of a snapshot. Vectors are not loaded but mapped, as described in {@link FloatVectorSlab}.
+     */
+    record Snapshot(
+            int dimension, int size, FloatBuffer[] vectors, float[] norms, List<String> ids, List<TextSegment> embedded) {
+
+        FloatVectorSlab toSlab(boolean offHeap) {
+            return new FloatVectorSlab(dimension, vectors, size, offHeap);
+        }
+    }
+
+    static void write(Path path, Source source) throws IOException {
+        int size = source.size();
+        int dimension = source.dimension();
+        long vectorsOffset = HEADER_SIZE;
+        long normsOffset = vectorsOffset + (long) size * dimension * Float.BYTES;
+        long recordsOffset = normsOffset + (long) size * Float.BYTES;
+
+        Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            Output output = new Output(channel);
+
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(dimension);
+            output.writeInt(size);
+            output.writeLong(vectorsOffset);
+            output.writeLong(normsOffset);
+            output.writeLong(recordsOffset);
+            output.writeBytes(new byte[HEADER_SIZE - 40]);
+
+            float[] vector = new float[dimension];
+            for (int i = 0; i < size; i++) {
+                source.vector(i, vector);
+                output.writeFloats(vector);
+            }
+
+            for (int i = 0; i < size; i++) {
+                output.writeFloat(source.norm(i));
+            }
+
+            for (int i = 0; i < size; i++) {
+                output.writeString(source.id(i));
+                Object embedded = source.embedded(i);
+                if (embedded == null) {
+                    output.writeByte(NO_EMBEDDED);
+                } else if (embedded instanceof TextSegment textSegment) {
+                    output.writeByte(TEXT_SEGMENT);
+                    output.writeString(textSegment.text());
+                    writeMetadata(output, textSegment.metadata());
+                } else {
+                    throw new UnsupportedOperationException("Only TextSegment can be serialized, but found "
+                            + embedded.getClass().getName());
+                }
+            }
+
+            output.flush();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        Files.move(temporaryFile, path, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            Input input = new Input(channel);
+
+            if (input.readInt() != MAGIC) {
+                throw illegalArgument("%s is not a binary embedding store snapshot", path);
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw illegalArgument("Unsupported binary embedding store snapshot version: %s", version);
+            }
+            int dimension = input.readInt();
+            int size = input.readInt();
+            long vectorsOffset = input.readLong();
+            long normsOffset = input.readLong();
+            long recordsOffset = input.readLong();
+
+            FloatBuffer[] vectors = mapVectors(channel, vectorsOffset, dimension, size);
+
+            input.seek(normsOffset);
+            float[] norms = new float[size];
+            input.readFloats(norms);
+
+            input.seek(recordsOffset);
+            List<String> ids = new ArrayList<>(size);
+            List<TextSegment> embedded = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ids.add(input.readString());
+                byte kind = input.readByte();
+                if (kind == NO_EMBEDDED) {
+                    embedded.add(null);
+                } else if (kind == TEXT_SEGMENT) {
+                    String text = input.readString();
+                    embedded.add(TextSegment.from(text, readMetadata(input)));
+                } else {
+                    throw illegalArgument("Unknown embedded type: %s", kind);
+                }
+            }
+
+            return new Snapshot(dimension, size, vectors, norms, ids, embedded);
+        }
+    }
+
+    private static FloatBuffer[] mapVectors(FileChannel channel, long offset, int dimension, int size)
+            throws IOException {
+        if (size == 0) {
+            return new FloatBuffer[0];
+        }
+        int vectorsPerSegment = FloatVectorSlab.vectorsPerSegment(dimension);
+        int segmentCount = (size + vectorsPerSegment - 1) / vectorsPerSegment;
+        long segmentBytes = (long) vectorsPerSegment * dimension * Float.BYTES;
+        FloatBuffer[] segments = new FloatBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int vectors = Math.min(vectorsPerSegment, size - i * vectorsPerSegment);
+            segments[i] = channel.map(
+                            FileChannel.MapMode.READ_ONLY,
+                            offset + i * segmentBytes,
+                            (long) vectors * dimension * Float.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asFloatBuffer();
+        }
+        return segments;
+    }
+
+    private static void writeMetadata(Output output, Metadata metadata) throws IOException {
+        Map<String, Object> map = metadata.toMap();
+        output.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            output.writeString(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof String string) {
+                output.writeByte(STRING);
+                output.writeString(string);
+            } else if (value instanceof UUID uuid) {
+                output.writeByte(UUID_VALUE);
+                output.writeLong(uuid.getMostSignificantBits());
+                output.writeLong(uuid.getLeastSignificantBits());
+            } else if (value instanceof Integer integer) {
+                output.writeByte(INTEGER);
+                output.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                output.writeByte(LONG);
+                output.writeLong(longValue);
+            } else if (value instanceof Float floatValue) {
+                output.writeByte(FLOAT);
+                output.writeFloat(floatValue);
+            } else if (value instanceof Double doubleValue) {
+                output.writeByte(DOUBLE);
+                output.writeLong(Double.doubleToRawLongBits(doubleValue));
+            } else {
+                throw illegalArgument(
+                        "Unsupported metadata value type: %s", value.getClass().getName());
+            }
+        }
+    }
+
+    private static Metadata readMetadata(Input input) throws IOException {
+        int size = input.readInt();
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = input.readString();
+            byte type = input.readByte();
+            Object value =
+                    switch (type) {
+                        case STRING -> input.readString();
+                        case UUID_VALUE -> new UUID(input.readLong(), input.readLong());
+                        case INTEGER -> input.readInt();
+                        case LONG -> input.readLong();
+                        case FLOAT -> input.readFloat();
+                        case DOUBLE -> Double.longBitsToDouble(input.readLong());
+                        default -> throw illegalArgument("Unknown metadata value type: %s", type);
+                    };
+            map.put(key, value);
+        }
+        return Metadata.from(map);
+    }
+
+    private static final class Output {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeByte(byte value) throws IOException {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void writeFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+        }
+
+        void writeFloats(float[] values) throws IOException {
+            int offset = 0;
+            while (offset < values.length) {
+                ensureRemaining(Float.BYTES);
+                int length = Math.min(buffer.remaining() / Float.BYTES, values.length - offset);
+                buffer.asFloatBuffer().put(values, offset, length);
+                buffer.position(buffer.position() + length * Float.BYTES);
+                offset += length;
+            }
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static final class Input {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Input(FileChannel channel) {
+            this.channel = channel;
+            buffer.limit(0);
+        }
+
+        void seek(long position) throws IOException {
+            channel.position(position);
+            buffer.clear().limit(0);
+        }
+
+        byte readByte() throws IOException {
+            ensureAvailable(Byte.BYTES);
+            return buffer.get();
+        }
+
+        int readInt() throws IOException {
+            ensureAvailable(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        long readLong() throws IOException {
+            ensureAvailable(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        float readFloat() throws IOException {
+            ensureAvailable(Float.BYTES);
+            return buffer.getFloat();
+        }
+
+        void readFloats(float[] values) throws IOException {
+            int offset = 0;
+            while (offset < values.length) {
+                ensureAvailable(Float.BYTES);
+                int length = Math.min(buffer.remaining() / Float.BYTES, values.length - offset);
+                buffer.asFloatBuffer().get(values, offset, length);
+                buffer.position(buffer.position() + length * Float.BYTES);
+                offset += length;
+            }
+        }
+
+        String readString() throws IOException {
+            byte[] bytes = new byte[readInt()];
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureAvailable(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.get(bytes, offset, length);
+                offset += length;
+            }
+            return new String(bytes, UTF_8);
+        }
+
+        private void ensureAvailable(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of binary embedding store snapshot");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,767 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.filter.CompiledFilter;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An {@link EmbeddingStore} that stores embeddings in memory using a flat, cache-friendly layout.
+ * <p>
+ * Like {@link InMemoryEmbeddingStore}, it uses a brute force approach by comparing the query with every embedding,
+ * but instead of keeping one {@link Embedding} object per entry, all vectors are packed back to back
+ * into a single contiguous {@code float} slab, with parallel lists of ids and embedded objects.
+ * This removes per-entry object headers and pointer chasing, so scans are bound by memory bandwidth.
+ * The inverse norm of each vector is computed once at insertion,
+ * so scoring an entry only requires a single dot product with the normalized query.
+ * <p>
+ * The slab can optionally be allocated off-heap (see {@link Builder#offHeap(Boolean)})
+ * to keep large stores out of the garbage-collected heap.
+ * <p>
+ * Adding an entry with an id that already exists replaces the existing entry.
+ * Removing an entry moves the last entry into the freed slot, so the slab never contains holes.
+ * <p>
+ * Vectors can also be quantized (see {@link Builder#quantization(VectorQuantization)}), in which case searches
+ * first scan compact codes to compute approximate scores, then re-score the best candidates exactly
+ * using the original vectors. The original vectors are then kept off-heap (or memory-mapped),
+ * so that the heap only holds the codes; the total footprint is that of the vectors plus the codes.
+ * With {@link Builder#rescoreMultiplier(Integer)} set to 0, the original vectors are released once they are encoded,
+ * so that only the codes are kept: searches then return approximate scores, and embeddings decoded from the codes.
+ * Quantization starts once {@link Builder#quantizationTrainingSize(Integer)} entries have been added;
+ * until then, searches are exact. The quantizer is trained by the thread whose addition reached that size,
+ * after the write lock has been released, so other additions, removals and searches are not blocked meanwhile.
+ * <p>
+ * The store can be persisted with {@link #serializeToBinaryFile(Path)}
+ * and reopened with {@link #fromBinaryFile(Path, Builder)},
+ * which memory-maps the vectors of the snapshot instead of reading them onto the heap:
+ * startup only reads ids, embedded objects and norms, and vectors are paged in by the operating system when scanned.
+ * The mapped file is never written to; modifying an entry of a reopened store first copies the affected segment.
+ * <p>
+ * This store is thread-safe: additions and removals are serialized, while searches run concurrently.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
+ */
+public class FlatInMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+    private static final int DEFAULT_QUANTIZATION_TRAINING_SIZE = 4096;
+    private static final int DEFAULT_RESCORE_MULTIPLIER = 4;
+
+    private final int initialCapacity;
+    private final boolean offHeap;
+    private final VectorQuantization quantization;
+    private final Integer productQuantizationSubspaces;
+    private final int quantizationTrainingSize;
+    private final int rescoreMultiplier;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<String> ids = new ArrayList<>();
+    private final List<Embedded> embedded = new ArrayList<>();
+    private final Map<String, Integer> ordinalsById = new HashMap<>();
+    private FloatVectorSlab vectors;
+    private float[] inverseNorms = new float[0];
+    private QuantizedVectors quantizedVectors;
+    private long modificationCount;
+    private final AtomicBoolean training = new AtomicBoolean();
+
+    public FlatInMemoryEmbeddingStore() {
+        this(builder());
+    }
+
+    private FlatInMemoryEmbeddingStore(Builder builder) {
+        this.initialCapacity =
+                ensureGreaterThanZero(getOrDefault(builder.initialCapacity, DEFAULT_INITIAL_CAPACITY), "initialCapacity");
+        this.quantization = getOrDefault(builder.quantization, VectorQuantization.NONE);
+        this.productQuantizationSubspaces = builder.productQuantizationSubspaces == null
+                ? null
+                : ensureGreaterThanZero(builder.productQuantizationSubspaces, "productQuantizationSubspaces");
+        this.quantizationTrainingSize = ensureGreaterThanZero(
+                getOrDefault(builder.quantizationTrainingSize, DEFAULT_QUANTIZATION_TRAINING_SIZE),
+                "quantizationTrainingSize");
+        this.rescoreMultiplier =
+                ensureNotNegative(getOrDefault(builder.rescoreMultiplier, DEFAULT_RESCORE_MULTIPLIER), "rescoreMultiplier");
+        boolean keepsVectorsWithCodes = quantization != VectorQuantization.NONE && rescoreMultiplier > 0;
+        this.offHeap = getOrDefault(builder.offHeap, keepsVectorsWithCodes);
+        if (keepsVectorsWithCodes && !offHeap) {
+            throw illegalArgument("Quantization with re-scoring keeps the original vectors in addition to the codes, "
+                    + "so they must be kept off-heap: set offHeap to true, "
+                    + "or set rescoreMultiplier to 0 to only keep the codes");
+        }
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        String id = randomUUID();
+        add(id, embedding);
+        return id;
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        add(id, embedding, null);
+    }
+
+    @Override
+    public String add(Embedding embedding, Embedded embedded) {
+        String id = randomUUID();
+        add(id, embedding, embedded);
+        return id;
+    }
+
+    public void add(String id, Embedding embedding, Embedded embedded) {
+        lock.writeLock().lock();
+        try {
+            insert(ensureNotBlank(id, "id"), ensureNotNull(embedding, "embedding"), embedded);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        quantizeIfNeeded();
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        List<String> ids = new ArrayList<>(embeddings.size());
+        lock.writeLock().lock();
+        try {
+            for (Embedding embedding : embeddings) {
+                String id = randomUUID();
+                insert(id, ensureNotNull(embedding, "embedding"), null);
+                ids.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        quantizeIfNeeded();
+        return ids;
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        if (ids.size() != embeddings.size() || embeddings.size() != embedded.size()) {
+            throw new IllegalArgumentException("The list of ids and embeddings and embedded must have the same size");
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                insert(
+                        ensureNotBlank(ids.get(i), "id"),
+                        ensureNotNull(embeddings.get(i), "embedding"),
+                        embedded.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        quantizeIfNeeded();
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        ensureNotEmpty(ids, "ids");
+
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                Integer ordinal = ordinalsById.get(id);
+                if (ordinal != null) {
+                    remove(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+        Filter compiledFilter = CompiledFilter.compile(filter);
+
+        lock.writeLock().lock();
+        try {
+            for (int ordinal = size() - 1; ordinal >= 0; ordinal--) {
+                Object object = embedded.get(ordinal);
+                if (object instanceof TextSegment textSegment) {
+                    if (compiledFilter.test(textSegment.metadata())) {
+                        remove(ordinal);
+                    }
+                } else if (object != null) {
+                    throw new UnsupportedOperationException("Not supported yet.");
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            embedded.clear();
+            ordinalsById.clear();
+            vectors = null;
+            inverseNorms = new float[0];
+            quantizedVectors = null;
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        Filter filter = embeddingSearchRequest.filter() == null
+                ? null
+                : CompiledFilter.compile(embeddingSearchRequest.filter());
+        double minCosineSimilarity = CosineSimilarity.fromRelevanceScore(embeddingSearchRequest.minScore());
+
+        lock.readLock().lock();
+        try {
+            if (size() == 0) {
+                return new EmbeddingSearchResult<>(new ArrayList<>());
+            }
+
+            FloatVectorSlab vectors = this.vectors;
+            float[] query = normalized(
+                    FloatVectorSlab.ensureDimension(embeddingSearchRequest.queryEmbedding().vector(), dimension()));
+            float[] inverseNorms = this.inverseNorms;
+            int maxResults = embeddingSearchRequest.maxResults();
+
+            TopKHeap heap;
+            if (quantizedVectors != null) {
+                heap = quantizedSearch(query, maxResults, minCosineSimilarity, filter);
+            } else {
+                heap = new TopKHeap(maxResults);
+                for (int ordinal = 0; ordinal < vectors.size(); ordinal++) {
+                    if (matches(filter, ordinal)) {
+                        float cosineSimilarity = vectors.dot(query, ordinal) * inverseNorms[ordinal];
+                        if (cosineSimilarity >= minCosineSimilarity) {
+                            heap.offer(ordinal, cosineSimilarity);
+                        }
+                    }
+                }
+            }
+
+            double[] cosineSimilarities = new double[heap.size()];
+            int[] ordinals = heap.drainDescending(cosineSimilarities);
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(ordinals.length);
+            for (int i = 0; i < ordinals.length; i++) {
+                int ordinal = ordinals[i];
+                matches.add(new EmbeddingMatch<>(
+                        RelevanceScore.fromCosineSimilarity(cosineSimilarities[i]),
+                        ids.get(ordinal),
+                        new Embedding(vector(ordinal)),
+                        embedded.get(ordinal)));
+            }
+            return new EmbeddingSearchResult<>(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scans the quantized vectors, then re-scores the best candidates using the original vectors,
+     * unless re-scoring is disabled (and the original vectors released), in which case the approximate scores
+     * are returned.
+     * Must be called while holding the read lock.
+     */
+    private TopKHeap quantizedSearch(float[] query, int maxResults, double minCosineSimilarity, Filter filter) {
+        QuantizedVectors quantizedVectors = this.quantizedVectors;
+        VectorQuantizer.Scorer scorer = quantizedVectors.scorer(query);
+
+        if (rescoreMultiplier == 0) {
+            TopKHeap heap = new TopKHeap(maxResults);
+            for (int ordinal = 0; ordinal < quantizedVectors.size(); ordinal++) {
+                if (matches(filter, ordinal)) {
+                    float cosineSimilarity = quantizedVectors.score(scorer, ordinal);
+                    if (cosineSimilarity >= minCosineSimilarity) {
+                        heap.offer(ordinal, cosineSimilarity);
+                    }
+                }
+            }
+            return heap;
+        }
+
+        int candidateCount = (int) Math.min((long) maxResults * rescoreMultiplier, quantizedVectors.size());
+        TopKHeap candidates = new TopKHeap(Math.max(candidateCount, 1));
+        for (int ordinal = 0; ordinal < quantizedVectors.size(); ordinal++) {
+            if (matches(filter, ordinal)) {
+                candidates.offer(ordinal, quantizedVectors.score(scorer, ordinal));
+            }
+        }
+
+        TopKHeap heap = new TopKHeap(maxResults);
+        int[] ordinals = candidates.drainDescending(new double[candidates.size()]);
+        for (int ordinal : ordinals) {
+            float cosineSimilarity = vectors.dot(query, ordinal) * inverseNorms[ordinal];
+            if (cosineSimilarity >= minCosineSimilarity) {
+                heap.offer(ordinal, cosineSimilarity);
+            }
+        }
+        return heap;
+    }
+
+    private boolean matches(Filter filter, int ordinal) {
+        return filter == null
+                || !(embedded.get(ordinal) instanceof TextSegment textSegment)
+                || filter.test(textSegment.metadata());
+    }
+
+    /**
+     * Writes this store to the given file using the binary format
+     * also used by {@link InMemoryEmbeddingStore#serializeToBinaryFile(Path)}.
+     * Only entries whose embedded object is a {@link TextSegment} (or {@code null}) can be serialized.
+     * If the original vectors were released after quantization, the vectors decoded from the codes are written.
+     *
+     * @see #fromBinaryFile(Path)
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        lock.readLock().lock();
+        try {
+            BinaryEmbeddingStoreFormat.write(filePath, new BinaryEmbeddingStoreFormat.Source() {
+
+                @Override
+                public int size() {
+                    return FlatInMemoryEmbeddingStore.this.size();
+                }
+
+                @Override
+                public int dimension() {
+                    return size() == 0 ? 0 : FlatInMemoryEmbeddingStore.this.dimension();
+                }
+
+                @Override
+                public String id(int index) {
+                    return ids.get(index);
+                }
+
+                @Override
+                public void vector(int index, float[] target) {
+                    FlatInMemoryEmbeddingStore.this.vector(index, target);
+                }
+
+                @Override
+                public float norm(int index) {
+                    return 1 / inverseNorms[index];
+                }
+
+                @Override
+                public Object embedded(int index) {
+                    return embedded.get(index);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
+    /**
+     * Opens a store written by {@link #serializeToBinaryFile(Path)}
+     * or {@link InMemoryEmbeddingStore#serializeToBinaryFile(Path)}, with the default options.
+     *
+     * @see #fromBinaryFile(Path, Builder)
+     */
+    public static FlatInMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        return fromBinaryFile(filePath, builder());
+    }
+
+    /**
+     * Opens a store written by {@link #serializeToBinaryFile(Path)}
+     * or {@link InMemoryEmbeddingStore#serializeToBinaryFile(Path)}, with the options of the given builder.
+     * Vectors are memory-mapped rather than loaded, so the file must not be modified while the store is in use.
+     * With {@link Builder#offHeap(Boolean)}, segments copied when entries are modified are allocated off-heap.
+     * With {@link Builder#quantization(VectorQuantization)}, the quantizer is trained as soon as the store is opened
+     * if it contains at least {@link Builder#quantizationTrainingSize(Integer)} entries.
+     */
+    public static FlatInMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath, Builder builder) {
+        ensureNotNull(builder, "builder");
+        BinaryEmbeddingStoreFormat.Snapshot snapshot;
+        try {
+            snapshot = BinaryEmbeddingStoreFormat.read(filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        FlatInMemoryEmbeddingStore<TextSegment> store = new FlatInMemoryEmbeddingStore<>(builder);
+        if (snapshot.size() == 0) {
+            return store;
+        }
+        store.vectors = snapshot.toSlab(store.offHeap);
+        store.inverseNorms = new float[snapshot.size()];
+        for (int i = 0; i < snapshot.size(); i++) {
+            store.inverseNorms[i] = (float) (1 / Math.max(snapshot.norms()[i], CosineSimilarity.EPSILON));
+            store.ordinalsById.put(snapshot.ids().get(i), i);
+        }
+        store.ids.addAll(snapshot.ids());
+        store.embedded.addAll(snapshot.embedded());
+        store.quantizeIfNeeded();
+        return store;
+    }
+
+    public static FlatInMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
+    public static FlatInMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath, Builder builder) {
+        return fromBinaryFile(Paths.get(filePath), builder);
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     */
+    private void insert(String id, Embedding embedding, Embedded embedded) {
+        float[] vector = embedding.vector();
+        if (vectors == null && quantizedVectors == null) {
+            vectors = new FloatVectorSlab(vector.length, initialCapacity, offHeap);
+        }
+        FloatVectorSlab.ensureDimension(vector, dimension());
+        modificationCount++;
+
+        Integer existing = ordinalsById.get(id);
+        if (existing != null) {
+            if (vectors != null) {
+                vectors.set(existing, vector);
+            }
+            inverseNorms[existing] = inverseNorm(vector);
+            this.embedded.set(existing, embedded);
+            if (quantizedVectors != null) {
+                quantizedVectors.set(existing, normalized(vector));
+            }
+            return;
+        }
+
+        int ordinal = size();
+        if (vectors != null) {
+            vectors.add(vector);
+        }
+        if (ordinal == inverseNorms.length) {
+            inverseNorms = Arrays.copyOf(inverseNorms, Math.max(16, inverseNorms.length * 2));
+        }
+        inverseNorms[ordinal] = inverseNorm(vector);
+        ids.add(id);
+        this.embedded.add(embedded);
+        ordinalsById.put(id, ordinal);
+
+        if (quantizedVectors != null) {
+            quantizedVectors.add(normalized(vector));
+        }
+    }
+
+    /**
+     * Trains the quantizer and starts quantization, if enough entries have been added and no other thread does it.
+     * Must be called without holding any lock: the training sample is copied and the entries are encoded
+     * under the read lock, and the training itself runs without any lock.
+     * Only installing the codes takes the write lock; if entries were modified in the meantime,
+     * they are all encoded again at that point. Without re-scoring, the original vectors are released then.
+     */
+    private void quantizeIfNeeded() {
+        if (quantization == VectorQuantization.NONE || !training.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            float[][] sample;
+            int dimension;
+            lock.readLock().lock();
+            try {
+                if (quantizedVectors != null || size() < quantizationTrainingSize) {
+                    return;
+                }
+                sample = trainingSample();
+                dimension = dimension();
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            VectorQuantizer quantizer = train(sample, dimension);
+
+            QuantizedVectors encoded;
+            long encodedModificationCount;
+            lock.readLock().lock();
+            try {
+                if (quantizedVectors != null || size() < quantizationTrainingSize || dimension() != dimension) {
+                    return;
+                }
+                encoded = encode(quantizer);
+                encodedModificationCount = modificationCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (quantizedVectors == null && size() >= quantizationTrainingSize && dimension() == dimension) {
+                    quantizedVectors = modificationCount == encodedModificationCount ? encoded : encode(quantizer);
+                    if (rescoreMultiplier == 0) {
+                        vectors = null;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            training.set(false);
+        }
+    }
+
+    /**
+     * Must be called while holding the read lock.
+     */
+    private float[][] trainingSample() {
+        int size = size();
+        int sampleSize = Math.min(size, quantizationTrainingSize);
+        float[][] sample = new float[sampleSize][];
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = normalizedVector((int) ((long) i * size / sampleSize));
+        }
+        return sample;
+    }
+
+    private VectorQuantizer train(float[][] sample, int dimension) {
+        if (quantization == VectorQuantization.INT8) {
+            return ScalarQuantizer.train(sample);
+        }
+        int subspaces = getOrDefault(productQuantizationSubspaces, Math.max(1, dimension / 4));
+        return ProductQuantizer.train(sample, Math.min(subspaces, dimension), new Random(42));
+    }
+
+    /**
+     * Must be called while holding the read lock.
+     */
+    private QuantizedVectors encode(VectorQuantizer quantizer) {
+        QuantizedVectors quantizedVectors = new QuantizedVectors(quantizer);
+        for (int ordinal = 0; ordinal < size(); ordinal++) {
+            quantizedVectors.add(normalizedVector(ordinal));
+        }
+        return quantizedVectors;
+    }
+
+    private float[] normalizedVector(int ordinal) {
+        float[] vector = vectors.get(ordinal);
+        float inverseNorm = inverseNorms[ordinal];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverseNorm;
+        }
+        return vector;
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     */
+    private void remove(int ordinal) {
+        modificationCount++;
+        ordinalsById.remove(ids.get(ordinal));
+        int last = ids.size() - 1;
+        if (vectors != null) {
+            vectors.removeBySwappingLast(ordinal);
+        }
+        if (ordinal != last) {
+            String movedId = ids.get(last);
+            ids.set(ordinal, movedId);
+            embedded.set(ordinal, embedded.get(last));
+            inverseNorms[ordinal] = inverseNorms[last];
+            ordinalsById.put(movedId, ordinal);
+        }
+        if (quantizedVectors != null) {
+            quantizedVectors.removeBySwappingLast(ordinal);
+        }
+        ids.remove(last);
+        embedded.remove(last);
+    }
+
+    private int size() {
+        return ids.size();
+    }
+
+    /**
+     * Must be called while holding a lock, when the store is not empty.
+     */
+    private int dimension() {
+        return vectors != null ? vectors.dimension() : quantizedVectors.dimension();
+    }
+
+    /**
+     * Returns the original vector at the given ordinal, or its approximation decoded from the codes
+     * if the original vectors were released. Must be called while holding a lock.
+     */
+    private float[] vector(int ordinal) {
+        float[] vector = new float[dimension()];
+        vector(ordinal, vector);
+        return vector;
+    }
+
+    private void vector(int ordinal, float[] target) {
+        if (vectors != null) {
+            vectors.get(ordinal, target);
+            return;
+        }
+        quantizedVectors.decode(ordinal, target);
+        float norm = 1 / inverseNorms[ordinal];
+        for (int i = 0; i < target.length; i++) {
+            target[i] *= norm;
+        }
+    }
+
+    /**
+     * @return whether the original vectors are kept, which is the case unless they were released after quantization.
+     */
+    boolean keepsOriginalVectors() {
+        lock.readLock().lock();
+        try {
+            return vectors != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return whether searches scan quantized vectors.
+     */
+    boolean quantized() {
+        lock.readLock().lock();
+        try {
+            return quantizedVectors != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static float[] normalized(float[] vector) {
+        float inverseNorm = inverseNorm(vector);
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * inverseNorm;
+        }
+        return normalized;
+    }
+
+    private static float inverseNorm(float[] vector) {
+        double norm = Math.sqrt(SimilarityKernel.defaultKernel().dotProduct(vector, vector));
+        return (float) (1 / Math.max(norm, CosineSimilarity.EPSILON));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer initialCapacity;
+        private Boolean offHeap;
+        private VectorQuantization quantization;
+        private Integer productQuantizationSubspaces;
+        private Integer quantizationTrainingSize;
+        private Integer rescoreMultiplier;
+
+        /**
+         * @param initialCapacity The number of vectors the slab can hold before it needs to grow.
+         *                        Default value: 1024.
+         * @return builder
+         */
+        public Builder initialCapacity(Integer initialCapacity) {
+            this.initialCapacity = initialCapacity;
+            return this;
+        }
+
+        /**
+         * @param offHeap Whether to allocate the vector slab off-heap, using a direct {@link java.nio.ByteBuffer}.
+         *                Off-heap memory is not limited by {@code -Xmx} but by {@code -XX:MaxDirectMemorySize}.
+         *                Must be true when vectors are quantized and re-scored.
+         *                Default value: true when vectors are quantized and re-scored, false otherwise.
+         * @return builder
+         */
+        public Builder offHeap(Boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
+        /**
+         * @param quantization How to quantize the vectors scanned during a search.
+         *                     Unless {@link #rescoreMultiplier(Integer)} is 0, the original vectors are kept
+         *                     off-heap in addition to the codes.
+         *                     Default value: {@link VectorQuantization#NONE}.
+         * @return builder
+         */
+        public Builder quantization(VectorQuantization quantization) {
+            this.quantization = quantization;
+            return this;
+        }
+
+        /**
+         * @param productQuantizationSubspaces The number of subspaces (and of bytes per vector)
+         *                                     used by {@link VectorQuantization#PRODUCT}.
+         *                                     Default value: a quarter of the dimension of the vectors.
+         * @return builder
+         */
+        public Builder productQuantizationSubspaces(Integer productQuantizationSubspaces) {
+            this.productQuantizationSubspaces = productQuantizationSubspaces;
+            return this;
+        }
+
+        /**
+         * @param quantizationTrainingSize The number of entries after which the quantizer is trained on the entries
+         *                                 added so far and quantization starts.
+         *                                 Default value: 4096.
+         * @return builder
+         */
+        public Builder quantizationTrainingSize(Integer quantizationTrainingSize) {
+            this.quantizationTrainingSize = quantizationTrainingSize;
+            return this;
+        }
+
+        /**
+         * @param rescoreMultiplier When vectors are quantized, {@code maxResults * rescoreMultiplier} candidates
+         *                          with the best approximate scores are re-scored exactly using the original vectors,
+         *                          which are kept off-heap.
+         *                          0 disables re-scoring: approximate scores are returned, and the original vectors
+         *                          are released once encoded, so that only the codes are kept in memory.
+         *                          Default value: 4.
+         * @return builder
+         */
+        public Builder rescoreMultiplier(Integer rescoreMultiplier) {
+            this.rescoreMultiplier = rescoreMultiplier;
+            return this;
+        }
+
+        public <Embedded> FlatInMemoryEmbeddingStore<Embedded> build() {
+            return new FlatInMemoryEmbeddingStore<>(this);
+        }
+    }
+}
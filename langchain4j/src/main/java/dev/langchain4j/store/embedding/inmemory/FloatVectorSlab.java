@@ -0,0 +1,262 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Stores fixed-dimension float vectors back to back in large contiguous segments,
+ * either on the Java heap (backed by {@code float[]}s) or off-heap (backed by direct or mapped {@link ByteBuffer}s).
+ * <p>
+ * Each segment holds up to {@link #vectorsPerSegment(int)} vectors, a power of two chosen so that a segment
+ * never exceeds 1 GB, which keeps it within the limits of Java arrays and buffers.
+ * Vector {@code i} lives in segment {@code i / vectorsPerSegment}, at float offset
+ * {@code (i % vectorsPerSegment) * dimension}.
+ * The last segment grows by doubling its capacity until it is full, then a new segment is started,
+ * so full segments are never copied again.
+ * <p>
+ * Removed slots are reused by moving the last vector into them, so the occupied region is always {@code [0, size)}.
+ * <p>
+ * This class is not thread-safe.
+ */
+class FloatVectorSlab {
+
+    private static final SimilarityKernel KERNEL = SimilarityKernel.defaultKernel();
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final int dimension;
+    private final boolean offHeap;
+    private final int initialCapacity;
+    private final int segmentShift;
+    private final int segmentMask;
+    private FloatBuffer[] segments;
+    private float[][] arrays;
+    private int size;
+
+    FloatVectorSlab(int dimension, int initialCapacity, boolean offHeap) {
+        this(dimension, initialCapacity, offHeap, vectorsPerSegment(dimension));
+    }
+
+    /**
+     * Creates a slab with a custom segment size, which must be a power of two. Used in tests.
+     */
+    FloatVectorSlab(int dimension, int initialCapacity, boolean offHeap, int vectorsPerSegment) {
+        if (Integer.bitCount(vectorsPerSegment) != 1) {
+            throw illegalArgument("vectorsPerSegment must be a power of two, but is %s", vectorsPerSegment);
+        }
+        this.dimension = dimension;
+        this.offHeap = offHeap;
+        this.segmentShift = Integer.numberOfTrailingZeros(vectorsPerSegment);
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.initialCapacity = Math.min(Math.max(initialCapacity, 1), 1 << segmentShift);
+        this.segments = new FloatBuffer[0];
+        this.arrays = new float[0][];
+    }
+
+    /**
+     * Wraps existing segments holding {@code size} vectors, laid out as described in the class documentation.
+     * The segments are used as is, without copying. Read-only segments, such as memory-mapped files,
+     * are copied into a writable segment the first time one of their vectors is modified.
+     * Segments allocated later to make room for new vectors are heap or off-heap depending on {@code offHeap}.
+     */
+    FloatVectorSlab(int dimension, FloatBuffer[] segments, int size, boolean offHeap) {
+        this.dimension = dimension;
+        this.offHeap = offHeap;
+        this.segmentShift = segmentShift(dimension);
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.initialCapacity = 1;
+        this.segments = segments.clone();
+        this.arrays = new float[segments.length][];
+        for (int i = 0; i < segments.length; i++) {
+            this.arrays[i] = arrayOf(segments[i]);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the maximum number of vectors of the given dimension that a single segment holds.
+     */
+    static int vectorsPerSegment(int dimension) {
+        return 1 << segmentShift(dimension);
+    }
+
+    private static int segmentShift(int dimension) {
+        long vectors = Math.max(1, MAX_SEGMENT_BYTES / ((long) dimension * Float.BYTES));
+        return 63 - Long.numberOfLeadingZeros(vectors);
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends a vector and returns its index.
+     */
+    int add(float[] vector) {
+        ensureDimension(vector);
+        ensureCapacity(size);
+        set(size, vector);
+        return size++;
+    }
+
+    void set(int index, float[] vector) {
+        ensureDimension(vector);
+        int segment = index >>> segmentShift;
+        int offset = (index & segmentMask) * dimension;
+        ensureWritable(segment);
+        float[] array = arrays[segment];
+        if (array != null) {
+            System.arraycopy(vector, 0, array, offset, dimension);
+        } else {
+            segments[segment].put(offset, vector);
+        }
+    }
+
+    float[] get(int index) {
+        float[] vector = new float[dimension];
+        get(index, vector);
+        return vector;
+    }
+
+    /**
+     * Copies the vector at the given index into {@code target}.
+     */
+    void get(int index, float[] target) {
+        int segment = index >>> segmentShift;
+        int offset = (index & segmentMask) * dimension;
+        float[] array = arrays[segment];
+        if (array != null) {
+            System.arraycopy(array, offset, target, 0, dimension);
+        } else {
+            segments[segment].get(offset, target, 0, dimension);
+        }
+    }
+
+    /**
+     * Removes the vector at the given index by moving the last vector into its place.
+     *
+     * @return the former index of the moved vector, or {@code -1} if the removed vector was the last one
+     */
+    int removeBySwappingLast(int index) {
+        int last = size - 1;
+        size--;
+        if (index == last) {
+            return -1;
+        }
+        int fromSegment = last >>> segmentShift;
+        int fromOffset = (last & segmentMask) * dimension;
+        int toSegment = index >>> segmentShift;
+        int toOffset = (index & segmentMask) * dimension;
+        ensureWritable(toSegment);
+        if (arrays[fromSegment] != null && arrays[toSegment] != null) {
+            System.arraycopy(arrays[fromSegment], fromOffset, arrays[toSegment], toOffset, dimension);
+        } else {
+            segments[toSegment].put(toOffset, segments[fromSegment], fromOffset, dimension);
+        }
+        return last;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Computes the dot product between the given vector and the vector stored at the given index.
+     */
+    float dot(float[] vector, int index) {
+        int segment = index >>> segmentShift;
+        int offset = (index & segmentMask) * dimension;
+        float[] array = arrays[segment];
+        if (array != null) {
+            return KERNEL.dotProduct(vector, array, offset);
+        }
+        FloatBuffer buffer = segments[segment];
+        int upperBound = dimension & ~3;
+        float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i < upperBound; i += 4) {
+            sum0 += vector[i] * buffer.get(offset + i);
+            sum1 += vector[i + 1] * buffer.get(offset + i + 1);
+            sum2 += vector[i + 2] * buffer.get(offset + i + 2);
+            sum3 += vector[i + 3] * buffer.get(offset + i + 3);
+        }
+        for (; i < dimension; i++) {
+            sum0 += vector[i] * buffer.get(offset + i);
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Makes sure there is room for a vector at the given index, which must be at most {@link #size()}.
+     */
+    private void ensureCapacity(int index) {
+        int segment = index >>> segmentShift;
+        if (segment == segments.length) {
+            appendSegment(allocate(initialCapacity));
+            return;
+        }
+        int capacity = segments[segment].capacity() / dimension;
+        if ((index & segmentMask) < capacity) {
+            return;
+        }
+        FloatBuffer grown = allocate(Math.min(capacity * 2, 1 << segmentShift));
+        grown.put(0, segments[segment], 0, capacity * dimension);
+        segments[segment] = grown;
+        arrays[segment] = arrayOf(grown);
+    }
+
+    private void ensureWritable(int segment) {
+        FloatBuffer buffer = segments[segment];
+        if (buffer.isReadOnly()) {
+            FloatBuffer copy = allocate(buffer.capacity() / dimension);
+            copy.put(0, buffer, 0, buffer.capacity());
+            segments[segment] = copy;
+            arrays[segment] = arrayOf(copy);
+        }
+    }
+
+    private void appendSegment(FloatBuffer segment) {
+        int count = segments.length;
+        FloatBuffer[] newSegments = new FloatBuffer[count + 1];
+        System.arraycopy(segments, 0, newSegments, 0, count);
+        newSegments[count] = segment;
+        float[][] newArrays = new float[count + 1][];
+        System.arraycopy(arrays, 0, newArrays, 0, count);
+        newArrays[count] = arrayOf(segment);
+        segments = newSegments;
+        arrays = newArrays;
+    }
+
+    private FloatBuffer allocate(int vectors) {
+        int floats = vectors * dimension;
+        if (offHeap) {
+            return ByteBuffer.allocateDirect(floats * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+        return FloatBuffer.wrap(new float[floats]);
+    }
+
+    private static float[] arrayOf(FloatBuffer buffer) {
+        return buffer.hasArray() && buffer.arrayOffset() == 0 ? buffer.array() : null;
+    }
+
+    float[] ensureDimension(float[] vector) {
+        return ensureDimension(vector, dimension);
+    }
+
+    static float[] ensureDimension(float[] vector, int dimension) {
+        if (vector.length != dimension) {
+            throw illegalArgument(
+                    "Length of vector (%s) must be equal to the dimension of the store (%s)", vector.length, dimension);
+        }
+        return vector;
+    }
+}
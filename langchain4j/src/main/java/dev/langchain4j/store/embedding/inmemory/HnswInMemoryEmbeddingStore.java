@@ -0,0 +1,664 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Comparator.comparingDouble;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.filter.CompiledFilter;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An {@link EmbeddingStore} that stores embeddings in memory and indexes them
+ * using a Hierarchical Navigable Small World (HNSW) graph for approximate nearest neighbour search.
+ * <p>
+ * Unlike {@link InMemoryEmbeddingStore}, which compares the query with every stored embedding,
+ * this store only visits a small part of the graph for each search,
+ * trading a small loss of recall for sub-linear search latency on large stores.
+ * The trade-off can be tuned with the following parameters:
+ * <ul>
+ *     <li>{@code m}: the number of bi-directional links created for each new element during insertion.
+ *     Higher values improve recall and increase memory consumption and insertion time.</li>
+ *     <li>{@code efConstruction}: the size of the dynamic candidate list used during insertion.
+ *     Higher values improve the quality of the graph and increase insertion time.</li>
+ *     <li>{@code efSearch}: the size of the dynamic candidate list used during search.
+ *     Higher values improve recall and increase search latency.
+ *     The effective value is never lower than {@link EmbeddingSearchRequest#maxResults()}.</li>
+ * </ul>
+ * <p>
+ * When a {@link Filter} is specified, the graph is traversed as usual, but only matching entries are collected.
+ * When the filter is very selective, the search degrades gracefully into an exhaustive traversal of the graph.
+ * <p>
+ * Removed and replaced entries are not unlinked from the graph. They are marked as deleted, are never returned
+ * and only serve as routing nodes during traversal. Once they make up half of the graph,
+ * the graph is rebuilt from the remaining entries, so that an update-heavy store does not grow without bound.
+ * <p>
+ * This store is thread-safe: additions and removals are serialized, while searches run concurrently.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
+ */
+public class HnswInMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
+
+    private static final SimilarityKernel KERNEL = SimilarityKernel.defaultKernel();
+
+    private static final int DEFAULT_M = 16;
+    private static final int DEFAULT_EF_CONSTRUCTION = 200;
+    private static final int DEFAULT_EF_SEARCH = 50;
+    private static final double MAX_DELETED_RATIO = 0.5;
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Node<Embedded>> nodes = new ArrayList<>();
+    private final Map<String, Node<Embedded>> nodesById = new HashMap<>();
+    private Node<Embedded> entryPoint;
+    private int deletedCount;
+    private int dimension = -1;
+
+    public HnswInMemoryEmbeddingStore() {
+        this(builder());
+    }
+
+    private HnswInMemoryEmbeddingStore(Builder builder) {
+        this.m = ensureGreaterThanZero(getOrDefault(builder.m, DEFAULT_M), "m");
+        this.maxM0 = 2 * m;
+        this.efConstruction = ensureGreaterThanZero(
+                getOrDefault(builder.efConstruction, DEFAULT_EF_CONSTRUCTION), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(builder.efSearch, DEFAULT_EF_SEARCH), "efSearch");
+        this.levelMultiplier = 1 / Math.log(Math.max(m, 2));
+        this.random = builder.seed == null ? new Random() : new Random(builder.seed);
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        String id = randomUUID();
+        add(id, embedding);
+        return id;
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        add(id, embedding, null);
+    }
+
+    @Override
+    public String add(Embedding embedding, Embedded embedded) {
+        String id = randomUUID();
+        add(id, embedding, embedded);
+        return id;
+    }
+
+    public void add(String id, Embedding embedding, Embedded embedded) {
+        lock.writeLock().lock();
+        try {
+            insert(ensureNotBlank(id, "id"), ensureNotNull(embedding, "embedding"), embedded);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        List<String> ids = new ArrayList<>(embeddings.size());
+        lock.writeLock().lock();
+        try {
+            for (Embedding embedding : embeddings) {
+                String id = randomUUID();
+                insert(id, ensureNotNull(embedding, "embedding"), null);
+                ids.add(id);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return ids;
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        if (ids.size() != embeddings.size() || embeddings.size() != embedded.size()) {
+            throw new IllegalArgumentException("The list of ids and embeddings and embedded must have the same size");
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                insert(
+                        ensureNotBlank(ids.get(i), "id"),
+                        ensureNotNull(embeddings.get(i), "embedding"),
+                        embedded.get(i));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        ensureNotEmpty(ids, "ids");
+
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                Node<Embedded> node = nodesById.remove(id);
+                if (node != null) {
+                    markDeleted(node);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+        Filter compiledFilter = CompiledFilter.compile(filter);
+
+        lock.writeLock().lock();
+        try {
+            for (Node<Embedded> node : nodes) {
+                if (!node.deleted && node.embedded != null && matches(compiledFilter, node)) {
+                    markDeleted(node);
+                    nodesById.remove(node.id, node);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            nodesById.clear();
+            entryPoint = null;
+            deletedCount = 0;
+            dimension = -1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        float[] query = embeddingSearchRequest.queryEmbedding().vector();
+        Filter filter = embeddingSearchRequest.filter() == null
+                ? null
+                : CompiledFilter.compile(embeddingSearchRequest.filter());
+        int maxResults = embeddingSearchRequest.maxResults();
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == null) {
+                return new EmbeddingSearchResult<>(new ArrayList<>());
+            }
+            ensureSameDimension(query);
+
+            float queryNorm = norm(query);
+            Node<Embedded> closest = entryPoint;
+            double closestDistance = distance(query, queryNorm, closest);
+            for (int level = entryPoint.level; level > 0; level--) {
+                Candidate<Embedded> candidate = greedySearch(query, queryNorm, closest, closestDistance, level);
+                closest = candidate.node;
+                closestDistance = candidate.distance;
+            }
+
+            int ef = Math.max(efSearch, maxResults);
+            PriorityQueue<Candidate<Embedded>> found = searchLayer(
+                    query, queryNorm, new Candidate<>(closest, closestDistance), ef, 0, true, filter);
+
+            while (found.size() > maxResults) {
+                found.poll();
+            }
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(found.size());
+            while (!found.isEmpty()) {
+                Candidate<Embedded> candidate = found.poll();
+                double score = RelevanceScore.fromCosineSimilarity(1 - candidate.distance);
+                if (score >= embeddingSearchRequest.minScore()) {
+                    Node<Embedded> node = candidate.node;
+                    matches.add(0, new EmbeddingMatch<>(score, node.id, node.embedding, node.embedded));
+                }
+            }
+            return new EmbeddingSearchResult<>(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     */
+    private void insert(String id, Embedding embedding, Embedded embedded) {
+        float[] vector = embedding.vector();
+        if (dimension == -1) {
+            dimension = vector.length;
+        } else {
+            ensureSameDimension(vector);
+        }
+
+        Node<Embedded> previous = nodesById.get(id);
+        if (previous != null) {
+            markDeleted(previous);
+        }
+
+        int level = randomLevel();
+        Node<Embedded> node = new Node<>(nodes.size(), id, embedding, embedded, norm(vector), level);
+        nodes.add(node);
+        nodesById.put(id, node);
+
+        if (entryPoint == null) {
+            entryPoint = node;
+            return;
+        }
+
+        Node<Embedded> closest = entryPoint;
+        double closestDistance = distance(vector, node.norm, closest);
+        for (int l = entryPoint.level; l > level; l--) {
+            Candidate<Embedded> candidate = greedySearch(vector, node.norm, closest, closestDistance, l);
+            closest = candidate.node;
+            closestDistance = candidate.distance;
+        }
+
+        Candidate<Embedded> enterPoint = new Candidate<>(closest, closestDistance);
+        for (int l = Math.min(level, entryPoint.level); l >= 0; l--) {
+            PriorityQueue<Candidate<Embedded>> found =
+                    searchLayer(vector, node.norm, enterPoint, efConstruction, l, false, null);
+            List<Candidate<Embedded>> candidates = sortedAscending(found);
+            enterPoint = candidates.get(0);
+
+            List<Candidate<Embedded>> neighbours = selectNeighbours(candidates, m);
+            int[] connections = new int[neighbours.size()];
+            for (int i = 0; i < neighbours.size(); i++) {
+                connections[i] = neighbours.get(i).node.ordinal;
+            }
+            node.connections[l] = connections;
+
+            for (Candidate<Embedded> neighbour : neighbours) {
+                connect(neighbour.node, node, neighbour.distance, l);
+            }
+        }
+
+        if (level > entryPoint.level) {
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     */
+    private void markDeleted(Node<Embedded> node) {
+        if (!node.deleted) {
+            node.deleted = true;
+            deletedCount++;
+        }
+    }
+
+    /**
+     * Rebuilds the graph from the entries which are not deleted, once deleted entries make up half of the graph.
+     * Since the graph at least doubles in deleted entries between two rebuilds, the cost of a rebuild is amortized
+     * over the removals and replacements which made it necessary.
+     * <p>
+     * Must be called while holding the write lock.
+     */
+    private void compactIfNeeded() {
+        if (deletedCount == 0 || deletedCount < nodes.size() * MAX_DELETED_RATIO) {
+            return;
+        }
+
+        List<Node<Embedded>> live = new ArrayList<>(nodes.size() - deletedCount);
+        for (Node<Embedded> node : nodes) {
+            if (!node.deleted) {
+                live.add(node);
+            }
+        }
+
+        nodes.clear();
+        nodesById.clear();
+        entryPoint = null;
+        deletedCount = 0;
+        for (Node<Embedded> node : live) {
+            insert(node.id, node.embedding, node.embedded);
+        }
+    }
+
+    /**
+     * @return the number of nodes in the graph, including deleted ones.
+     */
+    int graphSize() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void connect(Node<Embedded> from, Node<Embedded> to, double distance, int level) {
+        int[] connections = from.connections[level];
+        int maxConnections = level == 0 ? maxM0 : m;
+
+        if (connections.length < maxConnections) {
+            int[] extended = new int[connections.length + 1];
+            System.arraycopy(connections, 0, extended, 0, connections.length);
+            extended[connections.length] = to.ordinal;
+            from.connections[level] = extended;
+            return;
+        }
+
+        List<Candidate<Embedded>> candidates = new ArrayList<>(connections.length + 1);
+        candidates.add(new Candidate<>(to, distance));
+        for (int connection : connections) {
+            Node<Embedded> neighbour = nodes.get(connection);
+            candidates.add(new Candidate<>(neighbour, distance(from, neighbour)));
+        }
+        candidates.sort(comparingDouble(candidate -> candidate.distance));
+
+        List<Candidate<Embedded>> selected = selectNeighbours(candidates, maxConnections);
+        int[] shrunk = new int[selected.size()];
+        for (int i = 0; i < selected.size(); i++) {
+            shrunk[i] = selected.get(i).node.ordinal;
+        }
+        from.connections[level] = shrunk;
+    }
+
+    /**
+     * Selects up to {@code maxConnections} neighbours using the heuristic from the HNSW paper:
+     * a candidate is preferred if it is closer to the base element than to any already selected neighbour,
+     * which keeps the graph navigable across clusters.
+     * Remaining slots are filled with the closest pruned candidates to preserve connectivity.
+     *
+     * @param candidates candidates sorted by ascending distance to the base element
+     */
+    private List<Candidate<Embedded>> selectNeighbours(List<Candidate<Embedded>> candidates, int maxConnections) {
+        if (candidates.size() <= maxConnections) {
+            return candidates;
+        }
+
+        List<Candidate<Embedded>> selected = new ArrayList<>(maxConnections);
+        List<Candidate<Embedded>> pruned = new ArrayList<>();
+        for (Candidate<Embedded> candidate : candidates) {
+            if (selected.size() >= maxConnections) {
+                break;
+            }
+            boolean diverse = true;
+            for (Candidate<Embedded> neighbour : selected) {
+                if (distance(candidate.node, neighbour.node) < candidate.distance) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+
+        for (int i = 0; i < pruned.size() && selected.size() < maxConnections; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private Candidate<Embedded> greedySearch(
+            float[] query, float queryNorm, Node<Embedded> start, double startDistance, int level) {
+        Node<Embedded> closest = start;
+        double closestDistance = startDistance;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int connection : closest.connections[level]) {
+                Node<Embedded> neighbour = nodes.get(connection);
+                double distance = distance(query, queryNorm, neighbour);
+                if (distance < closestDistance) {
+                    closest = neighbour;
+                    closestDistance = distance;
+                    changed = true;
+                }
+            }
+        }
+        return new Candidate<>(closest, closestDistance);
+    }
+
+    /**
+     * Searches a single layer of the graph.
+     * <p>
+     * During insertion ({@code searching} is {@code false}), all nodes, including deleted ones, are eligible.
+     * During search, deleted nodes and nodes not matching the filter are only traversed, never returned,
+     * and the traversal continues until {@code ef} eligible nodes are found or the graph is exhausted.
+     *
+     * @return a max-heap (by distance) of at most {@code ef} closest eligible nodes
+     */
+    private PriorityQueue<Candidate<Embedded>> searchLayer(
+            float[] query,
+            float queryNorm,
+            Candidate<Embedded> enterPoint,
+            int ef,
+            int level,
+            boolean searching,
+            Filter filter) {
+
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate<Embedded>> candidates = new PriorityQueue<>(comparingDouble(c -> c.distance));
+        PriorityQueue<Candidate<Embedded>> found =
+                new PriorityQueue<>((c1, c2) -> Double.compare(c2.distance, c1.distance));
+
+        visited.set(enterPoint.node.ordinal);
+        candidates.add(enterPoint);
+        double lowerBound = Double.POSITIVE_INFINITY;
+        if (!searching || isEligible(enterPoint.node, filter)) {
+            found.add(enterPoint);
+            lowerBound = enterPoint.distance;
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate<Embedded> current = candidates.poll();
+            if (current.distance > lowerBound && found.size() >= ef) {
+                break;
+            }
+
+            for (int connection : current.node.connections[level]) {
+                if (visited.get(connection)) {
+                    continue;
+                }
+                visited.set(connection);
+
+                Node<Embedded> neighbour = nodes.get(connection);
+                double distance = distance(query, queryNorm, neighbour);
+                if (found.size() < ef || distance < lowerBound) {
+                    Candidate<Embedded> candidate = new Candidate<>(neighbour, distance);
+                    candidates.add(candidate);
+                    if (!searching || isEligible(neighbour, filter)) {
+                        found.add(candidate);
+                        if (found.size() > ef) {
+                            found.poll();
+                        }
+                        lowerBound = found.peek().distance;
+                    }
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private boolean isEligible(Node<Embedded> node, Filter filter) {
+        if (node.deleted) {
+            return false;
+        }
+        return filter == null
+                || !(node.embedded instanceof TextSegment textSegment)
+                || filter.test(textSegment.metadata());
+    }
+
+    private boolean matches(Filter filter, Node<Embedded> node) {
+        if (node.embedded instanceof TextSegment textSegment) {
+            return filter.test(textSegment.metadata());
+        } else {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble(); // (0, 1]
+        return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+    }
+
+    private void ensureSameDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw illegalArgument(
+                    "Length of vector (%s) must be equal to the dimension of the store (%s)", vector.length, dimension);
+        }
+    }
+
+    private List<Candidate<Embedded>> sortedAscending(PriorityQueue<Candidate<Embedded>> queue) {
+        List<Candidate<Embedded>> sorted = new ArrayList<>(queue);
+        sorted.sort(comparingDouble(candidate -> candidate.distance));
+        return sorted;
+    }
+
+    private static double distance(Node<?> a, Node<?> b) {
+        return distance(a.embedding.vector(), a.norm, b);
+    }
+
+    private static double distance(float[] query, float queryNorm, Node<?> node) {
+        double dotProduct = KERNEL.dotProduct(query, node.embedding.vector());
+        return 1 - dotProduct / Math.max((double) queryNorm * node.norm, CosineSimilarity.EPSILON);
+    }
+
+    private static float norm(float[] vector) {
+        return (float) Math.sqrt(KERNEL.dotProduct(vector, vector));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Long seed;
+
+        /**
+         * @param m The number of bi-directional links created for each new element during insertion.
+         *          Elements on the bottom layer keep up to {@code 2 * m} links.
+         *          Default value: 16.
+         * @return builder
+         */
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The size of the dynamic candidate list used during insertion.
+         *                       Default value: 200.
+         * @return builder
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * @param efSearch The size of the dynamic candidate list used during search.
+         *                 The effective value is never lower than {@link EmbeddingSearchRequest#maxResults()}.
+         *                 Default value: 50.
+         * @return builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * @param seed The seed of the random generator used to assign layers to new elements.
+         *             Useful to build reproducible graphs. If not provided, a random seed is used.
+         * @return builder
+         */
+        public Builder seed(Long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public <Embedded> HnswInMemoryEmbeddingStore<Embedded> build() {
+            return new HnswInMemoryEmbeddingStore<>(this);
+        }
+    }
+
+    private static class Node<Embedded> {
+
+        final int ordinal;
+        final String id;
+        final Embedding embedding;
+        final Embedded embedded;
+        final float norm;
+        final int level;
+        final int[][] connections;
+        volatile boolean deleted;
+
+        Node(int ordinal, String id, Embedding embedding, Embedded embedded, float norm, int level) {
+            this.ordinal = ordinal;
+            this.id = id;
+            this.embedding = embedding;
+            this.embedded = embedded;
+            this.norm = norm;
+            this.level = level;
+            this.connections = new int[level + 1][];
+            for (int i = 0; i <= level; i++) {
+                this.connections[i] = new int[0];
+            }
+        }
+    }
+
+    private static class Candidate<Embedded> {
+
+        final Node<Embedded> node;
+        final double distance;
+
+        Candidate(Node<Embedded> node, double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.SimilarityKernel;
+import dev.langchain4j.store.embedding.filter.CompiledFilter;
 import dev.langchain4j.store.embedding.filter.Filter;
 
 import java.io.IOException;
@@ -17,15 +19,26 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -40,24 +53,86 @@ import static java.util.stream.Collectors.toList;
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
  * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * The norm of each embedding is computed once when it is added,
+ * and similarities are computed with {@link SimilarityKernel#defaultKernel()}.
+ * <p>
+ * By default, a search runs on the calling thread. Parallel search can be enabled with
+ * {@link Builder#parallelSearch(Boolean)} or {@link Builder#searchExecutor(Executor)}:
+ * stores holding at least {@link Builder#parallelSearchThreshold(Integer)} entries are then split into partitions
+ * that are scanned concurrently, each keeping its own top-k candidates, which are merged at the end.
+ * Smaller stores are still searched on the calling thread, where the cost of dispatching tasks would dominate.
+ * <p>
+ * Searches with a {@link Filter} test the metadata of every entry. When most searches filter on the same
+ * metadata keys (for example, a tenant id), these keys can be indexed
+ * with {@link Builder#indexedMetadataKeys(Collection)}.
+ * Equality, {@code IsIn} and range comparisons on indexed keys (and {@code And}/{@code Or} combinations of them)
+ * are then resolved with an inverted index before any similarity is computed, so only matching entries are scored.
+ * The index is rebuilt by the first filtered search after the store has been modified,
+ * so it is best suited to stores that are searched more often than they are modified.
+ * Filtered searches running while the index is being rebuilt test the metadata of every entry instead of waiting.
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
  * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <p>
+ * For large stores, {@link #serializeToBinaryFile(Path)} and {@link #fromBinaryFile(Path)} use a compact binary format
+ * instead, which stores vectors as raw floats and avoids parsing JSON.
+ * The same files can be opened by {@link FlatInMemoryEmbeddingStore#fromBinaryFile(Path)},
+ * which memory-maps the vectors instead of loading them onto the heap.
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
  */
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
+    private static final SimilarityKernel KERNEL = SimilarityKernel.defaultKernel();
+
+    private static final int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 10_000;
+
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
 
+    // search settings are not part of the serialized state
+    private final transient Executor searchExecutor;
+    private final transient int parallelSearchThreshold;
+    private final transient int searchParallelism;
+    private final transient Set<String> indexedMetadataKeys;
+    private final transient AtomicLong modifications = new AtomicLong();
+    private transient volatile IndexedSnapshot indexedSnapshot;
+    private final transient ReentrantLock indexLock = new ReentrantLock();
+
     public InMemoryEmbeddingStore() {
         this.entries = new CopyOnWriteArrayList<>();
+        this.searchExecutor = null;
+        this.parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
+        this.searchParallelism = 1;
+        this.indexedMetadataKeys = Set.of();
     }
 
     private InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
         this.entries = new CopyOnWriteArrayList<>(entries);
+        this.searchExecutor = null;
+        this.parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
+        this.searchParallelism = 1;
+        this.indexedMetadataKeys = Set.of();
+    }
+
+    private InMemoryEmbeddingStore(Builder builder) {
+        this.entries = new CopyOnWriteArrayList<>();
+        if (builder.searchExecutor != null) {
+            this.searchExecutor = builder.searchExecutor;
+        } else if (Boolean.TRUE.equals(builder.parallelSearch)) {
+            this.searchExecutor = ForkJoinPool.commonPool();
+        } else {
+            this.searchExecutor = null;
+        }
+        this.parallelSearchThreshold = ensureGreaterThanZero(
+                getOrDefault(builder.parallelSearchThreshold, DEFAULT_PARALLEL_SEARCH_THRESHOLD),
+                "parallelSearchThreshold");
+        this.searchParallelism = ensureGreaterThanZero(
+                getOrDefault(builder.searchParallelism, Runtime.getRuntime().availableProcessors()),
+                "searchParallelism");
+        this.indexedMetadataKeys =
+                builder.indexedMetadataKeys == null ? Set.of() : Set.copyOf(builder.indexedMetadataKeys);
     }
 
     @Override
@@ -81,6 +156,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     public void add(String id, Embedding embedding, Embedded embedded) {
         entries.add(new Entry<>(id, embedding, embedded));
+        modifications.incrementAndGet();
     }
 
     @Override
@@ -110,6 +186,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
         entries.addAll(newEntries);
+        modifications.incrementAndGet();
 
         return newEntries.stream()
                 .map(entry -> entry.id)
@@ -121,35 +198,54 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotEmpty(ids, "ids");
 
         entries.removeIf(entry -> ids.contains(entry.id));
+        modifications.incrementAndGet();
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
+        Filter compiledFilter = CompiledFilter.compile(filter);
 
         entries.removeIf(entry -> {
             if (entry.embedded instanceof TextSegment) {
-                return filter.test(((TextSegment) entry.embedded).metadata());
+                return compiledFilter.test(((TextSegment) entry.embedded).metadata());
             } else if (entry.embedded == null) {
                 return false;
             } else {
                 throw new UnsupportedOperationException("Not supported yet.");
             }
         });
+        modifications.incrementAndGet();
     }
 
     @Override
     public void removeAll() {
         entries.clear();
+        modifications.incrementAndGet();
     }
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
+        if (embeddingSearchRequest.filter() != null && !indexedMetadataKeys.isEmpty()) {
+            IndexedSnapshot indexed = indexedSnapshot();
+            MetadataIndex.Candidates candidates =
+                    indexed == null ? null : indexed.index().plan(embeddingSearchRequest.filter());
+            if (candidates != null) {
+                return search(indexed.entries(), candidates, embeddingSearchRequest);
+            }
+        }
+
+        if (isParallel(entries.size())) {
+            return parallelSearch(entries.toArray(), null, embeddingSearchRequest);
+        }
+
         Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
         PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
 
-        Filter filter = embeddingSearchRequest.filter();
+        Filter filter = compiledFilter(embeddingSearchRequest);
+        float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+        float queryNorm = norm(queryVector);
 
         for (Entry<Embedded> entry : entries) {
 
@@ -160,7 +256,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
                 }
             }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
+            double cosineSimilarity = cosineSimilarity(entry, queryVector, queryNorm);
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
             if (score >= embeddingSearchRequest.minScore()) {
                 matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
@@ -177,6 +273,165 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return new EmbeddingSearchResult<>(result);
     }
 
+    private boolean isParallel(int entryCount) {
+        return searchExecutor != null && searchParallelism > 1 && entryCount >= parallelSearchThreshold;
+    }
+
+    /**
+     * Scores only the candidates selected by the metadata index.
+     */
+    private EmbeddingSearchResult<Embedded> search(
+            Object[] snapshot, MetadataIndex.Candidates candidates, EmbeddingSearchRequest embeddingSearchRequest) {
+        if (isParallel(candidates.positions().cardinality())) {
+            return parallelSearch(snapshot, candidates, embeddingSearchRequest);
+        }
+        float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+        TopKHeap heap = scan(
+                snapshot, candidates, 0, snapshot.length, embeddingSearchRequest, queryVector, norm(queryVector));
+        return toResult(snapshot, heap);
+    }
+
+    /**
+     * Returns the metadata index of the current entries, rebuilding it if the store has been modified since.
+     * Only one search rebuilds the index at a time.
+     *
+     * @return the index, or {@code null} if it is stale and being rebuilt by another search,
+     * in which case the entries should be scanned
+     */
+    private IndexedSnapshot indexedSnapshot() {
+        IndexedSnapshot indexed = indexedSnapshot;
+        if (indexed != null && indexed.version() == modifications.get()) {
+            return indexed;
+        }
+        if (!indexLock.tryLock()) {
+            return null;
+        }
+        try {
+            long version = modifications.get();
+            indexed = indexedSnapshot;
+            if (indexed == null || indexed.version() != version) {
+                // entries can only be newer than version, in which case the index is rebuilt again on the next search
+                Object[] snapshot = entries.toArray();
+                MetadataIndex index = MetadataIndex.build(
+                        indexedMetadataKeys, snapshot.length, position -> ((Entry<?>) snapshot[position]).embedded);
+                indexed = new IndexedSnapshot(version, snapshot, index);
+                indexedSnapshot = indexed;
+            }
+            return indexed;
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private record IndexedSnapshot(long version, Object[] entries, MetadataIndex index) {}
+
+    /**
+     * @param snapshot   a snapshot of the entries, consistent for all partitions
+     * @param candidates the entries to score, or {@code null} to score all entries matching the filter
+     */
+    private EmbeddingSearchResult<Embedded> parallelSearch(
+            Object[] snapshot, MetadataIndex.Candidates candidates, EmbeddingSearchRequest embeddingSearchRequest) {
+
+        int partitions = Math.min(searchParallelism, snapshot.length);
+        int partitionSize = (snapshot.length + partitions - 1) / partitions;
+
+        float[] queryVector = embeddingSearchRequest.queryEmbedding().vector();
+        float queryNorm = norm(queryVector);
+
+        List<CompletableFuture<TopKHeap>> futures = new ArrayList<>(partitions);
+        for (int from = 0; from < snapshot.length; from += partitionSize) {
+            int fromIndex = from;
+            int toIndex = Math.min(from + partitionSize, snapshot.length);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> scan(
+                            snapshot, candidates, fromIndex, toIndex, embeddingSearchRequest, queryVector, queryNorm),
+                    searchExecutor));
+        }
+
+        TopKHeap merged = new TopKHeap(embeddingSearchRequest.maxResults());
+        for (CompletableFuture<TopKHeap> future : futures) {
+            try {
+                merged.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        return toResult(snapshot, merged);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EmbeddingSearchResult<Embedded> toResult(Object[] snapshot, TopKHeap heap) {
+        double[] scores = new double[heap.size()];
+        int[] indexes = heap.drainDescending(scores);
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(indexes.length);
+        for (int i = 0; i < indexes.length; i++) {
+            Entry<Embedded> entry = (Entry<Embedded>) snapshot[indexes[i]];
+            result.add(new EmbeddingMatch<>(scores[i], entry.id, entry.embedding, entry.embedded));
+        }
+        return new EmbeddingSearchResult<>(result);
+    }
+
+    /**
+     * Scans the entries of the snapshot in {@code [fromIndex, toIndex)}, retaining the best matches by index.
+     * When {@code candidates} are given, only these entries are scanned.
+     */
+    private static TopKHeap scan(
+            Object[] snapshot,
+            MetadataIndex.Candidates candidates,
+            int fromIndex,
+            int toIndex,
+            EmbeddingSearchRequest embeddingSearchRequest,
+            float[] queryVector,
+            float queryNorm) {
+
+        BitSet positions = candidates == null ? null : candidates.positions();
+        Filter filter = candidates != null && candidates.exact() ? null : compiledFilter(embeddingSearchRequest);
+        TopKHeap heap = new TopKHeap(embeddingSearchRequest.maxResults());
+
+        for (int i = positions == null ? fromIndex : positions.nextSetBit(fromIndex);
+                i >= 0 && i < toIndex;
+                i = positions == null ? i + 1 : positions.nextSetBit(i + 1)) {
+            Entry<?> entry = (Entry<?>) snapshot[i];
+
+            if (filter != null && entry.embedded instanceof TextSegment) {
+                Metadata metadata = ((TextSegment) entry.embedded).metadata();
+                if (!filter.test(metadata)) {
+                    continue;
+                }
+            }
+
+            double cosineSimilarity = cosineSimilarity(entry, queryVector, queryNorm);
+            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+            if (score >= embeddingSearchRequest.minScore()) {
+                heap.offer(i, score);
+            }
+        }
+        return heap;
+    }
+
+    private static Filter compiledFilter(EmbeddingSearchRequest embeddingSearchRequest) {
+        Filter filter = embeddingSearchRequest.filter();
+        return filter == null ? null : CompiledFilter.compile(filter);
+    }
+
+    private static double cosineSimilarity(Entry<?> entry, float[] queryVector, float queryNorm) {
+        float[] vector = entry.embedding.vector();
+        if (vector.length != queryVector.length) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, queryVector.length);
+        }
+        double dotProduct = KERNEL.dotProduct(vector, queryVector);
+        return dotProduct / Math.max((double) entry.norm * queryNorm, CosineSimilarity.EPSILON);
+    }
+
+    private static float norm(float[] vector) {
+        return (float) Math.sqrt(KERNEL.dotProduct(vector, vector));
+    }
+
     public String serializeToJson() {
         return loadCodec().toJson(this);
     }
@@ -211,6 +466,91 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Writes this store to the given file using a compact binary format.
+     * Only entries whose embedded object is a {@link TextSegment} (or {@code null}) can be serialized.
+     *
+     * @see #fromBinaryFile(Path)
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        List<Entry<Embedded>> snapshot = new ArrayList<>(entries);
+        try {
+            BinaryEmbeddingStoreFormat.write(filePath, new BinaryEmbeddingStoreFormat.Source() {
+
+                @Override
+                public int size() {
+                    return snapshot.size();
+                }
+
+                @Override
+                public int dimension() {
+                    return snapshot.isEmpty() ? 0 : snapshot.get(0).embedding.dimension();
+                }
+
+                @Override
+                public String id(int index) {
+                    return snapshot.get(index).id;
+                }
+
+                @Override
+                public void vector(int index, float[] target) {
+                    float[] vector = snapshot.get(index).embedding.vector();
+                    if (vector.length != target.length) {
+                        throw illegalArgument("All embeddings must have the same dimension to be serialized, "
+                                + "but found %s and %s", vector.length, target.length);
+                    }
+                    System.arraycopy(vector, 0, target, 0, vector.length);
+                }
+
+                @Override
+                public float norm(int index) {
+                    return snapshot.get(index).norm;
+                }
+
+                @Override
+                public Object embedded(int index) {
+                    return snapshot.get(index).embedded;
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
+    /**
+     * Loads a store written by {@link #serializeToBinaryFile(Path)}
+     * or {@link FlatInMemoryEmbeddingStore#serializeToBinaryFile(Path)}.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        BinaryEmbeddingStoreFormat.Snapshot snapshot;
+        try {
+            snapshot = BinaryEmbeddingStoreFormat.read(filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        List<Entry<TextSegment>> entries = new ArrayList<>(snapshot.size());
+        if (snapshot.size() == 0) {
+            return new InMemoryEmbeddingStore<>(entries);
+        }
+        FloatVectorSlab vectors = snapshot.toSlab(false);
+        for (int i = 0; i < snapshot.size(); i++) {
+            entries.add(new Entry<>(
+                    snapshot.ids().get(i),
+                    new Embedding(vectors.get(i)),
+                    snapshot.embedded().get(i),
+                    snapshot.norms()[i]));
+        }
+        return new InMemoryEmbeddingStore<>(entries);
+    }
+
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
@@ -233,20 +573,96 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return merge(asList(first, second));
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Boolean parallelSearch;
+        private Executor searchExecutor;
+        private Integer parallelSearchThreshold;
+        private Integer searchParallelism;
+        private Collection<String> indexedMetadataKeys;
+
+        /**
+         * @param parallelSearch Whether to scan large stores concurrently, using the {@link ForkJoinPool#commonPool()}.
+         *                       Default value: false.
+         * @return builder
+         */
+        public Builder parallelSearch(Boolean parallelSearch) {
+            this.parallelSearch = parallelSearch;
+            return this;
+        }
+
+        /**
+         * @param searchExecutor The {@link Executor} used to scan the partitions of large stores concurrently.
+         *                       Setting it enables parallel search.
+         *                       The calling thread blocks until all partitions have been scanned.
+         * @return builder
+         */
+        public Builder searchExecutor(Executor searchExecutor) {
+            this.searchExecutor = searchExecutor;
+            return this;
+        }
+
+        /**
+         * @param parallelSearchThreshold The minimum number of entries for a search to run in parallel.
+         *                                Smaller stores are searched on the calling thread.
+         *                                Default value: 10000.
+         * @return builder
+         */
+        public Builder parallelSearchThreshold(Integer parallelSearchThreshold) {
+            this.parallelSearchThreshold = parallelSearchThreshold;
+            return this;
+        }
+
+        /**
+         * @param searchParallelism The maximum number of partitions scanned concurrently by a single search.
+         *                          Default value: the number of available processors.
+         * @return builder
+         */
+        public Builder searchParallelism(Integer searchParallelism) {
+            this.searchParallelism = searchParallelism;
+            return this;
+        }
+
+        /**
+         * @param indexedMetadataKeys The metadata keys to index, so that searches filtering on them
+         *                            only score the matching entries.
+         *                            Default value: none.
+         * @return builder
+         */
+        public Builder indexedMetadataKeys(Collection<String> indexedMetadataKeys) {
+            this.indexedMetadataKeys = indexedMetadataKeys;
+            return this;
+        }
+
+        public <Embedded> InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(this);
+        }
+    }
+
     static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
         Embedded embedded;
+        final transient float norm;
 
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
         }
 
         Entry(String id, Embedding embedding, Embedded embedded) {
+            this(id, embedding, embedded, norm(ensureNotNull(embedding, "embedding").vector()));
+        }
+
+        Entry(String id, Embedding embedding, Embedded embedded, float norm) {
             this.id = ensureNotBlank(id, "id");
             this.embedding = ensureNotNull(embedding, "embedding");
             this.embedded = embedded;
+            this.norm = norm;
         }
 
         @Override
@@ -0,0 +1,271 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable inverted index over selected metadata keys of a snapshot of entries, identified by their position.
+ * <p>
+ * For each indexed key, it maps every value to the set of entries holding it, sorted by value,
+ * which answers {@link IsEqualTo}, {@link IsIn} and range comparisons, as well as {@link And} and {@link Or}
+ * combinations of them, without testing the metadata of every entry.
+ * <p>
+ * The index only answers a comparison when it is guaranteed to give the same result as {@link Filter#test(Object)}:
+ * all the values of the key must have the same kind (text, number or {@link UUID}) as the comparison value.
+ * Otherwise (for example, when {@link Filter#test(Object)} would throw because of a type mismatch),
+ * the comparison is left to {@link Filter#test(Object)}.
+ */
+final class MetadataIndex {
+
+    /**
+     * Above this fraction of matching entries, building and iterating the candidates is not worth it
+     * unless it also saves testing the filter on them.
+     */
+    private static final double MAX_INEXACT_SELECTIVITY = 0.5;
+
+    private final int size;
+    private final Map<String, KeyIndex> keyIndexes;
+
+    /**
+     * Entries that are not {@link TextSegment}s, which are never filtered out.
+     */
+    private final BitSet unfiltered;
+
+    private MetadataIndex(int size, Map<String, KeyIndex> keyIndexes, BitSet unfiltered) {
+        this.size = size;
+        this.keyIndexes = keyIndexes;
+        this.unfiltered = unfiltered;
+    }
+
+    /**
+     * Indexes the given keys of the entries at positions {@code [0, size)}.
+     *
+     * @param embedded returns the embedded object of the entry at the given position
+     */
+    static MetadataIndex build(Set<String> keys, int size, IntFunction<?> embedded) {
+        Map<String, KeyIndex> keyIndexes = new HashMap<>();
+        for (String key : keys) {
+            keyIndexes.put(key, new KeyIndex());
+        }
+        BitSet unfiltered = new BitSet(size);
+        for (int position = 0; position < size; position++) {
+            if (!(embedded.apply(position) instanceof TextSegment textSegment)) {
+                unfiltered.set(position);
+                continue;
+            }
+            Map<String, Object> metadata = textSegment.metadata().toMap();
+            for (Map.Entry<String, KeyIndex> keyIndex : keyIndexes.entrySet()) {
+                Object value = metadata.get(keyIndex.getKey());
+                if (value != null) {
+                    keyIndex.getValue().add(value, position);
+                }
+            }
+        }
+        return new MetadataIndex(size, keyIndexes, unfiltered);
+    }
+
+    /**
+     * The result of planning a filter: the positions of the entries that can match it,
+     * and whether they are all known to match it, in which case the filter does not need to be tested on them.
+     */
+    record Candidates(BitSet positions, boolean exact) {}
+
+    /**
+     * Chooses between pre-filtering and post-filtering the entries.
+     *
+     * @return the candidates to score, or {@code null} if every entry should be scored after testing the filter
+     */
+    Candidates plan(Filter filter) {
+        Candidates candidates = candidates(filter);
+        if (candidates == null) {
+            return null;
+        }
+        if (!candidates.exact() && candidates.positions().cardinality() > size * MAX_INEXACT_SELECTIVITY) {
+            return null;
+        }
+        BitSet positions = (BitSet) candidates.positions().clone();
+        positions.or(unfiltered);
+        return new Candidates(positions, candidates.exact());
+    }
+
+    /**
+     * Returns the TextSegment entries that can match the given filter, or {@code null} if the index cannot tell.
+     * The returned sets must not be modified.
+     */
+    private Candidates candidates(Filter filter) {
+        if (filter instanceof And and) {
+            Candidates left = candidates(and.left());
+            Candidates right = candidates(and.right());
+            if (left == null || right == null) {
+                Candidates known = left == null ? right : left;
+                return known == null ? null : new Candidates(known.positions(), false);
+            }
+            BitSet positions = (BitSet) left.positions().clone();
+            positions.and(right.positions());
+            return new Candidates(positions, left.exact() && right.exact());
+        } else if (filter instanceof Or or) {
+            Candidates left = candidates(or.left());
+            Candidates right = candidates(or.right());
+            if (left == null || right == null) {
+                return null;
+            }
+            BitSet positions = (BitSet) left.positions().clone();
+            positions.or(right.positions());
+            return new Candidates(positions, left.exact() && right.exact());
+        } else if (filter instanceof IsEqualTo isEqualTo) {
+            KeyIndex keyIndex = keyIndex(isEqualTo.key(), isEqualTo.comparisonValue());
+            return keyIndex == null ? null : exact(keyIndex.equalTo(isEqualTo.comparisonValue()));
+        } else if (filter instanceof IsIn isIn) {
+            return isIn(isIn.key(), isIn.comparisonValues());
+        } else if (filter instanceof IsGreaterThan isGreaterThan) {
+            return range(isGreaterThan.key(), isGreaterThan.comparisonValue(), false, null, false);
+        } else if (filter instanceof IsGreaterThanOrEqualTo isGreaterThanOrEqualTo) {
+            return range(isGreaterThanOrEqualTo.key(), isGreaterThanOrEqualTo.comparisonValue(), true, null, false);
+        } else if (filter instanceof IsLessThan isLessThan) {
+            return range(isLessThan.key(), null, false, isLessThan.comparisonValue(), false);
+        } else if (filter instanceof IsLessThanOrEqualTo isLessThanOrEqualTo) {
+            return range(isLessThanOrEqualTo.key(), null, false, isLessThanOrEqualTo.comparisonValue(), true);
+        }
+        return null;
+    }
+
+    private Candidates isIn(String key, Collection<?> comparisonValues) {
+        Kind kind = Kind.of(comparisonValues.iterator().next());
+        for (Object comparisonValue : comparisonValues) {
+            // IsIn converts floats to BigDecimal differently from the other comparisons
+            if (Kind.of(comparisonValue) != kind || comparisonValue instanceof Float) {
+                return null;
+            }
+        }
+        KeyIndex keyIndex = keyIndex(key, comparisonValues.iterator().next());
+        if (keyIndex == null || keyIndex.hasFloats) {
+            return null;
+        }
+        BitSet positions = new BitSet(size);
+        for (Object comparisonValue : comparisonValues) {
+            positions.or(keyIndex.equalTo(comparisonValue));
+        }
+        return exact(positions);
+    }
+
+    private Candidates range(
+            String key, Object lowerBound, boolean lowerInclusive, Object upperBound, boolean upperInclusive) {
+        Object comparisonValue = lowerBound != null ? lowerBound : upperBound;
+        KeyIndex keyIndex = keyIndex(key, comparisonValue);
+        if (keyIndex == null || keyIndex.kind == Kind.IDENTIFIER) {
+            return null;
+        }
+        NavigableMap<Object, BitSet> values = keyIndex.postings;
+        if (lowerBound != null) {
+            values = values.tailMap(normalize(lowerBound), lowerInclusive);
+        }
+        if (upperBound != null) {
+            values = values.headMap(normalize(upperBound), upperInclusive);
+        }
+        BitSet positions = new BitSet(size);
+        for (BitSet posting : values.values()) {
+            positions.or(posting);
+        }
+        return exact(positions);
+    }
+
+    /**
+     * Returns the index of the given key if it can answer comparisons with the given value.
+     */
+    private KeyIndex keyIndex(String key, Object comparisonValue) {
+        KeyIndex keyIndex = keyIndexes.get(key);
+        if (keyIndex == null || keyIndex.kind == Kind.MIXED) {
+            return null;
+        }
+        if (keyIndex.kind != null && keyIndex.kind != Kind.of(comparisonValue)) {
+            return null;
+        }
+        if (Kind.of(comparisonValue) == Kind.MIXED) {
+            return null;
+        }
+        return keyIndex;
+    }
+
+    private static Candidates exact(BitSet positions) {
+        return new Candidates(positions, true);
+    }
+
+    /**
+     * Converts a value to a key of {@link KeyIndex#postings}, so that values are equal (and ordered) like
+     * {@link Filter#test(Object)} compares them. Numbers are compared as {@link BigDecimal}s, regardless of their type.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Number) {
+            return new BigDecimal(value.toString());
+        }
+        return value;
+    }
+
+    private enum Kind {
+        STRING,
+        NUMBER,
+        IDENTIFIER,
+        MIXED;
+
+        static Kind of(Object value) {
+            if (value instanceof String) {
+                return STRING;
+            } else if (value instanceof Float f && Float.isFinite(f)) {
+                return NUMBER;
+            } else if (value instanceof Double d && Double.isFinite(d)) {
+                return NUMBER;
+            } else if (value instanceof Integer || value instanceof Long) {
+                return NUMBER;
+            } else if (value instanceof UUID) {
+                return IDENTIFIER;
+            }
+            return MIXED;
+        }
+    }
+
+    private static final class KeyIndex {
+
+        private final NavigableMap<Object, BitSet> postings = new TreeMap<>();
+        private Kind kind;
+        private boolean hasFloats;
+
+        void add(Object value, int position) {
+            Kind valueKind = Kind.of(value);
+            if (kind == null) {
+                kind = valueKind;
+            } else if (kind != valueKind) {
+                kind = Kind.MIXED;
+            }
+            if (kind == Kind.MIXED) {
+                postings.clear();
+                return;
+            }
+            hasFloats |= value instanceof Float;
+            postings.computeIfAbsent(normalize(value), ignored -> new BitSet())
+                    .set(position);
+        }
+
+        BitSet equalTo(Object comparisonValue) {
+            BitSet posting = postings.get(normalize(comparisonValue));
+            return posting == null ? new BitSet() : posting;
+        }
+    }
+}
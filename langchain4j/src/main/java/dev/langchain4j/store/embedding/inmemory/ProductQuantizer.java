@@ -0,0 +1,180 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Splits vectors into contiguous subspaces and encodes each sub-vector as the index of its nearest centroid,
+ * out of up to 256 centroids per subspace learned with k-means on the training vectors.
+ * <p>
+ * To score a query, the dot products between each query sub-vector and every centroid of its subspace
+ * are computed once into a lookup table, after which scoring a code takes one table lookup per subspace.
+ */
+final class ProductQuantizer implements VectorQuantizer {
+
+    private static final int MAX_CENTROIDS = 256;
+    private static final int ITERATIONS = 10;
+
+    private final int subspaces;
+    private final int[] bounds;
+    private final int centroidCount;
+    private final float[][] centroids;
+
+    private ProductQuantizer(int[] bounds, int centroidCount, float[][] centroids) {
+        this.subspaces = bounds.length - 1;
+        this.bounds = bounds;
+        this.centroidCount = centroidCount;
+        this.centroids = centroids;
+    }
+
+    /**
+     * Learns the centroids of each subspace from the given vectors.
+     *
+     * @param subspaces the number of subspaces, at most the dimension of the vectors
+     * @param random    the source of randomness used to initialize the centroids
+     */
+    static ProductQuantizer train(float[][] vectors, int subspaces, Random random) {
+        int dimension = vectors[0].length;
+        int[] bounds = new int[subspaces + 1];
+        for (int s = 0; s <= subspaces; s++) {
+            bounds[s] = (int) ((long) s * dimension / subspaces);
+        }
+        int centroidCount = Math.min(MAX_CENTROIDS, vectors.length);
+        float[][] centroids = new float[subspaces][];
+        for (int s = 0; s < subspaces; s++) {
+            centroids[s] = kMeans(vectors, bounds[s], bounds[s + 1] - bounds[s], centroidCount, random);
+        }
+        return new ProductQuantizer(bounds, centroidCount, centroids);
+    }
+
+    /**
+     * Runs Lloyd's algorithm on the sub-vectors {@code [from, from + length)}, and returns the centroids
+     * flattened into a single array: centroid {@code c} occupies {@code [c * length, (c + 1) * length)}.
+     */
+    private static float[] kMeans(float[][] vectors, int from, int length, int k, Random random) {
+        float[] centroids = new float[k * length];
+        int[] order = shuffledIndexes(vectors.length, random);
+        for (int c = 0; c < k; c++) {
+            System.arraycopy(vectors[order[c]], from, centroids, c * length, length);
+        }
+
+        int[] assignments = new int[vectors.length];
+        float[] sums = new float[k * length];
+        int[] counts = new int[k];
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            boolean changed = false;
+            for (int v = 0; v < vectors.length; v++) {
+                int nearest = nearest(centroids, k, vectors[v], from, length);
+                changed |= iteration == 0 || nearest != assignments[v];
+                assignments[v] = nearest;
+            }
+            if (!changed) {
+                break;
+            }
+
+            Arrays.fill(sums, 0);
+            Arrays.fill(counts, 0);
+            for (int v = 0; v < vectors.length; v++) {
+                int c = assignments[v];
+                counts[c]++;
+                for (int i = 0; i < length; i++) {
+                    sums[c * length + i] += vectors[v][from + i];
+                }
+            }
+            for (int c = 0; c < k; c++) {
+                if (counts[c] == 0) {
+                    // re-seed empty clusters with a random vector
+                    System.arraycopy(vectors[random.nextInt(vectors.length)], from, centroids, c * length, length);
+                    continue;
+                }
+                for (int i = 0; i < length; i++) {
+                    centroids[c * length + i] = sums[c * length + i] / counts[c];
+                }
+            }
+        }
+        return centroids;
+    }
+
+    private static int[] shuffledIndexes(int size, Random random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int index = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = index;
+        }
+        return indexes;
+    }
+
+    private static int nearest(float[] centroids, int k, float[] vector, int from, int length) {
+        int nearest = 0;
+        float nearestDistance = Float.POSITIVE_INFINITY;
+        for (int c = 0; c < k; c++) {
+            int offset = c * length;
+            float distance = 0;
+            for (int i = 0; i < length; i++) {
+                float diff = vector[from + i] - centroids[offset + i];
+                distance += diff * diff;
+            }
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = c;
+            }
+        }
+        return nearest;
+    }
+
+    @Override
+    public int codeSize() {
+        return subspaces;
+    }
+
+    @Override
+    public int dimension() {
+        return bounds[subspaces];
+    }
+
+    @Override
+    public void encode(float[] vector, byte[] codes, int offset) {
+        for (int s = 0; s < subspaces; s++) {
+            int from = bounds[s];
+            codes[offset + s] = (byte) nearest(centroids[s], centroidCount, vector, from, bounds[s + 1] - from);
+        }
+    }
+
+    @Override
+    public void decode(byte[] codes, int offset, float[] target) {
+        for (int s = 0; s < subspaces; s++) {
+            int from = bounds[s];
+            int length = bounds[s + 1] - from;
+            System.arraycopy(centroids[s], (codes[offset + s] & 0xFF) * length, target, from, length);
+        }
+    }
+
+    @Override
+    public Scorer scorer(float[] query) {
+        float[] table = new float[subspaces * MAX_CENTROIDS];
+        for (int s = 0; s < subspaces; s++) {
+            int from = bounds[s];
+            int length = bounds[s + 1] - from;
+            for (int c = 0; c < centroidCount; c++) {
+                float dot = 0;
+                for (int i = 0; i < length; i++) {
+                    dot += query[from + i] * centroids[s][c * length + i];
+                }
+                table[s * MAX_CENTROIDS + c] = dot;
+            }
+        }
+        int subspaces = this.subspaces;
+        return (codes, offset) -> {
+            float sum = 0;
+            for (int s = 0; s < subspaces; s++) {
+                sum += table[(s << 8) + (codes[offset + s] & 0xFF)];
+            }
+            return sum;
+        };
+    }
+}
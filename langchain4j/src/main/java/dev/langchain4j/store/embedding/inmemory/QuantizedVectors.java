@@ -0,0 +1,103 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Stores the codes produced by a {@link VectorQuantizer}, back to back in {@code byte[]} chunks,
+ * with the same ordinals and the same swap-with-last removal as {@link FloatVectorSlab}.
+ * <p>
+ * Each chunk holds up to a power of two of codes and at most 256 MB, so stores larger than
+ * the maximum array size can be quantized. The last chunk grows by doubling its capacity until it is full.
+ * <p>
+ * This class is not thread-safe.
+ */
+class QuantizedVectors {
+
+    private static final long MAX_CHUNK_BYTES = 1L << 28;
+
+    private final VectorQuantizer quantizer;
+    private final int codeSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    private byte[][] chunks = new byte[0][];
+    private int size;
+
+    QuantizedVectors(VectorQuantizer quantizer) {
+        this.quantizer = quantizer;
+        this.codeSize = quantizer.codeSize();
+        long codesPerChunk = Math.max(1, MAX_CHUNK_BYTES / codeSize);
+        this.chunkShift = 63 - Long.numberOfLeadingZeros(codesPerChunk);
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int dimension() {
+        return quantizer.dimension();
+    }
+
+    /**
+     * Encodes and appends a normalized vector.
+     */
+    void add(float[] vector) {
+        ensureCapacity(size);
+        set(size++, vector);
+    }
+
+    /**
+     * Encodes a normalized vector into the given slot.
+     */
+    void set(int index, float[] vector) {
+        quantizer.encode(vector, chunks[index >>> chunkShift], (index & chunkMask) * codeSize);
+    }
+
+    /**
+     * Moves the last code into the given slot, like {@link FloatVectorSlab#removeBySwappingLast(int)}.
+     */
+    void removeBySwappingLast(int index) {
+        int last = --size;
+        if (index != last) {
+            System.arraycopy(
+                    chunks[last >>> chunkShift],
+                    (last & chunkMask) * codeSize,
+                    chunks[index >>> chunkShift],
+                    (index & chunkMask) * codeSize,
+                    codeSize);
+        }
+    }
+
+    /**
+     * Decodes the code at the given index into {@code target}, see {@link VectorQuantizer#decode(byte[], int, float[])}.
+     */
+    void decode(int index, float[] target) {
+        quantizer.decode(chunks[index >>> chunkShift], (index & chunkMask) * codeSize, target);
+    }
+
+    VectorQuantizer.Scorer scorer(float[] query) {
+        return quantizer.scorer(query);
+    }
+
+    /**
+     * Returns the approximate dot product between the query of the given scorer and the vector at the given index.
+     */
+    float score(VectorQuantizer.Scorer scorer, int index) {
+        return scorer.score(chunks[index >>> chunkShift], (index & chunkMask) * codeSize);
+    }
+
+    private void ensureCapacity(int index) {
+        int chunk = index >>> chunkShift;
+        if (chunk == chunks.length) {
+            byte[][] newChunks = new byte[chunks.length + 1][];
+            System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+            newChunks[chunk] = new byte[Math.min(1024, chunkMask + 1) * codeSize];
+            chunks = newChunks;
+            return;
+        }
+        int capacity = chunks[chunk].length / codeSize;
+        if ((index & chunkMask) >= capacity) {
+            byte[] grown = new byte[Math.min(capacity * 2, chunkMask + 1) * codeSize];
+            System.arraycopy(chunks[chunk], 0, grown, 0, chunks[chunk].length);
+            chunks[chunk] = grown;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Quantizes each dimension to an unsigned 8-bit value, using the per-dimension range of the training vectors.
+ * Values outside of that range are clamped.
+ * <p>
+ * A vector {@code v} is reconstructed as {@code min[i] + code[i] * step[i]}, so the dot product with a query
+ * {@code q} is {@code sum(q[i] * min[i]) + sum(q[i] * step[i] * code[i])}.
+ * The first term and the products {@code q[i] * step[i]} are computed once per query.
+ */
+final class ScalarQuantizer implements VectorQuantizer {
+
+    private static final int LEVELS = 255;
+
+    private final float[] min;
+    private final float[] step;
+
+    private ScalarQuantizer(float[] min, float[] step) {
+        this.min = min;
+        this.step = step;
+    }
+
+    static ScalarQuantizer train(float[][] vectors) {
+        int dimension = vectors[0].length;
+        float[] min = new float[dimension];
+        float[] max = new float[dimension];
+        Arrays.fill(min, Float.POSITIVE_INFINITY);
+        Arrays.fill(max, Float.NEGATIVE_INFINITY);
+        for (float[] vector : vectors) {
+            for (int i = 0; i < dimension; i++) {
+                min[i] = Math.min(min[i], vector[i]);
+                max[i] = Math.max(max[i], vector[i]);
+            }
+        }
+        float[] step = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            step[i] = (max[i] - min[i]) / LEVELS;
+        }
+        return new ScalarQuantizer(min, step);
+    }
+
+    @Override
+    public int codeSize() {
+        return min.length;
+    }
+
+    @Override
+    public int dimension() {
+        return min.length;
+    }
+
+    @Override
+    public void encode(float[] vector, byte[] codes, int offset) {
+        for (int i = 0; i < min.length; i++) {
+            int code = step[i] == 0 ? 0 : Math.round((vector[i] - min[i]) / step[i]);
+            codes[offset + i] = (byte) Math.max(0, Math.min(LEVELS, code));
+        }
+    }
+
+    @Override
+    public void decode(byte[] codes, int offset, float[] target) {
+        for (int i = 0; i < min.length; i++) {
+            target[i] = min[i] + (codes[offset + i] & 0xFF) * step[i];
+        }
+    }
+
+    @Override
+    public Scorer scorer(float[] query) {
+        int dimension = min.length;
+        float[] scaledQuery = new float[dimension];
+        float base = 0;
+        for (int i = 0; i < dimension; i++) {
+            scaledQuery[i] = query[i] * step[i];
+            base += query[i] * min[i];
+        }
+        float constant = base;
+        int upperBound = dimension & ~3;
+        return (codes, offset) -> {
+            float sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+            int i = 0;
+            for (; i < upperBound; i += 4) {
+                sum0 += scaledQuery[i] * (codes[offset + i] & 0xFF);
+                sum1 += scaledQuery[i + 1] * (codes[offset + i + 1] & 0xFF);
+                sum2 += scaledQuery[i + 2] * (codes[offset + i + 2] & 0xFF);
+                sum3 += scaledQuery[i + 3] * (codes[offset + i + 3] & 0xFF);
+            }
+            for (; i < dimension; i++) {
+                sum0 += scaledQuery[i] * (codes[offset + i] & 0xFF);
+            }
+            return constant + (sum0 + sum1) + (sum2 + sum3);
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * A bounded min-heap of {@code (ordinal, score)} pairs that retains the {@code k} highest scores seen so far.
+ * <p>
+ * Uses primitive arrays, so collecting candidates during a scan does not allocate once the heap is full.
+ * The arrays grow with the number of retained candidates rather than being sized for {@code k} up front,
+ * so a very large {@code k} (such as {@link Integer#MAX_VALUE}) only costs as much as the candidates actually seen.
+ * <p>
+ * This class is not thread-safe.
+ */
+class TopKHeap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int k;
+    private int[] ordinals;
+    private double[] scores;
+    private int size;
+
+    TopKHeap(int k) {
+        this.k = k;
+        this.ordinals = new int[Math.min(k, INITIAL_CAPACITY)];
+        this.scores = new double[ordinals.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the lowest score a new candidate must exceed to be retained.
+     */
+    double threshold() {
+        return size < k ? Double.NEGATIVE_INFINITY : scores[0];
+    }
+
+    void offer(int ordinal, double score) {
+        if (size < k) {
+            if (size == ordinals.length) {
+                grow();
+            }
+            ordinals[size] = ordinal;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            ordinals[0] = ordinal;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    void addAll(TopKHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.ordinals[i], other.scores[i]);
+        }
+    }
+
+    /**
+     * Drains the heap, returning ordinals sorted by descending score.
+     * The corresponding scores are written into {@code sortedScores}, which must have at least {@link #size()} slots.
+     */
+    int[] drainDescending(double[] sortedScores) {
+        int count = size;
+        int[] sortedOrdinals = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            sortedOrdinals[i] = ordinals[0];
+            sortedScores[i] = scores[0];
+            size--;
+            if (size > 0) {
+                ordinals[0] = ordinals[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+        }
+        return sortedOrdinals;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min((long) ordinals.length * 2, k);
+        ordinals = Arrays.copyOf(ordinals, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[index] >= scores[parent]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int ordinal = ordinals[i];
+        ordinals[i] = ordinals[j];
+        ordinals[j] = ordinal;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
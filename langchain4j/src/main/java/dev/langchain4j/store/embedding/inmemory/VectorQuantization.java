@@ -0,0 +1,39 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * How {@link FlatInMemoryEmbeddingStore} compresses the vectors it scans during a search.
+ * <p>
+ * Quantized vectors are compared with the (unquantized) query using asymmetric distance computation,
+ * which yields approximate scores. The memory footprint depends on whether the best candidates are re-scored
+ * (see {@link FlatInMemoryEmbeddingStore.Builder#rescoreMultiplier(Integer)}):
+ * <ul>
+ * <li>With re-scoring, the original vectors are kept in addition to the codes, and search results contain them.
+ * They must be kept off-heap ({@link FlatInMemoryEmbeddingStore.Builder#offHeap(Boolean)})
+ * or memory-mapped ({@link FlatInMemoryEmbeddingStore#fromBinaryFile(java.nio.file.Path,
+ * FlatInMemoryEmbeddingStore.Builder)}): the heap only holds the codes, but the total footprint is that of
+ * the vectors plus the codes. Memory-mapped vectors are paged in by the operating system
+ * when candidates are re-scored, so only the codes need to stay resident.</li>
+ * <li>Without re-scoring, the original vectors are released once they are encoded, so only the codes are kept,
+ * and search results contain approximate scores and embeddings decoded from the codes.</li>
+ * </ul>
+ */
+public enum VectorQuantization {
+
+    /**
+     * Vectors are not quantized, and every search computes exact scores.
+     */
+    NONE,
+
+    /**
+     * Each dimension of the normalized vector is quantized to 8 bits, using the range observed for that dimension
+     * in the training vectors. Codes are 4 times smaller than {@code float} vectors.
+     */
+    INT8,
+
+    /**
+     * The normalized vector is split into subspaces, and each sub-vector is replaced by the index (8 bits)
+     * of the nearest of 256 centroids learned with k-means on the training vectors.
+     * With the default of one subspace per 4 dimensions, codes are 16 times smaller than {@code float} vectors.
+     */
+    PRODUCT
+}
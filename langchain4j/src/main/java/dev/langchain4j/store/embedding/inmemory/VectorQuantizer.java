@@ -0,0 +1,41 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Encodes normalized vectors into compact codes, and scores codes against a query
+ * without decoding them (asymmetric distance computation).
+ */
+interface VectorQuantizer {
+
+    /**
+     * The number of bytes of the code of one vector.
+     */
+    int codeSize();
+
+    /**
+     * The dimension of the encoded vectors.
+     */
+    int dimension();
+
+    /**
+     * Encodes the given normalized vector into {@code codes}, starting at {@code offset}.
+     */
+    void encode(float[] vector, byte[] codes, int offset);
+
+    /**
+     * Decodes the code at {@code offset} into {@code target}: an approximation of the encoded normalized vector.
+     */
+    void decode(byte[] codes, int offset, float[] target);
+
+    /**
+     * Prepares the scoring of codes against the given normalized query.
+     */
+    Scorer scorer(float[] query);
+
+    interface Scorer {
+
+        /**
+         * Returns the approximate dot product between the query and the vector encoded at {@code offset}.
+         */
+        float score(byte[] codes, int offset);
+    }
+}
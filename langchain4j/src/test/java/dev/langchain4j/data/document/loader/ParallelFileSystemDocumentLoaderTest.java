@@ -0,0 +1,160 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.data.document.loader.FileSystemDocumentChange.Type.ADDED;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentChange.Type.DELETED;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentChange.Type.MODIFIED;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelFileSystemDocumentLoaderTest implements WithAssertions {
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    void should_load_all_documents_recursively() throws IOException {
+
+        // given
+        Files.createDirectories(directory.resolve("subdirectory"));
+        for (int i = 0; i < 20; i++) {
+            Files.writeString(directory.resolve((i % 2 == 0 ? "subdirectory/" : "") + "file-" + i + ".txt"), "text " + i);
+        }
+        Files.writeString(directory.resolve("blank.txt"), " ");
+
+        // when
+        List<String> texts;
+        try (Stream<Document> documents = loader().loadDocuments()) {
+            texts = documents.map(Document::text).toList();
+        }
+
+        // then
+        assertThat(texts).hasSize(20).contains("text 0", "text 19");
+    }
+
+    @Test
+    void should_only_emit_changes_since_previous_run() throws IOException {
+
+        // given
+        Files.writeString(directory.resolve("unchanged.txt"), "unchanged");
+        Files.writeString(directory.resolve("touched.txt"), "touched");
+        Files.writeString(directory.resolve("modified.txt"), "before");
+        Files.writeString(directory.resolve("deleted.txt"), "deleted");
+
+        ParallelFileSystemDocumentLoader loader = loader();
+        Path manifestFile = directory.resolve("documents.manifest");
+        FileSystemDocumentManifest manifest = new FileSystemDocumentManifest();
+
+        try (Stream<FileSystemDocumentChange> changes = loader.loadChanges(manifest)) {
+            assertThat(changes).extracting(FileSystemDocumentChange::type).containsOnly(ADDED).hasSize(4);
+        }
+        manifest.save(manifestFile);
+
+        Files.setLastModifiedTime(directory.resolve("touched.txt"), FileTime.fromMillis(0));
+        Files.writeString(directory.resolve("modified.txt"), "after");
+        Files.delete(directory.resolve("deleted.txt"));
+        Files.writeString(directory.resolve("added.txt"), "added");
+
+        // when
+        FileSystemDocumentManifest loadedManifest = FileSystemDocumentManifest.load(manifestFile);
+        List<FileSystemDocumentChange> changes;
+        try (Stream<FileSystemDocumentChange> changeStream = loader.loadChanges(loadedManifest)) {
+            changes = changeStream.toList();
+        }
+
+        // then
+        assertThat(changes)
+                .extracting(FileSystemDocumentChange::type, change -> directory.relativize(change.path()).toString())
+                .containsExactlyInAnyOrder(
+                        tuple(MODIFIED, "modified.txt"), tuple(DELETED, "deleted.txt"), tuple(ADDED, "added.txt"));
+        assertThat(changes).filteredOn(change -> change.type() == MODIFIED).singleElement()
+                .extracting(change -> change.document().text())
+                .isEqualTo("after");
+        assertThat(changes.get(0).type()).isEqualTo(DELETED);
+        assertThat(loadedManifest.get(directory.resolve("touched.txt")).lastModified()).isZero();
+        assertThat(loadedManifest.paths()).hasSize(4).doesNotContain(directory.resolve("deleted.txt"));
+
+        try (Stream<FileSystemDocumentChange> changeStream = loader.loadChanges(loadedManifest)) {
+            assertThat(changeStream).isEmpty();
+        }
+    }
+
+    @Test
+    void should_only_report_deletions_of_files_in_scope() throws IOException {
+
+        // given
+        Files.createDirectories(directory.resolve("subdirectory"));
+        Files.writeString(directory.resolve("root.txt"), "root");
+        Files.writeString(directory.resolve("root.md"), "root");
+        Files.writeString(directory.resolve("subdirectory/nested.txt"), "nested");
+
+        FileSystemDocumentManifest manifest = new FileSystemDocumentManifest();
+        ParallelFileSystemDocumentLoader allFilesLoader = ParallelFileSystemDocumentLoader.builder()
+                .directoryPath(directory)
+                .documentParser(new TextDocumentParser())
+                .executor(executor)
+                .build();
+        try (Stream<FileSystemDocumentChange> changes = allFilesLoader.loadChanges(manifest)) {
+            assertThat(changes).hasSize(3);
+        }
+
+        ParallelFileSystemDocumentLoader topLevelTextLoader = ParallelFileSystemDocumentLoader.builder()
+                .directoryPath(directory)
+                .pathMatcher(FileSystems.getDefault().getPathMatcher("glob:*.txt"))
+                .recursive(false)
+                .documentParser(new TextDocumentParser())
+                .executor(executor)
+                .build();
+
+        // when
+        List<FileSystemDocumentChange> changes;
+        try (Stream<FileSystemDocumentChange> changeStream = topLevelTextLoader.loadChanges(manifest)) {
+            changes = changeStream.toList();
+        }
+
+        // then
+        assertThat(changes).isEmpty();
+        assertThat(manifest.paths()).hasSize(3);
+
+        // when
+        Files.delete(directory.resolve("root.txt"));
+        try (Stream<FileSystemDocumentChange> changeStream = topLevelTextLoader.loadChanges(manifest)) {
+            changes = changeStream.toList();
+        }
+
+        // then
+        assertThat(changes)
+                .extracting(FileSystemDocumentChange::type, FileSystemDocumentChange::path)
+                .containsExactly(tuple(DELETED, directory.resolve("root.txt")));
+    }
+
+    private ParallelFileSystemDocumentLoader loader() {
+        return ParallelFileSystemDocumentLoader.builder()
+                .directoryPath(directory)
+                .pathMatcher(FileSystems.getDefault().getPathMatcher("glob:**.txt"))
+                .documentParser(new TextDocumentParser())
+                .executor(executor)
+                .parallelism(4)
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -489,6 +490,27 @@ class DocumentByParagraphSplitterTest {
         );
     }
 
+    @Test
+    void should_split_parts_with_index_across_parts() {
+
+        // given
+        Stream<Document> parts = Stream.of(
+                Document.from("Page 1 paragraph 1\n\nPage 1 paragraph 2", new Metadata().put(Document.PAGE_NUMBER, 1)),
+                Document.from("Page 2 paragraph 1", new Metadata().put(Document.PAGE_NUMBER, 2)));
+
+        DocumentSplitter splitter = new DocumentByParagraphSplitter(20, 0);
+
+        // when
+        List<TextSegment> segments = splitter.splitParts(parts).toList();
+
+        // then
+        assertThat(segments).containsExactly(
+                textSegment("Page 1 paragraph 1", metadata("index", "0").put(Document.PAGE_NUMBER, 1)),
+                textSegment("Page 1 paragraph 2", metadata("index", "1").put(Document.PAGE_NUMBER, 1)),
+                textSegment("Page 2 paragraph 1", metadata("index", "2").put(Document.PAGE_NUMBER, 2))
+        );
+    }
+
     private static String sentences(int fromInclusive, int toInclusive) {
         StringBuilder sb = new StringBuilder();
         for (int i = fromInclusive; i <= toInclusive; i++) {
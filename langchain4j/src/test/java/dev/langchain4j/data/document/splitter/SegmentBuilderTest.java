@@ -3,6 +3,9 @@ package dev.langchain4j.data.document.splitter;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class SegmentBuilderTest implements WithAssertions {
     @Test
     void shouldAppendText() {
@@ -65,4 +68,23 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void should_not_measure_whole_segment_while_it_has_space() {
+        List<String> measured = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(10, text -> {
+            measured.add(text);
+            return text.length();
+        }, " ");
+        measured.clear();
+
+        builder.append("one", 3);
+        builder.append("two", 3);
+        assertThat(builder.hasSpaceFor(2)).isTrue();
+        assertThat(measured).isEmpty();
+
+        assertThat(builder.hasSpaceFor(3)).isFalse();
+        assertThat(builder.getSize()).isEqualTo(7);
+        assertThat(measured).containsExactly("one two");
+    }
 }
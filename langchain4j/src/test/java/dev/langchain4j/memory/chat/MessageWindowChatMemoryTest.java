@@ -6,12 +6,16 @@ import static dev.langchain4j.data.message.UserMessage.userMessage;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 class MessageWindowChatMemoryTest implements WithAssertions {
@@ -530,5 +534,48 @@ class MessageWindowChatMemoryTest implements WithAssertions {
                 .containsExactly(msgD, msgE); // Keep the most recent two messages
     }
 
+    @Test
+    void should_only_write_added_and_evicted_messages_to_appendable_store() {
+
+        // given
+        List<String> operations = new ArrayList<>();
+        InMemoryChatMemoryStore store = new InMemoryChatMemoryStore() {
+
+            @Override
+            public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+                operations.add("update " + messages.size());
+                super.updateMessages(memoryId, messages);
+            }
+
+            @Override
+            public long evictAndAppendMessages(
+                    Object memoryId, int fromIndex, int count, List<ChatMessage> messages) {
+                operations.add("evict " + fromIndex + " " + count + ", append " + messages.size());
+                return super.evictAndAppendMessages(memoryId, fromIndex, count, messages);
+            }
+        };
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(store)
+                .build();
 
+        // when
+        chatMemory.add(systemMessage("Be polite"));
+        chatMemory.add(userMessage("first"));
+        chatMemory.add(aiMessage("second"));
+        chatMemory.add(userMessage("third"));
+        chatMemory.add(systemMessage("Be concise"));
+
+        // then
+        assertThat(chatMemory.messages())
+                .containsExactly(aiMessage("second"), userMessage("third"), systemMessage("Be concise"));
+        assertThat(store.getMessages("default")).isEqualTo(chatMemory.messages());
+        assertThat(operations)
+                .containsExactly(
+                        "evict 0 0, append 1",
+                        "evict 0 0, append 1",
+                        "evict 0 0, append 1",
+                        "evict 1 1, append 1",
+                        "evict 0 1, append 1");
+    }
 }
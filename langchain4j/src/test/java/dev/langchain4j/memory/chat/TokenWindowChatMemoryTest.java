@@ -20,6 +20,7 @@ import dev.langchain4j.model.openai.OpenAiChatModelName;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 class TokenWindowChatMemoryTest implements WithAssertions {
@@ -613,6 +614,50 @@ class TokenWindowChatMemoryTest implements WithAssertions {
         chatMemory.add(systemMessageWithTokens(10));
     }
 
+    @Test
+    void should_estimate_each_message_only_once() {
+
+        // given
+        AtomicInteger estimatedMessages = new AtomicInteger();
+        TokenCountEstimator countingEstimator = new TokenCountEstimator() {
+
+            @Override
+            public int estimateTokenCountInText(String text) {
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInText(text);
+            }
+
+            @Override
+            public int estimateTokenCountInMessage(ChatMessage message) {
+                estimatedMessages.incrementAndGet();
+                return TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessage(message);
+            }
+
+            @Override
+            public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+                int tokenCount = EXTRA_TOKENS_PER_REQUEST;
+                for (ChatMessage message : messages) {
+                    tokenCount += estimateTokenCountInMessage(message);
+                }
+                return tokenCount;
+            }
+        };
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(EXTRA_TOKENS_PER_REQUEST + 30, countingEstimator)
+                .build();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            chatMemory.add(userMessage("message " + i));
+            chatMemory.messages();
+        }
+
+        // then
+        assertThat(chatMemory.messages()).endsWith(userMessage("message 99"));
+        assertThat(TOKEN_COUNT_ESTIMATOR.estimateTokenCountInMessages(chatMemory.messages()))
+                .isLessThanOrEqualTo(EXTRA_TOKENS_PER_REQUEST + 30);
+        assertThat(estimatedMessages.get()).isEqualTo(100);
+    }
+
     @Test
     void dynamic_max_tokens_behavior() {
         // Dynamic maxTokens function: different IDs have different token windows
@@ -0,0 +1,180 @@
+package dev.langchain4j.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class AiServicesAsyncTest {
+
+    interface Assistant {
+
+        CompletableFuture<String> chat(String message);
+    }
+
+    record Person(String name, int age) {}
+
+    interface PersonExtractor {
+
+        CompletionStage<Person> extractPersonFrom(String text);
+    }
+
+    interface ResultAssistant {
+
+        CompletableFuture<Result<String>> chat(String message);
+    }
+
+    static class PendingChatModel implements ChatModel {
+
+        final CompletableFuture<ChatResponse> response = new CompletableFuture<>();
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<ChatResponse> chatAsync(ChatRequest chatRequest) {
+            return response;
+        }
+    }
+
+    static class Calculator {
+
+        @Tool
+        int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+    @Test
+    void should_return_future_without_waiting_for_the_model() throws Exception {
+
+        // given
+        PendingChatModel chatModel = new PendingChatModel();
+        Assistant assistant =
+                AiServices.builder(Assistant.class).chatModel(chatModel).build();
+
+        // when
+        CompletableFuture<String> answer = assistant.chat("What is the capital of Germany?");
+
+        // then
+        assertThat(answer).isNotDone();
+
+        chatModel.response.complete(
+                ChatResponse.builder().aiMessage(AiMessage.from("Berlin")).build());
+        assertThat(answer.get(5, SECONDS)).isEqualTo("Berlin");
+    }
+
+    @Test
+    void should_parse_structured_output() {
+
+        // given
+        ChatModel chatModel = ChatModelMock.thatAlwaysResponds("{\"name\": \"Klaus\", \"age\": 37}");
+        PersonExtractor extractor =
+                AiServices.builder(PersonExtractor.class).chatModel(chatModel).build();
+
+        // when
+        CompletionStage<Person> person = extractor.extractPersonFrom("Klaus is 37 years old");
+
+        // then
+        assertThat(person.toCompletableFuture()).succeedsWithin(5, SECONDS).isEqualTo(new Person("Klaus", 37));
+    }
+
+    @Test
+    void should_execute_tools() {
+
+        // given
+        ToolExecutionRequest toolExecutionRequest = ToolExecutionRequest.builder()
+                .id("1")
+                .name("add")
+                .arguments("{\"arg0\": 2, \"arg1\": 3}")
+                .build();
+        ChatModelMock chatModel = ChatModelMock.thatAlwaysResponds(
+                AiMessage.from(toolExecutionRequest), AiMessage.from("2 + 3 = 5"));
+        MessageWindowChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+
+        ResultAssistant assistant = AiServices.builder(ResultAssistant.class)
+                .chatModel(chatModel)
+                .chatMemory(chatMemory)
+                .tools(new Calculator())
+                .build();
+
+        // when
+        CompletableFuture<Result<String>> result = assistant.chat("What is 2 + 3?");
+
+        // then
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(r -> {
+            assertThat(r.content()).isEqualTo("2 + 3 = 5");
+            assertThat(r.toolExecutions()).hasSize(1);
+            assertThat(r.toolExecutions().get(0).result()).isEqualTo("5");
+        });
+        assertThat(chatMemory.messages())
+                .hasSize(4)
+                .element(2)
+                .isInstanceOf(ToolExecutionResultMessage.class);
+    }
+
+    @Test
+    void should_fail_future_when_model_fails() {
+
+        // given
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(ChatModelMock.thatAlwaysThrowsExceptionWithMessage("model failed"))
+                .build();
+
+        // when
+        CompletableFuture<String> answer = assistant.chat("Hello");
+
+        // then
+        assertThat(answer)
+                .failsWithin(5, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isExactlyInstanceOf(RuntimeException.class)
+                .withMessage("model failed");
+    }
+
+    @Test
+    void should_cancel_pending_model_call() {
+
+        // given
+        PendingChatModel chatModel = new PendingChatModel();
+        Assistant assistant =
+                AiServices.builder(Assistant.class).chatModel(chatModel).build();
+        CompletableFuture<String> answer = assistant.chat("Hello");
+
+        // when
+        answer.cancel(true);
+
+        // then
+        assertThat(chatModel.response).isCancelled();
+    }
+
+    interface RawFutureAssistant {
+
+        @SuppressWarnings("rawtypes")
+        CompletableFuture chat(String message);
+    }
+
+    @Test
+    void should_fail_when_future_is_not_parametrized() {
+        assertThatThrownBy(() -> AiServices.builder(RawFutureAssistant.class)
+                        .chatModel(ChatModelMock.thatAlwaysResponds("Hello"))
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -8,13 +8,21 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
 import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.model.openai.internal.chat.AssistantMessage;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionChoice;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.chat.FunctionCall;
+import dev.langchain4j.model.output.Response;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.Test;
 
 class AiServicesModerationTest {
@@ -91,6 +99,49 @@ class AiServicesModerationTest {
         assertDoesNotThrow(() -> AiServices.verifyModerationIfNeeded(moderationFuture));
     }
 
+    interface ModeratedAssistant {
+
+        @Moderate
+        String chat(String userMessage);
+    }
+
+    @Test
+    void should_moderate_using_configured_executor() {
+        // Given
+        List<String> moderationThreads = new CopyOnWriteArrayList<>();
+        ModerationModel moderationModel = new ModerationModel() {
+
+            @Override
+            public Response<Moderation> moderate(String text) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Response<Moderation> moderate(List<ChatMessage> messages) {
+                moderationThreads.add(Thread.currentThread().getName());
+                return Response.from(Moderation.notFlagged());
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "moderation"));
+
+        ModeratedAssistant assistant = AiServices.builder(ModeratedAssistant.class)
+                .chatModel(ChatModelMock.thatAlwaysResponds("Hello"))
+                .moderationModel(moderationModel)
+                .executor(executor)
+                .build();
+
+        try {
+            // When
+            String answer = assistant.chat("Hi");
+
+            // Then
+            assertThat(answer).isEqualTo("Hello");
+            assertThat(moderationThreads).containsExactly("moderation");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void should_handle_empty_response_choices() {
         // given
@@ -0,0 +1,40 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithRemovalIT;
+import java.nio.file.Path;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests if {@link FlatInMemoryEmbeddingStore} works correctly after being serialized to the binary format
+ * and reopened from the memory-mapped file, including when entries are then added or removed.
+ */
+class FlatInMemoryEmbeddingStoreBinarySerializedTest extends EmbeddingStoreWithRemovalIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    FlatInMemoryEmbeddingStore<TextSegment> embeddingStore = new FlatInMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        serializeAndReopen();
+        return embeddingStore;
+    }
+
+    private void serializeAndReopen() {
+        Path file = temporaryDirectory.resolve("store.bin");
+        embeddingStore.serializeToBinaryFile(file);
+        embeddingStore = FlatInMemoryEmbeddingStore.fromBinaryFile(file);
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
@@ -0,0 +1,330 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FlatInMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = new FlatInMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void should_return_same_matches_as_in_memory_embedding_store(boolean offHeap) {
+
+        // given
+        Random random = new Random(42);
+        List<Embedding> embeddings = randomEmbeddings(random, 3_000, 32);
+
+        InMemoryEmbeddingStore<TextSegment> expectedStore = new InMemoryEmbeddingStore<>();
+        FlatInMemoryEmbeddingStore<TextSegment> flatStore = FlatInMemoryEmbeddingStore.builder()
+                .initialCapacity(10)
+                .offHeap(offHeap)
+                .build();
+        List<String> ids = expectedStore.addAll(embeddings);
+        flatStore.addAll(ids, embeddings, nCopies(embeddings.size(), null));
+
+        expectedStore.removeAll(ids.subList(100, 200));
+        flatStore.removeAll(ids.subList(100, 200));
+
+        for (Embedding query : randomEmbeddings(random, 20, 32)) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(25)
+                    .minScore(0.55)
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> expected = expectedStore.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> actual = flatStore.search(request).matches();
+
+            // then
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).embeddingId()).isEqualTo(expected.get(i).embeddingId());
+                assertThat(actual.get(i).embedding()).isEqualTo(expected.get(i).embedding());
+                assertThat(actual.get(i).score()).isCloseTo(expected.get(i).score(), within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void should_replace_entry_with_same_id() {
+
+        // given
+        FlatInMemoryEmbeddingStore<TextSegment> store = new FlatInMemoryEmbeddingStore<>();
+        Embedding first = embeddingModel.embed("first").content();
+        Embedding second = embeddingModel.embed("second").content();
+        store.add("id", first, TextSegment.from("first"));
+
+        // when
+        store.add("id", second, TextSegment.from("second"));
+
+        // then
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(first)
+                        .maxResults(10)
+                        .build())
+                .matches();
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embedding()).isEqualTo(second);
+        assertThat(matches.get(0).embedded().text()).isEqualTo("second");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"INT8, 4, 0.95", "INT8, 0, 0.8", "PRODUCT, 4, 0.8", "PRODUCT, 0, 0.4"})
+    void should_have_high_recall_with_quantization(
+            VectorQuantization quantization, int rescoreMultiplier, double expectedRecall) {
+
+        // given
+        Random random = new Random(42);
+        List<Embedding> embeddings = clusteredEmbeddings(random, 5_000, 64);
+
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+        FlatInMemoryEmbeddingStore<TextSegment> quantizedStore = FlatInMemoryEmbeddingStore.builder()
+                .quantization(quantization)
+                .quantizationTrainingSize(1_000)
+                .rescoreMultiplier(rescoreMultiplier)
+                .build();
+        List<String> ids = exactStore.addAll(embeddings);
+        quantizedStore.addAll(ids, embeddings, nCopies(embeddings.size(), null));
+
+        // when
+        int found = 0;
+        int queries = 100;
+        for (Embedding query : clusteredEmbeddings(random, queries, 64)) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(10)
+                    .build();
+            Set<String> expected = ids(exactStore.search(request).matches());
+            List<EmbeddingMatch<TextSegment>> actual = quantizedStore.search(request).matches();
+
+            assertThat(actual).hasSize(10);
+            assertThat(actual).isSortedAccordingTo((m1, m2) -> Double.compare(m2.score(), m1.score()));
+            found += (int) ids(actual).stream().filter(expected::contains).count();
+        }
+
+        // then
+        double recall = (double) found / (queries * 10);
+        assertThat(recall).isGreaterThanOrEqualTo(expectedRecall);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = VectorQuantization.class, names = {"INT8", "PRODUCT"})
+    void should_keep_quantized_vectors_in_sync_with_entries(VectorQuantization quantization) {
+
+        // given
+        Random random = new Random(42);
+        FlatInMemoryEmbeddingStore<TextSegment> store = FlatInMemoryEmbeddingStore.builder()
+                .quantization(quantization)
+                .quantizationTrainingSize(500)
+                .rescoreMultiplier(20)
+                .build();
+        List<Embedding> embeddings = clusteredEmbeddings(random, 1_000, 32);
+        List<String> ids = store.addAll(embeddings);
+
+        Embedding replacement = clusteredEmbeddings(random, 1, 32).get(0);
+        store.removeAll(ids.subList(0, 100));
+        store.add(ids.get(500), replacement);
+
+        // when
+        List<EmbeddingMatch<TextSegment>> removed = search(store, embeddings.get(0));
+        List<EmbeddingMatch<TextSegment>> moved = search(store, embeddings.get(999));
+        List<EmbeddingMatch<TextSegment>> replaced = search(store, replacement);
+
+        // then
+        assertThat(removed.get(0).embeddingId()).isNotEqualTo(ids.get(0));
+        assertThat(moved.get(0).embeddingId()).isEqualTo(ids.get(999));
+        assertThat(moved.get(0).score()).isCloseTo(1.0, within(1e-6));
+        assertThat(replaced.get(0).embeddingId()).isEqualTo(ids.get(500));
+        assertThat(replaced.get(0).embedding()).isEqualTo(replacement);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorQuantization.class)
+    void should_return_all_matches_when_max_results_is_huge(VectorQuantization quantization) {
+
+        // given
+        Random random = new Random(42);
+        FlatInMemoryEmbeddingStore<TextSegment> store = FlatInMemoryEmbeddingStore.builder()
+                .quantization(quantization)
+                .quantizationTrainingSize(500)
+                .build();
+        List<Embedding> embeddings = clusteredEmbeddings(random, 1_000, 32);
+        store.addAll(embeddings);
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(0))
+                        .maxResults(Integer.MAX_VALUE)
+                        .build())
+                .matches();
+
+        // then
+        assertThat(matches).hasSize(1_000);
+        assertThat(matches).isSortedAccordingTo((m1, m2) -> Double.compare(m2.score(), m1.score()));
+    }
+
+    @Test
+    void should_apply_builder_options_when_reopened_from_binary_file(@TempDir Path temporaryDirectory) {
+
+        // given
+        Random random = new Random(42);
+        FlatInMemoryEmbeddingStore<TextSegment> store = new FlatInMemoryEmbeddingStore<>();
+        List<Embedding> embeddings = clusteredEmbeddings(random, 1_000, 32);
+        List<String> ids = store.addAll(embeddings);
+        Path file = temporaryDirectory.resolve("store.bin");
+        store.serializeToBinaryFile(file);
+
+        // when
+        FlatInMemoryEmbeddingStore<TextSegment> reopened = FlatInMemoryEmbeddingStore.fromBinaryFile(
+                file,
+                FlatInMemoryEmbeddingStore.builder()
+                        .offHeap(true)
+                        .quantization(VectorQuantization.INT8)
+                        .quantizationTrainingSize(500));
+
+        // then
+        assertThat(store.quantized()).isFalse();
+        assertThat(reopened.quantized()).isTrue();
+        assertThat(search(reopened, embeddings.get(42)).get(0).embeddingId()).isEqualTo(ids.get(42));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = VectorQuantization.class, names = {"INT8", "PRODUCT"})
+    void should_only_keep_codes_when_rescoring_is_disabled(VectorQuantization quantization) {
+
+        // given
+        Random random = new Random(42);
+        FlatInMemoryEmbeddingStore<TextSegment> store = FlatInMemoryEmbeddingStore.builder()
+                .quantization(quantization)
+                .quantizationTrainingSize(500)
+                .rescoreMultiplier(0)
+                .build();
+        List<Embedding> embeddings = clusteredEmbeddings(random, 1_000, 32);
+        List<String> ids = store.addAll(embeddings);
+
+        Embedding replacement = clusteredEmbeddings(random, 1, 32).get(0);
+        store.removeAll(ids.subList(0, 100));
+        store.add(ids.get(500), replacement);
+
+        // when
+        List<EmbeddingMatch<TextSegment>> moved = search(store, embeddings.get(999), 10);
+        List<EmbeddingMatch<TextSegment>> replaced = search(store, replacement, 10);
+
+        // then
+        assertThat(store.quantized()).isTrue();
+        assertThat(store.keepsOriginalVectors()).isFalse();
+        assertThat(ids(moved)).contains(ids.get(999));
+        assertThat(replaced)
+                .filteredOn(match -> match.embeddingId().equals(ids.get(500)))
+                .singleElement()
+                .satisfies(match -> assertThat(CosineSimilarity.between(match.embedding(), replacement))
+                        .isGreaterThan(0.8));
+    }
+
+    @Test
+    void should_require_off_heap_vectors_when_quantized_vectors_are_rescored() {
+        assertThatThrownBy(() -> FlatInMemoryEmbeddingStore.builder()
+                        .quantization(VectorQuantization.INT8)
+                        .offHeap(false)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("off-heap");
+
+        assertThatCode(() -> FlatInMemoryEmbeddingStore.builder()
+                        .quantization(VectorQuantization.INT8)
+                        .offHeap(false)
+                        .rescoreMultiplier(0)
+                        .build())
+                .doesNotThrowAnyException();
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> search(EmbeddingStore<TextSegment> store, Embedding query) {
+        return search(store, query, 1);
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> search(
+            EmbeddingStore<TextSegment> store, Embedding query, int maxResults) {
+        return store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(query)
+                        .maxResults(maxResults)
+                        .build())
+                .matches();
+    }
+
+    /**
+     * Real embeddings are not uniformly distributed, so vectors are generated around a set of random centroids.
+     */
+    private static List<Embedding> clusteredEmbeddings(Random random, int count, int dimension) {
+        List<Embedding> centroids = randomEmbeddings(random, 50, dimension);
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] centroid = centroids.get(random.nextInt(centroids.size())).vector();
+            float[] vector = new float[dimension];
+            for (int j = 0; j < dimension; j++) {
+                vector[j] = centroid[j] + (float) random.nextGaussian() * 0.5f;
+            }
+            embeddings.add(new Embedding(vector));
+        }
+        return embeddings;
+    }
+
+    private static Set<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).collect(Collectors.toSet());
+    }
+
+    private static List<Embedding> randomEmbeddings(Random random, int count, int dimension) {
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] vector = new float[dimension];
+            for (int j = 0; j < dimension; j++) {
+                vector[j] = (float) random.nextGaussian();
+            }
+            embeddings.add(new Embedding(vector));
+        }
+        return embeddings;
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
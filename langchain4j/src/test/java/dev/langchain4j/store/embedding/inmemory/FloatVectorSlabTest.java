@@ -0,0 +1,85 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FloatVectorSlabTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void should_keep_vectors_across_segments(boolean offHeap) {
+
+        // given
+        Random random = new Random(42);
+        FloatVectorSlab slab = new FloatVectorSlab(5, 1, offHeap, 4);
+        List<float[]> expected = new ArrayList<>();
+        for (int i = 0; i < 19; i++) {
+            float[] vector = randomVector(random, 5);
+            expected.add(vector);
+            assertThat(slab.add(vector)).isEqualTo(i);
+        }
+
+        // when
+        assertThat(slab.removeBySwappingLast(2)).isEqualTo(18);
+        expected.set(2, expected.remove(18));
+        assertThat(slab.removeBySwappingLast(17)).isEqualTo(-1);
+        expected.remove(17);
+
+        // then
+        assertThat(slab.size()).isEqualTo(expected.size());
+        float[] query = randomVector(random, 5);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(slab.get(i)).containsExactly(expected.get(i));
+            assertThat(slab.dot(query, i)).isCloseTo(dot(query, expected.get(i)), within(1e-5f));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void should_copy_read_only_segments_on_write(boolean offHeap) {
+
+        // given
+        int dimension = 3;
+        int vectorsPerSegment = FloatVectorSlab.vectorsPerSegment(dimension);
+        FloatBuffer readOnly = ByteBuffer.allocateDirect(2 * dimension * Float.BYTES)
+                .asFloatBuffer()
+                .put(new float[] {1, 2, 3, 4, 5, 6})
+                .asReadOnlyBuffer();
+        assertThat(vectorsPerSegment).isGreaterThan(2);
+        FloatVectorSlab slab = new FloatVectorSlab(dimension, new FloatBuffer[] {readOnly}, 2, offHeap);
+
+        // when
+        slab.add(new float[] {7, 8, 9});
+        slab.set(0, new float[] {0, 0, 1});
+
+        // then
+        assertThat(slab.get(0)).containsExactly(0, 0, 1);
+        assertThat(slab.get(1)).containsExactly(4, 5, 6);
+        assertThat(slab.get(2)).containsExactly(7, 8, 9);
+        assertThat(readOnly.get(0)).isEqualTo(1);
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,198 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Collections.nCopies;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class HnswInMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
+
+    private static final int DIMENSION = 64;
+    private static final int CLUSTERS = 50;
+    private static final int STORE_SIZE = 5_000;
+    private static final int QUERIES = 100;
+    private static final int MAX_RESULTS = 10;
+
+    EmbeddingStore<TextSegment> embeddingStore = new HnswInMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @ParameterizedTest
+    @CsvSource({"16, 0.6", "64, 0.85", "256, 0.95"})
+    void should_have_high_recall_compared_to_brute_force_search(int efSearch, double expectedRecall) {
+
+        // given
+        Random random = new Random(42);
+        List<Embedding> embeddings = randomEmbeddings(random, STORE_SIZE);
+
+        InMemoryEmbeddingStore<TextSegment> bruteForceStore = new InMemoryEmbeddingStore<>();
+        HnswInMemoryEmbeddingStore<TextSegment> hnswStore = HnswInMemoryEmbeddingStore.builder()
+                .efSearch(efSearch)
+                .seed(42L)
+                .build();
+        List<String> ids = bruteForceStore.addAll(embeddings);
+        hnswStore.addAll(ids, embeddings, nCopies(embeddings.size(), null));
+
+        // when
+        int found = 0;
+        for (Embedding query : randomEmbeddings(random, QUERIES)) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(MAX_RESULTS)
+                    .build();
+
+            Set<String> expected = ids(bruteForceStore.search(request).matches());
+            List<EmbeddingMatch<TextSegment>> actual = hnswStore.search(request).matches();
+
+            assertThat(actual).hasSize(MAX_RESULTS);
+            assertThat(actual).isSortedAccordingTo((m1, m2) -> Double.compare(m2.score(), m1.score()));
+            found += (int) ids(actual).stream().filter(expected::contains).count();
+        }
+
+        // then
+        double recall = (double) found / (QUERIES * MAX_RESULTS);
+        assertThat(recall).isGreaterThanOrEqualTo(expectedRecall);
+    }
+
+    @Test
+    void should_not_return_removed_or_replaced_entries() {
+
+        // given
+        Random random = new Random(42);
+        HnswInMemoryEmbeddingStore<TextSegment> store =
+                HnswInMemoryEmbeddingStore.builder().seed(42L).build();
+        List<Embedding> embeddings = randomEmbeddings(random, 1000);
+        List<String> ids = store.addAll(embeddings);
+
+        Embedding query = embeddings.get(0);
+        store.removeAll(ids.subList(0, 10));
+        store.add(ids.get(10), query);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(1000)
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = store.search(request).matches();
+
+        // then
+        assertThat(matches).hasSize(990);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(10));
+        assertThat(matches.get(0).embedding()).isEqualTo(query);
+        assertThat(ids(matches)).doesNotContainAnyElementsOf(ids.subList(0, 10));
+    }
+
+    @Test
+    void should_compact_graph_when_most_entries_are_replaced() {
+
+        // given
+        Random random = new Random(42);
+        HnswInMemoryEmbeddingStore<TextSegment> store =
+                HnswInMemoryEmbeddingStore.builder().seed(42L).build();
+        List<Embedding> embeddings = randomEmbeddings(random, 100);
+        List<String> ids = store.addAll(embeddings);
+
+        // when
+        for (int round = 0; round < 10; round++) {
+            store.addAll(ids, randomEmbeddings(random, ids.size()), nCopies(ids.size(), null));
+        }
+
+        // then
+        assertThat(store.graphSize()).isLessThanOrEqualTo(2 * ids.size());
+
+        Embedding query = embeddings.get(0);
+        store.add(ids.get(0), query);
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(query)
+                        .maxResults(ids.size())
+                        .build())
+                .matches();
+        assertThat(ids(matches)).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+    }
+
+    @Test
+    void should_not_filter_out_entries_without_metadata() {
+
+        // given
+        Random random = new Random(42);
+        HnswInMemoryEmbeddingStore<String> store =
+                HnswInMemoryEmbeddingStore.builder().seed(42L).build();
+        List<Embedding> embeddings = randomEmbeddings(random, 100);
+        List<String> texts = embeddings.stream().map(embedding -> "text").toList();
+        List<String> ids = embeddings.stream().map(embedding -> randomUUID().toString()).toList();
+        store.addAll(ids, embeddings, texts);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(ids.size())
+                .filter(metadataKey("key").isEqualTo("value"))
+                .build();
+
+        // when
+        List<EmbeddingMatch<String>> matches = store.search(request).matches();
+
+        // then
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+    }
+
+    /**
+     * Real embeddings are not uniformly distributed, so vectors are generated around a set of random centroids.
+     */
+    private static List<Embedding> randomEmbeddings(Random random, int count) {
+        float[][] centroids = new float[CLUSTERS][DIMENSION];
+        for (float[] centroid : centroids) {
+            for (int j = 0; j < DIMENSION; j++) {
+                centroid[j] = (float) random.nextGaussian();
+            }
+        }
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] centroid = centroids[random.nextInt(CLUSTERS)];
+            float[] vector = new float[DIMENSION];
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = centroid[j] + (float) random.nextGaussian() * 0.5f;
+            }
+            embeddings.add(new Embedding(vector));
+        }
+        return embeddings;
+    }
+
+    private static Set<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).collect(Collectors.toSet());
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
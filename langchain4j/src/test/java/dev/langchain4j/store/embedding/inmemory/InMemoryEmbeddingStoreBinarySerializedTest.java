@@ -0,0 +1,103 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} works correctly after being serialized to the binary format and back.
+ */
+class InMemoryEmbeddingStoreBinarySerializedTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        serializeAndDeserialize();
+        return embeddingStore;
+    }
+
+    private void serializeAndDeserialize() {
+        Path file = temporaryDirectory.resolve("store.bin");
+        embeddingStore.serializeToBinaryFile(file);
+        embeddingStore = InMemoryEmbeddingStore.fromBinaryFile(file);
+    }
+
+    @Test
+    void should_preserve_entries_and_metadata_types() {
+
+        // given
+        Metadata metadata = new Metadata()
+                .put("string", "ünïcødé")
+                .put("uuid", UUID.randomUUID())
+                .put("integer", Integer.MIN_VALUE)
+                .put("long", Long.MAX_VALUE)
+                .put("float", 1.5f)
+                .put("double", Math.PI);
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("first", Embedding.from(new float[] {1, 2, 3}), TextSegment.from("text", metadata));
+        store.add("second", Embedding.from(new float[] {0, 0, 0}));
+        Path file = temporaryDirectory.resolve("entries.bin");
+
+        // when
+        store.serializeToBinaryFile(file);
+        InMemoryEmbeddingStore<TextSegment> deserialized = InMemoryEmbeddingStore.fromBinaryFile(file);
+
+        // then
+        assertThat(deserialized.entries).containsExactlyElementsOf(store.entries);
+        assertThat(deserialized.entries.get(0).embedded.metadata().toMap()).isEqualTo(metadata.toMap());
+    }
+
+    @Test
+    void should_be_readable_by_flat_store() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        Embedding embedding = embeddingModel.embed("hello").content();
+        store.add("id", embedding, TextSegment.from("hello"));
+        Path file = temporaryDirectory.resolve("flat.bin");
+        store.serializeToBinaryFile(file);
+
+        // when
+        FlatInMemoryEmbeddingStore<TextSegment> flatStore = FlatInMemoryEmbeddingStore.fromBinaryFile(file);
+
+        // then
+        assertThat(flatStore
+                        .search(EmbeddingSearchRequest.builder()
+                                .queryEmbedding(embedding)
+                                .build())
+                        .matches())
+                .singleElement()
+                .satisfies(match -> {
+                    assertThat(match.embeddingId()).isEqualTo("id");
+                    assertThat(match.embedding()).isEqualTo(embedding);
+                    assertThat(match.embedded()).isEqualTo(TextSegment.from("hello"));
+                });
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,169 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} filters the same way when the filtered metadata keys are indexed.
+ */
+class InMemoryEmbeddingStoreIndexedTest extends EmbeddingStoreWithFilteringIT {
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = InMemoryEmbeddingStore.builder()
+            .indexedMetadataKeys(List.of("age", "name", "key", "city", "key2", "age2", "country", "name2"))
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    static Stream<Filter> filters() {
+        return Stream.of(
+                metadataKey("tenant").isEqualTo("tenant-3"),
+                metadataKey("tenant").isIn("tenant-1", "tenant-7", "unknown"),
+                metadataKey("priority").isGreaterThan(5),
+                metadataKey("priority").isLessThanOrEqualTo(2L),
+                metadataKey("priority").isIn(1, 2L, 3.0),
+                metadataKey("weight").isEqualTo(0.5),
+                metadataKey("weight").isGreaterThanOrEqualTo(0.25f),
+                metadataKey("tenant").isEqualTo("tenant-3").and(metadataKey("priority").isLessThan(5)),
+                metadataKey("tenant").isEqualTo("tenant-3").and(metadataKey("unindexed").isEqualTo("yes")),
+                metadataKey("tenant").isEqualTo("tenant-3").or(metadataKey("priority").isEqualTo(9)),
+                metadataKey("tenant").isEqualTo("tenant-3").or(metadataKey("unindexed").isEqualTo("yes")),
+                metadataKey("tenant").isNotEqualTo("tenant-3"),
+                metadataKey("tenant").isEqualTo("tenant-3").and(metadataKey("priority").isNotIn(1, 2)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void should_return_same_matches_as_without_index(Filter filter) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .indexedMetadataKeys(List.of("tenant", "priority", "weight"))
+                .build();
+        InMemoryEmbeddingStore<TextSegment> expectedStore = new InMemoryEmbeddingStore<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = i % 100 == 0 ? null : TextSegment.from("segment " + i, metadata(i));
+            store.add("id-" + i, embedding, segment);
+            expectedStore.add("id-" + i, embedding, segment);
+        }
+        store.removeAll(List.of("id-1", "id-3"));
+        expectedStore.removeAll(List.of("id-1", "id-3"));
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random))
+                .maxResults(100)
+                .filter(filter)
+                .build();
+
+        // when
+        List<EmbeddingMatch<TextSegment>> expected = expectedStore.search(request).matches();
+        List<EmbeddingMatch<TextSegment>> actual = store.search(request).matches();
+
+        // then
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyElementsOf(expected.stream().map(EmbeddingMatch::embeddingId).toList());
+    }
+
+    @Test
+    void should_see_entries_added_after_the_index_was_built() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .indexedMetadataKeys(List.of("tenant"))
+                .build();
+        Random random = new Random(42);
+        store.add("first", randomEmbedding(random), TextSegment.from("first", metadata(3)));
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random))
+                .minScore(0.0)
+                .filter(metadataKey("tenant").isEqualTo("tenant-3"))
+                .build();
+        assertThat(store.search(request).matches()).hasSize(1);
+
+        // when
+        store.add("second", randomEmbedding(random), TextSegment.from("second", metadata(13)));
+        store.removeAll(List.of("first"));
+
+        // then
+        assertThat(store.search(request).matches())
+                .extracting(EmbeddingMatch::embeddingId)
+                .containsExactly("second");
+    }
+
+    @Test
+    void should_fail_on_type_mismatch_like_without_index() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .indexedMetadataKeys(List.of("tenant"))
+                .build();
+        store.add("id", randomEmbedding(new Random(42)), TextSegment.from("text", metadata(1)));
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(new Random(43)))
+                .filter(metadataKey("tenant").isEqualTo(1))
+                .build();
+
+        // when-then
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> store.search(request))
+                .withMessageContaining("Type mismatch");
+    }
+
+    private static Metadata metadata(int i) {
+        Metadata metadata = new Metadata().put("tenant", "tenant-" + (i % 10));
+        if (i % 7 != 0) {
+            metadata.put("priority", i % 10);
+        }
+        if (i % 3 == 0) {
+            metadata.put("weight", (i % 4) / 4.0);
+        }
+        if (i % 2 == 0) {
+            metadata.put("unindexed", "yes");
+        }
+        return metadata;
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[16];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return new Embedding(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -14,9 +14,14 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
@@ -114,6 +119,121 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(1).embedded()).isEqualTo(segment2);
     }
 
+    @Test
+    void should_return_same_matches_with_parallel_search() {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            InMemoryEmbeddingStore<TextSegment> sequentialStore = new InMemoryEmbeddingStore<>();
+            InMemoryEmbeddingStore<TextSegment> parallelStore = InMemoryEmbeddingStore.builder()
+                    .searchExecutor(executor)
+                    .searchParallelism(4)
+                    .parallelSearchThreshold(100)
+                    .build();
+
+            Random random = new Random(42);
+            List<String> ids = new ArrayList<>();
+            List<Embedding> embeddings = new ArrayList<>();
+            List<TextSegment> segments = new ArrayList<>();
+            for (int i = 0; i < 1_001; i++) {
+                float[] vector = new float[16];
+                for (int j = 0; j < vector.length; j++) {
+                    vector[j] = (float) random.nextGaussian();
+                }
+                ids.add("id-" + i);
+                embeddings.add(new Embedding(vector));
+                segments.add(TextSegment.from("segment " + i, new Metadata().put("parity", i % 2)));
+            }
+            sequentialStore.addAll(ids, embeddings, segments);
+            parallelStore.addAll(ids, embeddings, segments);
+
+            EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(0))
+                    .maxResults(50)
+                    .minScore(0.55)
+                    .filter(metadataKey("parity").isEqualTo(0))
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> expected =
+                    sequentialStore.search(searchRequest).matches();
+            List<EmbeddingMatch<TextSegment>> actual =
+                    parallelStore.search(searchRequest).matches();
+
+            // then
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).extracting(EmbeddingMatch::embeddingId)
+                    .containsExactlyElementsOf(expected.stream().map(EmbeddingMatch::embeddingId).toList());
+            assertThat(actual).extracting(EmbeddingMatch::score)
+                    .containsExactlyElementsOf(expected.stream().map(EmbeddingMatch::score).toList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_return_all_matches_when_max_results_is_huge() {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            InMemoryEmbeddingStore<TextSegment> sequentialStore = new InMemoryEmbeddingStore<>();
+            InMemoryEmbeddingStore<TextSegment> parallelStore = InMemoryEmbeddingStore.builder()
+                    .searchExecutor(executor)
+                    .searchParallelism(4)
+                    .parallelSearchThreshold(100)
+                    .build();
+
+            Random random = new Random(42);
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                float[] vector = new float[16];
+                for (int j = 0; j < vector.length; j++) {
+                    vector[j] = (float) random.nextGaussian();
+                }
+                embeddings.add(new Embedding(vector));
+            }
+            sequentialStore.addAll(embeddings);
+            parallelStore.addAll(embeddings);
+
+            EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(0))
+                    .maxResults(Integer.MAX_VALUE)
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> sequentialMatches =
+                    sequentialStore.search(searchRequest).matches();
+            List<EmbeddingMatch<TextSegment>> parallelMatches =
+                    parallelStore.search(searchRequest).matches();
+
+            // then
+            assertThat(sequentialMatches).hasSize(1_000);
+            assertThat(parallelMatches).hasSize(1_000);
+            assertThat(parallelMatches.get(0).embedding()).isEqualTo(embeddings.get(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_not_serialize_search_settings() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .parallelSearch(true)
+                .build();
+        store.add("id", embeddingModel.embed("hello").content(), TextSegment.from("hello"));
+
+        // when
+        String json = store.serializeToJson();
+
+        // then
+        assertThat(json).doesNotContain("search", "Search");
+        assertThat(InMemoryEmbeddingStore.fromJson(json).entries).isEqualTo(store.entries);
+    }
+
     private InMemoryEmbeddingStore<TextSegment> createEmbeddingStore() {
 
         InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();